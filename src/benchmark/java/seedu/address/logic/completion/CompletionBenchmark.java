@@ -0,0 +1,81 @@
+package seedu.address.logic.completion;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.commons.util.Trie;
+import seedu.address.model.util.PersonGenerator;
+
+/**
+ * Measures how long completing a name takes when the address book has many persons.
+ * <p>
+ * The names are those of the persons generated by a {@link PersonGenerator} from a fixed seed, and each lookup
+ * completes the first few characters of one of them, as pressing Tab after typing part of a name would.
+ * <p>
+ * Usage: {@code CompletionBenchmark [COUNT]}, e.g. {@code CompletionBenchmark 500000}.
+ */
+public class CompletionBenchmark {
+
+    public static final int DEFAULT_COUNT = 500_000;
+
+    private static final String USAGE = "Usage: CompletionBenchmark [COUNT]";
+    private static final long SEED = PersonGenerator.DEFAULT_SEED;
+    private static final int LOOKUPS = 100_000;
+    private static final int WARM_UP_LOOKUPS = 20_000;
+
+    /**
+     * Returns the distinct names of the first {@code count} persons generated from {@code seed}.
+     */
+    static List<String> generateNames(int count, long seed) {
+        return new PersonGenerator(seed).generate(count).map(person -> person.getName().fullName).toList();
+    }
+
+    /**
+     * Returns the time, in nanoseconds, that each of {@code lookups} completions of a prefix of one of
+     * {@code names} takes.
+     */
+    static long[] measureLookups(Trie trie, List<String> names, int lookups, long seed) {
+        Random random = new Random(seed);
+        long[] times = new long[lookups];
+        for (int i = 0; i < lookups; i++) {
+            String name = names.get(random.nextInt(names.size()));
+            String prefix = name.substring(0, 1 + random.nextInt(name.length()));
+            long start = System.nanoTime();
+            trie.getCompletions(prefix, 2);
+            trie.getCommonPrefix(prefix);
+            times[i] = System.nanoTime() - start;
+        }
+        return times;
+    }
+
+    /**
+     * Prints how long it takes to build a trie of {@code COUNT} generated names, and to complete a prefix of one.
+     */
+    public static void main(String[] args) {
+        if (args.length > 1) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+        if (count <= 0 || count > PersonGenerator.MAX_PERSONS) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        List<String> names = generateNames(count, SEED);
+        long buildStart = System.nanoTime();
+        Trie trie = new Trie();
+        names.forEach(trie::add);
+        long buildTime = System.nanoTime() - buildStart;
+
+        measureLookups(trie, names, WARM_UP_LOOKUPS, SEED);
+        long[] times = measureLookups(trie, names, LOOKUPS, SEED + 1);
+        Arrays.sort(times);
+        System.out.printf("Names: %d%n", count);
+        System.out.printf("Build: %d ms%n", buildTime / 1_000_000);
+        System.out.printf("Lookup: median %.1f us, 99th percentile %.1f us, max %.1f us%n",
+                times[times.length / 2] / 1000.0, times[times.length * 99 / 100] / 1000.0,
+                times[times.length - 1] / 1000.0);
+    }
+}
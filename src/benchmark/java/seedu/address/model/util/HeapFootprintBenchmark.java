@@ -0,0 +1,170 @@
+package seedu.address.model.util;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.DateOfCreation;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.History;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Property;
+import seedu.address.model.person.PropertyList;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how many bytes of heap each person takes, with tags, remarks, towns and property types shared through
+ * the interning layer, and with the per-person copies that persons used to hold.
+ * <p>
+ * The persons are generated by a {@link PersonGenerator} from a fixed seed, and rebuilt from copies of their text,
+ * as parsing them from storage would. Their birthdays, dates of creation and histories are not rebuilt, so they are
+ * not counted. The heap is measured after garbage collection, so the results are estimates.
+ * <p>
+ * Usage: {@code HeapFootprintBenchmark [COUNT]}, e.g. {@code HeapFootprintBenchmark 100000}.
+ */
+public class HeapFootprintBenchmark {
+
+    public static final int DEFAULT_COUNT = 100_000;
+
+    private static final String USAGE = "Usage: HeapFootprintBenchmark [COUNT]";
+    private static final int GC_ROUNDS = 5;
+
+    /**
+     * A person as it was laid out before the interning layer: its own hash set of its own tags, its own remark and
+     * flag weights, and its own copies of the towns and property types of its properties.
+     */
+    private record LegacyPerson(Name name, Phone phone, Email email, Address address, Set<Tag> tags,
+            Remark remark, DateOfCreation dateOfCreation, History history, Birthday birthday,
+            List<LegacyProperty> properties, int[] flagWeights) {
+    }
+
+    /**
+     * A property as it was laid out before the interning layer.
+     */
+    private record LegacyProperty(String address, String town, String propertyType, double size,
+            int numberOfBedrooms, int numberOfBathrooms, double price) {
+    }
+
+    /**
+     * Returns {@code generated} rebuilt from copies of their text, laid out with the interning layer.
+     */
+    static List<Person> createPersons(List<Person> generated) {
+        List<Person> persons = new ArrayList<>(generated.size());
+        for (Person person : generated) {
+            Set<Tag> tags = new HashSet<>();
+            person.getTags().forEach(tag -> tags.add(Tag.of(copy(tag.tagName))));
+            List<Property> properties = new ArrayList<>();
+            for (Property property : person.getPropertyList().getProperties()) {
+                properties.add(Property.of(copy(property.getAddress()), copy(property.getTown()),
+                        copy(property.getPropertyType()), property.getSize(), property.getNumberOfBedrooms(),
+                        property.getNumberOfBathrooms(), property.getPrice()));
+            }
+            persons.add(new Person(copyName(person), copyPhone(person), copyEmail(person), copyAddress(person),
+                    Remark.of(copy(person.getRemark().getValue())), person.getBirthday(), tags,
+                    person.getDateOfCreation(), person.getHistory(), new PropertyList(properties)));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code generated} rebuilt from copies of their text, laid out as before the interning layer.
+     */
+    private static List<LegacyPerson> createLegacyPersons(List<Person> generated) {
+        List<LegacyPerson> persons = new ArrayList<>(generated.size());
+        for (Person person : generated) {
+            Set<Tag> tags = new HashSet<>();
+            person.getTags().forEach(tag -> tags.add(new Tag(copy(tag.tagName))));
+            List<LegacyProperty> properties = new ArrayList<>();
+            for (Property property : person.getPropertyList().getProperties()) {
+                properties.add(new LegacyProperty(copy(property.getAddress()), copy(property.getTown()),
+                        copy(property.getPropertyType()), property.getSize(), property.getNumberOfBedrooms(),
+                        property.getNumberOfBathrooms(), property.getPrice()));
+            }
+            persons.add(new LegacyPerson(copyName(person), copyPhone(person), copyEmail(person),
+                    copyAddress(person), tags, new Remark(copy(person.getRemark().getValue())),
+                    person.getDateOfCreation(), person.getHistory(), person.getBirthday(), properties, new int[3]));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a copy of {@code text} that shares nothing with it, as reading the text from storage would.
+     */
+    private static String copy(String text) {
+        return new String(text.toCharArray());
+    }
+
+    private static Name copyName(Person person) {
+        return new Name(copy(person.getName().fullName));
+    }
+
+    private static Phone copyPhone(Person person) {
+        return new Phone(copy(person.getPhone().value));
+    }
+
+    private static Email copyEmail(Person person) {
+        return new Email(copy(person.getEmail().value));
+    }
+
+    private static Address copyAddress(Person person) {
+        return new Address(copy(person.getAddress().value));
+    }
+
+    /**
+     * Returns the number of bytes of heap that {@code persons} take, per person, as estimated from the heap used
+     * after garbage collection with and without them.
+     */
+    private static long measureBytesPerPerson(List<Person> generated, boolean isLegacy) {
+        long before = getUsedHeapAfterGc();
+        List<?> persons = isLegacy ? createLegacyPersons(generated) : createPersons(generated);
+        long after = getUsedHeapAfterGc();
+        Reference.reachabilityFence(persons);
+        return (after - before) / persons.size();
+    }
+
+    private static long getUsedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Prints the heap taken per person by {@code COUNT} generated persons, laid out before and after the interning
+     * layer.
+     */
+    public static void main(String[] args) {
+        if (args.length > 1) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+        if (count <= 0 || count > PersonGenerator.MAX_PERSONS) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        List<Person> generated = new PersonGenerator(PersonGenerator.DEFAULT_SEED).generate(count).toList();
+        // warms up the interning layer, so that the shared instances are not counted against the first persons
+        createPersons(generated.subList(0, Math.min(count, 1000)));
+        long legacyBytes = measureBytesPerPerson(generated, true);
+        long compactBytes = measureBytesPerPerson(generated, false);
+        System.out.printf("Persons: %d%n", count);
+        System.out.printf("Before interning: %d bytes per person%n", legacyBytes);
+        System.out.printf("After interning:  %d bytes per person (%.1f%% less)%n", compactBytes,
+                100.0 * (legacyBytes - compactBytes) / legacyBytes);
+    }
+}
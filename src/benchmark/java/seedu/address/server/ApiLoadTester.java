@@ -0,0 +1,146 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A load-test client for the {@link ApiServer}. It sends GET requests to one URL from several threads for a fixed
+ * time, then reports how many requests per second were served.
+ * <p>
+ * Usage: {@code ApiLoadTester URL TOKEN [THREADS] [SECONDS]}, e.g.
+ * {@code ApiLoadTester http://localhost:8080/api/persons?q=alex TOKEN 16 10}, where {@code TOKEN} is the
+ * {@code apiToken} in the config file of the app.
+ */
+public class ApiLoadTester {
+
+    public static final int DEFAULT_THREADS = 8;
+    public static final int DEFAULT_SECONDS = 10;
+
+    private static final String USAGE = "Usage: ApiLoadTester URL TOKEN [THREADS] [SECONDS]";
+
+    private final URI uri;
+    private final String token;
+    private final int threadCount;
+    private final Duration duration;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Creates a load test that requests {@code uri} with {@code token} from {@code threadCount} threads for
+     * {@code duration}.
+     */
+    public ApiLoadTester(URI uri, String token, int threadCount, Duration duration) {
+        requireNonNull(uri);
+        requireNonNull(token);
+        requireNonNull(duration);
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Thread count should be positive");
+        }
+        this.uri = uri;
+        this.token = token;
+        this.threadCount = threadCount;
+        this.duration = duration;
+    }
+
+    /**
+     * Runs the load test and returns its results.
+     */
+    public Result run() throws InterruptedException {
+        LongAdder successCount = new LongAdder();
+        LongAdder errorCount = new LongAdder();
+        HttpRequest request = HttpRequest.newBuilder(uri).header(ApiServer.TOKEN_HEADER, token).GET().build();
+
+        long startTime = System.nanoTime();
+        long deadline = startTime + duration.toNanos();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    if (send(request)) {
+                        successCount.increment();
+                    } else {
+                        errorCount.increment();
+                    }
+                }
+            }, "load-test-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return new Result(successCount.sum(), errorCount.sum(), System.nanoTime() - startTime);
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * The outcome of a load test.
+     */
+    public static class Result {
+        private final long successCount;
+        private final long errorCount;
+        private final long elapsedNanos;
+
+        Result(long successCount, long errorCount, long elapsedNanos) {
+            this.successCount = successCount;
+            this.errorCount = errorCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getSuccessCount() {
+            return successCount;
+        }
+
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        /**
+         * Returns the number of successful requests served per second.
+         */
+        public double getRequestsPerSecond() {
+            return successCount * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests in %.1f s: %.1f requests/s, %d error(s)",
+                    successCount, elapsedNanos / 1e9, getRequestsPerSecond(), errorCount);
+        }
+    }
+
+    /**
+     * Runs a load test with the given command line arguments and prints its results.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 2 || args.length > 4) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0]);
+        String token = args[1];
+        int threadCount = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_THREADS;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_SECONDS;
+
+        System.out.println("Requesting " + uri + " from " + threadCount + " thread(s) for " + seconds + " s");
+        System.out.println(new ApiLoadTester(uri, token, threadCount, Duration.ofSeconds(seconds)).run());
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersonGenerator;
+
+/**
+ * Measures how long loading an address book whose persons have long histories takes, and how much of it parsing the
+ * dates in the file takes with {@link LocalDate#parse(CharSequence)} and with {@link DateUtil#parseIsoDate(String)}.
+ * <p>
+ * The persons are generated by a {@link PersonGenerator} from a fixed seed, their histories are lengthened, and
+ * they are saved to a temporary file, which is then read back as the app reads its data file at startup. Each
+ * measurement is repeated, and the fastest run is reported.
+ * <p>
+ * Usage: {@code HistoryLoadBenchmark [PERSONS] [DAYS]}, e.g. {@code HistoryLoadBenchmark 10000 100}, where
+ * {@code DAYS} is the number of days of history added to each person.
+ */
+public class HistoryLoadBenchmark {
+
+    public static final int DEFAULT_PERSONS = 10_000;
+    public static final int DEFAULT_DAYS = 100;
+
+    private static final String USAGE = "Usage: HistoryLoadBenchmark [PERSONS] [DAYS]";
+    private static final long SEED = PersonGenerator.DEFAULT_SEED;
+    private static final int RUNS = 5;
+    private static final String ADDED_ACTIVITY = "Called to follow up";
+
+    /**
+     * Returns an address book of the first {@code personCount} persons generated from {@code seed}, each with
+     * activities on {@code dayCount} more days after the end of its generated history.
+     */
+    static AddressBook generate(int personCount, int dayCount, long seed) {
+        AddressBook addressBook = new AddressBook();
+        new PersonGenerator(seed).generate(personCount).forEach(person -> {
+            for (int day = 1; day <= dayCount; day++) {
+                person.getHistory().addActivity(PersonGenerator.LAST_ACTIVITY_DATE.plusDays(day), ADDED_ACTIVITY);
+            }
+            addressBook.addPerson(person);
+        });
+        return addressBook;
+    }
+
+    /**
+     * Returns the dates in the data file of {@code addressBook}, as text, in the order they are stored.
+     */
+    static List<String> getStoredDates(AddressBook addressBook) {
+        List<String> dates = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            dates.add(person.getDateOfCreation().toString());
+            person.getHistory().getHistoryEntries().keySet().forEach(date -> dates.add(date.toString()));
+        }
+        return dates;
+    }
+
+    /**
+     * Returns the fastest time, in nanoseconds, to parse all of {@code dates} with {@code parser}.
+     */
+    static long measureParsing(List<String> dates, Function<String, LocalDate> parser) {
+        long fastest = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            for (String date : dates) {
+                parser.apply(date);
+            }
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+
+    /**
+     * Returns the fastest time, in nanoseconds, to read the address book in {@code storage}.
+     */
+    private static long measureLoading(JsonAddressBookStorage storage) throws DataLoadingException {
+        long fastest = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            storage.readAddressBook();
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+
+    /**
+     * Prints the time taken to load a generated address book of {@code PERSONS} persons with {@code DAYS} days of
+     * history each, and to parse the dates in it.
+     */
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        if (args.length > 2) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSONS;
+        int dayCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_DAYS;
+        if (personCount <= 0 || personCount > PersonGenerator.MAX_PERSONS || dayCount < 0) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        AddressBook addressBook = generate(personCount, dayCount, SEED);
+        List<String> dates = getStoredDates(addressBook);
+        Path file = Files.createTempFile("addressbook", ".json");
+        try {
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+            storage.saveAddressBook(addressBook);
+            long loadTime = measureLoading(storage);
+            long formatterTime = measureParsing(dates, LocalDate::parse);
+            long parserTime = measureParsing(dates, DateUtil::parseIsoDate);
+
+            System.out.printf("Persons: %d, days of history added to each: %d, dates stored: %d%n", personCount,
+                    dayCount, dates.size());
+            System.out.printf("Loading: %d ms%n", loadTime / 1_000_000);
+            System.out.printf("Parsing the stored dates with LocalDate.parse: %d ms%n", formatterTime / 1_000_000);
+            System.out.printf("Parsing the stored dates with DateUtil.parseIsoDate: %d ms (%.1fx faster)%n",
+                    parserTime / 1_000_000, (double) formatterTime / Math.max(1, parserTime));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PersonIndexes;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+
+/**
+ * Loads the address book from storage into a model in the background, so that the main window can be shown before
+ * the data file has been read.
+ * <p>
+ * The persons are read on a thread of their own and added to the model in chunks as they are read, so the person
+ * list fills up while the rest of the file is read. Once all persons are read, the indexes of the model and the
+ * birthday reminder are worked out at the same time on other threads, and only then does the model stop loading.
+ * If that fails, they are worked out on the UI thread instead, so that the model never stays loading because of it.
+ * The model is only ever changed through the UI executor, e.g. {@code Platform::runLater}.
+ */
+public class AddressBookLoader {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final AddressBookStorage storage;
+    private final ModelManager model;
+    private final Executor uiExecutor;
+    private final Executor workerExecutor;
+    private final int chunkSize;
+
+    /**
+     * Creates a loader that loads the address book in {@code storage} into {@code model}, changing {@code model}
+     * only through {@code uiExecutor}, and working out the indexes and the birthday reminder on
+     * {@code workerExecutor}.
+     */
+    public AddressBookLoader(AddressBookStorage storage, ModelManager model, Executor uiExecutor,
+            Executor workerExecutor, int chunkSize) {
+        requireAllNonNull(storage, model, uiExecutor, workerExecutor);
+        checkArgument(chunkSize > 0);
+        this.storage = storage;
+        this.model = model;
+        this.uiExecutor = uiExecutor;
+        this.workerExecutor = workerExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates a loader that works out the indexes and the birthday reminder on the common pool.
+     */
+    public AddressBookLoader(AddressBookStorage storage, ModelManager model, Executor uiExecutor) {
+        this(storage, model, uiExecutor, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Starts loading the address book on a background thread. The model must not be changed in other ways until
+     * loading has finished.
+     *
+     * @return a future that is completed with the birthday reminder, through the UI executor, once the model has
+     *     finished loading, or completed exceptionally if the persons read could not be indexed at all.
+     */
+    public CompletableFuture<String> start() {
+        model.startLoading();
+        CompletableFuture<String> loaded = new CompletableFuture<>();
+        Thread thread = new Thread(() -> load(loaded), "address-book-loader");
+        thread.setDaemon(true);
+        thread.start();
+        return loaded;
+    }
+
+    private void load(CompletableFuture<String> loaded) {
+        long startTime = System.nanoTime();
+        List<Person> persons = readPersons();
+        logger.info("Read " + persons.size() + " person(s) in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+
+        try {
+            CompletableFuture<PersonIndexes> indexes = PersonIndexes.buildAsync(persons, workerExecutor);
+            CompletableFuture<String> birthdayReminder = CompletableFuture.supplyAsync(() ->
+                    ModelManager.getPersonsWithUpcomingBirthdays(persons), workerExecutor);
+            indexes.thenAcceptBoth(birthdayReminder, (builtIndexes, reminder) -> uiExecutor.execute(() ->
+                    finishLoading(builtIndexes, reminder, loaded, startTime)))
+                    .exceptionally(e -> {
+                        finishLoadingOnUiThread(persons, loaded, startTime, e);
+                        return null;
+                    });
+        } catch (RuntimeException e) {
+            // e.g. the worker executor rejected the work
+            finishLoadingOnUiThread(persons, loaded, startTime, e);
+        }
+    }
+
+    /**
+     * Works out the indexes and the birthday reminder of {@code persons} on the UI thread, after working them out in
+     * the background failed with {@code cause}. A birthday reminder that still cannot be worked out is left out, but
+     * if the indexes cannot be built, {@code loaded} is completed exceptionally and the model is left loading.
+     */
+    private void finishLoadingOnUiThread(List<Person> persons, CompletableFuture<String> loaded, long startTime,
+            Throwable cause) {
+        logger.warning("Unable to index the address book in the background, indexing it on the UI thread instead: "
+                + StringUtil.getDetails(cause));
+        uiExecutor.execute(() -> {
+            PersonIndexes indexes;
+            try {
+                indexes = PersonIndexes.build(persons);
+            } catch (RuntimeException e) {
+                loaded.completeExceptionally(e);
+                return;
+            }
+            String reminder;
+            try {
+                reminder = ModelManager.getPersonsWithUpcomingBirthdays(persons);
+            } catch (RuntimeException e) {
+                logger.warning("Unable to work out the birthday reminder: " + StringUtil.getDetails(e));
+                reminder = "";
+            }
+            finishLoading(indexes, reminder, loaded, startTime);
+        });
+    }
+
+    private void finishLoading(PersonIndexes indexes, String birthdayReminder, CompletableFuture<String> loaded,
+            long startTime) {
+        model.finishLoading(indexes);
+        logger.info("Address book loaded in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+        loaded.complete(birthdayReminder);
+    }
+
+    /**
+     * Reads the persons in storage, adding each chunk to the model as soon as it is read, and returns them all.
+     * The persons of the sample address book are used instead if the data file is not found, and no persons are
+     * used if the data file cannot be read.
+     */
+    private List<Person> readPersons() {
+        List<Person> persons = new ArrayList<>();
+        try {
+            boolean isFound = storage.readAddressBook(chunk -> {
+                persons.addAll(chunk);
+                uiExecutor.execute(() -> model.addLoadedPersons(chunk));
+            }, chunkSize);
+            if (isFound) {
+                return persons;
+            }
+            logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                    + " populated with a sample AddressBook.");
+            List<Person> samplePersons = new ArrayList<>(SampleDataUtil.getSampleAddressBook().getPersonList());
+            uiExecutor.execute(() -> model.addLoadedPersons(samplePersons));
+            return samplePersons;
+        } catch (DataLoadingException | RuntimeException e) {
+            // a file that is valid JSON but not a valid address book may also fail with a runtime exception,
+            // which must not leave the app loading forever
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook. " + StringUtil.getDetails(e));
+            uiExecutor.execute(model::clearLoadedPersons);
+            return new ArrayList<>();
+        }
+    }
+}
@@ -2,29 +2,34 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
 import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DateService;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.ApiServer;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedJsonAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -39,12 +44,15 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 5, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final int MAX_PORT = 65535;
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
+    protected AddressBookLoader addressBookLoader;
 
     @Override
     public void init() throws Exception {
@@ -54,13 +62,18 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        // the persons, their histories and the address books read from storage are all checked against this date
+        DateService.setDefault(new DateService(Clock.systemDefaultZone()));
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage,
+                filePath -> initAddressBookStorage(config, filePath));
 
-        model = initModelManager(storage, userPrefs);
+        ModelManager modelManager = initModelManager(userPrefs);
+        addressBookLoader = new AddressBookLoader(storage, modelManager, Platform::runLater);
+        model = modelManager;
 
         logic = new LogicManager(model, storage);
 
@@ -68,29 +81,24 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns an {@code AddressBookStorage} for the address book file at {@code filePath}, which stores the
+     * address book in shards if {@code config} asks for them, or in a single file otherwise.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+    private static AddressBookStorage initAddressBookStorage(Config config, Path filePath) {
+        if (config.getDataShardCount() > 0) {
+            return new ShardedJsonAddressBookStorage(filePath, config.getDataShardCount(),
+                    config.isPrettyPrintJson(), config.getDataCompressionLevel());
         }
+        return new JsonAddressBookStorage(filePath, config.isPrettyPrintJson(), config.getDataCompressionLevel());
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Returns a {@code ModelManager} with {@code userPrefs} and an empty address book, into which the address book in
+     * storage is loaded once the UI has started.
+     */
+    private ModelManager initModelManager(ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        return new ModelManager(new AddressBook(), userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -127,6 +135,23 @@ public class MainApp extends Application {
             initializedConfig = new Config();
         }
 
+        if (!FileUtil.isValidCompressionLevel(initializedConfig.getDataCompressionLevel())) {
+            logger.warning(FileUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS + ". Saving data without compression.");
+            initializedConfig.setDataCompressionLevel(FileUtil.NO_COMPRESSION);
+        }
+        if (initializedConfig.getApiServerPort() < 0 || initializedConfig.getApiServerPort() > MAX_PORT) {
+            logger.warning("API server port should be between 0 and " + MAX_PORT + ". Not starting the API server.");
+            initializedConfig.setApiServerPort(0);
+        }
+        if (initializedConfig.getApiToken() == null || initializedConfig.getApiToken().isBlank()) {
+            // made once per install, and saved with the config below
+            initializedConfig.setApiToken(ApiServer.generateToken());
+        }
+        if (initializedConfig.getDataShardCount() < 0) {
+            logger.warning("Data shard count should not be negative. Saving data in a single file.");
+            initializedConfig.setDataShardCount(0);
+        }
+
         //Update config file in case it was missing to begin with or there are new/unused fields
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
@@ -172,15 +197,72 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        loadAddressBook();
+    }
+
+    /**
+     * Loads the address book into the model in the background, while the main window shows the persons loaded so far.
+     * The data file is only watched, and the API server only started, once the model has finished loading.
+     * The sample address book is loaded instead if the data file is not found, and an empty address book if it
+     * cannot be read.
+     */
+    private void loadAddressBook() {
+        addressBookLoader.start().whenComplete((birthdayReminder, e) -> {
+            if (e != null) {
+                logger.log(Level.SEVERE, "Unable to finish loading the address book", e);
+                ui.showAddressBookLoadFailed(StringUtil.getDetails(e));
+                return;
+            }
+            ui.showAddressBookLoaded(birthdayReminder);
+            watchDataFile();
+            startApiServer();
+        });
+    }
+
+    /**
+     * Starts the local HTTP API if {@code config} gives it a port.
+     */
+    private void startApiServer() {
+        if (config.getApiServerPort() == 0) {
+            return;
+        }
+        try {
+            apiServer = new ApiServer(logic, config.getApiServerPort(), config.getApiToken(),
+                    Platform::runLater);
+            apiServer.start();
+        } catch (IOException e) {
+            logger.warning("Unable to start the API server on port " + config.getApiServerPort() + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Starts watching the data file so that changes made to it by other programs, e.g. a folder synchronised
+     * between several agents, show up in the app without a restart.
+     */
+    private void watchDataFile() {
+        try {
+            storage.watchAddressBook(newData -> Platform.runLater(() -> {
+                int changedCount = model.mergeAddressBook(newData);
+                logger.info("Applied " + changedCount + " externally changed person(s) from the data file");
+            }));
+        } catch (IOException e) {
+            logger.warning("Unable to watch the data file for external changes: " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        storage.stopWatchingAddressBook();
+        if (apiServer != null) {
+            apiServer.stop();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.flush();
     }
 }
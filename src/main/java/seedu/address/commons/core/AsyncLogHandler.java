@@ -0,0 +1,169 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records over to a single writer thread, which passes them on to the wrapped
+ * handlers. Logging therefore does not wait for the console or the log file, unless the buffer is full and the
+ * {@link OverflowPolicy} is {@code BLOCK}.
+ * Records are formatted by the wrapped handlers on the writer thread, so building the message is deferred until the
+ * record is actually written.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a new record when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Discards the new record. */
+        DROP,
+        /** Waits until the writer thread makes space for the new record. */
+        BLOCK
+    }
+
+    private static final long FLUSH_POLL_INTERVAL_IN_MILLIS = 10;
+    private static final long CLOSE_TIMEOUT_IN_MILLIS = 2000;
+
+    private final BlockingQueue<LogRecord> buffer;
+    private final List<Handler> handlers;
+    private final Thread writerThread;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that buffers up to {@code capacity} records before passing them on to
+     * {@code handlers}, and starts its writer thread.
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy overflowPolicy, List<Handler> handlers) {
+        requireNonNull(overflowPolicy);
+        requireNonNull(handlers);
+        buffer = new ArrayBlockingQueue<>(capacity);
+        this.handlers = new ArrayList<>(handlers);
+        this.overflowPolicy = overflowPolicy;
+
+        writerThread = new Thread(this::writeRecords, "log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        requireNonNull(overflowPolicy);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns the number of records discarded because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+
+        // The source of a record is worked out lazily from the current stack, so it has to be done on the
+        // logging thread before the record is handed over.
+        record.getSourceClassName();
+
+        pendingCount.incrementAndGet();
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!buffer.offer(record)) {
+                discard();
+            }
+            return;
+        }
+
+        try {
+            buffer.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discard();
+        }
+    }
+
+    /**
+     * Waits until every buffered record has been written, then flushes the wrapped handlers.
+     */
+    @Override
+    public void flush() {
+        while (pendingCount.get() > 0 && writerThread.isAlive()) {
+            try {
+                Thread.sleep(FLUSH_POLL_INTERVAL_IN_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        handlers.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the buffered records, stops the writer thread and closes the wrapped handlers.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        writerThread.interrupt();
+        try {
+            writerThread.join(CLOSE_TIMEOUT_IN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handlers.forEach(Handler::close);
+    }
+
+    /**
+     * Passes buffered records on to the wrapped handlers until this handler is closed.
+     */
+    private void writeRecords() {
+        while (!isClosed) {
+            try {
+                write(buffer.take());
+            } catch (InterruptedException e) {
+                // woken up by close(), the loop condition decides whether to stop
+            }
+        }
+
+        LogRecord record;
+        while ((record = buffer.poll()) != null) {
+            write(record);
+        }
+    }
+
+    private void write(LogRecord record) {
+        for (Handler handler : handlers) {
+            try {
+                handler.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+        pendingCount.decrementAndGet();
+    }
+
+    private void discard() {
+        pendingCount.decrementAndGet();
+        droppedCount.incrementAndGet();
+    }
+}
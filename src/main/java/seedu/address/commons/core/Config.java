@@ -5,6 +5,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -17,6 +19,12 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private OverflowPolicy logOverflowPolicy = OverflowPolicy.BLOCK;
+    private boolean prettyPrintJson = false;
+    private int dataCompressionLevel = FileUtil.NO_COMPRESSION;
+    private int dataShardCount = 0;
+    private int apiServerPort = 0;
+    private String apiToken = null;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +42,57 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
+    public boolean isPrettyPrintJson() {
+        return prettyPrintJson;
+    }
+
+    public void setPrettyPrintJson(boolean prettyPrintJson) {
+        this.prettyPrintJson = prettyPrintJson;
+    }
+
+    public int getDataCompressionLevel() {
+        return dataCompressionLevel;
+    }
+
+    public void setDataCompressionLevel(int dataCompressionLevel) {
+        this.dataCompressionLevel = dataCompressionLevel;
+    }
+
+    public int getDataShardCount() {
+        return dataShardCount;
+    }
+
+    public void setDataShardCount(int dataShardCount) {
+        this.dataShardCount = dataShardCount;
+    }
+
+    public int getApiServerPort() {
+        return apiServerPort;
+    }
+
+    public void setApiServerPort(int apiServerPort) {
+        this.apiServerPort = apiServerPort;
+    }
+
+    /**
+     * Returns the secret that requests to the API server must carry, or null if none has been made yet.
+     */
+    public String getApiToken() {
+        return apiToken;
+    }
+
+    public void setApiToken(String apiToken) {
+        this.apiToken = apiToken;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +106,19 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(logOverflowPolicy, otherConfig.logOverflowPolicy)
+                && prettyPrintJson == otherConfig.prettyPrintJson
+                && dataCompressionLevel == otherConfig.dataCompressionLevel
+                && dataShardCount == otherConfig.dataShardCount
+                && apiServerPort == otherConfig.apiServerPort
+                && Objects.equals(apiToken, otherConfig.apiToken);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, logOverflowPolicy, prettyPrintJson,
+                dataCompressionLevel, dataShardCount, apiServerPort, apiToken);
     }
 
     @Override
@@ -60,6 +126,12 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("logOverflowPolicy", logOverflowPolicy)
+                .add("prettyPrintJson", prettyPrintJson)
+                .add("dataCompressionLevel", dataCompressionLevel)
+                .add("dataShardCount", dataShardCount)
+                .add("apiServerPort", apiServerPort)
+                // the API token is a secret, so it is left out of logs
                 .toString();
     }
 
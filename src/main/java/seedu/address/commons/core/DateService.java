@@ -0,0 +1,82 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Tells the current date, as {@code LocalDate.now()} does, but works out the date from the clock and the time zone
+ * rules only once a day: the date is kept with the instants at which its day starts and ends, and later calls only
+ * read the clock to check that it is still that day. Safe to use from several threads.
+ * <p>
+ * Persons, their histories and birthdays, and the storage and parsers that create them, read the date from the
+ * default service. The app installs it once at startup, and tests can replace it, e.g. with one with a fixed clock.
+ */
+public class DateService {
+
+    private static volatile DateService defaultService = new DateService(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private volatile Day today;
+
+    /**
+     * A date, and the instants, in milliseconds since the epoch, from which and until which it is that date.
+     */
+    private record Day(LocalDate date, long startMillis, long endMillis) {
+        boolean contains(long millis) {
+            return millis >= startMillis && millis < endMillis;
+        }
+    }
+
+    /**
+     * Creates a {@code DateService} that tells the date of {@code clock} in its time zone.
+     */
+    public DateService(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the service that the model, storage and parsers read the current date from.
+     */
+    public static DateService getDefault() {
+        return defaultService;
+    }
+
+    /**
+     * Makes {@code service} the one that the model, storage and parsers read the current date from.
+     */
+    public static void setDefault(DateService service) {
+        requireNonNull(service);
+        defaultService = service;
+    }
+
+    /**
+     * Returns the current date of the clock. The date rolls over when the clock passes midnight, and also follows
+     * the clock if it is set back.
+     */
+    public LocalDate today() {
+        long now = clock.millis();
+        Day day = today;
+        if (day == null || !day.contains(now)) {
+            day = getDay(now);
+            today = day;
+        }
+        return day.date();
+    }
+
+    private Day getDay(long millis) {
+        ZoneId zone = clock.getZone();
+        LocalDate date = Instant.ofEpochMilli(millis).atZone(zone).toLocalDate();
+        long startMillis = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        long endMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new Day(date, startMillis, endMillis);
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading and writing lines of comma-separated values.
+ * Fields that contain commas, quotes or line breaks are wrapped in double quotes, with quotes inside them doubled.
+ */
+public class CsvUtil {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits a single line of comma-separated values into its fields, removing the quotes around quoted fields.
+     *   <br>examples:<pre>
+     *       splitLine("a,b") == [a, b]
+     *       splitLine("\"a, b\",c") == ["a, b", "c"]
+     *       </pre>
+     * @param line cannot be null
+     */
+    public static List<String> splitLine(String line) {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isInQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isInQuotes) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isInQuotes = false;
+                }
+            } else if (c == QUOTE) {
+                isInQuotes = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns true if {@code text} ends inside a quoted field, so that the field goes on in the next line.
+     *   <br>examples:<pre>
+     *       hasOpenQuote("a,\"b") == true
+     *       hasOpenQuote("a,\"b\"\"c\"") == false
+     *       </pre>
+     * @param text cannot be null
+     */
+    public static boolean hasOpenQuote(String text) {
+        requireNonNull(text);
+        // a doubled quote inside a field opens and closes it again, so only the number of quotes matters
+        boolean isInQuotes = false;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == QUOTE) {
+                isInQuotes = !isInQuotes;
+            }
+        }
+        return isInQuotes;
+    }
+
+    /**
+     * Returns {@code value} as a single CSV field, quoting it if needed.
+     * @param value cannot be null
+     */
+    public static String toField(String value) {
+        requireNonNull(value);
+        boolean needsQuotes = value.indexOf(SEPARATOR) >= 0 || value.indexOf(QUOTE) >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            return value;
+        }
+        return QUOTE + value.replace("\"", "\"\"") + QUOTE;
+    }
+}
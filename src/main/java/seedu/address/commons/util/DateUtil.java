@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parses dates in the {@code yyyy-MM-dd} format that they are stored and typed in, without going through
+ * {@code DateTimeFormatter}, and shares one {@code LocalDate} instance between the dates that are parsed often, such
+ * as the days in the histories of many persons.
+ */
+public class DateUtil {
+
+    private static final int DATE_LENGTH = 10;
+    // a power of two, so that the dates of over ten consecutive years have distinct slots
+    private static final int CACHE_SIZE = 4096;
+    private static final int DAYS_PER_MONTH_SLOT = 31;
+    private static final int DAYS_PER_YEAR_SLOT = 12 * DAYS_PER_MONTH_SLOT;
+
+    // each slot holds the last date parsed that maps to it; dates are immutable, so the slots can be read and
+    // written from any thread without locking
+    private static final LocalDate[] cache = new LocalDate[CACHE_SIZE];
+
+    /**
+     * Parses {@code text} as {@link LocalDate#parse(CharSequence)} does, and returns the same instance for the same
+     * date as long as it stays in the cache.
+     *
+     * @throws DateTimeParseException if {@code text} is not a valid date in the {@code yyyy-MM-dd} format.
+     */
+    public static LocalDate parseIsoDate(String text) {
+        requireNonNull(text);
+        if (text.length() != DATE_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            // leaves dates with signed or longer years, and the error message, to the formatter
+            return LocalDate.parse(text);
+        }
+        int year = parseDigits(text, 0, 4);
+        int month = parseDigits(text, 5, 7);
+        int day = parseDigits(text, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1
+                || day > Month.of(month).length(Year.isLeap(year))) {
+            return LocalDate.parse(text);
+        }
+        return getDate(year, month, day);
+    }
+
+    /**
+     * Returns the date of {@code year}, {@code month} and {@code day}, which must be valid, from the cache.
+     */
+    private static LocalDate getDate(int year, int month, int day) {
+        int slot = (year * DAYS_PER_YEAR_SLOT + (month - 1) * DAYS_PER_MONTH_SLOT + day - 1) & (CACHE_SIZE - 1);
+        LocalDate cached = cache[slot];
+        if (cached != null && cached.getDayOfMonth() == day && cached.getMonthValue() == month
+                && cached.getYear() == year) {
+            return cached;
+        }
+        LocalDate date = LocalDate.of(year, month, day);
+        cache[slot] = date;
+        return date;
+    }
+
+    /**
+     * Returns the number written in ASCII digits from {@code start} to {@code end} of {@code text}, or -1 if there
+     * is any other character there.
+     */
+    private static int parseDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -1,17 +1,49 @@
 package seedu.address.commons.util;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** The compression level that writes files without compressing them. */
+    public static final int NO_COMPRESSION = 0;
+    public static final int MAX_COMPRESSION = 9;
+    public static final String MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS =
+            "Compression level should be between " + NO_COMPRESSION + " and " + MAX_COMPRESSION;
+
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes content to an output stream, e.g. by streaming an object as JSON.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +112,117 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the content produced by {@code contentWriter} to {@code file} through a buffered file channel.
+     * The content is written to a temporary file next to {@code file}, which then atomically replaces {@code file},
+     * so {@code file} never holds partly written content, even if the write fails midway.
+     * If {@code file} exists, it keeps its POSIX permissions, where the file system has them.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @return the number of bytes written to {@code file}.
+     */
+    public static long writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            long size;
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(false);
+                size = channel.size();
+            }
+            copyPosixPermissions(file, tempFile);
+            moveAtomically(tempFile, file);
+            return size;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, ContentWriter)}, but compresses the content with gzip at the
+     * given Deflate {@code compressionLevel} as it is written, unless the level is {@link #NO_COMPRESSION}.
+     *
+     * @return the number of bytes written to {@code file}, after compression.
+     */
+    public static long writeToFileAtomically(Path file, int compressionLevel, ContentWriter contentWriter)
+            throws IOException {
+        checkArgument(isValidCompressionLevel(compressionLevel), MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        if (compressionLevel == NO_COMPRESSION) {
+            return writeToFileAtomically(file, contentWriter);
+        }
+
+        return writeToFileAtomically(file, out -> {
+            LeveledGzipOutputStream gzipOut = new LeveledGzipOutputStream(out, compressionLevel);
+            try {
+                contentWriter.writeTo(gzipOut);
+                gzipOut.finish();
+            } finally {
+                gzipOut.releaseDeflater();
+            }
+        });
+    }
+
+    /**
+     * Returns true if {@code compressionLevel} can be used to write a file.
+     */
+    public static boolean isValidCompressionLevel(int compressionLevel) {
+        return compressionLevel >= NO_COMPRESSION && compressionLevel <= MAX_COMPRESSION;
+    }
+
+    /**
+     * Opens {@code file} for buffered reading. If the file was compressed with gzip, which is detected from its first
+     * bytes, the returned stream decompresses it while it is read.
+     */
+    public static InputStream newDecompressingInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int magic = in.read() | (in.read() << 8);
+            in.reset();
+            return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and its file system has
+     * POSIX permissions, as a temporary file is created readable and writable by its owner only.
+     */
+    private static void copyPosixPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView == null || !Files.exists(source)) {
+            return;
+        }
+        Files.setPosixFilePermissions(target, sourceView.readAttributes().permissions());
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * A gzip stream that compresses at a given level, and whose compressor can be released without closing the
+     * underlying stream.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int compressionLevel) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(compressionLevel);
+        }
+
+        void releaseDeflater() {
+            def.end();
+        }
+    }
+
 }
@@ -0,0 +1,36 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one canonical instance of each distinct immutable value, so that equal values that are repeated across many
+ * objects, such as the town of thousands of properties, share one instance instead of each holding a copy.
+ * Values are compared with {@code equals} and are kept for as long as the interner is, so it should only be used for
+ * values that come from a small vocabulary. Safe to use from several threads.
+ *
+ * @param <T> the type of the values, which must be immutable
+ */
+public class Interner<T> {
+
+    private final Map<T, T> canonicalValues = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the canonical instance of the values equal to {@code value}. The first such value interned becomes the
+     * canonical instance.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        T canonicalValue = canonicalValues.putIfAbsent(value, value);
+        return canonicalValue == null ? value : canonicalValue;
+    }
+
+    /**
+     * Returns the number of distinct values interned.
+     */
+    public int size() {
+        return canonicalValues.size();
+    }
+}
@@ -0,0 +1,618 @@
+package seedu.address.commons.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative ints, in the style of Roaring bitmaps.
+ * The ints are split by their high 16 bits into chunks of 65536. Each chunk that holds any ints is kept in a
+ * container: a sorted array while it holds at most {@value #ARRAY_CONTAINER_MAX_SIZE} ints, and a bitmap of 65536
+ * bits otherwise. Sparse sets thus take about 2 bytes per int and dense sets about 1 bit per int, and the set
+ * operations work on whole containers at a time instead of on single ints.
+ */
+public class RoaringBitmap {
+
+    /** The most ints a chunk holds as a sorted array. A bitmap of a chunk takes as much memory as this many. */
+    static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int WORDS_PER_BITMAP = (1 << CHUNK_BITS) / Long.SIZE;
+
+    // the high 16 bits of the chunks that hold any ints, in increasing order, and their containers
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private int cardinality;
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public RoaringBitmap() {
+        this(new char[4], new Container[4], 0);
+    }
+
+    private RoaringBitmap(char[] keys, Container[] containers, int containerCount) {
+        this.keys = keys;
+        this.containers = containers;
+        this.containerCount = containerCount;
+        for (int i = 0; i < containerCount; i++) {
+            cardinality += containers[i].cardinality;
+        }
+    }
+
+    /**
+     * Returns a bitmap of {@code values}, which must not be negative.
+     */
+    public static RoaringBitmap of(int... values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds {@code value}, which must not be negative. Returns true if it was not in the bitmap.
+     */
+    public boolean add(int value) {
+        checkValue(value);
+        char key = highBits(value);
+        int index = findKey(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+        Container container = containers[index];
+        int oldCardinality = container.cardinality;
+        containers[index] = container.add(lowBits(value));
+        boolean isAdded = containers[index].cardinality > oldCardinality;
+        if (isAdded) {
+            cardinality++;
+        }
+        return isAdded;
+    }
+
+    /**
+     * Removes {@code value}. Returns true if it was in the bitmap.
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = findKey(highBits(value));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        int oldCardinality = container.cardinality;
+        Container updated = container.remove(lowBits(value));
+        if (updated.cardinality == oldCardinality) {
+            return false;
+        }
+        cardinality--;
+        if (updated.cardinality == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = updated;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code value} is in the bitmap.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = findKey(highBits(value));
+        return index >= 0 && containers[index].contains(lowBits(value));
+    }
+
+    /**
+     * Returns the number of ints in the bitmap.
+     */
+    public int getCardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Passes every int in the bitmap to {@code consumer}, in increasing order.
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < containerCount; i++) {
+            containers[i].forEach(keys[i] << CHUNK_BITS, consumer);
+        }
+    }
+
+    /**
+     * Returns the ints in the bitmap, in increasing order.
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality];
+        int[] next = new int[1];
+        forEach(value -> values[next[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns a copy of this bitmap, which changes independently of it.
+     */
+    public RoaringBitmap copy() {
+        Container[] copiedContainers = new Container[Math.max(containerCount, 1)];
+        for (int i = 0; i < containerCount; i++) {
+            copiedContainers[i] = containers[i].copy();
+        }
+        return new RoaringBitmap(Arrays.copyOf(keys, copiedContainers.length), copiedContainers, containerCount);
+    }
+
+    /**
+     * Returns a new bitmap of the ints in both {@code first} and {@code second}.
+     */
+    public static RoaringBitmap and(RoaringBitmap first, RoaringBitmap second) {
+        Builder result = new Builder(Math.min(first.containerCount, second.containerCount));
+        int i = 0;
+        int j = 0;
+        while (i < first.containerCount && j < second.containerCount) {
+            if (first.keys[i] < second.keys[j]) {
+                i++;
+            } else if (first.keys[i] > second.keys[j]) {
+                j++;
+            } else {
+                result.append(first.keys[i], first.containers[i].and(second.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns a new bitmap of the ints in {@code first} or {@code second}.
+     */
+    public static RoaringBitmap or(RoaringBitmap first, RoaringBitmap second) {
+        Builder result = new Builder(first.containerCount + second.containerCount);
+        int i = 0;
+        int j = 0;
+        while (i < first.containerCount || j < second.containerCount) {
+            if (j == second.containerCount || i < first.containerCount && first.keys[i] < second.keys[j]) {
+                result.append(first.keys[i], first.containers[i].copy());
+                i++;
+            } else if (i == first.containerCount || first.keys[i] > second.keys[j]) {
+                result.append(second.keys[j], second.containers[j].copy());
+                j++;
+            } else {
+                result.append(first.keys[i], first.containers[i].or(second.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns a new bitmap of the ints in {@code first} but not in {@code second}.
+     */
+    public static RoaringBitmap andNot(RoaringBitmap first, RoaringBitmap second) {
+        Builder result = new Builder(first.containerCount);
+        int j = 0;
+        for (int i = 0; i < first.containerCount; i++) {
+            while (j < second.containerCount && second.keys[j] < first.keys[i]) {
+                j++;
+            }
+            if (j < second.containerCount && second.keys[j] == first.keys[i]) {
+                result.append(first.keys[i], first.containers[i].andNot(second.containers[j]));
+            } else {
+                result.append(first.keys[i], first.containers[i].copy());
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the number of ints in both {@code first} and {@code second}, without building a bitmap of them.
+     */
+    public static int andCardinality(RoaringBitmap first, RoaringBitmap second) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.containerCount && j < second.containerCount) {
+            if (first.keys[i] < second.keys[j]) {
+                i++;
+            } else if (first.keys[i] > second.keys[j]) {
+                j++;
+            } else {
+                count += first.containers[i].andCardinality(second.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RoaringBitmap otherBitmap)) {
+            return false;
+        }
+        return cardinality == otherBitmap.cardinality && Arrays.equals(toArray(), otherBitmap.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("cardinality", cardinality)
+                .add("containers", containerCount)
+                .toString();
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value cannot be negative: " + value);
+        }
+    }
+
+    private static char highBits(int value) {
+        return (char) (value >>> CHUNK_BITS);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    private int findKey(char key) {
+        return Arrays.binarySearch(keys, 0, containerCount, key);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (containerCount == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            containers = Arrays.copyOf(containers, containers.length * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = key;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+        containerCount--;
+        containers[containerCount] = null;
+    }
+
+    /**
+     * Collects the containers of a new bitmap in increasing order of their keys, leaving out empty ones.
+     */
+    private static class Builder {
+        private final char[] keys;
+        private final Container[] containers;
+        private int containerCount;
+
+        Builder(int maxContainerCount) {
+            keys = new char[Math.max(maxContainerCount, 1)];
+            containers = new Container[keys.length];
+        }
+
+        void append(char key, Container container) {
+            if (container.cardinality == 0) {
+                return;
+            }
+            keys[containerCount] = key;
+            containers[containerCount] = container;
+            containerCount++;
+        }
+
+        RoaringBitmap build() {
+            return new RoaringBitmap(keys, containers, containerCount);
+        }
+    }
+
+    /**
+     * The ints of one chunk, as their low 16 bits. Operations that change a container may return a container of
+     * the other kind in its place, so that each container stays in the smaller of the two forms.
+     */
+    private abstract static class Container {
+        int cardinality;
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract Container copy();
+
+        abstract void forEach(int highBits, IntConsumer consumer);
+
+        abstract BitmapContainer toBitmap();
+
+        Container and(Container other) {
+            if (this instanceof ArrayContainer array) {
+                return array.filter(other, true);
+            }
+            if (other instanceof ArrayContainer array) {
+                return array.filter(this, true);
+            }
+            return ((BitmapContainer) this).combine((BitmapContainer) other, Operation.AND);
+        }
+
+        Container or(Container other) {
+            if (this instanceof ArrayContainer first && other instanceof ArrayContainer second
+                    && first.cardinality + second.cardinality <= ARRAY_CONTAINER_MAX_SIZE) {
+                return first.merge(second);
+            }
+            return toBitmap().combine(other.toBitmap(), Operation.OR);
+        }
+
+        Container andNot(Container other) {
+            if (this instanceof ArrayContainer array) {
+                return array.filter(other, false);
+            }
+            return ((BitmapContainer) this).combine(other.toBitmap(), Operation.AND_NOT);
+        }
+
+        int andCardinality(Container other) {
+            if (this instanceof ArrayContainer array) {
+                return array.countIn(other);
+            }
+            if (other instanceof ArrayContainer array) {
+                return array.countIn(this);
+            }
+            return ((BitmapContainer) this).countAnd((BitmapContainer) other);
+        }
+    }
+
+    private enum Operation {
+        AND, OR, AND_NOT
+    }
+
+    /**
+     * A container of at most {@value #ARRAY_CONTAINER_MAX_SIZE} ints, kept as a sorted array.
+     */
+    private static class ArrayContainer extends Container {
+        private char[] values;
+
+        ArrayContainer() {
+            values = new char[4];
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_CONTAINER_MAX_SIZE) {
+                return toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_CONTAINER_MAX_SIZE));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+        @Override
+        void forEach(int highBits, IntConsumer consumer) {
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(highBits | values[i]);
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.set(values[i]);
+            }
+            return bitmap;
+        }
+
+        /**
+         * Returns the values of this container that are in {@code other} if {@code isKept}, or that are not in it
+         * otherwise.
+         */
+        ArrayContainer filter(Container other, boolean isKept) {
+            char[] filtered = new char[Math.max(cardinality, 1)];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == isKept) {
+                    filtered[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(filtered, count);
+        }
+
+        int countIn(Container other) {
+            int count = 0;
+            if (other instanceof BitmapContainer bitmap) {
+                for (int i = 0; i < cardinality; i++) {
+                    count += (int) (bitmap.words[values[i] >>> 6] >>> values[i]) & 1;
+                }
+                return count;
+            }
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        ArrayContainer merge(ArrayContainer other) {
+            char[] merged = new char[Math.max(cardinality + other.cardinality, 1)];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < cardinality || j < other.cardinality) {
+                if (j == other.cardinality || i < cardinality && values[i] < other.values[j]) {
+                    merged[count++] = values[i++];
+                } else if (i == cardinality || values[i] > other.values[j]) {
+                    merged[count++] = other.values[j++];
+                } else {
+                    merged[count++] = values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(merged, count);
+        }
+    }
+
+    /**
+     * A container of more than {@value #ARRAY_CONTAINER_MAX_SIZE} ints, kept as a bitmap of the whole chunk.
+     */
+    private static class BitmapContainer extends Container {
+        private final long[] words;
+
+        BitmapContainer() {
+            words = new long[WORDS_PER_BITMAP];
+        }
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        void set(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                cardinality++;
+            }
+        }
+
+        @Override
+        Container add(char value) {
+            set(value);
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                return this;
+            }
+            words[value >>> 6] &= ~bit;
+            cardinality--;
+            return cardinality <= ARRAY_CONTAINER_MAX_SIZE ? toArray() : this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        void forEach(int highBits, IntConsumer consumer) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(highBits | (i * Long.SIZE + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            return this;
+        }
+
+        /**
+         * Returns a new container of the result of {@code operation} on this container and {@code other},
+         * as an array if it holds few enough ints.
+         */
+        Container combine(BitmapContainer other, Operation operation) {
+            long[] combined = new long[WORDS_PER_BITMAP];
+            int count = 0;
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                switch (operation) {
+                case AND:
+                    combined[i] = words[i] & other.words[i];
+                    break;
+                case OR:
+                    combined[i] = words[i] | other.words[i];
+                    break;
+                default:
+                    combined[i] = words[i] & ~other.words[i];
+                    break;
+                }
+                count += Long.bitCount(combined[i]);
+            }
+            BitmapContainer result = new BitmapContainer(combined, count);
+            return count <= ARRAY_CONTAINER_MAX_SIZE ? result.toArray() : result;
+        }
+
+        int countAnd(BitmapContainer other) {
+            int count = 0;
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                count += Long.bitCount(words[i] & other.words[i]);
+            }
+            return count;
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A multiset of strings that finds the strings starting with a prefix, ignoring case.
+ * Strings are kept in a radix tree keyed by their lower-case form, in which a chain of nodes with one child each is
+ * merged into one node, so a lookup costs the length of the prefix plus the number of strings returned, however many
+ * strings are kept. A string may be added several times, and is kept until it has been removed as many times.
+ * Strings that are equal ignoring case are kept as one, in the case they were first added with.
+ */
+public class Trie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    /**
+     * A node of the tree, reached from its parent by its label.
+     */
+    private static class Node {
+        private String label;
+        // sorted by the first character of the label of each child, which is unique among the children
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+        // the number of times the string ending at this node was added, or zero if there is no such string
+        private int count;
+        private String value;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        int findChild(char key) {
+            return Arrays.binarySearch(keys, 0, childCount, key);
+        }
+
+        Node getChild(char key) {
+            int position = findChild(key);
+            return position < 0 ? null : children[position];
+        }
+
+        void addChild(Node child) {
+            int position = -findChild(child.label.charAt(0)) - 1;
+            assert position >= 0 : "Children should have distinct first characters";
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, position, keys, position + 1, childCount - position);
+            System.arraycopy(children, position, children, position + 1, childCount - position);
+            keys[position] = child.label.charAt(0);
+            children[position] = child;
+            childCount++;
+        }
+
+        void replaceChild(Node child) {
+            children[findChild(child.label.charAt(0))] = child;
+        }
+
+        void removeChild(char key) {
+            int position = findChild(key);
+            System.arraycopy(keys, position + 1, keys, position, childCount - position - 1);
+            System.arraycopy(children, position + 1, children, position, childCount - position - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+    }
+
+    /**
+     * The place in the tree reached by following a key: {@code matched} characters into the label of {@code node}.
+     */
+    private record Position(Node node, int matched) {
+        boolean isAtNode() {
+            return matched == node.label.length();
+        }
+    }
+
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * Returns the number of distinct strings kept, ignoring case.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code value} once.
+     */
+    public void add(String value) {
+        requireNonNull(value);
+        String key = toKey(value);
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            Node child = node.getChild(key.charAt(depth));
+            if (child == null) {
+                child = new Node(key.substring(depth));
+                node.addChild(child);
+                node = child;
+                break;
+            }
+            int matched = matchLabel(child, key, depth);
+            if (matched < child.label.length()) {
+                child = split(node, child, matched);
+            }
+            node = child;
+            depth += matched;
+        }
+        if (node.count++ == 0) {
+            node.value = value;
+            size++;
+        }
+    }
+
+    /**
+     * Splits {@code child} of {@code parent} after the first {@code length} characters of its label, and returns the
+     * new node that holds those characters.
+     */
+    private static Node split(Node parent, Node child, int length) {
+        Node head = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        head.addChild(child);
+        parent.replaceChild(head);
+        return head;
+    }
+
+    /**
+     * Removes {@code value} once, if it is kept.
+     *
+     * @return true if {@code value} was kept
+     */
+    public boolean remove(String value) {
+        requireNonNull(value);
+        String key = toKey(value);
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            node = node.getChild(key.charAt(depth));
+            if (node == null || matchLabel(node, key, depth) < node.label.length()) {
+                return false;
+            }
+            path.add(node);
+            depth += node.label.length();
+        }
+        if (node.count == 0) {
+            return false;
+        }
+        if (--node.count > 0) {
+            return true;
+        }
+
+        node.value = null;
+        size--;
+        if (node != root && node.childCount == 0) {
+            Node parent = path.get(path.size() - 2);
+            parent.removeChild(node.label.charAt(0));
+            node = parent;
+            if (node != root) {
+                mergeWithChild(path.get(path.size() - 3), node);
+            }
+        } else if (node != root) {
+            mergeWithChild(path.get(path.size() - 2), node);
+        }
+        return true;
+    }
+
+    /**
+     * Merges {@code node} of {@code parent} with its only child, if it has only one child and does not end a string.
+     */
+    private static void mergeWithChild(Node parent, Node node) {
+        if (node.count > 0 || node.childCount != 1) {
+            return;
+        }
+        Node child = node.children[0];
+        child.label = node.label + child.label;
+        parent.replaceChild(child);
+    }
+
+    /**
+     * Returns true if {@code value} is kept, ignoring case.
+     */
+    public boolean contains(String value) {
+        requireNonNull(value);
+        String key = toKey(value);
+        return find(key).filter(position -> position.isAtNode() && position.node().count > 0).isPresent();
+    }
+
+    /**
+     * Returns at most {@code limit} of the strings that start with {@code prefix}, ignoring case, in the order of
+     * their lower-case forms.
+     */
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        find(toKey(prefix)).ifPresent(position -> collect(position.node(), limit, completions));
+        return completions;
+    }
+
+    private static void collect(Node node, int limit, List<String> completions) {
+        if (completions.size() >= limit) {
+            return;
+        }
+        if (node.count > 0) {
+            completions.add(node.value);
+        }
+        for (int i = 0; i < node.childCount && completions.size() < limit; i++) {
+            collect(node.children[i], limit, completions);
+        }
+    }
+
+    /**
+     * Returns the longest string, in lower case, that every kept string starting with {@code prefix} starts with, or
+     * an empty {@code Optional} if no kept string starts with {@code prefix}.
+     */
+    public Optional<String> getCommonPrefix(String prefix) {
+        requireNonNull(prefix);
+        String key = toKey(prefix);
+        return find(key).map(position -> {
+            StringBuilder common = new StringBuilder(key);
+            Node node = position.node();
+            common.append(node.label, position.matched(), node.label.length());
+            while (node.count == 0 && node.childCount == 1) {
+                node = node.children[0];
+                common.append(node.label);
+            }
+            return common.toString();
+        });
+    }
+
+    /**
+     * Returns the place reached by following {@code key} from the root, or an empty {@code Optional} if no kept
+     * string starts with {@code key}.
+     */
+    private Optional<Position> find(String key) {
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            node = node.getChild(key.charAt(depth));
+            if (node == null) {
+                return Optional.empty();
+            }
+            int matched = matchLabel(node, key, depth);
+            if (depth + matched == key.length()) {
+                return Optional.of(new Position(node, matched));
+            }
+            if (matched < node.label.length()) {
+                return Optional.empty();
+            }
+            depth += matched;
+        }
+        return node == root && size == 0 ? Optional.empty() : Optional.of(new Position(node, node.label.length()));
+    }
+
+    /**
+     * Returns the number of characters of the label of {@code node} that match {@code key} from {@code depth}.
+     */
+    private static int matchLabel(Node node, String key, int depth) {
+        int limit = Math.min(node.label.length(), key.length() - depth);
+        int matched = 0;
+        while (matched < limit && node.label.charAt(matched) == key.charAt(depth + matched)) {
+            matched++;
+        }
+        return matched;
+    }
+
+    private static String toKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
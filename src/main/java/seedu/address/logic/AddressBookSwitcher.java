@@ -0,0 +1,145 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.DoubleConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.BackgroundWork;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.Storage;
+
+/**
+ * Switches the model and the storage over to another address book.
+ * Address books that are cached by the model are switched to at once. Other address books are read in the
+ * background, and only switched to once they have been read. Address books evicted from the model's cache are
+ * flushed to their files.
+ */
+class AddressBookSwitcher {
+
+    public static final String MESSAGE_LOADING = "Loading address book %1$s...";
+    public static final String MESSAGE_SWITCHED = "Switched to address book %1$s with %2$d person(s)";
+    public static final String MESSAGE_CREATED = "Switched to new address book %1$s";
+    public static final String MESSAGE_LOAD_ERROR = "Could not load address book %1$s: %2$s";
+    public static final String MESSAGE_BEING_WRITTEN =
+            "Address book %1$s is still being written, switch to it once that is done";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSwitcher.class);
+
+    private final Model model;
+    private final Storage storage;
+
+    /**
+     * Creates an {@code AddressBookSwitcher} that switches the address book of {@code model} and {@code storage}.
+     */
+    AddressBookSwitcher(Model model, Storage storage) {
+        requireAllNonNull(model, storage);
+        this.model = model;
+        this.storage = storage;
+    }
+
+    /**
+     * Switches to the address book stored at {@code filePath}. Must be called on the UI thread.
+     *
+     * @return the result to show the user, which carries the work of reading the address book if it is not cached.
+     * @throws CommandException if the address book is still being written, e.g. by {@code generate}.
+     */
+    CommandResult switchTo(Path filePath) throws CommandException {
+        requireNonNull(filePath);
+        if (storage.isAddressBookBeingWritten(filePath)) {
+            throw new CommandException(String.format(MESSAGE_BEING_WRITTEN, filePath));
+        }
+        if (model.hasCachedAddressBook(filePath)) {
+            logger.info("Switching to cached address book " + filePath);
+            Map<Path, ReadOnlyAddressBook> evicted = model.switchToCachedAddressBook(filePath);
+            finishSwitch(storage.createAddressBookStorage(filePath), evicted);
+            return new CommandResult(getSwitchedMessage(filePath));
+        }
+
+        logger.info("Loading address book " + filePath + " in the background");
+        AddressBookStorage addressBookStorage = storage.createAddressBookStorage(filePath);
+        return new CommandResult(String.format(MESSAGE_LOADING, filePath),
+                new LoadAddressBookWork(addressBookStorage));
+    }
+
+    /**
+     * Points the storage at the address book that was switched to and flushes the {@code evicted} address books.
+     */
+    private void finishSwitch(AddressBookStorage addressBookStorage, Map<Path, ReadOnlyAddressBook> evicted) {
+        try {
+            storage.setAddressBookStorage(addressBookStorage);
+        } catch (IOException e) {
+            logger.warning("Unable to watch " + addressBookStorage.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+
+        evicted.forEach((path, addressBook) -> {
+            try {
+                storage.flushAddressBook(addressBook, path);
+            } catch (IOException e) {
+                // the address book was saved after every command while it was in use, so little can be lost
+                logger.warning("Failed to flush evicted address book " + path + ": " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    private String getSwitchedMessage(Path filePath) {
+        return String.format(MESSAGE_SWITCHED, filePath, model.getAddressBook().getPersonList().size());
+    }
+
+    /**
+     * Reads an address book that is not cached off the UI thread, then switches to it on the UI thread.
+     */
+    private class LoadAddressBookWork implements BackgroundWork {
+
+        private final AddressBookStorage addressBookStorage;
+        // written off the UI thread by run, read on the UI thread by finish
+        private volatile Optional<ReadOnlyAddressBook> loadedAddressBook;
+
+        LoadAddressBookWork(AddressBookStorage addressBookStorage) {
+            this.addressBookStorage = addressBookStorage;
+        }
+
+        @Override
+        public String run(DoubleConsumer progressListener) throws CommandException {
+            Path filePath = addressBookStorage.getAddressBookFilePath();
+            try {
+                loadedAddressBook = addressBookStorage.readAddressBook();
+            } catch (DataLoadingException e) {
+                throw new CommandException(String.format(MESSAGE_LOAD_ERROR, filePath, e.getMessage()), e);
+            }
+            progressListener.accept(1);
+            return loadedAddressBook.isPresent()
+                    ? String.format(MESSAGE_SWITCHED, filePath, loadedAddressBook.get().getPersonList().size())
+                    : String.format(MESSAGE_CREATED, filePath);
+        }
+
+        @Override
+        public String finish(String result) {
+            Path filePath = addressBookStorage.getAddressBookFilePath();
+            if (filePath.equals(model.getAddressBookFilePath())) {
+                // another switch got here first
+                return getSwitchedMessage(filePath);
+            }
+
+            Map<Path, ReadOnlyAddressBook> evicted = model.hasCachedAddressBook(filePath)
+                    ? model.switchToCachedAddressBook(filePath)
+                    : model.switchAddressBook(filePath, loadedAddressBook.orElseGet(AddressBook::new));
+            finishSwitch(addressBookStorage, evicted);
+            return result;
+        }
+    }
+}
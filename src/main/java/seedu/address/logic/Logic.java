@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.PersonSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
@@ -23,6 +26,27 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the predicate of the persons that the command being typed would list, if it is a command whose result
+     * can be previewed. The command is not executed.
+     * @param commandText The command as typed so far.
+     * @throws ParseException If the command can be previewed but is not valid yet.
+     */
+    Optional<Predicate<Person>> getPreviewPredicate(String commandText) throws ParseException;
+
+    /**
+     * Filters the filtered list of persons by {@code predicate}, to preview the result of a command being typed.
+     * The address book is not changed.
+     */
+    void previewFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns the command being typed with its last word completed from the command words, the prefixes the command
+     * accepts, and the names and tags in the address book.
+     * @param commandText The command as typed so far.
+     */
+    String completeCommand(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -30,9 +54,23 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the latest snapshot of the persons, which can be read from any thread.
+     *
+     * @see seedu.address.model.Model#getPersonSnapshot()
+     */
+    PersonSnapshot getPersonSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the header of the section of the filtered list of persons that starts at {@code index}, if any.
+     *
+     * @see seedu.address.model.Model#getSectionHeader(int)
+     */
+    Optional<String> getSectionHeader(int index);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -52,4 +90,10 @@ public interface Logic {
      * Returns a list of persons whose birthdays are within the next week.
      */
     String getPersonsWithUpcomingBirthdays();
+
+    /**
+     * Returns true while the address book is still being loaded, during which commands should be queued instead of
+     * executed.
+     */
+    boolean isLoading();
 }
@@ -3,17 +3,28 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.DoubleConsumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BackgroundWork;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.PreviewableCommand;
+import seedu.address.logic.commands.StorageWork;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.completion.CommandCompleter;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandStatistics;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.PersonSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
@@ -32,24 +43,88 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics metrics;
+    private final AddressBookSwitcher addressBookSwitcher;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, CommandMetrics.getInstance());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that records the timings
+     * of every command in {@code metrics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics metrics) {
         this.model = model;
         this.storage = storage;
+        this.metrics = metrics;
         addressBookParser = new AddressBookParser();
+        addressBookSwitcher = new AddressBookSwitcher(model, storage);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.log(Level.INFO, "----------------[USER COMMAND][{0}]", commandText);
+
+        long startTime = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            metrics.getModelStatistics().recordUnparsedCommand();
+            throw pe;
+        }
+        long parseTime = System.nanoTime() - startTime;
+        CommandStatistics statistics = metrics.getStatistics(command.getCommandWord());
 
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+            model.commitAddressBook();
+        } catch (CommandException ce) {
+            statistics.recordFailure(parseTime, System.nanoTime() - startTime - parseTime);
+            throw ce;
+        }
+        long executeTime = System.nanoTime() - startTime - parseTime;
 
+        try {
+            saveAddressBook();
+        } catch (CommandException ce) {
+            statistics.recordFailure(parseTime, executeTime);
+            throw ce;
+        }
+        long persistTime = System.nanoTime() - startTime - parseTime - executeTime;
+
+        statistics.recordSuccess(parseTime, executeTime, persistTime, storage.getLastSaveSize());
+        metrics.getModelStatistics().recordSizes(model.getAddressBook().getPersonList().size(),
+                model.getFilteredPersonList().size());
+        metrics.getModelStatistics().recordIndexLookups(model.getTagIndex().getHitCount(),
+                model.getTagIndex().getMissCount());
+
+        if (commandResult.getAddressBookToSwitchTo().isPresent()) {
+            return addressBookSwitcher.switchTo(commandResult.getAddressBookToSwitchTo().get());
+        }
+        if (commandResult.getStorageWork().isPresent()) {
+            StorageWork storageWork = commandResult.getStorageWork().get();
+            return new CommandResult(commandResult.getFeedbackToUser(),
+                    progressListener -> storageWork.run(storage, progressListener));
+        }
+        if (commandResult.getBackgroundWork().isPresent()) {
+            return new CommandResult(commandResult.getFeedbackToUser(),
+                    new SavingWork(commandResult.getBackgroundWork().get()));
+        }
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book of the model to the storage.
+     *
+     * @throws CommandException if the address book could not be saved.
+     */
+    private void saveAddressBook() throws CommandException {
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
@@ -57,8 +132,22 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public Optional<Predicate<Person>> getPreviewPredicate(String commandText) throws ParseException {
+        return addressBookParser.parsePreviewableCommand(commandText).map(PreviewableCommand::getPreviewPredicate);
+    }
+
+    @Override
+    public void previewFilteredPersonList(Predicate<Person> predicate) {
+        model.updateFilteredPersonList(predicate);
+    }
+
+    @Override
+    public String completeCommand(String commandText) {
+        // the completion index is replaced once the address book has loaded
+        return new CommandCompleter(model.getCompletionIndex()).complete(commandText);
     }
 
     @Override
@@ -66,11 +155,21 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public PersonSnapshot getPersonSnapshot() {
+        return model.getPersonSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public Optional<String> getSectionHeader(int index) {
+        return model.getSectionHeader(index);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -90,4 +189,40 @@ public class LogicManager implements Logic {
     public String getPersonsWithUpcomingBirthdays() {
         return model.getPersonsWithUpcomingBirthdays();
     }
+
+    @Override
+    public boolean isLoading() {
+        return model.isLoading();
+    }
+
+    /**
+     * Background work whose changes to the address book, made when it is finished on the UI thread, are committed
+     * as one undoable step and saved, like the changes made by a command when it executes.
+     */
+    private class SavingWork implements BackgroundWork {
+
+        private final BackgroundWork work;
+
+        SavingWork(BackgroundWork work) {
+            this.work = work;
+        }
+
+        @Override
+        public String run(DoubleConsumer progressListener) throws CommandException {
+            return work.run(progressListener);
+        }
+
+        @Override
+        public String finish(String result) throws CommandException {
+            Path filePath = model.getAddressBookFilePath();
+            long version = model.getPersonSnapshot().getVersion();
+            String message = work.finish(result);
+            // an address book that was switched to was not changed by the work
+            if (filePath.equals(model.getAddressBookFilePath()) && version != model.getPersonSnapshot().getVersion()) {
+                model.commitAddressBook();
+                saveAddressBook();
+            }
+            return message;
+        }
+    }
 }
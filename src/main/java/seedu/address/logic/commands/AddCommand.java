@@ -51,6 +51,11 @@ public class AddCommand extends Command {
         toAdd = person;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
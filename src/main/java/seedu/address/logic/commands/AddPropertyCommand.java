@@ -101,6 +101,11 @@ public class AddPropertyCommand extends Command {
         this.price = property.getPrice();
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         List<Person> lastShownList = model.getFilteredPersonList();
@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import java.util.function.DoubleConsumer;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Slow work that a command leaves to be done off the UI thread after it has executed, such as writing a large file.
+ * The work must not touch the model while it runs, since the model may only be changed from the UI thread.
+ * Work that produces something for the model hands it over in {@link #finish(String)}, which runs on the UI thread.
+ */
+@FunctionalInterface
+public interface BackgroundWork {
+
+    /**
+     * Does the work and returns the message to show the user when it is done.
+     *
+     * @param progressListener is told how much of the work is done, as a fraction between 0 and 1.
+     * @throws CommandException if the work fails.
+     */
+    String run(DoubleConsumer progressListener) throws CommandException;
+
+    /**
+     * Finishes the work on the UI thread after {@link #run(DoubleConsumer)} has succeeded, and returns the message
+     * to show the user. By default, the message returned by {@code run} is shown as it is.
+     *
+     * @param result the message returned by {@code run}.
+     * @throws CommandException if the work cannot be finished.
+     */
+    default String finish(String result) throws CommandException {
+        return result;
+    }
+}
@@ -48,6 +48,11 @@ public class BirthdayCommand extends Command {
         this.birthday = birthday;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         List<Person> lastShownList = model.getFilteredPersonList();
@@ -23,6 +23,11 @@ public class CloseCommand extends Command {
      * @throws NoWindowException If there are no view windows open to close.
      */
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws NoWindowException {
         ViewCommand.closeCurrentWindow();
@@ -8,6 +8,11 @@ import seedu.address.model.Model;
  */
 public abstract class Command {
 
+    /**
+     * Returns the word the command is run with, which its statistics are recorded under.
+     */
+    public abstract String getCommandWord();
+
     /**
      * Executes the command and returns the result message.
      *
@@ -2,7 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -19,6 +21,15 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Work to be done in the background after the command has executed, or null if there is none. */
+    private final BackgroundWork backgroundWork;
+
+    /** The file of the address book the application should switch to, or null if it should not switch. */
+    private final Path addressBookToSwitchTo;
+
+    /** Work that needs the storage, to be done in the background after the command has executed, or null. */
+    private final StorageWork storageWork;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -26,6 +37,49 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.backgroundWork = null;
+        this.addressBookToSwitchTo = null;
+        this.storageWork = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that still has
+     * {@code backgroundWork} to be done, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, BackgroundWork backgroundWork) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.backgroundWork = requireNonNull(backgroundWork);
+        this.addressBookToSwitchTo = null;
+        this.storageWork = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that still has
+     * {@code storageWork} to be done with the storage of the app, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, StorageWork storageWork) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.backgroundWork = null;
+        this.addressBookToSwitchTo = null;
+        this.storageWork = requireNonNull(storageWork);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that asks for the application
+     * to switch to the address book stored at {@code addressBookToSwitchTo}, and other fields set to their
+     * default value.
+     */
+    public CommandResult(String feedbackToUser, Path addressBookToSwitchTo) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.backgroundWork = null;
+        this.addressBookToSwitchTo = requireNonNull(addressBookToSwitchTo);
+        this.storageWork = null;
     }
 
     /**
@@ -48,6 +102,18 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<BackgroundWork> getBackgroundWork() {
+        return Optional.ofNullable(backgroundWork);
+    }
+
+    public Optional<Path> getAddressBookToSwitchTo() {
+        return Optional.ofNullable(addressBookToSwitchTo);
+    }
+
+    public Optional<StorageWork> getStorageWork() {
+        return Optional.ofNullable(storageWork);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +128,15 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(backgroundWork, otherCommandResult.backgroundWork)
+                && Objects.equals(addressBookToSwitchTo, otherCommandResult.addressBookToSwitchTo)
+                && Objects.equals(storageWork, otherCommandResult.storageWork);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, backgroundWork, addressBookToSwitchTo, storageWork);
     }
 
     @Override
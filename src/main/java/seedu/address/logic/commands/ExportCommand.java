@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOWN;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonExporter;
+import seedu.address.storage.PersonExporter.Format;
+
+/**
+ * Exports the persons in the displayed list to a CSV or JSON-lines file, optionally narrowed down by a filter.
+ * The persons to export are picked when the command executes, and the file is then written in the background.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the persons in the displayed list to a "
+            + "CSV (.csv) or JSON-lines (.jsonl) file. Only persons with all the given tags and a property "
+            + "in the given town are exported, if they are specified.\n"
+            + "Parameters: FILE_PATH "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_TOWN + "TOWN]\n"
+            + "Example: " + COMMAND_WORD + " data/sellers.csv " + PREFIX_TAG + "seller " + PREFIX_TOWN + "Bishan";
+
+    public static final String MESSAGE_EXPORTING = "Exporting %1$d person(s) to %2$s...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d person(s) to %2$s";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write %1$s: %2$s";
+
+    private final Path filePath;
+    private final Format format;
+    private final Optional<Predicate<Person>> filter;
+
+    /**
+     * Creates an ExportCommand to export the displayed persons that pass {@code filter}, if present,
+     * to {@code filePath} in the given {@code format}.
+     */
+    public ExportCommand(Path filePath, Format format, Optional<Predicate<Person>> filter) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(filter);
+        this.filePath = filePath;
+        this.format = format;
+        this.filter = filter;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        // Persons are immutable, so a copy of the list can safely be written from another thread.
+        List<Person> personsToExport = model.getFilteredPersonList().stream()
+                .filter(filter.orElse(person -> true))
+                .collect(Collectors.toList());
+        PersonExporter exporter = new PersonExporter(format);
+
+        return new CommandResult(String.format(MESSAGE_EXPORTING, personsToExport.size(), filePath),
+                progressListener -> {
+                    try {
+                        exporter.export(personsToExport, filePath, progressListener);
+                    } catch (IOException e) {
+                        throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, e.getMessage()), e);
+                    }
+                    return String.format(MESSAGE_SUCCESS, personsToExport.size(), filePath);
+                });
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format.equals(otherExportCommand.format)
+                && filter.equals(otherExportCommand.filter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("filter", filter)
+                .toString();
+    }
+}
@@ -64,6 +64,11 @@ public class FavouriteCommand extends Command {
      *         or sorting the contact list.
      * @throws CommandException If the specified index is invalid (i.e., out of range).
      */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCLUDED_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilterResult;
+
+/**
+ * Lists the persons in the address book that have the given tags and not the excluded ones, and how many of them
+ * have each tag. The persons are found with the model's tag index.
+ */
+public class FilterCommand extends Command implements PreviewableCommand {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String TAG_SEPARATOR = ",";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the persons who have all of the tags given "
+            + "with " + PREFIX_TAG + " and none of the tags given with " + PREFIX_EXCLUDED_TAG + ". Tags given "
+            + "together in one " + PREFIX_TAG + ", separated by '" + TAG_SEPARATOR + "', match persons with any of "
+            + "them.\n"
+            + "Parameters: [" + PREFIX_TAG + "TAG[" + TAG_SEPARATOR + "TAG]...]... [" + PREFIX_EXCLUDED_TAG
+            + "TAG]... (at least one tag)\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "buyer" + TAG_SEPARATOR + "seller " + PREFIX_TAG
+            + "favourite " + PREFIX_EXCLUDED_TAG + "archived";
+
+    public static final String MESSAGE_TAG_COUNTS = "Tags among them: %1$s";
+    public static final String MESSAGE_TAG_COUNT = "%1$s (%2$d)";
+
+    private final PersonHasTagsPredicate predicate;
+
+    /**
+     * Creates a FilterCommand to list the persons that pass {@code predicate}.
+     */
+    public FilterCommand(PersonHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        TagFilterResult result = model.getTagIndex().evaluate(predicate);
+        model.updateFilteredPersonList(result);
+
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, result.getCount());
+        if (!result.getTagCounts().isEmpty()) {
+            message += "\n" + String.format(MESSAGE_TAG_COUNTS, formatTagCounts(result.getTagCounts()));
+        }
+        return new CommandResult(message);
+    }
+
+    private static String formatTagCounts(Map<Tag, Integer> tagCounts) {
+        return tagCounts.entrySet().stream()
+                .map(entry -> String.format(MESSAGE_TAG_COUNT, entry.getKey().getTagName(), entry.getValue()))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Returns the predicate itself, which tests the tags of each person, as the model's tag index may only be used on
+     * the UI thread.
+     */
+    @Override
+    public Predicate<Person> getPreviewPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return predicate.equals(otherFilterCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersonGenerator;
+import seedu.address.storage.AddressBookGenerator;
+
+/**
+ * Generates an address book of realistic persons, stored next to the current one, for trying out and measuring the
+ * app at a large scale. The persons are written to the file in the background as they are generated, through the
+ * storage of the app so that the file is stored like the current one, e.g. in shards. Storages that can write persons
+ * one at a time never have to hold them in memory all at once. An address book that is open or cached cannot be
+ * replaced, as it would be overwritten again when it is saved. The command is hidden: it is neither completed nor in
+ * the user guide.
+ */
+public class GenerateCommand extends Command {
+
+    public static final String COMMAND_WORD = "generate";
+
+    public static final int MAX_COUNT = PersonGenerator.MAX_PERSONS;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Generates an address book of COUNT persons, "
+            + "stored in the same folder as the current one. The same SEED always gives the same persons.\n"
+            + "Parameters: COUNT [SEED]\n"
+            + "Example: " + COMMAND_WORD + " 100000 7";
+
+    public static final String MESSAGE_GENERATING = "Generating %1$d person(s) into address book %2$s...";
+    public static final String MESSAGE_SUCCESS = "Generated %1$d person(s) into address book %2$s in %3$d ms. "
+            + "Enter \"" + SwitchCommand.COMMAND_WORD + " %2$s\" to open it.";
+    public static final String MESSAGE_ALREADY_IN_USE = "Address book %1$s is in use and cannot be replaced";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write %1$s: %2$s";
+
+    private static final String FILE_EXTENSION = ".json";
+    private static final int PROGRESS_STEPS = 100;
+
+    private final int count;
+    private final long seed;
+
+    /**
+     * Creates a GenerateCommand to generate {@code count} persons from {@code seed}.
+     */
+    public GenerateCommand(int count, long seed) {
+        checkArgument(count > 0 && count <= MAX_COUNT);
+        this.count = count;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the name of the address book that the persons are generated into.
+     */
+    public String getBookName() {
+        return AddressBookGenerator.getBookName(count, seed);
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        String bookName = getBookName();
+        Path currentFilePath = model.getAddressBookFilePath();
+        Path filePath = currentFilePath.resolveSibling(bookName + FILE_EXTENSION);
+        if (filePath.equals(currentFilePath) || model.hasCachedAddressBook(filePath)) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_IN_USE, bookName));
+        }
+
+        PersonGenerator generator = new PersonGenerator(seed);
+        return new CommandResult(String.format(MESSAGE_GENERATING, count, bookName), (storage, progressListener) -> {
+            long startTime = System.nanoTime();
+            int progressStep = Math.max(1, count / PROGRESS_STEPS);
+            AtomicInteger generatedCount = new AtomicInteger();
+            Stream<Person> persons = generator.generate(count).peek(person -> {
+                int generated = generatedCount.incrementAndGet();
+                if (generated % progressStep == 0 || generated == count) {
+                    progressListener.accept((double) generated / count);
+                }
+            });
+            try {
+                storage.saveAddressBook(persons::iterator, filePath);
+            } catch (IOException e) {
+                throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, e.getMessage()), e);
+            }
+            return String.format(MESSAGE_SUCCESS, count, bookName, (System.nanoTime() - startTime) / 1_000_000);
+        });
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GenerateCommand)) {
+            return false;
+        }
+
+        GenerateCommand otherGenerateCommand = (GenerateCommand) other;
+        return count == otherGenerateCommand.count
+                && seed == otherGenerateCommand.seed;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("seed", seed)
+                .toString();
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.group.FlagCategory;
+import seedu.address.model.group.PersonGrouping;
+
+/**
+ * Groups the listed persons into sections by their preset flags, or stops grouping them.
+ * The order of the persons in the address book is not changed.
+ */
+public class GroupCommand extends Command {
+
+    public static final String COMMAND_WORD = "group";
+
+    public static final String KEYWORD_NONE = "none";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Groups the listed persons into sections by the "
+            + "given categories, the first one being the most significant. Without categories, the persons are "
+            + "grouped by all of them, in the order below. '" + KEYWORD_NONE + "' stops grouping.\n"
+            + "Parameters: [CATEGORY]... or " + KEYWORD_NONE + ", where CATEGORY is one of "
+            + FlagCategory.FAVOURITE.getKeyword() + ", " + FlagCategory.BUYER_SELLER.getKeyword() + ", "
+            + FlagCategory.BUSINESS_PERSONAL.getKeyword() + "\n"
+            + "Example: " + COMMAND_WORD + " " + FlagCategory.BUYER_SELLER.getKeyword() + " "
+            + FlagCategory.FAVOURITE.getKeyword();
+
+    public static final String MESSAGE_SUCCESS = "Grouped the listed persons by %1$s";
+    public static final String MESSAGE_UNGROUPED = "Stopped grouping the listed persons";
+
+    private final Optional<PersonGrouping> grouping;
+
+    /**
+     * Creates a GroupCommand to group the listed persons by {@code grouping}, or to stop grouping them if it is
+     * empty.
+     */
+    public GroupCommand(Optional<PersonGrouping> grouping) {
+        requireNonNull(grouping);
+        this.grouping = grouping;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updatePersonGrouping(grouping);
+        if (grouping.isEmpty()) {
+            return new CommandResult(MESSAGE_UNGROUPED);
+        }
+        String categories = grouping.get().getCategories().stream()
+                .map(FlagCategory::getKeyword)
+                .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, categories));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GroupCommand)) {
+            return false;
+        }
+
+        GroupCommand otherGroupCommand = (GroupCommand) other;
+        return grouping.equals(otherGroupCommand.grouping);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("grouping", grouping)
+                .toString();
+    }
+}
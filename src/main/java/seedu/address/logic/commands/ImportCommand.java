@@ -0,0 +1,284 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.DateService;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CsvPersonReader;
+import seedu.address.logic.parser.PersonRecord;
+import seedu.address.logic.parser.PersonRecordParser;
+import seedu.address.logic.parser.VcardPersonReader;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Imports the persons in a CSV or vCard file into the address book.
+ * The file is read and its records are validated in parallel in the background, and the valid persons that are not
+ * already in the address book are then added in one batch on the UI thread, unless the user has switched to another
+ * address book in the meantime.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports the persons in a CSV (.csv) or vCard "
+            + "(.vcf) file. A CSV file must start with a header naming its columns, "
+            + "e.g. name,phone,email,address,birthday,remark,tags\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/contacts.csv";
+
+    public static final String MESSAGE_IMPORTING = "Importing persons from %1$s...";
+    public static final String MESSAGE_SUCCESS =
+            "Imported %1$d person(s) from %2$s (%3$d duplicate(s) skipped, %4$d invalid record(s) skipped)";
+    public static final String MESSAGE_INVALID_RECORD = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_INVALID_RECORDS = "... and %1$d more invalid record(s)";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_ABORTED =
+            "Import from %1$s aborted, as the address book was switched from %2$s while it was running";
+
+    private static final int MAX_INVALID_RECORDS_SHOWN = 5;
+    private static final int PROGRESS_INTERVAL = 10_000;
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    /**
+     * The file formats that can be imported.
+     */
+    public enum Format {
+        CSV, VCARD
+    }
+
+    private final Path filePath;
+    private final Format format;
+
+    /**
+     * Creates an ImportCommand to import the persons in {@code filePath}, which is in the given {@code format}.
+     */
+    public ImportCommand(Path filePath, Format format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!Files.exists(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        LocalDate today = DateService.getDefault().today();
+        Path addressBookFilePath = model.getAddressBookFilePath();
+        return new CommandResult(String.format(MESSAGE_IMPORTING, filePath), new BackgroundWork() {
+            // written off the UI thread by run, read on the UI thread by finish
+            private volatile List<ParsedRecord> parsedRecords;
+
+            @Override
+            public String run(DoubleConsumer progressListener) throws CommandException {
+                parsedRecords = readRecords(today, progressListener);
+                return String.format(MESSAGE_IMPORTING, filePath);
+            }
+
+            @Override
+            public String finish(String result) {
+                if (!model.getAddressBookFilePath().equals(addressBookFilePath)) {
+                    return String.format(MESSAGE_ABORTED, filePath, addressBookFilePath);
+                }
+                return addPersons(model, parsedRecords);
+            }
+        });
+    }
+
+    /**
+     * Adds the valid persons in {@code parsedRecords} that are not already in the address book to {@code model}, and
+     * returns the message to show the user. Must be called on the UI thread.
+     */
+    private String addPersons(Model model, List<ParsedRecord> parsedRecords) {
+        List<Person> personsToAdd = new ArrayList<>();
+        List<String> invalidRecords = new ArrayList<>();
+        Set<Name> namesToAdd = new HashSet<>();
+        int duplicateCount = 0;
+        for (ParsedRecord parsedRecord : parsedRecords) {
+            if (parsedRecord.person == null) {
+                invalidRecords.add(parsedRecord.error);
+            } else if (model.hasPerson(parsedRecord.person) || !namesToAdd.add(parsedRecord.person.getName())) {
+                duplicateCount++;
+            } else {
+                personsToAdd.add(parsedRecord.person);
+            }
+        }
+
+        model.addPersons(personsToAdd);
+        return generateResultMessage(personsToAdd.size(), duplicateCount, invalidRecords);
+    }
+
+    /**
+     * Reads and validates every record in the file, telling {@code progressListener} how much of the file has been
+     * read. Records are validated in parallel, but are returned in the order they appear in the file.
+     */
+    private List<ParsedRecord> readRecords(LocalDate today, DoubleConsumer progressListener)
+            throws CommandException {
+        AtomicInteger readCount = new AtomicInteger();
+        try (BufferedReader reader = new BufferedReader(new ProgressReader(
+                Files.newBufferedReader(filePath, StandardCharsets.UTF_8), Files.size(filePath), progressListener));
+             Stream<PersonRecord> records = openRecords(reader)) {
+            List<ParsedRecord> parsedRecords = records.parallel()
+                    .map(record -> parseRecord(record, today, readCount))
+                    .collect(Collectors.toList());
+            progressListener.accept(1);
+            return parsedRecords;
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        } catch (UncheckedIOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getCause().getMessage()), e);
+        } catch (ParseException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+    }
+
+    private Stream<PersonRecord> openRecords(BufferedReader reader) throws IOException, ParseException {
+        switch (format) {
+        case CSV:
+            return CsvPersonReader.read(reader);
+        case VCARD:
+            return VcardPersonReader.read(reader);
+        default:
+            throw new AssertionError("Unknown import format: " + format);
+        }
+    }
+
+    private ParsedRecord parseRecord(PersonRecord record, LocalDate today, AtomicInteger readCount) {
+        int count = readCount.incrementAndGet();
+        if (count % PROGRESS_INTERVAL == 0) {
+            logger.log(Level.INFO, "Import from {0}: {1} records read", new Object[]{filePath, count});
+        }
+        return ParsedRecord.of(record, today);
+    }
+
+    private String generateResultMessage(int importedCount, int duplicateCount, List<String> invalidRecords) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, filePath,
+                duplicateCount, invalidRecords.size()));
+        invalidRecords.stream()
+                .limit(MAX_INVALID_RECORDS_SHOWN)
+                .forEach(invalidRecord -> message.append("\n").append(invalidRecord));
+        if (invalidRecords.size() > MAX_INVALID_RECORDS_SHOWN) {
+            message.append("\n").append(String.format(MESSAGE_MORE_INVALID_RECORDS,
+                    invalidRecords.size() - MAX_INVALID_RECORDS_SHOWN));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath)
+                && format.equals(otherImportCommand.format);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+
+    /**
+     * Tells a progress listener how much of a file has been read, as the characters read out of its size in bytes,
+     * which is close enough for a progress bar.
+     */
+    private static class ProgressReader extends FilterReader {
+        private final long size;
+        private final DoubleConsumer progressListener;
+        private long readCount;
+
+        ProgressReader(Reader in, long size, DoubleConsumer progressListener) {
+            super(in);
+            this.size = Math.max(1, size);
+            this.progressListener = progressListener;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c >= 0) {
+                readCount++;
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                readCount += count;
+                progressListener.accept(Math.min(1, (double) readCount / size));
+            }
+            return count;
+        }
+    }
+
+    /**
+     * The outcome of validating one record: either the person it describes, or why it is invalid.
+     */
+    private static class ParsedRecord {
+        private final Person person;
+        private final String error;
+
+        private ParsedRecord(Person person, String error) {
+            this.person = person;
+            this.error = error;
+        }
+
+        static ParsedRecord of(PersonRecord record, LocalDate today) {
+            try {
+                return new ParsedRecord(PersonRecordParser.parse(record, today), null);
+            } catch (ParseException | IllegalArgumentException e) {
+                return new ParsedRecord(null,
+                        String.format(MESSAGE_INVALID_RECORD, record.getLineNumber(), e.getMessage()));
+            }
+        }
+    }
+}
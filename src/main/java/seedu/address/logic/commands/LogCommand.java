@@ -8,6 +8,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import java.time.LocalDate;
 import java.util.List;
 
+import seedu.address.commons.core.DateService;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -57,10 +58,15 @@ public class LogCommand extends Command {
     public LogCommand(Index index, String message) {
         requireAllNonNull(index, message);
         this.index = index;
-        this.date = LocalDate.now();
+        this.date = DateService.getDefault().today();
         this.message = message;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         List<Person> lastShownList = model.getFilteredPersonList();
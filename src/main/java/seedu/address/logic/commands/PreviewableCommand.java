@@ -0,0 +1,18 @@
+package seedu.address.logic.commands;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A command that lists the persons that pass a predicate, so that the persons it would list can be shown while the
+ * command is still being typed.
+ */
+public interface PreviewableCommand {
+
+    /**
+     * Returns the predicate the listed persons pass. It must not depend on the model, so that it can be tested on
+     * any thread against a snapshot of the persons.
+     */
+    Predicate<Person> getPreviewPredicate();
+}
@@ -33,6 +33,11 @@ public class SortCommand extends Command {
      * @param model The model containing the list of contacts.
      * @return The result of executing the sort command, including a success message and the sorted contact list.
      */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
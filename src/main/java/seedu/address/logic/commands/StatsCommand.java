@@ -0,0 +1,146 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandStatistics;
+import seedu.address.logic.metrics.ModelStatistics;
+import seedu.address.model.Model;
+import seedu.address.model.market.MarketAggregate;
+import seedu.address.model.market.MarketStatistics;
+import seedu.address.model.market.MarketStatistics.Grouping;
+import seedu.address.model.market.ValueAggregate;
+
+/**
+ * Shows how long each command word has taken to parse, execute and save, or the market statistics of the
+ * properties listed for sale.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MARKET_KEYWORD = "market";
+    public static final String TOWN_KEYWORD = "town";
+    public static final String TYPE_KEYWORD = "type";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the timings of the commands run so far, or, "
+            + "with " + MARKET_KEYWORD + ", the asking prices of the listed properties per town and property type.\n"
+            + "Parameters: [" + MARKET_KEYWORD + " [" + TOWN_KEYWORD + "|" + TYPE_KEYWORD + "]]\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " " + MARKET_KEYWORD + " " + TOWN_KEYWORD;
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+    public static final String MESSAGE_HEADER = "Command timings (mean parse / execute / save, p99 and max total, "
+            + "all in ms):";
+    public static final String MESSAGE_COMMAND_FORMAT =
+            "%1$s: %2$d run(s), %3$d failed | %4$.3f / %5$.3f / %6$.3f | p99 %7$.3f, max %8$.3f | %9$.0f bytes saved";
+    public static final String MESSAGE_MODEL_FORMAT =
+            "Persons: %1$d (%2$d shown), unparsed commands: %3$d, tag index hit rate: %4$.1f%%";
+    public static final String MESSAGE_NO_PROPERTIES = "No properties are listed for sale.";
+    public static final String MESSAGE_MARKET_HEADER = "Asking prices (mean, ~median, min - max):";
+    public static final String MESSAGE_MARKET_FORMAT =
+            "%1$s: %2$d listing(s) | $%3$,.0f, ~$%4$,.0f, $%5$,.0f - $%6$,.0f | per sqm $%7$,.0f, ~$%8$,.0f";
+
+    private final CommandMetrics metrics;
+    private final Optional<Grouping> marketGrouping;
+
+    public StatsCommand() {
+        this(CommandMetrics.getInstance());
+    }
+
+    /**
+     * Creates a {@code StatsCommand} that shows the statistics in {@code metrics}.
+     */
+    public StatsCommand(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+        this.marketGrouping = Optional.empty();
+    }
+
+    /**
+     * Creates a {@code StatsCommand} that shows the market statistics of every group of {@code marketGrouping}.
+     */
+    public StatsCommand(Grouping marketGrouping) {
+        requireNonNull(marketGrouping);
+        this.metrics = CommandMetrics.getInstance();
+        this.marketGrouping = Optional.of(marketGrouping);
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (marketGrouping.isPresent()) {
+            return new CommandResult(formatMarket(model.getMarketStatistics(), marketGrouping.get()));
+        }
+
+        Map<String, CommandStatistics> allStatistics = metrics.getAllStatistics();
+        StringBuilder sb = new StringBuilder();
+        if (allStatistics.isEmpty()) {
+            sb.append(MESSAGE_NO_COMMANDS);
+        } else {
+            sb.append(MESSAGE_HEADER);
+            for (CommandStatistics statistics : allStatistics.values()) {
+                sb.append("\n").append(format(statistics));
+            }
+        }
+
+        ModelStatistics modelStatistics = metrics.getModelStatistics();
+        sb.append("\n").append(String.format(MESSAGE_MODEL_FORMAT, model.getAddressBook().getPersonList().size(),
+                model.getFilteredPersonList().size(), modelStatistics.getUnparsedCommandCount(),
+                modelStatistics.getIndexHitRate() * 100));
+        return new CommandResult(sb.toString());
+    }
+
+    private static String formatMarket(MarketStatistics statistics, Grouping grouping) {
+        if (statistics.getOverall().getCount() == 0) {
+            return MESSAGE_NO_PROPERTIES;
+        }
+        StringBuilder sb = new StringBuilder(MESSAGE_MARKET_HEADER);
+        List<MarketAggregate> aggregates = statistics.getAggregates(grouping);
+        for (MarketAggregate aggregate : aggregates) {
+            sb.append("\n").append(format(aggregate));
+        }
+        if (aggregates.size() > 1) {
+            sb.append("\n").append(format(statistics.getOverall()));
+        }
+        return sb.toString();
+    }
+
+    private static String format(MarketAggregate aggregate) {
+        ValueAggregate prices = aggregate.getPrices();
+        ValueAggregate pricesPerSqm = aggregate.getPricesPerSqm();
+        return String.format(MESSAGE_MARKET_FORMAT, aggregate.getLabel(), aggregate.getCount(), prices.getMean(),
+                prices.getMedian(), prices.getMin(), prices.getMax(), pricesPerSqm.getMean(), pricesPerSqm.getMedian());
+    }
+
+    private static String format(CommandStatistics statistics) {
+        return String.format(MESSAGE_COMMAND_FORMAT, statistics.getCommandWord(), statistics.getCount(),
+                statistics.getFailureCount(), statistics.getMeanParseMillis(), statistics.getMeanExecuteMillis(),
+                statistics.getMeanPersistMillis(), statistics.getP99TotalMillis(), statistics.getMaxTotalMillis(),
+                statistics.getMeanBytesWritten());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return metrics == otherStatsCommand.metrics
+                && marketGrouping.equals(otherStatsCommand.marketGrouping);
+    }
+}
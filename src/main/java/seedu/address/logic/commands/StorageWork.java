@@ -0,0 +1,24 @@
+package seedu.address.logic.commands;
+
+import java.util.function.DoubleConsumer;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.storage.AddressBookStorage;
+
+/**
+ * Slow work like {@link BackgroundWork} that also needs the storage, such as writing an address book other than the
+ * current one. Commands have no access to the storage, so it is handed to the work when the work is run, and the
+ * address books are written in the same way as the current one.
+ */
+@FunctionalInterface
+public interface StorageWork {
+
+    /**
+     * Does the work off the UI thread and returns the message to show the user when it is done.
+     *
+     * @param storage the storage of the app.
+     * @param progressListener is told how much of the work is done, as a fraction between 0 and 1.
+     * @throws CommandException if the work fails.
+     */
+    String run(AddressBookStorage storage, DoubleConsumer progressListener) throws CommandException;
+}
@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Switches to another address book, stored next to the current one. The address book is created if it does not
+ * exist yet. Recently used address books are kept in memory, so switching back to them is instant.
+ */
+public class SwitchCommand extends Command {
+
+    public static final String COMMAND_WORD = "switch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Switches to the address book with the given name, "
+            + "which is stored in the same folder as the current one. A new address book is created if there is "
+            + "none with that name.\n"
+            + "Parameters: BOOKNAME\n"
+            + "Example: " + COMMAND_WORD + " alice";
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Address book names should only contain alphanumeric characters, hyphens and underscores";
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}_-]+";
+
+    public static final String MESSAGE_SWITCHING = "Switching to address book %1$s...";
+    public static final String MESSAGE_ALREADY_IN_USE = "Address book %1$s is already in use";
+
+    private static final String FILE_EXTENSION = ".json";
+
+    private final String bookName;
+
+    /**
+     * Creates a SwitchCommand to switch to the address book called {@code bookName}.
+     */
+    public SwitchCommand(String bookName) {
+        requireNonNull(bookName);
+        assert isValidBookName(bookName);
+        this.bookName = bookName;
+    }
+
+    /**
+     * Returns true if {@code bookName} is a valid address book name.
+     */
+    public static boolean isValidBookName(String bookName) {
+        return bookName.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Path currentFilePath = model.getAddressBookFilePath();
+        Path filePath = currentFilePath.resolveSibling(bookName + FILE_EXTENSION);
+        if (filePath.equals(currentFilePath)) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_IN_USE, bookName));
+        }
+        return new CommandResult(String.format(MESSAGE_SWITCHING, bookName), filePath);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SwitchCommand)) {
+            return false;
+        }
+
+        SwitchCommand otherSwitchCommand = (SwitchCommand) other;
+        return bookName.equals(otherSwitchCommand.bookName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("bookName", bookName)
+                .toString();
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOWN;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Property;
+import seedu.address.model.ranking.RankedEntry;
+import seedu.address.model.ranking.Ranking;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Lists the top persons, or the top properties they list, in a ranking, optionally only those with the given tags
+ * or in the given town. The entries are read from the model's ranking index, so the address book is not sorted.
+ */
+public class TopCommand extends Command {
+
+    public static final String COMMAND_WORD = "top";
+
+    public static final int MAX_COUNT = 1000;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the top entries in a ranking: the cheapest or "
+            + "largest properties listed, or the persons with the most logged activities or the longest time since "
+            + "their last logged activity.\n"
+            + "Parameters: COUNT (a positive integer up to " + MAX_COUNT + ") " + Ranking.getKeywords() + " "
+            + "[" + PREFIX_TAG + "TAG]... [" + PREFIX_TOWN + "TOWN]\n"
+            + "Example: " + COMMAND_WORD + " 20 " + Ranking.CHEAPEST.getKeyword() + " " + PREFIX_TAG + "seller "
+            + PREFIX_TOWN + "Bishan";
+
+    public static final String MESSAGE_HEADER = "Top %1$d %2$s:";
+    public static final String MESSAGE_NO_ENTRIES = "No entries match.";
+    public static final String MESSAGE_PROPERTY_ENTRY = "%1$d. %2$s: $%3$,.0f, %4$.0f sqm - %5$s, %6$s (%7$s)";
+    public static final String MESSAGE_ACTIVITY_ENTRY = "%1$d. %2$s: %3$.0f activities";
+    public static final String MESSAGE_LAST_CONTACT_ENTRY = "%1$d. %2$s: last activity on %3$s";
+
+    private final int count;
+    private final Ranking ranking;
+    private final Set<Tag> tags;
+    private final Optional<String> town;
+
+    /**
+     * Creates a TopCommand to list the top {@code count} entries of {@code ranking} whose person has all of
+     * {@code tags} and that are in {@code town}, if present.
+     */
+    public TopCommand(int count, Ranking ranking, Set<Tag> tags, Optional<String> town) {
+        requireNonNull(ranking);
+        requireNonNull(tags);
+        requireNonNull(town);
+        assert count > 0 && count <= MAX_COUNT;
+        this.count = count;
+        this.ranking = ranking;
+        this.tags = tags;
+        this.town = town;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<RankedEntry> entries = model.getRankingIndex().getTop(ranking, count,
+                person -> person.getTags().containsAll(tags), town);
+
+        Set<Person> topPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        entries.forEach(entry -> topPersons.add(entry.getPerson()));
+        model.updateFilteredPersonList(topPersons::contains);
+
+        if (entries.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_ENTRIES);
+        }
+        StringBuilder sb = new StringBuilder(String.format(MESSAGE_HEADER, entries.size(), ranking.getKeyword()));
+        for (int i = 0; i < entries.size(); i++) {
+            sb.append("\n").append(format(i + 1, entries.get(i)));
+        }
+        return new CommandResult(sb.toString());
+    }
+
+    private static String format(int rank, RankedEntry entry) {
+        String name = entry.getPerson().getFullName();
+        if (entry.getProperty().isPresent()) {
+            Property property = entry.getProperty().get();
+            return String.format(MESSAGE_PROPERTY_ENTRY, rank, name, property.getPrice(), property.getSize(),
+                    property.getAddress(), property.getTown(), property.getPropertyType());
+        } else if (entry.getRanking() == Ranking.MOST_ACTIVE) {
+            return String.format(MESSAGE_ACTIVITY_ENTRY, rank, name, entry.getValue());
+        }
+        return String.format(MESSAGE_LAST_CONTACT_ENTRY, rank, name,
+                entry.getPerson().getHistory().getLastActivityDate());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TopCommand)) {
+            return false;
+        }
+
+        TopCommand otherTopCommand = (TopCommand) other;
+        return count == otherTopCommand.count
+                && ranking == otherTopCommand.ranking
+                && tags.equals(otherTopCommand.tags)
+                && town.equals(otherTopCommand.town);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("ranking", ranking)
+                .add("tags", tags)
+                .add("town", town)
+                .toString();
+    }
+}
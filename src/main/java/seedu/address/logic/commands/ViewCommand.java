@@ -58,6 +58,11 @@ public class ViewCommand extends Command {
      * @return A {@code CommandResult} indicating the success of the command.
      * @throws CommandException If the index is out of bounds or if an error occurs when loading the new window.
      */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -0,0 +1,198 @@
+package seedu.address.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BATHROOMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BEDROOMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCLUDED_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOWN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.util.Trie;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddPropertyCommand;
+import seedu.address.logic.commands.BirthdayCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.LogCommand;
+import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.completion.CompletionIndex;
+
+/**
+ * Completes the last word of a partly typed command: the command word, a prefix that the command accepts, or the
+ * value of a name or tag prefix, or the name to find, from the names and tags in the address book.
+ * The word is completed as far as all the candidates agree. If only one candidate is left, the word is replaced by
+ * it, in the case it is stored in, followed by a space unless it is a prefix.
+ */
+public class CommandCompleter {
+
+    /** The prefixes accepted by each command, by command word. */
+    private static final Map<String, List<Prefix>> PREFIXES_BY_COMMAND = Map.of(
+            AddCommand.COMMAND_WORD, List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_REMARK,
+                    PREFIX_BIRTHDAY, PREFIX_TAG),
+            EditCommand.COMMAND_WORD, List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_REMARK,
+                    PREFIX_BIRTHDAY, PREFIX_TAG),
+            AddPropertyCommand.COMMAND_WORD, List.of(PREFIX_PROPERTY_ADDRESS, PREFIX_TOWN, PREFIX_TYPE, PREFIX_SIZE,
+                    PREFIX_BEDROOMS, PREFIX_BATHROOMS, PREFIX_PRICE),
+            RemarkCommand.COMMAND_WORD, List.of(PREFIX_REMARK),
+            BirthdayCommand.COMMAND_WORD, List.of(PREFIX_BIRTHDAY),
+            LogCommand.COMMAND_WORD, List.of(PREFIX_DATE, PREFIX_LOG),
+            TopCommand.COMMAND_WORD, List.of(PREFIX_TAG, PREFIX_TOWN),
+            ExportCommand.COMMAND_WORD, List.of(PREFIX_TAG, PREFIX_TOWN),
+            FilterCommand.COMMAND_WORD, List.of(PREFIX_TAG, PREFIX_EXCLUDED_TAG));
+    private static final Trie COMMAND_WORDS = new Trie();
+    private static final Map<String, Trie> PREFIX_TRIES = new HashMap<>();
+    private static final String WORD_SEPARATOR = " ";
+    // only whether there is more than one candidate matters
+    private static final int CANDIDATE_LIMIT = 2;
+
+    static {
+        AddressBookParser.COMMAND_WORDS.forEach(COMMAND_WORDS::add);
+        PREFIXES_BY_COMMAND.forEach((commandWord, prefixes) -> {
+            Trie prefixTrie = new Trie();
+            prefixes.forEach(prefix -> prefixTrie.add(prefix.getPrefix()));
+            PREFIX_TRIES.put(commandWord, prefixTrie);
+        });
+    }
+
+    private final CompletionIndex completionIndex;
+
+    /**
+     * Creates a {@code CommandCompleter} that completes names and tags from {@code completionIndex}.
+     */
+    public CommandCompleter(CompletionIndex completionIndex) {
+        requireNonNull(completionIndex);
+        this.completionIndex = completionIndex;
+    }
+
+    /**
+     * Returns {@code commandText} with its last word completed, or {@code commandText} itself if the word cannot be
+     * completed any further.
+     */
+    public String complete(String commandText) {
+        requireNonNull(commandText);
+        int commandWordStart = skipWhitespace(commandText, 0);
+        int commandWordEnd = findWhitespace(commandText, commandWordStart);
+        if (commandWordEnd == commandText.length()) {
+            return complete(commandText, commandWordStart, COMMAND_WORDS, WORD_SEPARATOR).orElse(commandText);
+        }
+
+        String commandWord = commandText.substring(commandWordStart, commandWordEnd).toLowerCase(Locale.ROOT);
+        if (commandWord.equals(FindCommand.COMMAND_WORD)) {
+            int nameStart = skipWhitespace(commandText, commandWordEnd);
+            return complete(commandText, nameStart, completionIndex.getNames(), WORD_SEPARATOR).orElse(commandText);
+        }
+
+        List<Prefix> prefixes = PREFIXES_BY_COMMAND.getOrDefault(commandWord, List.of());
+        return completeValue(commandText, prefixes)
+                .or(() -> completePrefix(commandText, commandWord))
+                .orElse(commandText);
+    }
+
+    /**
+     * Completes the value of the last prefix in {@code commandText}, if it is a name or tag prefix.
+     */
+    private Optional<String> completeValue(String commandText, List<Prefix> prefixes) {
+        Prefix lastPrefix = null;
+        int lastPrefixStart = -1;
+        for (Prefix prefix : prefixes) {
+            int prefixStart = commandText.lastIndexOf(WORD_SEPARATOR + prefix.getPrefix());
+            if (prefixStart > lastPrefixStart) {
+                lastPrefix = prefix;
+                lastPrefixStart = prefixStart;
+            }
+        }
+        if (lastPrefix == null) {
+            return Optional.empty();
+        }
+
+        int valueStart = skipWhitespace(commandText, lastPrefixStart + 1 + lastPrefix.getPrefix().length());
+        if (lastPrefix.equals(PREFIX_NAME)) {
+            return complete(commandText, valueStart, completionIndex.getNames(), WORD_SEPARATOR);
+        }
+        if (lastPrefix.equals(PREFIX_TAG) || lastPrefix.equals(PREFIX_EXCLUDED_TAG)) {
+            // tags are single words, and several tags can be given together in a filter
+            int tagStart = Math.max(valueStart, commandText.lastIndexOf(FilterCommand.TAG_SEPARATOR) + 1);
+            if (findWhitespace(commandText, tagStart) < commandText.length()) {
+                return Optional.empty();
+            }
+            return complete(commandText, tagStart, completionIndex.getTags(), WORD_SEPARATOR);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Completes the last word of {@code commandText} to a prefix that the command accepts.
+     */
+    private Optional<String> completePrefix(String commandText, String commandWord) {
+        Trie prefixes = PREFIX_TRIES.get(commandWord);
+        int wordStart = commandText.lastIndexOf(WORD_SEPARATOR) + 1;
+        if (prefixes == null || wordStart == commandText.length()) {
+            return Optional.empty();
+        }
+        return complete(commandText, wordStart, prefixes, "");
+    }
+
+    /**
+     * Completes the text of {@code commandText} from {@code start} with the strings in {@code candidates}, or returns
+     * an empty {@code Optional} if none of them starts with that text.
+     */
+    private static Optional<String> complete(String commandText, int start, Trie candidates, String suffix) {
+        String typed = commandText.substring(start);
+        List<String> completions = candidates.getCompletions(typed, CANDIDATE_LIMIT);
+        if (completions.isEmpty()) {
+            return Optional.empty();
+        }
+        String head = commandText.substring(0, start);
+        if (completions.size() == 1) {
+            return Optional.of(head + completions.get(0) + suffix);
+        }
+
+        // keeps the case of the typed text, and takes the case of the rest from one of the candidates
+        String commonPrefix = candidates.getCommonPrefix(typed).orElseThrow();
+        String candidate = completions.get(0);
+        if (commonPrefix.length() < typed.length() || candidate.length() < commonPrefix.length()
+                || !candidate.regionMatches(true, 0, commonPrefix, 0, commonPrefix.length())) {
+            return Optional.of(commandText);
+        }
+        return Optional.of(commandText + candidate.substring(typed.length(), commonPrefix.length()));
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int index = from;
+        while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int findWhitespace(String text, int from) {
+        int index = from;
+        while (index < text.length() && !Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+}
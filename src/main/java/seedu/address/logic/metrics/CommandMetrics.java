@@ -0,0 +1,90 @@
+package seedu.address.logic.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Collects the {@link CommandStatistics} of every command word and the {@link ModelStatistics} of the app.
+ * The statistics are also registered as MBeans under the {@value #JMX_DOMAIN} domain so that they can be read from
+ * a JMX console such as JConsole.
+ */
+public class CommandMetrics {
+
+    public static final String JMX_DOMAIN = "seedu.address";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final CommandMetrics instance = new CommandMetrics(true);
+
+    private final Map<String, CommandStatistics> statisticsByCommandWord = new ConcurrentHashMap<>();
+    private final ModelStatistics modelStatistics = new ModelStatistics();
+    private final boolean isJmxEnabled;
+
+    /**
+     * Creates an empty {@code CommandMetrics}. If {@code isJmxEnabled} is true, the statistics are registered as
+     * MBeans with the platform MBean server.
+     */
+    public CommandMetrics(boolean isJmxEnabled) {
+        this.isJmxEnabled = isJmxEnabled;
+        registerMBean(modelStatistics, "type=ModelStatistics");
+    }
+
+    /**
+     * Returns the metrics shared by the whole app.
+     */
+    public static CommandMetrics getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the statistics of {@code commandWord}, creating them on the first run of the command word.
+     */
+    public CommandStatistics getStatistics(String commandWord) {
+        CommandStatistics statistics = statisticsByCommandWord.get(commandWord);
+        if (statistics != null) {
+            return statistics;
+        }
+        return statisticsByCommandWord.computeIfAbsent(commandWord, this::createStatistics);
+    }
+
+    public ModelStatistics getModelStatistics() {
+        return modelStatistics;
+    }
+
+    /**
+     * Returns the statistics of every command word that has been run, ordered by command word.
+     */
+    public Map<String, CommandStatistics> getAllStatistics() {
+        return new TreeMap<>(statisticsByCommandWord);
+    }
+
+    private CommandStatistics createStatistics(String commandWord) {
+        CommandStatistics statistics = new CommandStatistics(commandWord);
+        registerMBean(statistics, "type=CommandStatistics,command=" + ObjectName.quote(commandWord));
+        return statistics;
+    }
+
+    private void registerMBean(Object mBean, String keyProperties) {
+        if (!isJmxEnabled) {
+            return;
+        }
+
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":" + keyProperties);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(mBean, name);
+            }
+        } catch (JMException e) {
+            logger.warning("Unable to register " + keyProperties + " with JMX: " + e.getMessage());
+        }
+    }
+}
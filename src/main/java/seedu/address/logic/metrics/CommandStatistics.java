@@ -0,0 +1,112 @@
+package seedu.address.logic.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timings and sizes recorded for every run of a single command word.
+ * Times are recorded in nanoseconds.
+ */
+public class CommandStatistics implements CommandStatisticsMBean {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String commandWord;
+    private final Histogram parseTimes = new Histogram();
+    private final Histogram executeTimes = new Histogram();
+    private final Histogram persistTimes = new Histogram();
+    private final Histogram totalTimes = new Histogram();
+    private final Histogram bytesWritten = new Histogram();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    /**
+     * Creates an empty {@code CommandStatistics} for {@code commandWord}.
+     */
+    public CommandStatistics(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    /**
+     * Records a run that was parsed and executed successfully and then saved.
+     */
+    public void recordSuccess(long parseNanos, long executeNanos, long persistNanos, long bytes) {
+        parseTimes.record(parseNanos);
+        executeTimes.record(executeNanos);
+        persistTimes.record(persistNanos);
+        totalTimes.record(parseNanos + executeNanos + persistNanos);
+        bytesWritten.record(bytes);
+    }
+
+    /**
+     * Records a run that was parsed but failed while executing or saving.
+     */
+    public void recordFailure(long parseNanos, long executeNanos) {
+        parseTimes.record(parseNanos);
+        executeTimes.record(executeNanos);
+        totalTimes.record(parseNanos + executeNanos);
+        failureCount.incrementAndGet();
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    public Histogram getParseTimes() {
+        return parseTimes;
+    }
+
+    public Histogram getExecuteTimes() {
+        return executeTimes;
+    }
+
+    public Histogram getPersistTimes() {
+        return persistTimes;
+    }
+
+    public Histogram getTotalTimes() {
+        return totalTimes;
+    }
+
+    public Histogram getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public long getCount() {
+        return totalTimes.getCount();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    @Override
+    public double getMeanParseMillis() {
+        return parseTimes.getMean() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMeanExecuteMillis() {
+        return executeTimes.getMean() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMeanPersistMillis() {
+        return persistTimes.getMean() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP99TotalMillis() {
+        return totalTimes.getValueAtPercentile(99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxTotalMillis() {
+        return totalTimes.getMax() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMeanBytesWritten() {
+        return bytesWritten.getMean();
+    }
+}
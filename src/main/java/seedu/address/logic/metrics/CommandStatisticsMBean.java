@@ -0,0 +1,23 @@
+package seedu.address.logic.metrics;
+
+/**
+ * The attributes of {@link CommandStatistics} that are exposed through JMX.
+ */
+public interface CommandStatisticsMBean {
+
+    long getCount();
+
+    long getFailureCount();
+
+    double getMeanParseMillis();
+
+    double getMeanExecuteMillis();
+
+    double getMeanPersistMillis();
+
+    double getP99TotalMillis();
+
+    double getMaxTotalMillis();
+
+    double getMeanBytesWritten();
+}
@@ -0,0 +1,72 @@
+package seedu.address.logic.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters describing the size of the model after the most recent command, and how often the tag index answered the
+ * filters tested since the address book was loaded.
+ */
+public class ModelStatistics implements ModelStatisticsMBean {
+
+    private volatile int personCount;
+    private volatile int filteredPersonCount;
+    private final AtomicLong unparsedCommandCount = new AtomicLong();
+    private volatile long indexHitCount;
+    private volatile long indexMissCount;
+
+    /**
+     * Records the number of persons in the address book and in the filtered person list.
+     */
+    public void recordSizes(int personCount, int filteredPersonCount) {
+        this.personCount = personCount;
+        this.filteredPersonCount = filteredPersonCount;
+    }
+
+    /**
+     * Records how many persons tested by tag filters were looked up in the tag index, and how many had to be tested
+     * against their tags instead.
+     */
+    public void recordIndexLookups(long indexHitCount, long indexMissCount) {
+        this.indexHitCount = indexHitCount;
+        this.indexMissCount = indexMissCount;
+    }
+
+    /**
+     * Records a command that could not be parsed.
+     */
+    public void recordUnparsedCommand() {
+        unparsedCommandCount.incrementAndGet();
+    }
+
+    @Override
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    @Override
+    public int getFilteredPersonCount() {
+        return filteredPersonCount;
+    }
+
+    @Override
+    public long getUnparsedCommandCount() {
+        return unparsedCommandCount.get();
+    }
+
+    @Override
+    public long getIndexHitCount() {
+        return indexHitCount;
+    }
+
+    @Override
+    public long getIndexMissCount() {
+        return indexMissCount;
+    }
+
+    @Override
+    public double getIndexHitRate() {
+        long hitCount = indexHitCount;
+        long lookupCount = hitCount + indexMissCount;
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.address.logic.metrics;
+
+/**
+ * The model size counters of {@link CommandMetrics} that are exposed through JMX.
+ */
+public interface ModelStatisticsMBean {
+
+    int getPersonCount();
+
+    int getFilteredPersonCount();
+
+    long getUnparsedCommandCount();
+
+    long getIndexHitCount();
+
+    long getIndexMissCount();
+
+    double getIndexHitRate();
+}
@@ -9,10 +9,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.time.LocalDate;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import seedu.address.commons.core.DateService;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -56,7 +56,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         Remark remark = ParserUtil.parseRemark(argMultimap.getValue(PREFIX_REMARK).orElse(""));
         Birthday birthday = ParserUtil.parseBirthday(argMultimap.getValue(PREFIX_BIRTHDAY).orElse(""));
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
-        DateOfCreation dateOfCreation = new DateOfCreation(LocalDate.now());
+        DateOfCreation dateOfCreation = new DateOfCreation(DateService.getDefault().today());
         History history = History.addActivity(new History(dateOfCreation.getDateOfCreation()),
                 dateOfCreation.getDateOfCreation(), "Created");
         PropertyList propertyList = new PropertyList();
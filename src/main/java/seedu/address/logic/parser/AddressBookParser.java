@@ -3,6 +3,9 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -17,13 +20,24 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FavouriteCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GenerateCommand;
+import seedu.address.logic.commands.GroupCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.LogCommand;
+import seedu.address.logic.commands.PreviewableCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -32,12 +46,52 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    /**
+     * The words of all the commands that can be parsed.
+     */
+    public static final List<String> COMMAND_WORDS = List.of(AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, SortCommand.COMMAND_WORD,
+            ListCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD, CloseCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
+            RemarkCommand.COMMAND_WORD, BirthdayCommand.COMMAND_WORD, LogCommand.COMMAND_WORD,
+            FavouriteCommand.COMMAND_WORD, AddPropertyCommand.COMMAND_WORD, ViewCommand.COMMAND_WORD,
+            StatsCommand.COMMAND_WORD, TopCommand.COMMAND_WORD, FilterCommand.COMMAND_WORD, GroupCommand.COMMAND_WORD,
+            UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD, SwitchCommand.COMMAND_WORD, ImportCommand.COMMAND_WORD,
+            ExportCommand.COMMAND_WORD);
+
     /**
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    /**
+     * Parses user input that is being typed into a command whose result can be previewed, if it is one.
+     * Other commands are not parsed, so that parsing them cannot have any effect.
+     *
+     * @param userInput full user input string
+     * @return the command based on the user input, or an empty {@code Optional} if it is not previewable
+     * @throws ParseException if the user input is a previewable command that does not conform the expected format
+     */
+    public Optional<PreviewableCommand> parsePreviewableCommand(String userInput) throws ParseException {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        final String arguments = matcher.group("arguments");
+        switch (matcher.group("commandWord").toLowerCase()) {
+
+        case FindCommand.COMMAND_WORD:
+            return Optional.of(new FindCommandParser().parse(arguments));
+
+        case FilterCommand.COMMAND_WORD:
+            return Optional.of(new FilterCommandParser().parse(arguments));
+
+        default:
+            return Optional.empty();
+        }
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -57,7 +111,7 @@ public class AddressBookParser {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.log(Level.FINE, "Command word: {0}; Arguments: {1}", new Object[]{commandWord, arguments});
 
         switch (commandWord.toLowerCase()) {
 
@@ -109,6 +163,37 @@ public class AddressBookParser {
         case AddPropertyCommand.COMMAND_WORD:
             return new AddPropertyCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case SwitchCommand.COMMAND_WORD:
+            return new SwitchCommandParser().parse(arguments);
+
+        case TopCommand.COMMAND_WORD:
+            return new TopCommandParser().parse(arguments);
+
+        case FilterCommand.COMMAND_WORD:
+            return new FilterCommandParser().parse(arguments);
+
+        case GroupCommand.COMMAND_WORD:
+            return new GroupCommandParser().parse(arguments);
+
+        // hidden from the command words, as it is only meant for trying out the app at scale
+        case GenerateCommand.COMMAND_WORD:
+            return new GenerateCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
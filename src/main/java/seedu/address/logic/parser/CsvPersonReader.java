@@ -0,0 +1,91 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Reads persons from a CSV file, one person per record. A record is one line, unless a quoted field in it holds line
+ * breaks, in which case the record goes on until the field is closed.
+ * The first line must be a header naming the column of each field, e.g. {@code name,phone,email,address,tags}.
+ * Columns are matched to the {@code PersonRecord.FIELD_*} names ignoring case, and unknown columns are ignored.
+ */
+public class CsvPersonReader {
+
+    public static final String MESSAGE_MISSING_HEADER = "The CSV file is empty, it should start with a header line "
+            + "such as: name,phone,email,address,birthday,remark,tags";
+
+    /**
+     * Returns a lazily populated stream of the records in {@code reader}, which is read as the stream is consumed.
+     * Lines that are blank are skipped, unless they are inside a quoted field. The line number of a record is that of
+     * its first line, and line breaks inside its quoted fields are read as {@code \n}. An {@code IOException} while
+     * reading the records is rethrown as an {@code UncheckedIOException}.
+     *
+     * @throws ParseException if there is no header line.
+     * @throws IOException if the header line cannot be read.
+     */
+    public static Stream<PersonRecord> read(BufferedReader reader) throws IOException, ParseException {
+        requireNonNull(reader);
+        String header = reader.readLine();
+        if (header == null) {
+            throw new ParseException(MESSAGE_MISSING_HEADER);
+        }
+        String[] columns = CsvUtil.splitLine(header).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+
+        Spliterator<PersonRecord> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            private int lineNumber = 1;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super PersonRecord> action) {
+                try {
+                    String line;
+                    do {
+                        line = reader.readLine();
+                        lineNumber++;
+                    } while (line != null && line.isBlank());
+
+                    if (line == null) {
+                        return false;
+                    }
+                    int firstLineNumber = lineNumber;
+                    String record = line;
+                    while (CsvUtil.hasOpenQuote(record) && (line = reader.readLine()) != null) {
+                        record = record + "\n" + line;
+                        lineNumber++;
+                    }
+                    action.accept(toRecord(firstLineNumber, columns, record));
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private static PersonRecord toRecord(int lineNumber, String[] columns, String line) {
+        List<String> values = CsvUtil.splitLine(line);
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < columns.length && i < values.size(); i++) {
+            fields.put(columns[i], values.get(i));
+        }
+        return new PersonRecord(lineNumber, fields);
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOWN;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesFilterPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.PersonExporter.Format;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Persons can only be exported to .csv and .jsonl files.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_TOWN);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TOWN);
+
+        String filePathString = argMultimap.getPreamble();
+        if (filePathString.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(filePathString);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Optional<String> town = argMultimap.getValue(PREFIX_TOWN).map(String::trim);
+        if (town.isPresent() && town.get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        Optional<Predicate<Person>> filter = tags.isEmpty() && town.isEmpty()
+                ? Optional.empty()
+                : Optional.of(new PersonMatchesFilterPredicate(tags, town));
+
+        return new ExportCommand(filePath, parseFormat(filePathString), filter);
+    }
+
+    private static Format parseFormat(String filePath) throws ParseException {
+        String fileName = filePath.toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".csv")) {
+            return Format.CSV;
+        } else if (fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson")) {
+            return Format.JSON_LINES;
+        }
+        throw new ParseException(MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCLUDED_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_EXCLUDED_TAG);
+        List<String> requiredValues = argMultimap.getAllValues(PREFIX_TAG);
+        List<String> excludedValues = argMultimap.getAllValues(PREFIX_EXCLUDED_TAG);
+        if (!argMultimap.getPreamble().isEmpty() || requiredValues.isEmpty() && excludedValues.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        List<Set<Tag>> requiredGroups = new ArrayList<>();
+        for (String value : requiredValues) {
+            requiredGroups.add(ParserUtil.parseTags(Arrays.asList(value.split(FilterCommand.TAG_SEPARATOR, -1))));
+        }
+        Set<Tag> excludedTags = ParserUtil.parseTags(excludedValues);
+        return new FilterCommand(new PersonHasTagsPredicate(requiredGroups, excludedTags));
+    }
+}
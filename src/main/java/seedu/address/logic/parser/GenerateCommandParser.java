@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.GenerateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.util.PersonGenerator;
+
+/**
+ * Parses input arguments and creates a new GenerateCommand object
+ */
+public class GenerateCommandParser implements Parser<GenerateCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT = "COUNT should be a positive integer up to "
+            + GenerateCommand.MAX_COUNT + ".";
+    public static final String MESSAGE_INVALID_SEED = "SEED should be an integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GenerateCommand
+     * and returns a GenerateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GenerateCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        String[] arguments = trimmedArgs.split("\\s+");
+        if (trimmedArgs.isEmpty() || arguments.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateCommand.MESSAGE_USAGE));
+        }
+        int count = parseCount(arguments[0]);
+        long seed = arguments.length == 2 ? parseSeed(arguments[1]) : PersonGenerator.DEFAULT_SEED;
+        return new GenerateCommand(count, seed);
+    }
+
+    private static int parseCount(String count) throws ParseException {
+        int parsedCount;
+        try {
+            parsedCount = Integer.parseInt(count);
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_COUNT, e);
+        }
+        if (parsedCount <= 0 || parsedCount > GenerateCommand.MAX_COUNT) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return parsedCount;
+    }
+
+    private static long parseSeed(String seed) throws ParseException {
+        try {
+            return Long.parseLong(seed);
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_SEED, e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.GroupCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.FlagCategory;
+import seedu.address.model.group.PersonGrouping;
+
+/**
+ * Parses input arguments and creates a new GroupCommand object
+ */
+public class GroupCommandParser implements Parser<GroupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GroupCommand
+     * and returns a GroupCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GroupCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new GroupCommand(Optional.of(new PersonGrouping(Arrays.asList(FlagCategory.values()))));
+        }
+        if (trimmedArgs.equalsIgnoreCase(GroupCommand.KEYWORD_NONE)) {
+            return new GroupCommand(Optional.empty());
+        }
+
+        List<FlagCategory> categories = new ArrayList<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            Optional<FlagCategory> category = FlagCategory.fromKeyword(keyword);
+            if (category.isEmpty() || categories.contains(category.get())) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupCommand.MESSAGE_USAGE));
+            }
+            categories.add(category.get());
+        }
+        return new GroupCommand(Optional.of(new PersonGrouping(categories)));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ImportCommand.Format;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Only .csv and .vcf (vCard) files can be imported.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(trimmedArgs);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        String fileName = trimmedArgs.toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".csv")) {
+            return new ImportCommand(filePath, Format.CSV);
+        } else if (fileName.endsWith(".vcf") || fileName.endsWith(".vcard")) {
+            return new ImportCommand(filePath, Format.VCARD);
+        }
+        throw new ParseException(MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
@@ -10,6 +10,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.Optional;
 
+import seedu.address.commons.core.DateService;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.LogCommand;
@@ -53,7 +54,7 @@ public class LogCommandParser implements Parser<LogCommand> {
                 new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LogCommand.MESSAGE_USAGE)));
 
         // Use today's date if no date was provided
-        LocalDate finalDate = date.orElse(LocalDate.now());
+        LocalDate finalDate = date.orElse(DateService.getDefault().today());
         if (logMessage.trim().isEmpty()) {
             throw new ParseException(String.format(Messages.MESSAGE_LOG_MESSAGE_EMPTY));
         }
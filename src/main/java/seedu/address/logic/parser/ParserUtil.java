@@ -11,6 +11,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -20,6 +21,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Remark;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -94,7 +96,7 @@ public class ParserUtil {
     public static Remark parseRemark(String remark) {
         requireNonNull(remark);
         String trimmedRemark = remark.trim();
-        return new Remark(trimmedRemark);
+        return Remark.of(trimmedRemark);
     }
 
     /**
@@ -141,7 +143,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return TagDictionary.intern(trimmedTag);
     }
 
     /**
@@ -165,8 +167,7 @@ public class ParserUtil {
         requireNonNull(date);
         String trimmedDate = date.trim();
         try {
-            LocalDate parsedDate = LocalDate.parse(trimmedDate);
-            return parsedDate;
+            return DateUtil.parseIsoDate(trimmedDate);
         } catch (DateTimeException e) {
             throw new ParseException(MESSAGE_INVALID_DATE_FORMAT);
         }
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The fields of one person read from an imported file, before they are validated.
+ * Fields are keyed by the {@code FIELD_*} names and may be missing.
+ */
+public class PersonRecord {
+
+    public static final String FIELD_NAME = "name";
+    public static final String FIELD_PHONE = "phone";
+    public static final String FIELD_EMAIL = "email";
+    public static final String FIELD_ADDRESS = "address";
+    public static final String FIELD_BIRTHDAY = "birthday";
+    public static final String FIELD_REMARK = "remark";
+    public static final String FIELD_TAGS = "tags";
+
+    private final int lineNumber;
+    private final Map<String, String> fields;
+
+    /**
+     * Creates a {@code PersonRecord} that starts on {@code lineNumber} of its file.
+     */
+    public PersonRecord(int lineNumber, Map<String, String> fields) {
+        requireNonNull(fields);
+        this.lineNumber = lineNumber;
+        this.fields = fields;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the value of {@code field}, or an empty {@code Optional} if the record does not have it.
+     */
+    public Optional<String> getValue(String field) {
+        return Optional.ofNullable(fields.get(field));
+    }
+}
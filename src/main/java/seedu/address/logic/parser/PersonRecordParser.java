@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.DateOfCreation;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.History;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PropertyList;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Validates the fields of a {@code PersonRecord} with the same rules as the {@code add} command and creates the
+ * {@code Person} they describe.
+ * Parsing does not touch any shared state, so records can be parsed in parallel.
+ */
+public class PersonRecordParser {
+
+    public static final String MESSAGE_MISSING_FIELD = "Missing %1$s";
+
+    private static final String TAG_SEPARATOR_REGEX = "[;\\s]+";
+
+    /**
+     * Returns the person described by {@code record}, created on {@code dateOfCreation}.
+     *
+     * @throws ParseException if a required field is missing or a field is invalid.
+     */
+    public static Person parse(PersonRecord record, LocalDate dateOfCreation) throws ParseException {
+        requireNonNull(record);
+        requireNonNull(dateOfCreation);
+
+        Name name = ParserUtil.parseName(getRequiredValue(record, PersonRecord.FIELD_NAME));
+        Phone phone = ParserUtil.parsePhone(getRequiredValue(record, PersonRecord.FIELD_PHONE));
+        Email email = ParserUtil.parseEmail(getRequiredValue(record, PersonRecord.FIELD_EMAIL));
+        Address address = ParserUtil.parseAddress(getRequiredValue(record, PersonRecord.FIELD_ADDRESS));
+        Remark remark = ParserUtil.parseRemark(record.getValue(PersonRecord.FIELD_REMARK).orElse(""));
+        Birthday birthday = ParserUtil.parseBirthday(record.getValue(PersonRecord.FIELD_BIRTHDAY).orElse(""));
+        Set<Tag> tags = ParserUtil.parseTags(splitTags(record.getValue(PersonRecord.FIELD_TAGS).orElse("")));
+        History history = History.addActivity(new History(dateOfCreation), dateOfCreation, "Created");
+        return new Person(name, phone, email, address, remark, birthday, tags,
+                new DateOfCreation(dateOfCreation), history, new PropertyList());
+    }
+
+    private static String getRequiredValue(PersonRecord record, String field) throws ParseException {
+        String value = record.getValue(field).orElse("");
+        if (value.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD, field));
+        }
+        return value;
+    }
+
+    private static List<String> splitTags(String tags) {
+        return Arrays.stream(tags.trim().split(TAG_SEPARATOR_REGEX))
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
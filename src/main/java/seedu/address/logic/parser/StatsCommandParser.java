@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Locale;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.market.MarketStatistics.Grouping;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        String[] words = args.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        if (words.length == 1 && words[0].isEmpty()) {
+            return new StatsCommand();
+        }
+        if (!words[0].equals(StatsCommand.MARKET_KEYWORD) || words.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        if (words.length == 1) {
+            return new StatsCommand(Grouping.TOWN_AND_TYPE);
+        }
+
+        switch (words[1]) {
+        case StatsCommand.TOWN_KEYWORD:
+            return new StatsCommand(Grouping.TOWN);
+        case StatsCommand.TYPE_KEYWORD:
+            return new StatsCommand(Grouping.TYPE);
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOWN;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ranking.Ranking;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new TopCommand object
+ */
+public class TopCommandParser implements Parser<TopCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT = "COUNT should be a positive integer up to "
+            + TopCommand.MAX_COUNT + ".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TopCommand
+     * and returns a TopCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TopCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_TOWN);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TOWN);
+
+        String[] preamble = argMultimap.getPreamble().split("\\s+");
+        if (preamble.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+        }
+        int count = parseCount(preamble[0]);
+        Ranking ranking = Ranking.fromKeyword(preamble[1]).orElseThrow(() ->
+                new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE)));
+
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Optional<String> town = argMultimap.getValue(PREFIX_TOWN).map(String::trim);
+        if (town.isPresent() && town.get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+        }
+        return new TopCommand(count, ranking, tags, town);
+    }
+
+    private static int parseCount(String count) throws ParseException {
+        int parsedCount;
+        try {
+            parsedCount = Integer.parseInt(count);
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_COUNT, e);
+        }
+        if (parsedCount <= 0 || parsedCount > TopCommand.MAX_COUNT) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return parsedCount;
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads persons from a vCard file, one person per {@code BEGIN:VCARD} ... {@code END:VCARD} block.
+ * The {@code FN} (or {@code N}), {@code TEL}, {@code EMAIL}, {@code ADR}, {@code BDAY}, {@code NOTE} and
+ * {@code CATEGORIES} properties are read; only the first value of each property is used and other properties are
+ * ignored.
+ */
+public class VcardPersonReader {
+
+    private static final String BEGIN = "BEGIN:VCARD";
+    private static final String END = "END:VCARD";
+
+    /**
+     * Returns a lazily populated stream of the cards in {@code reader}, which is read as the stream is consumed.
+     * An {@code IOException} while reading is rethrown as an {@code UncheckedIOException}.
+     */
+    public static Stream<PersonRecord> read(BufferedReader reader) {
+        requireNonNull(reader);
+        Spliterator<PersonRecord> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            private final LineUnfolder lines = new LineUnfolder(reader);
+
+            @Override
+            public boolean tryAdvance(Consumer<? super PersonRecord> action) {
+                try {
+                    String line = lines.next();
+                    while (line != null && !line.equalsIgnoreCase(BEGIN)) {
+                        line = lines.next();
+                    }
+                    if (line == null) {
+                        return false;
+                    }
+
+                    int firstLineNumber = lines.getLineNumber();
+                    Map<String, String> fields = new HashMap<>();
+                    while ((line = lines.next()) != null && !line.equalsIgnoreCase(END)) {
+                        addProperty(fields, line);
+                    }
+                    action.accept(new PersonRecord(firstLineNumber, fields));
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Adds the property on {@code line}, e.g. {@code TEL;TYPE=cell:+65 9123 4567}, to {@code fields}.
+     */
+    private static void addProperty(Map<String, String> fields, String line) {
+        int valueStart = line.indexOf(':');
+        if (valueStart < 0) {
+            return;
+        }
+        String nameAndParameters = line.substring(0, valueStart);
+        int parametersStart = nameAndParameters.indexOf(';');
+        String name = (parametersStart < 0 ? nameAndParameters : nameAndParameters.substring(0, parametersStart))
+                .trim().toUpperCase(Locale.ROOT);
+        // drop a group prefix such as "item1." in "item1.EMAIL"
+        name = name.substring(name.lastIndexOf('.') + 1);
+        String value = line.substring(valueStart + 1);
+
+        switch (name) {
+        case "FN":
+            fields.putIfAbsent(PersonRecord.FIELD_NAME, unescape(value));
+            break;
+        case "N":
+            fields.putIfAbsent(PersonRecord.FIELD_NAME, toFullName(value));
+            break;
+        case "TEL":
+            fields.putIfAbsent(PersonRecord.FIELD_PHONE, value.replaceAll("[\\s()+\\-.]", ""));
+            break;
+        case "EMAIL":
+            fields.putIfAbsent(PersonRecord.FIELD_EMAIL, unescape(value));
+            break;
+        case "ADR":
+            fields.putIfAbsent(PersonRecord.FIELD_ADDRESS, toAddress(value));
+            break;
+        case "BDAY":
+            fields.putIfAbsent(PersonRecord.FIELD_BIRTHDAY, value.trim());
+            break;
+        case "NOTE":
+            fields.putIfAbsent(PersonRecord.FIELD_REMARK, unescape(value));
+            break;
+        case "CATEGORIES":
+            fields.putIfAbsent(PersonRecord.FIELD_TAGS, value.replace("\\,", ",").replace(',', ';'));
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Turns a structured name {@code Family;Given;Middle;Prefix;Suffix} into {@code Given Middle Family}.
+     */
+    private static String toFullName(String value) {
+        String[] parts = value.split(";", -1);
+        StringBuilder fullName = new StringBuilder();
+        int[] order = {1, 2, 0};
+        for (int i : order) {
+            if (i < parts.length && !parts[i].isBlank()) {
+                fullName.append(fullName.length() == 0 ? "" : " ").append(unescape(parts[i]).trim());
+            }
+        }
+        return fullName.toString();
+    }
+
+    /**
+     * Joins the non-empty components of a structured address with commas.
+     */
+    private static String toAddress(String value) {
+        StringBuilder address = new StringBuilder();
+        for (String part : value.split(";", -1)) {
+            if (!part.isBlank()) {
+                address.append(address.length() == 0 ? "" : ", ").append(unescape(part).trim());
+            }
+        }
+        return address.toString();
+    }
+
+    private static String unescape(String value) {
+        return value.replace("\\n", "\n").replace("\\N", "\n").replace("\\,", ",").replace("\\;", ";")
+                .replace("\\\\", "\\");
+    }
+
+    /**
+     * Reads the lines of a vCard file, joining folded lines (lines that continue on the next line, which then starts
+     * with a space or a tab) back together.
+     */
+    private static class LineUnfolder {
+        private final BufferedReader reader;
+        private String pendingLine;
+        private int pendingLineNumber;
+        private int linesRead;
+        private int lineNumber;
+
+        LineUnfolder(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the next unfolded line, or null at the end of the file.
+         */
+        String next() throws IOException {
+            String line = pendingLine;
+            int number = pendingLineNumber;
+            pendingLine = null;
+            if (line == null) {
+                line = reader.readLine();
+                number = ++linesRead;
+            }
+            if (line == null) {
+                return null;
+            }
+
+            StringBuilder unfolded = new StringBuilder(line);
+            String following;
+            while ((following = reader.readLine()) != null) {
+                linesRead++;
+                if (!following.startsWith(" ") && !following.startsWith("\t")) {
+                    pendingLine = following;
+                    pendingLineNumber = linesRead;
+                    break;
+                }
+                unfolded.append(following, 1, following.length());
+            }
+            lineNumber = number;
+            return unfolded.toString().trim();
+        }
+
+        /**
+         * Returns the line number on which the line last returned by {@link #next()} starts.
+         */
+        int getLineNumber() {
+            return lineNumber;
+        }
+    }
+}
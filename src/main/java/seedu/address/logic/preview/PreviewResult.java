@@ -0,0 +1,76 @@
+package seedu.address.logic.preview;
+
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefiningPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons of a snapshot that passed a predicate, found on a background thread.
+ * As a predicate, it tests a person by looking it up in the result, so that applying it to the person list on the UI
+ * thread does not test the original predicate again. Once the persons are no longer those of the snapshot, e.g.
+ * because a person was edited after the result was shown, persons are tested against the predicate instead, so the
+ * preview stays correct.
+ */
+class PreviewResult implements RefiningPredicate<Person> {
+
+    private final Predicate<Person> predicate;
+    private final Set<Person> matches;
+    private final long snapshotVersion;
+    private final LongSupplier currentVersion;
+
+    /**
+     * Creates the result of testing {@code predicate} against the snapshot with version {@code snapshotVersion},
+     * whose persons that passed are {@code matches}, compared by identity. {@code currentVersion} gives the version
+     * of the latest snapshot, which tells whether the persons have changed since.
+     */
+    PreviewResult(Predicate<Person> predicate, Set<Person> matches, long snapshotVersion,
+            LongSupplier currentVersion) {
+        this.predicate = predicate;
+        this.matches = matches;
+        this.snapshotVersion = snapshotVersion;
+        this.currentVersion = currentVersion;
+    }
+
+    Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    long getSnapshotVersion() {
+        return snapshotVersion;
+    }
+
+    int getCount() {
+        return matches.size();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (currentVersion.getAsLong() != snapshotVersion) {
+            return predicate.test(person);
+        }
+        return matches.contains(person);
+    }
+
+    @Override
+    public boolean refines(Predicate<?> other) {
+        return predicate instanceof RefiningPredicate<?> refiningPredicate && refiningPredicate.refines(other);
+    }
+
+    @Override
+    public Predicate<?> getBasePredicate() {
+        return RefiningPredicate.baseOf(predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("count", getCount())
+                .add("snapshotVersion", snapshotVersion)
+                .toString();
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.logic.preview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.PersonSnapshot;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows the persons a search command would list while it is being typed.
+ * Each change of the command text waits for a short pause in typing, then the search is run on a background thread
+ * against the latest {@link PersonSnapshot}, so that typing never waits for it. A newer change cancels the search
+ * of an older one, even while it is running, and only the result of the newest change is shown.
+ * All methods must be called on the UI thread, and results are shown through {@code uiExecutor}.
+ */
+public class SearchPreviewer {
+
+    /** The pause in typing after which a search is run. */
+    public static final Duration DEFAULT_DEBOUNCE_DELAY = Duration.ofMillis(150);
+
+    /** How many persons are tested between checks of whether the search has been cancelled. */
+    static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(SearchPreviewer.class);
+
+    private final Logic logic;
+    private final ScheduledExecutorService searchExecutor;
+    private final Executor uiExecutor;
+    private final long debounceDelayMillis;
+    // incremented on every change of the command text, and read by searches to tell if they are still wanted
+    private final AtomicLong generation = new AtomicLong();
+    private Optional<Future<?>> pendingSearch = Optional.empty();
+    private boolean isPreviewShown;
+
+    /**
+     * Creates a previewer for the persons of {@code logic}, which runs searches on a daemon thread and shows their
+     * results through {@code uiExecutor}.
+     */
+    public SearchPreviewer(Logic logic, Executor uiExecutor) {
+        this(logic, Executors.newSingleThreadScheduledExecutor(SearchPreviewer::newDaemonThread), uiExecutor,
+                DEFAULT_DEBOUNCE_DELAY);
+    }
+
+    /**
+     * Creates a previewer that runs searches on {@code searchExecutor} after {@code debounceDelay}.
+     */
+    SearchPreviewer(Logic logic, ScheduledExecutorService searchExecutor, Executor uiExecutor,
+            Duration debounceDelay) {
+        requireAllNonNull(logic, searchExecutor, uiExecutor, debounceDelay);
+        this.logic = logic;
+        this.searchExecutor = searchExecutor;
+        this.uiExecutor = uiExecutor;
+        this.debounceDelayMillis = debounceDelay.toMillis();
+    }
+
+    private static Thread newDaemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "search-preview");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Previews {@code commandText}, the command as typed so far.
+     * If it is a valid search, its result is shown after a pause in typing. If it is a search that is not valid yet,
+     * the previous preview is kept. Otherwise, the preview, if any, is replaced by the list of all persons.
+     */
+    public void preview(String commandText) {
+        requireNonNull(commandText);
+        long searchGeneration = generation.incrementAndGet();
+        cancelPendingSearch();
+
+        Optional<Predicate<Person>> predicate;
+        try {
+            predicate = logic.getPreviewPredicate(commandText);
+        } catch (ParseException e) {
+            return;
+        }
+        if (predicate.isEmpty()) {
+            if (isPreviewShown) {
+                logic.previewFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+                isPreviewShown = false;
+            }
+            return;
+        }
+
+        Predicate<Person> searchPredicate = predicate.get();
+        pendingSearch = Optional.of(searchExecutor.schedule(() -> search(searchGeneration, searchPredicate),
+                debounceDelayMillis, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Cancels the search that is waiting or running, if any, and keeps the current list as it is.
+     * Called when a command is executed, so that a late preview cannot replace its result.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        cancelPendingSearch();
+        isPreviewShown = false;
+    }
+
+    private void cancelPendingSearch() {
+        pendingSearch.ifPresent(search -> search.cancel(false));
+        pendingSearch = Optional.empty();
+    }
+
+    private boolean isCancelled(long searchGeneration) {
+        return generation.get() != searchGeneration;
+    }
+
+    /**
+     * Tests {@code predicate} against the latest snapshot on the search thread, then shows the result on the UI
+     * thread, unless the search is cancelled before then.
+     */
+    private void search(long searchGeneration, Predicate<Person> predicate) {
+        PersonSnapshot snapshot = logic.getPersonSnapshot();
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        int tested = 0;
+        for (Person person : snapshot.getPersons()) {
+            if (++tested % CANCELLATION_CHECK_INTERVAL == 0 && isCancelled(searchGeneration)) {
+                return;
+            }
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        PreviewResult result = new PreviewResult(predicate, matches, snapshot.getVersion(),
+                () -> logic.getPersonSnapshot().getVersion());
+        uiExecutor.execute(() -> show(searchGeneration, result));
+    }
+
+    /**
+     * Shows {@code result} on the UI thread, if its search is still the newest.
+     */
+    private void show(long searchGeneration, PreviewResult result) {
+        if (isCancelled(searchGeneration)) {
+            return;
+        }
+        pendingSearch = Optional.empty();
+        if (logic.getPersonSnapshot().getVersion() == result.getSnapshotVersion()) {
+            logic.previewFilteredPersonList(result);
+        } else {
+            // the persons changed during the search, so the result may be missing some of them
+            logger.fine("Persons changed during the search, testing them again");
+            logic.previewFilteredPersonList(result.getPredicate());
+        }
+        isPreviewShown = true;
+    }
+}
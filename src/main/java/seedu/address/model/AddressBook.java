@@ -75,6 +75,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds a person to the address book at the given {@code index}.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book in a single change.
+     * None of the persons may already exist in the address book, and {@code toAdd} must not contain duplicates.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -94,6 +110,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} in a single change.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(List<Person> keys) {
+        persons.removeAll(keys);
+    }
+
     /**
      * Sorts the persons in the address book in ascending order based on their names.
      */
@@ -0,0 +1,115 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps address books that are not currently shown resident in memory, together with their undo histories and
+ * indexes, so that switching back to them does not need to read their files or index their persons again.
+ * The cache is bounded by the total number of persons in the cached address books, as an estimate of the memory
+ * they take up. When the bound is exceeded, the least recently used address books are evicted.
+ */
+class AddressBookCache {
+
+    /** The default maximum number of persons kept in all cached address books together. */
+    static final int DEFAULT_MAX_CACHED_PERSONS = 100_000;
+
+    // insertion order is the order of use, since an address book is taken out of the cache while it is in use
+    private final Map<Path, CachedAddressBook> addressBooks = new LinkedHashMap<>();
+    private final int maxCachedPersons;
+    private int cachedPersons;
+
+    /**
+     * Creates an empty cache that keeps at most {@code maxCachedPersons} persons.
+     */
+    AddressBookCache(int maxCachedPersons) {
+        assert maxCachedPersons >= 0;
+        this.maxCachedPersons = maxCachedPersons;
+    }
+
+    /**
+     * Returns true if the address book stored at {@code filePath} is in the cache.
+     */
+    boolean contains(Path filePath) {
+        requireNonNull(filePath);
+        return addressBooks.containsKey(filePath);
+    }
+
+    /**
+     * Takes the address book stored at {@code filePath} out of the cache, or returns null if it is not cached.
+     */
+    CachedAddressBook take(Path filePath) {
+        requireNonNull(filePath);
+        CachedAddressBook addressBook = addressBooks.remove(filePath);
+        if (addressBook != null) {
+            cachedPersons -= addressBook.size();
+        }
+        return addressBook;
+    }
+
+    /**
+     * Puts the address book stored at {@code filePath} into the cache as the most recently used one.
+     *
+     * @return the address books evicted to make room for it, least recently used first. This may include the
+     *     address book that was just put, if it alone is larger than the cache.
+     */
+    Map<Path, CachedAddressBook> put(Path filePath, CachedAddressBook addressBook) {
+        requireNonNull(filePath);
+        requireNonNull(addressBook);
+        take(filePath);
+        addressBooks.put(filePath, addressBook);
+        cachedPersons += addressBook.size();
+
+        Map<Path, CachedAddressBook> evicted = new LinkedHashMap<>();
+        Iterator<Map.Entry<Path, CachedAddressBook>> leastRecentlyUsed = addressBooks.entrySet().iterator();
+        while (cachedPersons > maxCachedPersons) {
+            Map.Entry<Path, CachedAddressBook> entry = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            cachedPersons -= entry.getValue().size();
+            evicted.put(entry.getKey(), entry.getValue());
+        }
+        return evicted;
+    }
+
+    /**
+     * Returns the number of persons in all cached address books together.
+     */
+    int getCachedPersons() {
+        return cachedPersons;
+    }
+
+    /**
+     * An address book that is not currently shown, along with its own undo history and the indexes of its persons.
+     */
+    static class CachedAddressBook {
+        private final AddressBook addressBook;
+        private final AddressBookHistory history;
+        private final PersonIndexes indexes;
+
+        CachedAddressBook(AddressBook addressBook, AddressBookHistory history, PersonIndexes indexes) {
+            this.addressBook = requireNonNull(addressBook);
+            this.history = requireNonNull(history);
+            this.indexes = requireNonNull(indexes);
+        }
+
+        AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        AddressBookHistory getHistory() {
+            return history;
+        }
+
+        PersonIndexes getIndexes() {
+            return indexes;
+        }
+
+        int size() {
+            return addressBook.getPersonList().size();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Records the changes made to an {@code AddressBook} so that they can be undone and redone.
+ * Instead of copying the whole address book after every command, each step only keeps references to the
+ * persons that the command touched, so a step costs O(changed persons) no matter how big the address book is.
+ * Persons are immutable, which lets the recorded steps share them with the live address book.
+ */
+class AddressBookHistory {
+
+    private final Deque<List<Change>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<Change>> redoSteps = new ArrayDeque<>();
+    private List<Change> pendingChanges = new ArrayList<>();
+    private int maxDepth;
+
+    /**
+     * Creates an empty history that keeps at most {@code maxDepth} undoable steps.
+     */
+    AddressBookHistory(int maxDepth) {
+        setMaxDepth(maxDepth);
+    }
+
+    /**
+     * Sets the maximum number of undoable steps kept, dropping the oldest steps if there are too many.
+     */
+    void setMaxDepth(int maxDepth) {
+        assert maxDepth >= 0;
+        this.maxDepth = maxDepth;
+        trimToMaxDepth(undoSteps);
+        trimToMaxDepth(redoSteps);
+    }
+
+    /**
+     * Records that {@code person} was added at {@code index}.
+     */
+    void recordAdd(Person person, int index) {
+        pendingChanges.add(new AddChange(person, index));
+    }
+
+    /**
+     * Records that {@code persons} were added to the end of the list in one batch.
+     */
+    void recordAddAll(List<Person> persons) {
+        pendingChanges.add(new AddAllChange(persons));
+    }
+
+    /**
+     * Records that {@code person} was removed from {@code index}.
+     */
+    void recordRemove(Person person, int index) {
+        pendingChanges.add(new RemoveChange(person, index));
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedPerson}.
+     */
+    void recordSet(Person target, Person editedPerson) {
+        pendingChanges.add(new SetChange(target, editedPerson));
+    }
+
+    /**
+     * Records that the whole person list went from {@code before} to {@code after}, e.g. after a clear or a sort.
+     * Only the list of references is kept, the persons themselves are shared.
+     */
+    void recordReplace(List<Person> before, List<Person> after) {
+        pendingChanges.add(new ReplaceChange(before, after));
+    }
+
+    /**
+     * Closes the changes recorded since the last commit into a single undoable step.
+     * Does nothing if no changes were recorded. Committing a new step discards the steps that could be redone.
+     */
+    void commit() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        if (maxDepth > 0) {
+            undoSteps.push(pendingChanges);
+            trimToMaxDepth(undoSteps);
+        }
+        redoSteps.clear();
+        pendingChanges = new ArrayList<>();
+    }
+
+    /**
+     * Forgets all steps, including uncommitted changes, e.g. after the address book was changed in a way that
+     * must not be undone.
+     */
+    void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        pendingChanges = new ArrayList<>();
+    }
+
+    boolean canUndo() {
+        return !pendingChanges.isEmpty() || !undoSteps.isEmpty();
+    }
+
+    boolean canRedo() {
+        return pendingChanges.isEmpty() && !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverts the most recent step on {@code addressBook}.
+     * Uncommitted changes are committed first so that they are undone as one step.
+     */
+    void undo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        commit();
+        assert !undoSteps.isEmpty();
+
+        List<Change> step = undoSteps.pop();
+        for (int i = step.size() - 1; i >= 0; i--) {
+            step.get(i).undo(addressBook);
+        }
+        redoSteps.push(step);
+    }
+
+    /**
+     * Reapplies the most recently undone step on {@code addressBook}.
+     */
+    void redo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        assert canRedo();
+
+        List<Change> step = redoSteps.pop();
+        for (Change change : step) {
+            change.redo(addressBook);
+        }
+        undoSteps.push(step);
+    }
+
+    private void trimToMaxDepth(Deque<List<Change>> steps) {
+        while (steps.size() > maxDepth) {
+            steps.removeLast();
+        }
+    }
+
+    /**
+     * A single recorded change that knows how to revert and reapply itself.
+     */
+    private interface Change {
+        void undo(AddressBook addressBook);
+
+        void redo(AddressBook addressBook);
+    }
+
+    private static class AddChange implements Change {
+        private final Person person;
+        private final int index;
+
+        AddChange(Person person, int index) {
+            this.person = person;
+            this.index = index;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+    }
+
+    private static class AddAllChange implements Change {
+        private final List<Person> persons;
+
+        AddAllChange(List<Person> persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.removePersons(persons);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.addPersons(persons);
+        }
+    }
+
+    private static class RemoveChange implements Change {
+        private final Person person;
+        private final int index;
+
+        RemoveChange(Person person, int index) {
+            this.person = person;
+            this.index = index;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+    }
+
+    private static class SetChange implements Change {
+        private final Person target;
+        private final Person editedPerson;
+
+        SetChange(Person target, Person editedPerson) {
+            this.target = target;
+            this.editedPerson = editedPerson;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPerson(editedPerson, target);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setPerson(target, editedPerson);
+        }
+    }
+
+    private static class ReplaceChange implements Change {
+        private final List<Person> before;
+        private final List<Person> after;
+
+        ReplaceChange(List<Person> before, List<Person> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPersons(before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setPersons(after);
+        }
+    }
+}
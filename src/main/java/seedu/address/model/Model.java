@@ -1,11 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.completion.CompletionIndex;
+import seedu.address.model.group.PersonGrouping;
+import seedu.address.model.market.MarketStatistics;
 import seedu.address.model.person.Person;
+import seedu.address.model.ranking.RankingIndex;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * The API of the Model component.
@@ -52,6 +60,34 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the latest snapshot of the persons in the address book. Unlike the address book itself, this can be
+     * called from any thread, and the snapshot stays consistent while it is read.
+     */
+    PersonSnapshot getPersonSnapshot();
+
+    /**
+     * Returns the market statistics of the properties listed in the address book, which are kept up to date as the
+     * address book changes.
+     */
+    MarketStatistics getMarketStatistics();
+
+    /**
+     * Returns the index of the persons and their properties in every ranking, which is kept up to date as the
+     * address book changes.
+     */
+    RankingIndex getRankingIndex();
+
+    /**
+     * Returns the bitmap index of the persons with each tag, which is kept up to date as the address book changes.
+     */
+    TagIndex getTagIndex();
+
+    /**
+     * Returns the tries of the names and tags of the persons, which are kept up to date as the address book changes.
+     */
+    CompletionIndex getCompletionIndex();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -69,6 +105,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons in a single change.
+     * None of {@code persons} may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -76,15 +118,87 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Brings the address book in line with {@code newData}, e.g. after its file was changed by another program.
+     * Persons are matched by identity, and only the persons that were added, edited or removed are changed,
+     * so the rest of the address book and the current filter are left alone.
+     * The changes are not undoable, and if any person changed, the undo and redo history is cleared, so that undo
+     * never reverts, and then saves over, changes that someone else made to the file.
+     *
+     * @return the number of persons that were added, edited or removed.
+     */
+    int mergeAddressBook(ReadOnlyAddressBook newData);
+
+    /**
+     * Returns true if the address book stored at {@code filePath} is resident in memory, so that switching to it
+     * with {@link #switchToCachedAddressBook(Path)} needs no reading.
+     */
+    boolean hasCachedAddressBook(Path filePath);
+
+    /**
+     * Switches to the cached address book stored at {@code filePath}, along with its undo history.
+     * The current address book is kept in the cache, which may evict the least recently used address books.
+     * The address book must be cached.
+     *
+     * @return the address books evicted from the cache, by the path they are stored at. They should be saved.
+     */
+    Map<Path, ReadOnlyAddressBook> switchToCachedAddressBook(Path filePath);
+
+    /**
+     * Switches to {@code addressBook}, which was read from {@code filePath}, with an empty undo history.
+     * The current address book is kept in the cache, which may evict the least recently used address books.
+     *
+     * @return the address books evicted from the cache, by the path they are stored at. They should be saved.
+     */
+    Map<Path, ReadOnlyAddressBook> switchAddressBook(Path filePath, ReadOnlyAddressBook addressBook);
+
+    /**
+     * Saves the changes made to the address book since the last commit as one undoable step.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a step that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone step that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverts the address book to the state before the most recent step.
+     */
+    void undoAddressBook();
+
+    /**
+     * Reapplies the most recently undone step to the address book.
+     */
+    void redoAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * If it is a {@link RefiningPredicate} that refines the current filter, only the listed persons are tested.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Orders the filtered person list by {@code grouping}, or in address book order if it is empty.
+     * @throws NullPointerException if {@code grouping} is null.
+     */
+    void updatePersonGrouping(Optional<PersonGrouping> grouping);
+
+    /**
+     * Returns the header of the section of the grouped filtered person list that starts at {@code index},
+     * if one starts there.
+     */
+    Optional<String> getSectionHeader(int index);
+
     public void sortPersonsAsc();
 
     public void sortPersonsDesc();
@@ -94,5 +208,11 @@ public interface Model {
      */
     String getPersonsWithUpcomingBirthdays();
 
+    /**
+     * Returns true while the persons of the address book are still being loaded in the background.
+     * Commands should not be executed until loading has finished.
+     */
+    boolean isLoading();
+
     public void sortPersonsFavourite();
 }
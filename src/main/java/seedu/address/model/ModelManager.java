@@ -6,16 +6,28 @@ import static seedu.address.model.person.Birthday.BIRTHDAY_REMINDER_EMPTY;
 import static seedu.address.model.person.Birthday.BIRTHDAY_REMINDER_HEADER;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.completion.CompletionIndex;
+import seedu.address.model.group.GroupedPersonList;
+import seedu.address.model.group.PersonGrouping;
+import seedu.address.model.market.MarketStatistics;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.ranking.RankingIndex;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,7 +37,19 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final RefinableFilteredList<Person> filteredPersons;
+    private final GroupedPersonList groupedPersons;
+    private final AddressBookCache addressBookCache;
+    private final AtomicReference<PersonSnapshot> personSnapshot;
+    private MarketStatistics marketStatistics;
+    private RankingIndex rankingIndex;
+    private TagIndex tagIndex;
+    private CompletionIndex completionIndex;
+    // holds the four indexes above, so that they can be cached along with the address book
+    private PersonIndexes indexes;
+    private AddressBookHistory history;
+    private boolean isLoading;
+    private boolean isSwitching;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,11 +57,21 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new RefinableFilteredList<>(this.addressBook.getPersonList());
+        groupedPersons = new GroupedPersonList(filteredPersons);
+        history = new AddressBookHistory(this.userPrefs.getUndoHistoryDepth());
+        addressBookCache = new AddressBookCache(AddressBookCache.DEFAULT_MAX_CACHED_PERSONS);
+
+        // every change to the persons, including undo, redo and switching, goes through the person list
+        personSnapshot = new AtomicReference<>(PersonSnapshot.of(this.addressBook.getPersonList()));
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                personSnapshot.set(personSnapshot.get().apply(change)));
+        setIndexes(PersonIndexes.build(this.addressBook.getPersonList()));
+        this.addressBook.getPersonList().addListener(this::updateIndexes);
     }
 
     public ModelManager() {
@@ -50,6 +84,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setMaxDepth(this.userPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -83,7 +118,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        List<Person> before = snapshotPersons();
         this.addressBook.resetData(addressBook);
+        history.recordReplace(before, snapshotPersons());
     }
 
     @Override
@@ -91,6 +128,68 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public PersonSnapshot getPersonSnapshot() {
+        return personSnapshot.get();
+    }
+
+    @Override
+    public MarketStatistics getMarketStatistics() {
+        return marketStatistics;
+    }
+
+    @Override
+    public RankingIndex getRankingIndex() {
+        return rankingIndex;
+    }
+
+    @Override
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    @Override
+    public CompletionIndex getCompletionIndex() {
+        return completionIndex;
+    }
+
+    private void setIndexes(PersonIndexes indexes) {
+        this.indexes = indexes;
+        marketStatistics = indexes.getMarketStatistics();
+        rankingIndex = indexes.getRankingIndex();
+        tagIndex = indexes.getTagIndex();
+        completionIndex = indexes.getCompletionIndex();
+    }
+
+    /**
+     * Updates the market statistics, the ranking index, the tag index and the completion index with only the persons
+     * that {@code change} removed and added. While loading, the indexes are left alone, as they are built as a whole
+     * once loading finishes, and so they are while switching, as the indexes of the other address book are swapped in.
+     */
+    private void updateIndexes(ListChangeListener.Change<? extends Person> change) {
+        if (isLoading || isSwitching) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (Person person : change.getRemoved()) {
+                marketStatistics.remove(person);
+                rankingIndex.remove(person);
+                tagIndex.remove(person);
+                completionIndex.remove(person);
+            }
+            for (Person person : change.getAddedSubList()) {
+                marketStatistics.add(person);
+                rankingIndex.add(person);
+                tagIndex.add(person);
+                completionIndex.add(person);
+            }
+        }
+        change.reset();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -99,12 +198,24 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        int index = addressBook.getPersonList().indexOf(target);
         addressBook.removePerson(target);
+        history.recordRemove(target, index);
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        history.recordAdd(person, addressBook.getPersonList().size() - 1);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        List<Person> personsToAdd = new ArrayList<>(persons);
+        addressBook.addPersons(personsToAdd);
+        history.recordAddAll(personsToAdd);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -113,17 +224,199 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        history.recordSet(target, editedPerson);
+    }
+
+    @Override
+    public int mergeAddressBook(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        Map<Name, Person> incomingPersons = new LinkedHashMap<>();
+        newData.getPersonList().forEach(person -> incomingPersons.put(person.getName(), person));
+
+        List<Person> removedPersons = new ArrayList<>();
+        List<Person> targets = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            Person incomingPerson = incomingPersons.remove(person.getName());
+            if (incomingPerson == null) {
+                removedPersons.add(person);
+            } else if (!hasSameData(person, incomingPerson)) {
+                targets.add(person);
+                editedPersons.add(incomingPerson);
+            }
+        }
+        List<Person> addedPersons = new ArrayList<>(incomingPersons.values());
+
+        int changedCount = removedPersons.size() + editedPersons.size() + addedPersons.size();
+        if (changedCount == 0) {
+            return 0;
+        }
+
+        // the changes are not recorded: they were made by someone else, so undoing them would overwrite their
+        // work in the shared file, and the recorded steps no longer apply to the changed persons
+        if (!removedPersons.isEmpty()) {
+            addressBook.removePersons(removedPersons);
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            addressBook.setPerson(targets.get(i), editedPersons.get(i));
+        }
+        if (!addedPersons.isEmpty()) {
+            addressBook.addPersons(addedPersons);
+        }
+        history.clear();
+        return changedCount;
+    }
+
+    /**
+     * Returns true if {@code person} and {@code otherPerson} have the same data, including their histories,
+     * which {@link Person#equals(Object)} ignores.
+     */
+    private static boolean hasSameData(Person person, Person otherPerson) {
+        return person.equals(otherPerson) && person.getHistory().equals(otherPerson.getHistory());
+    }
+
+    //=========== Loading ===================================================================================
+
+    /**
+     * Starts loading the persons of the address book, which must be empty, in the background.
+     * Until {@link #finishLoading(PersonIndexes)} is called, the persons added with {@link #addLoadedPersons(List)}
+     * are shown, but they are not indexed, and they are not recorded as changes that can be undone.
+     */
+    public void startLoading() {
+        assert addressBook.getPersonList().isEmpty() : "Persons should only be loaded into an empty address book";
+        isLoading = true;
+    }
+
+    /**
+     * Adds {@code persons}, the next chunk of loaded persons, to the end of the address book.
+     */
+    public void addLoadedPersons(List<Person> persons) {
+        requireNonNull(persons);
+        assert isLoading : "Persons should only be added this way while loading";
+        addressBook.addPersons(persons);
+    }
+
+    /**
+     * Removes the persons loaded so far, e.g. after the rest of the address book turned out to be unreadable.
+     */
+    public void clearLoadedPersons() {
+        assert isLoading : "Persons should only be removed this way while loading";
+        addressBook.setPersons(new ArrayList<>());
+    }
+
+    /**
+     * Finishes loading, with {@code indexes} built from the same persons as were loaded into the address book.
+     */
+    public void finishLoading(PersonIndexes indexes) {
+        requireNonNull(indexes);
+        assert isLoading : "Loading should have been started";
+        setIndexes(indexes);
+        isLoading = false;
+    }
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    //=========== Switching Address Books ===================================================================
+
+    @Override
+    public boolean hasCachedAddressBook(Path filePath) {
+        return addressBookCache.contains(filePath);
+    }
+
+    @Override
+    public Map<Path, ReadOnlyAddressBook> switchToCachedAddressBook(Path filePath) {
+        requireNonNull(filePath);
+        AddressBookCache.CachedAddressBook cached = addressBookCache.take(filePath);
+        assert cached != null : "Address book should be cached";
+        return switchAddressBook(filePath, cached);
+    }
+
+    @Override
+    public Map<Path, ReadOnlyAddressBook> switchAddressBook(Path filePath, ReadOnlyAddressBook addressBook) {
+        requireAllNonNull(filePath, addressBook);
+        addressBookCache.take(filePath);
+        AddressBook nextAddressBook = new AddressBook(addressBook);
+        return switchAddressBook(filePath, new AddressBookCache.CachedAddressBook(nextAddressBook,
+                new AddressBookHistory(userPrefs.getUndoHistoryDepth()),
+                PersonIndexes.build(nextAddressBook.getPersonList())));
+    }
+
+    /**
+     * Parks the current address book in the cache and shows {@code next}, the address book stored at
+     * {@code filePath}, in its place. The indexes go with their address books, so no person is indexed again.
+     * Returns the address books evicted from the cache.
+     */
+    private Map<Path, ReadOnlyAddressBook> switchAddressBook(Path filePath, AddressBookCache.CachedAddressBook next) {
+        assert !filePath.equals(getAddressBookFilePath()) : "Should not switch to the current address book";
+        history.commit();
+        Map<Path, AddressBookCache.CachedAddressBook> evicted = addressBookCache.put(getAddressBookFilePath(),
+                new AddressBookCache.CachedAddressBook(new AddressBook(addressBook), history, indexes));
+
+        isSwitching = true;
+        try {
+            addressBook.resetData(next.getAddressBook());
+        } finally {
+            isSwitching = false;
+        }
+        setIndexes(next.getIndexes());
+        history = next.getHistory();
+        history.setMaxDepth(userPrefs.getUndoHistoryDepth());
+        userPrefs.setAddressBookFilePath(filePath);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        Map<Path, ReadOnlyAddressBook> evictedAddressBooks = new LinkedHashMap<>();
+        evicted.forEach((path, cached) -> evictedAddressBooks.put(path, cached.getAddressBook()));
+        return evictedAddressBooks;
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.undo(addressBook);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo(addressBook);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    /**
+     * Returns a copy of the current person list. Only the references are copied, the persons are shared.
+     */
+    private List<Person> snapshotPersons() {
+        return new ArrayList<>(addressBook.getPersonList());
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, ordered by the current grouping if there is one.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return groupedPersons;
     }
 
     @Override
@@ -132,13 +425,26 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updatePersonGrouping(Optional<PersonGrouping> grouping) {
+        requireNonNull(grouping);
+        groupedPersons.setGrouping(grouping);
+    }
+
+    @Override
+    public Optional<String> getSectionHeader(int index) {
+        return groupedPersons.getSectionHeader(index);
+    }
+
     //=========== Sorting Methods ===========================================================================
 
     /**
      * Sorts the persons in the address book in ascending order based on their names.
      */
     public void sortPersonsAsc() {
+        List<Person> before = snapshotPersons();
         addressBook.sortPersonsAsc(); // Call the sortPersonsAsc method from AddressBook
+        history.recordReplace(before, snapshotPersons());
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS); // Refresh the filtered list after sorting
     }
 
@@ -146,14 +452,18 @@ public class ModelManager implements Model {
      * Sorts the persons in the address book in descending order based on their names.
      */
     public void sortPersonsDesc() {
+        List<Person> before = snapshotPersons();
         addressBook.sortPersonsDesc(); // Call the sortPersonsDesc method from AddressBook
+        history.recordReplace(before, snapshotPersons());
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS); // Refresh the filtered list after sorting
     }
     /**
      * Sorts the persons in the address book by putting the favourite tagged persons in front.
      */
     public void sortPersonsFavourite() {
+        List<Person> before = snapshotPersons();
         addressBook.sortPersonsFavourite(); // Call the sortPersonsFavourite method from AddressBook
+        history.recordReplace(before, snapshotPersons());
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS); // Refresh the filtered list after sorting
     }
     //    /**
@@ -172,9 +482,17 @@ public class ModelManager implements Model {
 
     @Override
     public String getPersonsWithUpcomingBirthdays() {
+        return getPersonsWithUpcomingBirthdays(addressBook.getPersonList());
+    }
+
+    /**
+     * Returns the birthday reminder for {@code persons}, as {@link #getPersonsWithUpcomingBirthdays()} does for the
+     * persons in the address book. Does not need a model, e.g. to work out the reminder on another thread.
+     */
+    public static String getPersonsWithUpcomingBirthdays(List<Person> persons) {
         // Collect the persons with upcoming birthdays into a list
-        List<Person> personsWithUpcomingBirthdays = addressBook.getPersonList().stream()
-                .filter(getBirthdayPredicate())
+        List<Person> personsWithUpcomingBirthdays = persons.stream()
+                .filter(Person::isBirthdayWithinNextWeek)
                 .collect(Collectors.toList());
 
         // If no birthdays are found, return an appropriate message
@@ -204,6 +522,6 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && groupedPersons.equals(otherModelManager.groupedPersons);
     }
 }
@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import seedu.address.model.completion.CompletionIndex;
+import seedu.address.model.market.MarketStatistics;
+import seedu.address.model.person.Person;
+import seedu.address.model.ranking.RankingIndex;
+import seedu.address.model.tag.TagIndex;
+
+/**
+ * The indexes that the model keeps over its persons: the market statistics, the ranking index, the tag index and
+ * the completion index. The indexes do not share any state, so they can be built at the same time on different
+ * threads, e.g. once all the persons of the address book have been loaded.
+ */
+public class PersonIndexes {
+
+    private final MarketStatistics marketStatistics;
+    private final RankingIndex rankingIndex;
+    private final TagIndex tagIndex;
+    private final CompletionIndex completionIndex;
+
+    private PersonIndexes(MarketStatistics marketStatistics, RankingIndex rankingIndex, TagIndex tagIndex,
+            CompletionIndex completionIndex) {
+        this.marketStatistics = marketStatistics;
+        this.rankingIndex = rankingIndex;
+        this.tagIndex = tagIndex;
+        this.completionIndex = completionIndex;
+    }
+
+    /**
+     * Builds the indexes of {@code persons}, each as a separate task on {@code executor}.
+     * {@code persons} must not change until the returned future completes.
+     */
+    public static CompletableFuture<PersonIndexes> buildAsync(List<Person> persons, Executor executor) {
+        requireAllNonNull(persons, executor);
+        CompletableFuture<MarketStatistics> marketStatistics = CompletableFuture.supplyAsync(() -> {
+            MarketStatistics statistics = new MarketStatistics();
+            statistics.addAll(persons);
+            return statistics;
+        }, executor);
+        CompletableFuture<RankingIndex> rankingIndex = CompletableFuture.supplyAsync(() -> {
+            RankingIndex index = new RankingIndex();
+            index.addAll(persons);
+            return index;
+        }, executor);
+        CompletableFuture<TagIndex> tagIndex = CompletableFuture.supplyAsync(() -> {
+            TagIndex index = new TagIndex();
+            index.addAll(persons);
+            return index;
+        }, executor);
+        CompletableFuture<CompletionIndex> completionIndex = CompletableFuture.supplyAsync(() -> {
+            CompletionIndex index = new CompletionIndex();
+            index.addAll(persons);
+            return index;
+        }, executor);
+        return CompletableFuture.allOf(marketStatistics, rankingIndex, tagIndex, completionIndex)
+                .thenApply(unused -> new PersonIndexes(marketStatistics.join(), rankingIndex.join(), tagIndex.join(),
+                        completionIndex.join()));
+    }
+
+    /**
+     * Builds the indexes of {@code persons} on the current thread.
+     */
+    public static PersonIndexes build(List<Person> persons) {
+        return buildAsync(persons, Runnable::run).join();
+    }
+
+    public MarketStatistics getMarketStatistics() {
+        return marketStatistics;
+    }
+
+    public RankingIndex getRankingIndex() {
+        return rankingIndex;
+    }
+
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    public CompletionIndex getCompletionIndex() {
+        return completionIndex;
+    }
+}
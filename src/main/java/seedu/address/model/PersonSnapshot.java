@@ -0,0 +1,118 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable view of the persons in the address book at one point in time.
+ * Snapshots can be read from any thread, unlike the observable person list, which may only be read on the UI thread.
+ * Each change to the address book produces a snapshot with a higher version.
+ */
+public final class PersonSnapshot {
+
+    /**
+     * Changes that touch more than this fraction of the persons are applied by copying the whole list again,
+     * which is cheaper than applying them one person at a time.
+     */
+    private static final int REBUILD_DIVISOR = 4;
+
+    private final long version;
+    private final PersistentList<Person> persons;
+    // built on the first lookup by name, as most snapshots are never looked up
+    private volatile Map<String, Person> personsByName;
+
+    private PersonSnapshot(long version, PersistentList<Person> persons) {
+        this.version = version;
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the first snapshot of {@code persons}.
+     */
+    static PersonSnapshot of(List<Person> persons) {
+        requireNonNull(persons);
+        return new PersonSnapshot(0, PersistentList.copyOf(persons));
+    }
+
+    /**
+     * Returns the next snapshot, which has the persons of this snapshot with {@code change} applied.
+     * {@code change} must describe the change from the persons of this snapshot to the current persons.
+     */
+    PersonSnapshot apply(ListChangeListener.Change<? extends Person> change) {
+        requireNonNull(change);
+        PersistentList<Person> next = persons;
+        while (change.next()) {
+            if (change.wasPermutated() || isLarge(change, next.size())) {
+                next = PersistentList.copyOf(change.getList());
+                break;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                next = next.minus(change.getFrom());
+            }
+            for (int i = change.getFrom(); i < change.getFrom() + change.getAddedSize(); i++) {
+                next = next.plus(i, change.getList().get(i));
+            }
+        }
+        change.reset();
+        assert next.size() == change.getList().size() : "Snapshot should have the same size as the person list";
+        return new PersonSnapshot(version + 1, next);
+    }
+
+    private static boolean isLarge(ListChangeListener.Change<? extends Person> change, int size) {
+        return change.getRemovedSize() + change.getAddedSize() > size / REBUILD_DIVISOR + 1;
+    }
+
+    /**
+     * Returns the version of this snapshot. Later snapshots of the same model have higher versions.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the persons in this snapshot, in the same order as in the address book. The list cannot be modified.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the first person in this snapshot whose full name is {@code name}, ignoring case.
+     * The persons are indexed by name on the first lookup, so later lookups take constant time.
+     */
+    public Optional<Person> findByName(String name) {
+        requireNonNull(name);
+        Map<String, Person> index = personsByName;
+        if (index == null) {
+            // racing threads build equal indexes, so whichever is kept does not matter
+            index = new HashMap<>();
+            for (Person person : persons) {
+                index.putIfAbsent(toNameKey(person.getName().fullName), person);
+            }
+            personsByName = index;
+        }
+        return Optional.ofNullable(index.get(toNameKey(name)));
+    }
+
+    private static String toNameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons.size())
+                .toString();
+    }
+}
@@ -0,0 +1,259 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the elements of a source list that pass a predicate, like {@code FilteredList}.
+ * When the new predicate is a {@link RefiningPredicate} that refines the current one, only the elements currently in
+ * the view are tested, so narrowing a search step by step costs the size of the previous result each time instead
+ * of the size of the source list.
+ * The view keeps the source indexes of its elements in ascending order, and follows changes of the source list by
+ * testing only the elements added or updated.
+ */
+public class RefinableFilteredList<E> extends TransformationList<E, E> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Predicate<? super E> predicate;
+    private int[] sourceIndexes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates a view of all the elements of {@code source}.
+     */
+    public RefinableFilteredList(ObservableList<E> source) {
+        super(source);
+        predicate = unused -> true;
+        refilter();
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Filters the view by {@code predicate}. If it refines the current predicate, only the elements in the view are
+     * tested again.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        boolean isRefinement = predicate instanceof RefiningPredicate<?> refiningPredicate
+                && refiningPredicate.refines(this.predicate);
+        this.predicate = predicate;
+        if (isRefinement) {
+            refine();
+        } else {
+            refilter();
+        }
+    }
+
+    /**
+     * Removes the elements of the view that no longer pass the predicate.
+     */
+    private void refine() {
+        beginChange();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            E element = getSource().get(sourceIndexes[i]);
+            if (predicate.test(element)) {
+                sourceIndexes[kept++] = sourceIndexes[i];
+            } else {
+                nextRemove(kept, element);
+            }
+        }
+        size = kept;
+        endChange();
+    }
+
+    /**
+     * Tests every element of the source list, and reports the difference from the previous view.
+     */
+    private void refilter() {
+        ObservableList<? extends E> source = getSource();
+        int[] matches = new int[Math.max(INITIAL_CAPACITY, source.size())];
+        int matchCount = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                matches[matchCount++] = i;
+            }
+        }
+
+        beginChange();
+        int oldPosition = 0;
+        int newPosition = 0;
+        while (oldPosition < size || newPosition < matchCount) {
+            int oldIndex = oldPosition < size ? sourceIndexes[oldPosition] : Integer.MAX_VALUE;
+            int newIndex = newPosition < matchCount ? matches[newPosition] : Integer.MAX_VALUE;
+            if (oldIndex == newIndex) {
+                oldPosition++;
+                newPosition++;
+            } else if (oldIndex < newIndex) {
+                nextRemove(newPosition, source.get(oldIndex));
+                oldPosition++;
+            } else {
+                nextAdd(newPosition, newPosition + 1);
+                newPosition++;
+            }
+        }
+        sourceIndexes = matches;
+        size = matchCount;
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c);
+            } else {
+                addRemove(c);
+            }
+        }
+        endChange();
+    }
+
+    private void permute(Change<? extends E> c) {
+        int from = findPosition(c.getFrom());
+        int to = findPosition(c.getTo());
+        if (to - from == 0) {
+            return;
+        }
+        Integer[] positions = new Integer[to - from];
+        int[] newIndexes = new int[to - from];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+            newIndexes[i] = c.getPermutation(sourceIndexes[from + i]);
+        }
+        Arrays.sort(positions, Comparator.comparingInt(i -> newIndexes[i]));
+
+        int[] permutation = new int[to - from];
+        for (int i = 0; i < positions.length; i++) {
+            permutation[positions[i]] = from + i;
+            sourceIndexes[from + i] = newIndexes[positions[i]];
+        }
+        nextPermutation(from, to, permutation);
+    }
+
+    private void update(Change<? extends E> c) {
+        for (int index = c.getFrom(); index < c.getTo(); index++) {
+            E element = getSource().get(index);
+            int position = findPosition(index);
+            boolean isInView = position < size && sourceIndexes[position] == index;
+            boolean passes = predicate.test(element);
+            if (isInView && passes) {
+                nextUpdate(position);
+            } else if (isInView) {
+                System.arraycopy(sourceIndexes, position + 1, sourceIndexes, position, size - position - 1);
+                size--;
+                nextRemove(position, element);
+            } else if (passes) {
+                ensureCapacity(size + 1);
+                System.arraycopy(sourceIndexes, position, sourceIndexes, position + 1, size - position);
+                sourceIndexes[position] = index;
+                size++;
+                nextAdd(position, position + 1);
+            }
+        }
+    }
+
+    private void addRemove(Change<? extends E> c) {
+        int from = c.getFrom();
+        int removedCount = c.getRemovedSize();
+        int addedCount = c.getAddedSize();
+
+        int start = findPosition(from);
+        int end = findPosition(from + removedCount);
+        if (end > start) {
+            List<E> removed = new ArrayList<>(end - start);
+            for (int position = start; position < end; position++) {
+                removed.add(c.getRemoved().get(sourceIndexes[position] - from));
+            }
+            nextRemove(start, removed);
+        }
+
+        int[] added = new int[addedCount];
+        int addedMatchCount = 0;
+        for (int index = from; index < from + addedCount; index++) {
+            if (predicate.test(getSource().get(index))) {
+                added[addedMatchCount++] = index;
+            }
+        }
+
+        int tailCount = size - end;
+        int newSize = start + addedMatchCount + tailCount;
+        ensureCapacity(newSize);
+        System.arraycopy(sourceIndexes, end, sourceIndexes, start + addedMatchCount, tailCount);
+        System.arraycopy(added, 0, sourceIndexes, start, addedMatchCount);
+        int shift = addedCount - removedCount;
+        for (int position = start + addedMatchCount; position < newSize; position++) {
+            sourceIndexes[position] += shift;
+        }
+        size = newSize;
+        if (addedMatchCount > 0) {
+            nextAdd(start, start + addedMatchCount);
+        }
+    }
+
+    /**
+     * Returns the position in the view of the first element whose source index is at least {@code sourceIndex}.
+     */
+    private int findPosition(int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sourceIndexes[middle] < sourceIndex) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > sourceIndexes.length) {
+            sourceIndexes = Arrays.copyOf(sourceIndexes, Math.max(capacity, sourceIndexes.length * 2));
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return getSource().get(sourceIndexes[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return sourceIndexes[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = findPosition(index);
+        return position < size && sourceIndexes[position] == index ? position : -1;
+    }
+}
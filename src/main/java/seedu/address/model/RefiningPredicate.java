@@ -0,0 +1,34 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate that can tell whether it only narrows down another predicate, so that a list already filtered by the
+ * other predicate can be filtered by this one by testing only the elements that passed the other.
+ */
+public interface RefiningPredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns true if every element that passes this predicate also passes {@code other}.
+     * Returning false is always safe, and should be done when that cannot be told cheaply.
+     */
+    boolean refines(Predicate<?> other);
+
+    /**
+     * Returns the predicate that passes the same elements as this one, and that other predicates compare themselves
+     * against in {@link #refines(Predicate)}. Predicates that wrap another one, e.g. to cache its results, return
+     * the wrapped predicate. By default, this predicate itself.
+     */
+    default Predicate<?> getBasePredicate() {
+        return this;
+    }
+
+    /**
+     * Returns the base predicate of {@code predicate} if it is a {@code RefiningPredicate}, or {@code predicate}.
+     */
+    static Predicate<?> baseOf(Predicate<?> predicate) {
+        return predicate instanceof RefiningPredicate<?> refiningPredicate
+                ? refiningPredicate.getBasePredicate()
+                : predicate;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.completion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+import seedu.address.commons.util.Trie;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Keeps the full names and the tags of the persons in the address book in tries, so that a partly typed name or tag
+ * can be completed without looking at every person.
+ * Each name and tag is kept once for every person it belongs to, so it is only dropped when the last of those persons
+ * is removed.
+ */
+public class CompletionIndex {
+
+    private final Trie names = new Trie();
+    private final Trie tags = new Trie();
+
+    /**
+     * Adds {@code persons}.
+     */
+    public void addAll(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds the name and the tags of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        names.add(person.getName().fullName);
+        for (Tag tag : person.getTags()) {
+            tags.add(tag.tagName);
+        }
+    }
+
+    /**
+     * Removes the name and the tags of {@code person}, which must have been added before.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        boolean wasRemoved = names.remove(person.getName().fullName);
+        assert wasRemoved : "Person should have been added";
+        for (Tag tag : person.getTags()) {
+            tags.remove(tag.tagName);
+        }
+    }
+
+    /**
+     * Returns the trie of the full names of the persons.
+     */
+    public Trie getNames() {
+        return names;
+    }
+
+    /**
+     * Returns the trie of the tags of the persons.
+     */
+    public Trie getTags() {
+        return tags;
+    }
+}
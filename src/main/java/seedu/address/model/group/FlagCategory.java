@@ -0,0 +1,87 @@
+package seedu.address.model.group;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.model.person.PresetFlags;
+
+/**
+ * A way of sorting persons into buckets by their preset flags.
+ * The buckets of a category are numbered from 0, in the order they are shown.
+ */
+public enum FlagCategory {
+    FAVOURITE("favourite", "Favourites", "Others", "Archived") {
+        @Override
+        int getBucket(int mask) {
+            if (has(mask, PresetFlags.FAVOURITE)) {
+                return 0;
+            }
+            return has(mask, PresetFlags.ARCHIVED) ? 2 : 1;
+        }
+    },
+    BUYER_SELLER("buyer-seller", "Buyers and sellers", "Buyers", "Sellers", "Neither buyers nor sellers") {
+        @Override
+        int getBucket(int mask) {
+            boolean isBuyer = has(mask, PresetFlags.BUYER);
+            boolean isSeller = has(mask, PresetFlags.SELLER);
+            if (isBuyer) {
+                return isSeller ? 0 : 1;
+            }
+            return isSeller ? 2 : 3;
+        }
+    },
+    BUSINESS_PERSONAL("business-personal", "Business", "Personal", "Unspecified") {
+        @Override
+        int getBucket(int mask) {
+            if (has(mask, PresetFlags.BUSINESS)) {
+                return 0;
+            }
+            return has(mask, PresetFlags.PERSONAL) ? 1 : 2;
+        }
+    };
+
+    private final String keyword;
+    private final List<String> bucketLabels;
+
+    FlagCategory(String keyword, String... bucketLabels) {
+        this.keyword = keyword;
+        this.bucketLabels = Arrays.asList(bucketLabels);
+    }
+
+    /**
+     * Returns the bucket of a person whose flags have the bitmask {@code mask}.
+     */
+    abstract int getBucket(int mask);
+
+    private static boolean has(int mask, PresetFlags flag) {
+        return (mask & flag.getBit()) != 0;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public int getBucketCount() {
+        return bucketLabels.size();
+    }
+
+    /**
+     * Returns the label shown for the bucket numbered {@code bucket}.
+     */
+    public String getBucketLabel(int bucket) {
+        return bucketLabels.get(bucket);
+    }
+
+    /**
+     * Returns the category whose keyword is {@code keyword}, ignoring case.
+     */
+    public static Optional<FlagCategory> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values()).filter(category -> category.keyword.equals(normalized)).findFirst();
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.model.group;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.Person;
+
+/**
+ * A view of a list of persons, ordered by the groups of a {@link PersonGrouping}, if there is one.
+ * Without a grouping, the view is the source list itself and passes its changes on unchanged. With a grouping, the
+ * order is computed again by counting sort whenever the source list changes, and the first person of every group
+ * has a section header.
+ */
+public class GroupedPersonList extends TransformationList<Person, Person> {
+
+    private Optional<PersonGrouping> grouping = Optional.empty();
+    // the following are only used with a grouping, and keep the view as it was until it is regrouped
+    private List<Person> viewPersons = List.of();
+    private int[] sourceIndexes = new int[0];
+    private int[] viewIndexes = new int[0];
+    private int[] viewGroups = new int[0];
+    private int[] groupSizes = new int[0];
+
+    /**
+     * Creates an ungrouped view of {@code source}.
+     */
+    public GroupedPersonList(ObservableList<? extends Person> source) {
+        super(source);
+    }
+
+    public Optional<PersonGrouping> getGrouping() {
+        return grouping;
+    }
+
+    /**
+     * Orders the view by {@code grouping}, or in the order of the source list if it is empty.
+     */
+    public void setGrouping(Optional<PersonGrouping> grouping) {
+        requireNonNull(grouping);
+        if (this.grouping.equals(grouping)) {
+            return;
+        }
+        List<Person> removed = new ArrayList<>(this);
+        beginChange();
+        this.grouping = grouping;
+        regroup();
+        replaceAll(removed);
+        endChange();
+    }
+
+    /**
+     * Returns the header of the section that starts at {@code index} of the view, made of the label and the size of
+     * its group, or an empty {@code Optional} if no section starts there.
+     */
+    public Optional<String> getSectionHeader(int index) {
+        if (grouping.isEmpty() || index < 0 || index >= size()) {
+            return Optional.empty();
+        }
+        int group = viewGroups[index];
+        if (index > 0 && viewGroups[index - 1] == group) {
+            return Optional.empty();
+        }
+        return Optional.of(grouping.get().getGroupLabel(group) + " (" + groupSizes[group] + ")");
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Person> c) {
+        if (grouping.isPresent()) {
+            List<Person> removed = viewPersons;
+            beginChange();
+            regroup();
+            replaceAll(removed);
+            endChange();
+            return;
+        }
+
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                int[] permutation = new int[c.getTo() - c.getFrom()];
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    permutation[i - c.getFrom()] = c.getPermutation(i);
+                }
+                nextPermutation(c.getFrom(), c.getTo(), permutation);
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (c.wasReplaced()) {
+                nextReplace(c.getFrom(), c.getTo(), c.getRemoved());
+            } else if (c.wasRemoved()) {
+                nextRemove(c.getFrom(), c.getRemoved());
+            } else if (c.wasAdded()) {
+                nextAdd(c.getFrom(), c.getTo());
+            }
+        }
+        endChange();
+    }
+
+    private void replaceAll(List<Person> removed) {
+        if (removed.isEmpty() && isEmpty()) {
+            return;
+        }
+        nextReplace(0, size(), removed);
+    }
+
+    /**
+     * Computes the order of the view again from the source list and the grouping.
+     */
+    private void regroup() {
+        if (grouping.isEmpty()) {
+            viewPersons = List.of();
+            sourceIndexes = new int[0];
+            viewIndexes = new int[0];
+            viewGroups = new int[0];
+            groupSizes = new int[0];
+            return;
+        }
+
+        PersonGrouping personGrouping = grouping.get();
+        ObservableList<? extends Person> source = getSource();
+        sourceIndexes = personGrouping.order(source);
+        viewIndexes = new int[sourceIndexes.length];
+        viewGroups = new int[sourceIndexes.length];
+        groupSizes = new int[personGrouping.getGroupCount()];
+        List<Person> persons = new ArrayList<>(sourceIndexes.length);
+        for (int i = 0; i < sourceIndexes.length; i++) {
+            Person person = source.get(sourceIndexes[i]);
+            persons.add(person);
+            viewIndexes[sourceIndexes[i]] = i;
+            int group = personGrouping.getGroup(person);
+            viewGroups[i] = group;
+            groupSizes[group]++;
+        }
+        viewPersons = persons;
+    }
+
+    @Override
+    public Person get(int index) {
+        if (grouping.isEmpty()) {
+            return getSource().get(index);
+        }
+        return viewPersons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return grouping.isEmpty() ? getSource().size() : viewPersons.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (grouping.isEmpty()) {
+            return index;
+        }
+        return sourceIndexes[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (grouping.isEmpty()) {
+            return index;
+        }
+        return viewIndexes[index];
+    }
+}
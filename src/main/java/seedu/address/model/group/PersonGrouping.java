@@ -0,0 +1,142 @@
+package seedu.address.model.group;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Flags;
+import seedu.address.model.person.Person;
+
+/**
+ * Sorts persons into groups by several {@link FlagCategory}s, in descending significance.
+ * A group is numbered by reading the bucket of each category as a digit of a mixed-radix number, the first category
+ * being the most significant digit, so that ordering persons by group number orders them by every category in turn.
+ * The group number of every flag bitmask is computed once, so grouping a person takes a single array lookup, and
+ * persons are ordered by a counting sort in O(n + number of groups) time instead of with comparisons.
+ */
+public class PersonGrouping {
+
+    public static final String LABEL_SEPARATOR = " / ";
+
+    private final List<FlagCategory> categories;
+    private final int[] groupByMask = new int[Flags.MASK_COUNT];
+    private final int groupCount;
+
+    /**
+     * Creates a grouping by {@code categories}, the most significant first.
+     * There must be at least one category, and no category may be given twice.
+     */
+    public PersonGrouping(List<FlagCategory> categories) {
+        requireNonNull(categories);
+        checkArgument(!categories.isEmpty(), "At least one category must be given");
+        checkArgument(EnumSet.copyOf(categories).size() == categories.size(), "Categories must be distinct");
+        this.categories = Collections.unmodifiableList(new ArrayList<>(categories));
+
+        int count = 1;
+        for (FlagCategory category : categories) {
+            count *= category.getBucketCount();
+        }
+        this.groupCount = count;
+        for (int mask = 0; mask < Flags.MASK_COUNT; mask++) {
+            int group = 0;
+            for (FlagCategory category : categories) {
+                group = group * category.getBucketCount() + category.getBucket(mask);
+            }
+            groupByMask[mask] = group;
+        }
+    }
+
+    public List<FlagCategory> getCategories() {
+        return categories;
+    }
+
+    /**
+     * Returns the number of groups, including those no person may be in.
+     */
+    public int getGroupCount() {
+        return groupCount;
+    }
+
+    /**
+     * Returns the number of the group {@code person} is in.
+     */
+    public int getGroup(Person person) {
+        return groupByMask[person.getFlags().getMask()];
+    }
+
+    /**
+     * Returns the label of the group numbered {@code group}, made of the label of its bucket in every category.
+     */
+    public String getGroupLabel(int group) {
+        checkArgument(group >= 0 && group < groupCount);
+        String[] labels = new String[categories.size()];
+        int remaining = group;
+        for (int i = categories.size() - 1; i >= 0; i--) {
+            FlagCategory category = categories.get(i);
+            labels[i] = category.getBucketLabel(remaining % category.getBucketCount());
+            remaining /= category.getBucketCount();
+        }
+        return String.join(LABEL_SEPARATOR, labels);
+    }
+
+    /**
+     * Returns the positions of {@code persons}, ordered by group. Persons in the same group keep their order.
+     */
+    public int[] order(List<? extends Person> persons) {
+        requireNonNull(persons);
+        int[] groups = new int[persons.size()];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = getGroup(persons.get(i));
+        }
+        return order(groups, groupCount);
+    }
+
+    /**
+     * Returns the positions of {@code groups}, each in [0, {@code groupCount}), in ascending order of group.
+     * Equal groups keep their order.
+     */
+    static int[] order(int[] groups, int groupCount) {
+        int[] starts = new int[groupCount + 1];
+        for (int group : groups) {
+            starts[group + 1]++;
+        }
+        for (int group = 0; group < groupCount; group++) {
+            starts[group + 1] += starts[group];
+        }
+        int[] positions = new int[groups.length];
+        for (int i = 0; i < groups.length; i++) {
+            positions[starts[groups[i]]++] = i;
+        }
+        return positions;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonGrouping otherGrouping)) {
+            return false;
+        }
+        return categories.equals(otherGrouping.categories);
+    }
+
+    @Override
+    public int hashCode() {
+        return categories.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("categories", categories)
+                .toString();
+    }
+}
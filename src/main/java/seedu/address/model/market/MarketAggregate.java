@@ -0,0 +1,55 @@
+package seedu.address.model.market;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.person.Property;
+
+/**
+ * The asking prices, and prices per square metre, of the properties listed for sale in one group, such as one town.
+ */
+public class MarketAggregate {
+
+    private final String label;
+    private final ValueAggregate prices = new ValueAggregate();
+    private final ValueAggregate pricesPerSqm = new ValueAggregate();
+
+    /**
+     * Creates an empty aggregate for the group shown as {@code label}.
+     */
+    MarketAggregate(String label) {
+        this.label = requireNonNull(label);
+    }
+
+    void add(Property property) {
+        prices.add(property.getPrice());
+        pricesPerSqm.add(getPricePerSqm(property));
+    }
+
+    void remove(Property property) {
+        prices.remove(property.getPrice());
+        pricesPerSqm.remove(getPricePerSqm(property));
+    }
+
+    private static double getPricePerSqm(Property property) {
+        return property.getPrice() / property.getSize();
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the number of properties in the group.
+     */
+    public long getCount() {
+        return prices.getCount();
+    }
+
+    public ValueAggregate getPrices() {
+        return prices;
+    }
+
+    public ValueAggregate getPricesPerSqm() {
+        return pricesPerSqm;
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.model.market;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Property;
+
+/**
+ * Market statistics of the properties listed for sale in the address book, grouped by town, by property type, and
+ * by both. The statistics are updated as persons are added and removed, in O(1) time per property, so they never
+ * need to be computed again from all the persons.
+ * Towns and property types that differ only in case are grouped together.
+ */
+public class MarketStatistics {
+
+    /**
+     * The ways the properties can be grouped.
+     */
+    public enum Grouping {
+        TOWN_AND_TYPE, TOWN, TYPE
+    }
+
+    private static final String KEY_SEPARATOR = "\n";
+
+    private final Map<Grouping, Map<String, MarketAggregate>> aggregates = new EnumMap<>(Grouping.class);
+    private final MarketAggregate overall = new MarketAggregate("All properties");
+
+    /**
+     * Creates empty market statistics.
+     */
+    public MarketStatistics() {
+        for (Grouping grouping : Grouping.values()) {
+            aggregates.put(grouping, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds the properties of {@code persons}.
+     */
+    public void addAll(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds the properties of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Property property : person.getPropertyList().getProperties()) {
+            for (Grouping grouping : Grouping.values()) {
+                aggregates.get(grouping).computeIfAbsent(getKey(property, grouping),
+                        unused -> new MarketAggregate(getLabel(property, grouping))).add(property);
+            }
+            overall.add(property);
+        }
+    }
+
+    /**
+     * Removes the properties of {@code person}, which must have been added before.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Property property : person.getPropertyList().getProperties()) {
+            for (Grouping grouping : Grouping.values()) {
+                Map<String, MarketAggregate> groups = aggregates.get(grouping);
+                String key = getKey(property, grouping);
+                MarketAggregate aggregate = groups.get(key);
+                assert aggregate != null : "Property should have been added";
+                aggregate.remove(property);
+                if (aggregate.getCount() == 0) {
+                    groups.remove(key);
+                }
+            }
+            overall.remove(property);
+        }
+    }
+
+    /**
+     * Returns the statistics of every group of {@code grouping}, ordered by label.
+     */
+    public List<MarketAggregate> getAggregates(Grouping grouping) {
+        requireNonNull(grouping);
+        List<MarketAggregate> groups = new ArrayList<>(aggregates.get(grouping).values());
+        groups.sort(Comparator.comparing(MarketAggregate::getLabel, String.CASE_INSENSITIVE_ORDER));
+        return groups;
+    }
+
+    /**
+     * Returns the statistics of all properties together.
+     */
+    public MarketAggregate getOverall() {
+        return overall;
+    }
+
+    private static String getKey(Property property, Grouping grouping) {
+        String town = property.getTown().trim().toLowerCase(Locale.ROOT);
+        String type = property.getPropertyType().trim().toLowerCase(Locale.ROOT);
+        switch (grouping) {
+        case TOWN:
+            return town;
+        case TYPE:
+            return type;
+        default:
+            return town + KEY_SEPARATOR + type;
+        }
+    }
+
+    private static String getLabel(Property property, Grouping grouping) {
+        String town = property.getTown().trim();
+        String type = property.getPropertyType().trim();
+        switch (grouping) {
+        case TOWN:
+            return town;
+        case TYPE:
+            return type;
+        default:
+            return town + " / " + type;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.model.market;
+
+/**
+ * A sketch of a multiset of non-negative values that answers quantile queries, such as the median, with a relative
+ * error of at most {@value #RELATIVE_ACCURACY}.
+ * Values are counted in buckets whose bounds grow geometrically, so adding or removing a value takes O(1) time and
+ * the memory used only depends on the ratio between the largest and the smallest value, not on how many values
+ * there are. The buckets are kept in an array that grows to cover the range of the values seen so far.
+ */
+public class QuantileSketch {
+
+    /** The largest relative error of a reported quantile. */
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final int INITIAL_BUCKET_COUNT = 64;
+
+    private int[] counts = new int[0];
+    private int firstIndex;
+    private long zeroCount;
+    private long count;
+
+    /**
+     * Adds {@code value}. Negative values are counted as 0.
+     */
+    public void add(double value) {
+        if (value <= 0) {
+            zeroCount++;
+        } else {
+            int index = bucketIndex(value);
+            ensureCovers(index);
+            counts[index - firstIndex]++;
+        }
+        count++;
+    }
+
+    /**
+     * Removes one occurrence of {@code value}, which must have been added before.
+     */
+    public void remove(double value) {
+        if (value <= 0) {
+            assert zeroCount > 0 : "Value should have been added";
+            zeroCount--;
+        } else {
+            int index = bucketIndex(value);
+            assert index >= firstIndex && index < firstIndex + counts.length && counts[index - firstIndex] > 0
+                    : "Value should have been added";
+            counts[index - firstIndex]--;
+        }
+        count--;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns an approximation of the value below which the fraction {@code quantile} of the values fall,
+     * or 0 if there are no values.
+     */
+    public double getQuantile(double quantile) {
+        assert quantile >= 0 && quantile <= 1;
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = zeroCount;
+        if (seen >= rank) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return representativeValue(firstIndex + i);
+            }
+        }
+        throw new AssertionError("Counts should add up to the total count");
+    }
+
+    /**
+     * Returns the index of the bucket that holds {@code value}, which must be positive.
+     * Bucket {@code i} holds the values in (GAMMA^(i-1), GAMMA^i].
+     */
+    static int bucketIndex(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    /**
+     * Returns the value that is within {@link #RELATIVE_ACCURACY} of every value in the bucket at {@code index}.
+     */
+    static double representativeValue(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    /**
+     * Grows the bucket array so that it has a bucket for {@code index}.
+     */
+    private void ensureCovers(int index) {
+        if (counts.length == 0) {
+            counts = new int[INITIAL_BUCKET_COUNT];
+            firstIndex = index - INITIAL_BUCKET_COUNT / 2;
+            return;
+        }
+        int lastIndex = firstIndex + counts.length - 1;
+        if (index >= firstIndex && index <= lastIndex) {
+            return;
+        }
+
+        int newFirstIndex = Math.min(firstIndex, index);
+        int newLength = Math.max(lastIndex, index) - newFirstIndex + 1;
+        // grow by at least half, so that a run of ever larger values takes O(1) amortized time each
+        newLength = Math.max(newLength, counts.length + counts.length / 2);
+        if (index < firstIndex) {
+            newFirstIndex = lastIndex - newLength + 1;
+        }
+        int[] newCounts = new int[newLength];
+        System.arraycopy(counts, 0, newCounts, firstIndex - newFirstIndex, counts.length);
+        counts = newCounts;
+        firstIndex = newFirstIndex;
+    }
+}
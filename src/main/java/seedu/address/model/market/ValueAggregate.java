@@ -0,0 +1,104 @@
+package seedu.address.model.market;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The count, sum, minimum, maximum and median of a multiset of values that can grow and shrink.
+ * Adding or removing a value takes O(1) time. The minimum and maximum are exact. When the current minimum or maximum
+ * is removed, the new one is found from the distinct values the next time it is asked for. The median is
+ * approximated by a {@link QuantileSketch}.
+ */
+public class ValueAggregate {
+
+    private final Map<Double, Integer> valueCounts = new HashMap<>();
+    private final QuantileSketch sketch = new QuantileSketch();
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private boolean isExtremesStale;
+
+    /**
+     * Adds {@code value}.
+     */
+    public void add(double value) {
+        valueCounts.merge(value, 1, Integer::sum);
+        sketch.add(value);
+        count++;
+        sum += value;
+        if (!isExtremesStale) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code value}, which must have been added before.
+     */
+    public void remove(double value) {
+        Integer valueCount = valueCounts.get(value);
+        assert valueCount != null : "Value should have been added";
+        if (valueCount == 1) {
+            valueCounts.remove(value);
+            isExtremesStale |= value == min || value == max;
+        } else {
+            valueCounts.put(value, valueCount - 1);
+        }
+        sketch.remove(value);
+        count--;
+        sum = count == 0 ? 0 : sum - value;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the mean of the values, or 0 if there are none.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Returns the smallest value, or 0 if there are none.
+     */
+    public double getMin() {
+        updateExtremes();
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Returns the largest value, or 0 if there are none.
+     */
+    public double getMax() {
+        updateExtremes();
+        return count == 0 ? 0 : max;
+    }
+
+    /**
+     * Returns the approximate median of the values, within {@link QuantileSketch#RELATIVE_ACCURACY}, or 0 if there
+     * are none.
+     */
+    public double getMedian() {
+        return sketch.getQuantile(0.5);
+    }
+
+    private void updateExtremes() {
+        if (!isExtremesStale) {
+            return;
+        }
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+        for (double value : valueCounts.keySet()) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        isExtremesStale = false;
+    }
+}
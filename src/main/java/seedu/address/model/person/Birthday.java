@@ -6,6 +6,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
+import seedu.address.commons.core.DateService;
+import seedu.address.commons.util.DateUtil;
+
 /**
  * Represents a Person's birthday in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidBirthday(String)}
@@ -30,7 +33,7 @@ public class Birthday {
         if (birthday.isEmpty()) {
             value = LocalDate.MIN;
         } else {
-            value = LocalDate.parse(birthday);
+            value = DateUtil.parseIsoDate(birthday);
         }
     }
 
@@ -42,8 +45,8 @@ public class Birthday {
         if (test.isEmpty()) {
             return true;
         }
-        LocalDate date = LocalDate.parse(test);
-        return !date.isAfter(LocalDate.now());
+        LocalDate date = DateUtil.parseIsoDate(test);
+        return !date.isAfter(DateService.getDefault().today());
     }
 
     /**
@@ -66,7 +69,7 @@ public class Birthday {
      * Returns true if the stored date in {@code Birthday} is within a week from today.
      */
     public boolean isBirthdayWithinNextWeek() {
-        LocalDate today = LocalDate.now();
+        LocalDate today = DateService.getDefault().today();
         LocalDate dateInOneWeek = today.plusWeeks(1);
         LocalDate upcomingBirthday = getDateOfUpcomingBirthday();
         return upcomingBirthday.isAfter(today.minusDays(1)) && upcomingBirthday.isBefore(dateInOneWeek);
@@ -76,8 +79,8 @@ public class Birthday {
      * Returns the earliest upcoming day of the birthday.
      */
     public LocalDate getDateOfUpcomingBirthday() {
-        LocalDate birthdayThisYear = value.withYear(LocalDate.now().getYear());
-        if (birthdayThisYear.isBefore(LocalDate.now())) {
+        LocalDate birthdayThisYear = value.withYear(DateService.getDefault().today().getYear());
+        if (birthdayThisYear.isBefore(DateService.getDefault().today())) {
             return birthdayThisYear.plusYears(1);
         } else {
             return birthdayThisYear;
@@ -6,7 +6,9 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_DATE_FORMAT;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 
+import seedu.address.commons.core.DateService;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateUtil;
 
 
 
@@ -34,7 +36,7 @@ public class DateOfCreation {
      * Constructs a {@code DateOfCreation} with the current date.
      */
     public DateOfCreation() {
-        this.dateOfCreation = LocalDate.now(); // Automatically set the creation date to the current date
+        this.dateOfCreation = DateService.getDefault().today(); // Automatically set the creation date to today
     }
 
     /**
@@ -65,7 +67,7 @@ public class DateOfCreation {
      */
     public static DateOfCreation of(String date) throws IllegalValueException {
         try {
-            return new DateOfCreation(LocalDate.parse(date));
+            return new DateOfCreation(DateUtil.parseIsoDate(date));
         } catch (DateTimeException e) {
             throw new IllegalValueException(MESSAGE_INVALID_DATE_FORMAT);
         }
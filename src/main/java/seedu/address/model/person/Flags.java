@@ -1,56 +1,123 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Set;
 
+import seedu.address.model.tag.Tag;
+
 /**
  * Represent a set of preset labels to each person. Flags enables grouping of persons by multiple criteria in descending
  * significance.
+ * The flags are kept as a bitmask with one bit per {@link PresetFlags}, so that testing them takes no lookups.
  * Guarantee: Immutable.
- * Note: this is a utility class for future feature: group by tags. Not used in app version v1.6.
  * */
 public class Flags {
-    private Set<PresetFlags> flagSet = new HashSet<>();
+    /** The number of distinct bitmasks. */
+    public static final int MASK_COUNT = 1 << PresetFlags.values().length;
+
+    private static final Flags[] FLAGS_BY_MASK = new Flags[MASK_COUNT];
+    private static final Tag[] FLAG_TAGS = new Tag[PresetFlags.values().length];
+
+    static {
+        for (PresetFlags flag : PresetFlags.values()) {
+            FLAG_TAGS[flag.ordinal()] = Tag.of(flag.getTagName());
+        }
+        for (int mask = 0; mask < MASK_COUNT; mask++) {
+            FLAGS_BY_MASK[mask] = new Flags(mask);
+        }
+    }
+
+    private final int mask;
+
     /**
      * Constructor using ungrouped flags.
      * */
     Flags(PresetFlags... flags) {
-        flagSet.addAll(Arrays.asList(flags));
+        int flagMask = 0;
+        for (PresetFlags flag : flags) {
+            flagMask |= flag.getBit();
+        }
+        this.mask = flagMask;
     }
+
     /**
-     * Constructor from a set of flags.
+     * Constructor from a bitmask of flags.
      * */
-    private Flags(Set<PresetFlags> flags) {
-        this.flagSet = flags;
+    private Flags(int mask) {
+        this.mask = mask;
     }
+
+    /**
+     * Returns the flags of a person with {@code tags}. Persons with the same flags share one instance.
+     */
+    public static Flags of(Set<Tag> tags) {
+        requireNonNull(tags);
+        int mask = 0;
+        for (int i = 0; i < FLAG_TAGS.length; i++) {
+            if (tags.contains(FLAG_TAGS[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return FLAGS_BY_MASK[mask];
+    }
+
+    /**
+     * Returns the bitmask of the flags, in which bit {@link PresetFlags#getBit()} is set for each flag present.
+     */
+    public int getMask() {
+        return mask;
+    }
+
     /**
      * Return if the given flag is present.
      */
     public int flagIsPresent(PresetFlags flag) {
-        return flagSet.contains(flag) ? 1 : 0;
+        return (mask & flag.getBit()) != 0 ? 1 : 0;
     }
     /**
      * Return the number of matching flags.
      * */
     public int getNumberOfMatchingFlags(Set<PresetFlags> flags) {
-        return flags.stream().map(this::flagIsPresent).reduce(0, Integer::sum);
+        int matching = 0;
+        for (PresetFlags flag : flags) {
+            matching += flagIsPresent(flag);
+        }
+        return matching;
     }
     /**
      * Return the weightage of all matching flags.
+     * Present flags are weighted by consecutive powers of 2, in the order given.
      * */
     public int getWeightedFlags(PresetFlags... flags) {
         int totalWeight = 0;
         int currentPower = 0; // Tracks consecutive powers for present flags
 
         for (PresetFlags flag : flags) {
-            if (flagSet.contains(flag)) {
-                totalWeight += (int) Math.pow(2, currentPower);
+            if ((mask & flag.getBit()) != 0) {
+                totalWeight += 1 << currentPower;
                 currentPower++; // Only increment power if the flag is present
             }
         }
 
         return totalWeight;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Flags otherFlags)) {
+            return false;
+        }
+        return mask == otherFlags.mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return mask;
+    }
 }
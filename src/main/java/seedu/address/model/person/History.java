@@ -13,6 +13,7 @@ import java.util.NoSuchElementException;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.core.DateService;
 import seedu.address.storage.JsonAdaptedHistoryEntry;
 
 /**
@@ -55,7 +56,7 @@ public class History {
             throw new IllegalArgumentException(String.format(MESSAGE_BEFORE_DATE_OF_CREATION,
                     date, this.dateOfCreation));
         }
-        if (date.isAfter(LocalDate.now())) {
+        if (date.isAfter(DateService.getDefault().today())) {
             throw new IllegalArgumentException(String.format(MESSAGE_AFTER_TODAY,
                     date));
         }
@@ -86,16 +87,17 @@ public class History {
                     date, originalHistory.dateOfCreation));
         }
         // Check if the date is valid based on current date.
-        if (date.isAfter(LocalDate.now())) {
+        if (date.isAfter(DateService.getDefault().today())) {
             throw new IllegalArgumentException(String.format(MESSAGE_AFTER_TODAY,
                     date));
         }
         // Create a copy of the history map to ensure immutability of the original
         TreeMap<LocalDate, ArrayList<String>> newHistoryMap = new TreeMap<>(originalHistory.history);
 
-        // If there is no entry for the given date, initialize the entry before adding the activity
-        newHistoryMap.putIfAbsent(date, new ArrayList<>());
-        newHistoryMap.get(date).add(message);
+        // The list of the given date is copied too, as it is still shared with the original history
+        ArrayList<String> activities = new ArrayList<>(newHistoryMap.getOrDefault(date, new ArrayList<>()));
+        activities.add(message);
+        newHistoryMap.put(date, activities);
 
         // Return a new History object with the updated map
         return new History(newHistoryMap, originalHistory.dateOfCreation.getDateOfCreation());
@@ -114,7 +116,7 @@ public class History {
             throw new DateTimeException(String.format(MESSAGE_BEFORE_DATE_OF_CREATION, date,
                     this.dateOfCreation));
         }
-        if (date.isAfter(LocalDate.now())) {
+        if (date.isAfter(DateService.getDefault().today())) {
             throw new DateTimeException(String.format(MESSAGE_AFTER_TODAY, date));
         }
         try {
@@ -175,6 +177,24 @@ public class History {
         return this.dateOfCreation.equals(otherHistory.dateOfCreation)
                 && this.history.equals(otherHistory.history);
     }
+    /**
+     * Returns the number of activities logged on all dates together.
+     */
+    public int getActivityCount() {
+        int count = 0;
+        for (ArrayList<String> activities : history.values()) {
+            count += activities.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the date of the latest logged activity, or the date of creation if no activity has been logged.
+     */
+    public LocalDate getLastActivityDate() {
+        return history.isEmpty() ? dateOfCreation.getDateOfCreation() : history.lastKey();
+    }
+
     /**
      * @return if the history object contains entries other than the default creation entry {@code boolean}.
      */
@@ -5,11 +5,12 @@ import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefiningPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements RefiningPredicate<Person> {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +23,19 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    /**
+     * Returns true if the base predicate of {@code other} also matches names by keywords, and has every keyword of
+     * this predicate, ignoring case, as a name matching any of these keywords then matches one of the other's too.
+     */
+    @Override
+    public boolean refines(Predicate<?> other) {
+        if (!(RefiningPredicate.baseOf(other) instanceof NameContainsKeywordsPredicate otherPredicate)) {
+            return false;
+        }
+        return keywords.stream().allMatch(keyword -> otherPredicate.keywords.stream()
+                .anyMatch(otherKeyword -> otherKeyword.trim().equalsIgnoreCase(keyword.trim())));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
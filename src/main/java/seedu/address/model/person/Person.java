@@ -3,14 +3,13 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.person.Birthday.CUSTOM_BIRTHDAY_FORMAT;
 
-import java.time.LocalDate;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.core.DateService;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -25,18 +24,14 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
     private final Remark remark;
     private final DateOfCreation dateOfCreation;
     private final History history;
     private final Birthday birthday;
     private final PropertyList propertyList;
-    /**
-     * array of preset tags, index 0: favourite == 1; archived == -1; default == 0;
-     *                       index 1: buyer == 1; seller == 0;
-     *                       index 2: business == 1; personal == 0;
-     * */
-    private final int[] flagWeights = new int[3]; // Initializes with {0, 0, 0}
+    // derived from the tags once, so that grouping persons never looks at their tags again
+    private final Flags flags;
 
     /**
      * Every field must be present and not null. Used for new person creation
@@ -49,8 +44,9 @@ public class Person {
         this.address = address;
         this.remark = Remark.EMPTY_REMARK;
         this.birthday = Birthday.EMPTY_BIRTHDAY;
-        this.tags.addAll(tags);
-        this.dateOfCreation = new DateOfCreation(LocalDate.now());
+        this.tags = TagSet.of(tags);
+        this.flags = Flags.of(this.tags);
+        this.dateOfCreation = new DateOfCreation(DateService.getDefault().today());
         this.history = new History(dateOfCreation.getDateOfCreation());
         this.propertyList = new PropertyList();
     }
@@ -66,8 +62,9 @@ public class Person {
         this.address = address;
         this.remark = remark;
         this.birthday = Birthday.EMPTY_BIRTHDAY;
-        this.tags.addAll(tags);
-        this.dateOfCreation = new DateOfCreation(LocalDate.now());
+        this.tags = TagSet.of(tags);
+        this.flags = Flags.of(this.tags);
+        this.dateOfCreation = new DateOfCreation(DateService.getDefault().today());
         this.history = new History(dateOfCreation.getDateOfCreation());
         this.propertyList = new PropertyList();
     }
@@ -87,7 +84,8 @@ public class Person {
         this.birthday = birthday;
         this.dateOfCreation = dateOfCreation;
         this.history = history;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.flags = Flags.of(this.tags);
         this.propertyList = propertyList;
     }
 
@@ -120,7 +118,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public Remark getRemark() {
@@ -141,14 +139,41 @@ public class Person {
     public PropertyList getPropertyList() {
         return propertyList;
     }
+
+    /**
+     * Returns the preset flags of the person, as given by its tags.
+     */
+    public Flags getFlags() {
+        return flags;
+    }
+
+    /**
+     * Returns the sum of the weights of the person's preset flags at {@code tagIndex}.
+     * index 0: favourite == 1; archived == -1; default == 0;
+     * index 1: buyer == 1; seller == 0;
+     * index 2: business == 1; personal == 0;
+     */
     public int getWeight(int... tagIndex) {
         int totalWeight = 0;
         for (int index : tagIndex) {
-            totalWeight += flagWeights[index];
+            totalWeight += getFlagWeight(index);
         }
         return totalWeight;
     }
 
+    private int getFlagWeight(int tagIndex) {
+        switch (tagIndex) {
+        case 0:
+            return flags.flagIsPresent(PresetFlags.FAVOURITE) - flags.flagIsPresent(PresetFlags.ARCHIVED);
+        case 1:
+            return flags.flagIsPresent(PresetFlags.BUYER);
+        case 2:
+            return flags.flagIsPresent(PresetFlags.BUSINESS);
+        default:
+            throw new IndexOutOfBoundsException(tagIndex);
+        }
+    }
+
     /**
      * Returns if the person's birthday is within a week from today.
      */
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefiningPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has, for each of the required groups of tags, at least one tag of that group,
+ * and none of the excluded tags.
+ */
+public class PersonHasTagsPredicate implements RefiningPredicate<Person> {
+    private final List<Set<Tag>> requiredGroups;
+    private final Set<Tag> excludedTags;
+
+    /**
+     * Creates a predicate that matches persons with a tag of every group of {@code requiredGroups}, which must not
+     * be empty, and none of {@code excludedTags}.
+     */
+    public PersonHasTagsPredicate(List<Set<Tag>> requiredGroups, Set<Tag> excludedTags) {
+        requireNonNull(requiredGroups);
+        requireNonNull(excludedTags);
+        assert requiredGroups.stream().noneMatch(Set::isEmpty) : "Required groups should not be empty";
+        this.requiredGroups = requiredGroups;
+        this.excludedTags = excludedTags;
+    }
+
+    public List<Set<Tag>> getRequiredGroups() {
+        return requiredGroups;
+    }
+
+    public Set<Tag> getExcludedTags() {
+        return excludedTags;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<Tag> tags = person.getTags();
+        return requiredGroups.stream().allMatch(group -> !Collections.disjoint(group, tags))
+                && Collections.disjoint(excludedTags, tags);
+    }
+
+    /**
+     * Returns true if the base predicate of {@code other} also matches persons by tags, every group it requires
+     * contains a group this predicate requires, and it excludes none of the tags this predicate does not exclude.
+     */
+    @Override
+    public boolean refines(Predicate<?> other) {
+        if (!(RefiningPredicate.baseOf(other) instanceof PersonHasTagsPredicate otherPredicate)) {
+            return false;
+        }
+        return excludedTags.containsAll(otherPredicate.excludedTags)
+                && otherPredicate.requiredGroups.stream().allMatch(otherGroup ->
+                        requiredGroups.stream().anyMatch(otherGroup::containsAll));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonHasTagsPredicate otherPredicate)) {
+            return false;
+        }
+        return requiredGroups.equals(otherPredicate.requiredGroups)
+                && excludedTags.equals(otherPredicate.excludedTags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("requiredGroups", requiredGroups)
+                .add("excludedTags", excludedTags)
+                .toString();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has all of the given tags and, if a town is given, lists a property in that town.
+ * The town is matched case-insensitively.
+ */
+public class PersonMatchesFilterPredicate implements Predicate<Person> {
+    private final Set<Tag> tags;
+    private final Optional<String> town;
+
+    /**
+     * Creates a predicate that matches persons with all of {@code tags} and a property in {@code town}, if present.
+     */
+    public PersonMatchesFilterPredicate(Set<Tag> tags, Optional<String> town) {
+        requireNonNull(tags);
+        requireNonNull(town);
+        this.tags = tags;
+        this.town = town;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getTags().containsAll(tags)
+                && town.map(t -> person.getPropertyList().getProperties().stream()
+                        .anyMatch(property -> property.getTown().equalsIgnoreCase(t)))
+                        .orElse(true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMatchesFilterPredicate)) {
+            return false;
+        }
+
+        PersonMatchesFilterPredicate otherPredicate = (PersonMatchesFilterPredicate) other;
+        return tags.equals(otherPredicate.tags)
+                && town.equals(otherPredicate.town);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tags", tags).add("town", town).toString();
+    }
+}
@@ -1,10 +1,31 @@
 package seedu.address.model.person;
+
 /**
- * Temporary
+ * The preset labels a person can have. A person has a flag if it has the tag of the same name.
+ * Each flag is one bit of the bitmask of a {@link Flags}.
  * */
 public enum PresetFlags {
-    FAVOURITE,
-    ARCHIVED,
-    BUYER,
-    SELLER;
+    FAVOURITE("favourite"),
+    ARCHIVED("archived"),
+    BUYER("buyer"),
+    SELLER("seller"),
+    BUSINESS("business"),
+    PERSONAL("personal");
+
+    private final String tagName;
+
+    PresetFlags(String tagName) {
+        this.tagName = tagName;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * Returns the bit of this flag in the bitmask of a {@link Flags}.
+     */
+    public int getBit() {
+        return 1 << ordinal();
+    }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * The {@code Property} class represents a property that is listed for sale.
  * Each property has an address, town, type, size, number of bedrooms, bathrooms, and a price.
@@ -9,6 +11,9 @@ import static java.util.Objects.requireNonNull;
  */
 public class Property {
 
+    // towns and property types come from a small vocabulary, so listings share one copy of each
+    private static final Interner<String> vocabulary = new Interner<>();
+
     // Attributes of the property
     private final String address;
     private final String town;
@@ -105,7 +110,7 @@ public class Property {
             throw new IllegalArgumentException("Price cannot be negative.");
         }
 
-        return new Property(address, town, propertyType, size,
+        return new Property(address, vocabulary.intern(town), vocabulary.intern(propertyType), size,
                 numberOfBedrooms, numberOfBathrooms, price);
     }
 
@@ -5,7 +5,7 @@ import static java.util.Objects.requireNonNull;
  * Guarantees: immutable; is always valid
  */
 public class Remark {
-    public static final Remark EMPTY_REMARK = Remark.of("");
+    public static final Remark EMPTY_REMARK = new Remark("");
     public final String value;
     /**
      * Constructor of Remark using a string as remark value
@@ -15,8 +15,12 @@ public class Remark {
         value = remark;
     }
 
+    /**
+     * Returns a remark with the given value. Empty remarks, which most persons have, share {@link #EMPTY_REMARK}.
+     */
     public static Remark of(String remark) {
-        return new Remark(remark);
+        requireNonNull(remark);
+        return remark.isEmpty() ? EMPTY_REMARK : new Remark(remark);
     }
 
     public String getValue() {
@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.tag.Tag.FAVOURITE_TAG;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +23,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The names of the persons in the list are kept in a hash set, so that checking whether a person is already in the
+ * list does not need to go through the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,6 +35,7 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<Name> names = new HashSet<>();
 
     /**
      * Sorts the list in ascending order based on the person's name.
@@ -61,7 +68,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return names.contains(toCheck.getName());
     }
 
     /**
@@ -74,6 +81,36 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        names.add(toAdd.getName());
+    }
+
+    /**
+     * Adds a person to the list at the given {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        names.add(toAdd.getName());
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list in a single change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> addedNames = new HashSet<>();
+        for (Person person : toAdd) {
+            if (contains(person) || !addedNames.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        internalList.addAll(toAdd);
+        names.addAll(addedNames);
     }
 
     /**
@@ -94,6 +131,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        names.remove(target.getName());
+        names.add(editedPerson.getName());
     }
 
     /**
@@ -105,11 +144,30 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        names.remove(toRemove.getName());
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list in a single change.
+     * Every person must exist in the list, or the list is left unchanged.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> personsToRemove = new HashSet<>(toRemove);
+        // checked before anything is removed, so that the list is left unchanged if a person is missing
+        long foundCount = internalList.stream().filter(personsToRemove::contains).count();
+        if (foundCount != personsToRemove.size()) {
+            throw new PersonNotFoundException();
+        }
+        internalList.removeAll(personsToRemove);
+        personsToRemove.forEach(person -> names.remove(person.getName()));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        names.clear();
+        names.addAll(replacement.names);
     }
 
     /**
@@ -123,6 +181,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        names.clear();
+        persons.forEach(person -> names.add(person.getName()));
     }
 
     /**
@@ -134,7 +194,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -166,11 +226,11 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Persons with the same name are the same person, so a set of names is enough to find duplicates.
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
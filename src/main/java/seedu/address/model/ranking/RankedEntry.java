@@ -0,0 +1,56 @@
+package seedu.address.model.ranking;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Property;
+
+/**
+ * A person, or one property the person lists, in a {@link Ranking}, together with the value it is ranked by.
+ */
+public class RankedEntry {
+
+    private final Ranking ranking;
+    private final Person person;
+    private final Optional<Property> property;
+    private final double value;
+    // breaks ties between entries with the same value, so that every entry has its own place in the index
+    private final long sequenceNumber;
+
+    RankedEntry(Ranking ranking, Person person, Optional<Property> property, double value, long sequenceNumber) {
+        this.ranking = requireNonNull(ranking);
+        this.person = requireNonNull(person);
+        this.property = requireNonNull(property);
+        this.value = value;
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public Ranking getRanking() {
+        return ranking;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the ranked property, if this entry is in a property ranking.
+     */
+    public Optional<Property> getProperty() {
+        return property;
+    }
+
+    /**
+     * Returns the value the entry is ranked by: a price, a size, a number of activities, or the epoch day of the
+     * last activity.
+     */
+    public double getValue() {
+        return value;
+    }
+
+    long getSequenceNumber() {
+        return sequenceNumber;
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.ranking;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The orders in which persons, or the properties they list, can be ranked.
+ */
+public enum Ranking {
+    /** Listed properties, lowest asking price first. */
+    CHEAPEST("cheapest", true),
+    /** Listed properties, largest size first. */
+    LARGEST("largest", true),
+    /** Persons, most logged activities first. */
+    MOST_ACTIVE("most-active", false),
+    /** Persons, earliest last logged activity first. */
+    LONGEST_UNCONTACTED("longest-uncontacted", false);
+
+    private final String keyword;
+    private final boolean isPropertyRanking;
+
+    Ranking(String keyword, boolean isPropertyRanking) {
+        this.keyword = keyword;
+        this.isPropertyRanking = isPropertyRanking;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns true if this ranking ranks the properties that persons list, rather than the persons themselves.
+     */
+    public boolean isPropertyRanking() {
+        return isPropertyRanking;
+    }
+
+    /**
+     * Returns the ranking with the given keyword, ignoring case.
+     */
+    public static Optional<Ranking> fromKeyword(String keyword) {
+        return Arrays.stream(values()).filter(ranking -> ranking.keyword.equalsIgnoreCase(keyword)).findFirst();
+    }
+
+    /**
+     * Returns the keywords of all rankings, separated by {@code |}.
+     */
+    public static String getKeywords() {
+        return Arrays.stream(values()).map(Ranking::getKeyword).collect(Collectors.joining("|"));
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.model.ranking;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Property;
+
+/**
+ * Keeps the persons in the address book, and the properties they list, ordered by every {@link Ranking}, so that
+ * the top entries of a ranking can be read without sorting all the persons.
+ * The orders are updated as persons are added and removed, in O(log n) time per entry. Property rankings are also
+ * kept per town, so that the top properties in one town are found without looking at the properties elsewhere.
+ */
+public class RankingIndex {
+
+    private final Map<Ranking, NavigableSet<RankedEntry>> entries = new EnumMap<>(Ranking.class);
+    private final Map<Ranking, Map<String, NavigableSet<RankedEntry>>> entriesByTown = new EnumMap<>(Ranking.class);
+    // persons are immutable, and the same instance is removed from the address book as was added to it
+    private final Map<Person, List<RankedEntry>> entriesByPerson = new IdentityHashMap<>();
+    private long nextSequenceNumber;
+
+    /**
+     * Creates an empty index.
+     */
+    public RankingIndex() {
+        for (Ranking ranking : Ranking.values()) {
+            entries.put(ranking, new TreeSet<>(getComparator(ranking)));
+            if (ranking.isPropertyRanking()) {
+                entriesByTown.put(ranking, new HashMap<>());
+            }
+        }
+    }
+
+    private static Comparator<RankedEntry> getComparator(Ranking ranking) {
+        Comparator<RankedEntry> byValue = Comparator.comparingDouble(RankedEntry::getValue);
+        if (ranking == Ranking.LARGEST || ranking == Ranking.MOST_ACTIVE) {
+            byValue = byValue.reversed();
+        }
+        return byValue.thenComparingLong(RankedEntry::getSequenceNumber);
+    }
+
+    /**
+     * Adds {@code persons} and the properties they list.
+     */
+    public void addAll(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code person} and the properties it lists.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        List<RankedEntry> personEntries = new ArrayList<>();
+        for (Ranking ranking : Ranking.values()) {
+            if (!ranking.isPropertyRanking()) {
+                personEntries.add(addEntry(ranking, person, Optional.empty(), getValue(ranking, person)));
+                continue;
+            }
+            for (Property property : person.getPropertyList().getProperties()) {
+                personEntries.add(addEntry(ranking, person, Optional.of(property), getValue(ranking, property)));
+            }
+        }
+        List<RankedEntry> replaced = entriesByPerson.put(person, personEntries);
+        assert replaced == null : "Person should not be added twice";
+    }
+
+    private RankedEntry addEntry(Ranking ranking, Person person, Optional<Property> property, double value) {
+        RankedEntry entry = new RankedEntry(ranking, person, property, value, nextSequenceNumber++);
+        entries.get(ranking).add(entry);
+        property.ifPresent(p -> entriesByTown.get(ranking)
+                .computeIfAbsent(getTownKey(p.getTown()), unused -> new TreeSet<>(getComparator(ranking)))
+                .add(entry));
+        return entry;
+    }
+
+    /**
+     * Removes {@code person}, which must have been added before, and the properties it lists.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        List<RankedEntry> personEntries = entriesByPerson.remove(person);
+        assert personEntries != null : "Person should have been added";
+        personEntries.forEach(this::removeEntry);
+    }
+
+    private void removeEntry(RankedEntry entry) {
+        Ranking ranking = entry.getRanking();
+        entries.get(ranking).remove(entry);
+        entry.getProperty().ifPresent(property -> {
+            String townKey = getTownKey(property.getTown());
+            NavigableSet<RankedEntry> townEntries = entriesByTown.get(ranking).get(townKey);
+            townEntries.remove(entry);
+            if (townEntries.isEmpty()) {
+                entriesByTown.get(ranking).remove(townKey);
+            }
+        });
+    }
+
+    /**
+     * Returns at most {@code count} entries of {@code ranking}, in order, whose person passes {@code filter} and,
+     * if {@code town} is present, that are in that town. For a person ranking, a person is in a town if it lists a
+     * property there. Towns are matched ignoring case.
+     * Only the entries up to the last one returned are looked at.
+     */
+    public List<RankedEntry> getTop(Ranking ranking, int count, Predicate<Person> filter, Optional<String> town) {
+        requireNonNull(ranking);
+        requireNonNull(filter);
+        requireNonNull(town);
+        NavigableSet<RankedEntry> candidates = entries.get(ranking);
+        Predicate<Person> personFilter = filter;
+        if (town.isPresent() && ranking.isPropertyRanking()) {
+            candidates = entriesByTown.get(ranking).getOrDefault(getTownKey(town.get()),
+                    Collections.emptyNavigableSet());
+        } else if (town.isPresent()) {
+            personFilter = filter.and(person -> person.getPropertyList().getProperties().stream()
+                    .anyMatch(property -> property.getTown().equalsIgnoreCase(town.get().trim())));
+        }
+
+        List<RankedEntry> top = new ArrayList<>();
+        for (RankedEntry entry : candidates) {
+            if (top.size() >= count) {
+                break;
+            }
+            if (personFilter.test(entry.getPerson())) {
+                top.add(entry);
+            }
+        }
+        return top;
+    }
+
+    private static double getValue(Ranking ranking, Property property) {
+        return ranking == Ranking.CHEAPEST ? property.getPrice() : property.getSize();
+    }
+
+    private static double getValue(Ranking ranking, Person person) {
+        return ranking == Ranking.MOST_ACTIVE
+                ? person.getHistory().getActivityCount()
+                : person.getHistory().getLastActivityDate().toEpochDay();
+    }
+
+    private static String getTownKey(String town) {
+        return town.trim().toLowerCase(Locale.ROOT);
+    }
+}
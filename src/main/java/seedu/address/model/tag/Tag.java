@@ -28,7 +28,8 @@ public class Tag {
         this.tagName = tagName;
     }
     /**
-     * Static method to return instance of pre-defined tags or new tags when undefined name is used.
+     * Static method to return instance of pre-defined tags, matching their names ignoring case,
+     * or the flyweight tag of {@link TagDictionary} when undefined name is used.
      * */
     public static Tag of(String tagName) {
         if (tagName.equalsIgnoreCase(FAVOURITE_TAG.getTagName())) {
@@ -40,7 +41,7 @@ public class Tag {
         if (tagName.equalsIgnoreCase(SELLER_TAG.getTagName())) {
             return SELLER_TAG;
         }
-        return new Tag(tagName);
+        return TagDictionary.intern(tagName);
     }
 
     /**
@@ -0,0 +1,100 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The dictionary of all tag names in use. Each distinct tag name has one flyweight {@link Tag} instance, which every
+ * person with that tag shares, and a small id, which lets a {@link TagSet} store tags as bits.
+ * Ids are given out in the order tag names are first seen, starting from 0, and are never reused, since tag names
+ * come from a small vocabulary. Safe to use from several threads.
+ */
+public final class TagDictionary {
+
+    /** Returned by {@link #findId(Tag)} for a tag name that is not in the dictionary. */
+    public static final int NO_ID = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private static volatile Tag[] tagsById = new Tag[INITIAL_CAPACITY];
+    private static int size;
+
+    static {
+        // the preset tags are the canonical instances of their names
+        add(Tag.FAVOURITE_TAG);
+        add(Tag.BUYER_TAG);
+        add(Tag.SELLER_TAG);
+    }
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the flyweight tag named {@code tagName}, adding it to the dictionary if needed.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag intern(String tagName) {
+        requireNonNull(tagName);
+        Integer id = idsByName.get(tagName);
+        if (id != null) {
+            return tagsById[id];
+        }
+        return tagsById[add(new Tag(tagName))];
+    }
+
+    /**
+     * Returns the id of the tag name of {@code tag}, adding it to the dictionary if needed.
+     */
+    public static int getId(Tag tag) {
+        requireNonNull(tag);
+        Integer id = idsByName.get(tag.tagName);
+        return id != null ? id : add(tag);
+    }
+
+    /**
+     * Returns the id of the tag name of {@code tag}, or {@link #NO_ID} if it is not in the dictionary.
+     */
+    public static int findId(Tag tag) {
+        requireNonNull(tag);
+        return idsByName.getOrDefault(tag.tagName, NO_ID);
+    }
+
+    /**
+     * Returns the flyweight tag with {@code id}, which must have been given out by this dictionary.
+     */
+    public static Tag getTag(int id) {
+        Tag tag = tagsById[id];
+        assert tag != null : "Id should have been given out";
+        return tag;
+    }
+
+    /**
+     * Returns the number of distinct tag names in the dictionary.
+     */
+    public static int size() {
+        return idsByName.size();
+    }
+
+    /**
+     * Adds {@code tag} as the flyweight of its name, unless another thread added the name first,
+     * and returns the id of the name.
+     */
+    private static synchronized int add(Tag tag) {
+        Integer existingId = idsByName.get(tag.tagName);
+        if (existingId != null) {
+            return existingId;
+        }
+        int id = size++;
+        if (id == tagsById.length) {
+            tagsById = Arrays.copyOf(tagsById, tagsById.length * 2);
+        }
+        tagsById[id] = tag;
+        // the name is published only after its tag, so that readers that find the id also find the tag
+        idsByName.put(tag.tagName, id);
+        return id;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.tag;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.RoaringBitmap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefiningPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasTagsPredicate;
+
+/**
+ * The persons that passed a {@link PersonHasTagsPredicate}, as found by a {@link TagIndex}.
+ * As a predicate, it tests a person by looking up its bit in the result, as long as the index has not changed since.
+ * Persons that are added or changed later are tested against their tags instead, so the filter stays correct.
+ * It refines whatever its {@link PersonHasTagsPredicate} refines.
+ */
+public class TagFilterResult implements RefiningPredicate<Person> {
+
+    private final TagIndex index;
+    private final PersonHasTagsPredicate predicate;
+    private final RoaringBitmap matches;
+    private final Map<Tag, Integer> tagCounts;
+    private final long version;
+
+    TagFilterResult(TagIndex index, PersonHasTagsPredicate predicate, RoaringBitmap matches,
+            Map<Tag, Integer> tagCounts, long version) {
+        this.index = index;
+        this.predicate = predicate;
+        this.matches = matches;
+        this.tagCounts = tagCounts;
+        this.version = version;
+    }
+
+    /**
+     * Returns the number of persons that passed the predicate.
+     */
+    public int getCount() {
+        return matches.getCardinality();
+    }
+
+    /**
+     * Returns how many of the persons that passed the predicate have each tag, for the tags that any of them have.
+     */
+    public Map<Tag, Integer> getTagCounts() {
+        return Collections.unmodifiableMap(tagCounts);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Integer ordinal = index.getOrdinal(person);
+        // the person may be tested before the index has been told of it, or after its ordinal has been reused
+        if (ordinal == null || index.getVersion() != version) {
+            index.recordMiss();
+            return predicate.test(person);
+        }
+        index.recordHit();
+        return matches.contains(ordinal);
+    }
+
+    @Override
+    public boolean refines(Predicate<?> other) {
+        return predicate.refines(other);
+    }
+
+    @Override
+    public Predicate<?> getBasePredicate() {
+        return predicate;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("count", getCount())
+                .add("tagCounts", tagCounts)
+                .toString();
+    }
+}
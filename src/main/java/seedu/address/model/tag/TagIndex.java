@@ -0,0 +1,187 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.RoaringBitmap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasTagsPredicate;
+
+/**
+ * Keeps, for every tag, a bitmap of the persons in the address book with that tag, so that persons can be filtered
+ * by their tags with bitmap operations instead of by looking at every person.
+ * Each person is given a small ordinal, which is its bit in the bitmaps. The ordinals of removed persons are given
+ * to the next persons added, so that the ordinals, and so the bitmaps, stay dense.
+ */
+public class TagIndex {
+
+    private static final RoaringBitmap NO_PERSONS = new RoaringBitmap();
+
+    // persons are immutable, and the same instance is removed from the address book as was added to it
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final RoaringBitmap allPersons = new RoaringBitmap();
+    // indexed by the ids of the tag dictionary
+    private final List<RoaringBitmap> personsByTag = new ArrayList<>();
+    private long version;
+    // how many persons tested by the results of this index were looked up in them, or tested against their tags
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Adds {@code persons}.
+     */
+    public void addAll(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code person} to the bitmaps of its tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = freeOrdinals.isEmpty() ? ordinals.size() : freeOrdinals.pop();
+        Integer replaced = ordinals.put(person, ordinal);
+        assert replaced == null : "Person should not be added twice";
+        allPersons.add(ordinal);
+        for (Tag tag : person.getTags()) {
+            int tagId = TagDictionary.getId(tag);
+            while (personsByTag.size() <= tagId) {
+                personsByTag.add(new RoaringBitmap());
+            }
+            personsByTag.get(tagId).add(ordinal);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person}, which must have been added before.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.remove(person);
+        assert ordinal != null : "Person should have been added";
+        allPersons.remove(ordinal);
+        // tag sets are immutable, so these are the tags the person was added with
+        for (Tag tag : person.getTags()) {
+            getPersons(tag).remove(ordinal);
+        }
+        freeOrdinals.push(ordinal);
+        version++;
+    }
+
+    /**
+     * Returns the persons that pass {@code predicate}, as found from the bitmaps, and how many of them have each tag.
+     */
+    public TagFilterResult evaluate(PersonHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        List<RoaringBitmap> groups = new ArrayList<>();
+        for (Set<Tag> group : predicate.getRequiredGroups()) {
+            RoaringBitmap groupPersons = null;
+            for (Tag tag : group) {
+                // a group of one tag is its bitmap itself, which is only read
+                groupPersons = groupPersons == null ? getPersons(tag) : RoaringBitmap.or(groupPersons, getPersons(tag));
+            }
+            groups.add(groupPersons);
+        }
+        // intersecting the smallest groups first keeps the intermediate bitmaps small
+        groups.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+
+        RoaringBitmap matches = groups.isEmpty() ? allPersons : groups.get(0);
+        for (int i = 1; i < groups.size() && !matches.isEmpty(); i++) {
+            matches = RoaringBitmap.and(matches, groups.get(i));
+        }
+        for (Tag tag : predicate.getExcludedTags()) {
+            matches = RoaringBitmap.andNot(matches, getPersons(tag));
+        }
+        if (isIndexBitmap(matches)) {
+            // the result must not change with the index
+            matches = matches.copy();
+        }
+        return new TagFilterResult(this, predicate, matches, countTags(matches), version);
+    }
+
+    /**
+     * Returns how many of the persons in {@code matches} have each tag, for the tags that any of them have,
+     * in the order of the tag dictionary.
+     */
+    private Map<Tag, Integer> countTags(RoaringBitmap matches) {
+        Map<Tag, Integer> tagCounts = new LinkedHashMap<>();
+        for (int tagId = 0; tagId < personsByTag.size(); tagId++) {
+            int count = RoaringBitmap.andCardinality(matches, personsByTag.get(tagId));
+            if (count > 0) {
+                tagCounts.put(TagDictionary.getTag(tagId), count);
+            }
+        }
+        return tagCounts;
+    }
+
+    private boolean isIndexBitmap(RoaringBitmap bitmap) {
+        return bitmap == allPersons || personsByTag.stream().anyMatch(personsWithTag -> personsWithTag == bitmap);
+    }
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    public int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * Returns the version of the index, which changes every time a person is added or removed.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Records a person that a result of this index tested by looking up its bit.
+     */
+    void recordHit() {
+        hitCount++;
+    }
+
+    /**
+     * Records a person that a result of this index had to test against its tags, as the index changed since.
+     */
+    void recordMiss() {
+        missCount++;
+    }
+
+    /**
+     * Returns how many persons the results of this index have tested by looking up their bits.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns how many persons the results of this index have had to test against their tags.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the ordinal of {@code person}, or null if it is not in the index.
+     */
+    Integer getOrdinal(Person person) {
+        return ordinals.get(person);
+    }
+
+    private RoaringBitmap getPersons(Tag tag) {
+        int tagId = TagDictionary.findId(tag);
+        return tagId == TagDictionary.NO_ID || tagId >= personsByTag.size() ? NO_PERSONS : personsByTag.get(tagId);
+    }
+}
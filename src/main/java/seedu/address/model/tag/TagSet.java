@@ -0,0 +1,172 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.Interner;
+
+/**
+ * An immutable set of tags, stored as a bitset over the ids of the {@link TagDictionary}.
+ * A set of up to 64 tags from the start of the dictionary takes a single {@code long}, and persons with the same
+ * tags share one set, instead of each person holding a hash set with its own entries.
+ * Iterates over the flyweight tags in the order their names were added to the dictionary.
+ * Modification is not supported, and every attempt throws {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new long[0]);
+
+    private static final Interner<TagSet> sets = new Interner<>();
+
+    // no trailing zero words, so that equal sets have equal words
+    private final long[] words;
+    private final int size;
+
+    private TagSet(long[] words) {
+        this.words = words;
+        int bitCount = 0;
+        for (long word : words) {
+            bitCount += Long.bitCount(word);
+        }
+        this.size = bitCount;
+    }
+
+    /**
+     * Returns the set of {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet tagSet) {
+            return tagSet;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        for (Tag tag : tags) {
+            int id = TagDictionary.getId(tag);
+            int wordIndex = id >>> 6;
+            if (wordIndex >= words.length) {
+                words = Arrays.copyOf(words, wordIndex + 1);
+            }
+            words[wordIndex] |= 1L << id;
+        }
+        return sets.intern(new TagSet(words));
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag tag)) {
+            return false;
+        }
+        int id = TagDictionary.findId(tag);
+        if (id == TagDictionary.NO_ID || id >>> 6 >= words.length) {
+            return false;
+        }
+        return (words[id >>> 6] & (1L << id)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int nextId = nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextId >= 0;
+            }
+
+            @Override
+            public Tag next() {
+                if (nextId < 0) {
+                    throw new NoSuchElementException();
+                }
+                Tag tag = TagDictionary.getTag(nextId);
+                nextId = nextSetBit(nextId + 1);
+                return tag;
+            }
+        };
+    }
+
+    /**
+     * Returns the first id from {@code fromId} onwards that is in this set, or -1 if there is none.
+     */
+    private int nextSetBit(int fromId) {
+        int wordIndex = fromId >>> 6;
+        if (wordIndex >= words.length) {
+            return -1;
+        }
+        long word = words[wordIndex] & (-1L << fromId);
+        while (word == 0) {
+            wordIndex++;
+            if (wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+        return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof TagSet otherSet) {
+            return Arrays.equals(words, otherSet.words);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // must agree with the hash code of other sets of the same tags
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.DateOfCreation;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.History;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Property;
+import seedu.address.model.person.PropertyList;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates realistic persons, with tags, birthdays, several years of history and several property listings each,
+ * so that the app can be tried and measured with address books of production size.
+ * <p>
+ * The persons depend only on the seed and on their index, so the same seed always gives the same address book,
+ * and any person can be generated without generating the ones before it. Names are unique: every pairing of a
+ * first name and a last name is used once, in an order picked by the seed, before a number is added to them.
+ * All dates are fixed, with histories ending on {@link #LAST_ACTIVITY_DATE}, so they do not depend on today.
+ */
+public class PersonGenerator {
+
+    public static final long DEFAULT_SEED = 42;
+    public static final int MAX_PERSONS = 5_000_000;
+    public static final LocalDate LAST_ACTIVITY_DATE = LocalDate.of(2024, 12, 31);
+
+    private static final String[] FIRST_NAMES = {"Wei Ming", "Jia Hui", "Li Ting", "Jun Jie", "Xin Yi", "Zhi Hao",
+        "Hui Min", "Kai Wen", "Siew Ling", "Boon Keng", "Mei Ling", "Wen Jie", "Aisha", "Nurul", "Farhan", "Hafiz",
+        "Siti", "Irfan", "Aditi", "Arjun", "Priya", "Rahul", "Kavitha", "Vikram", "Divya", "Ravi", "Meera", "Suresh",
+        "Anand", "Lakshmi", "John", "Sarah", "Michael", "Rachel", "Daniel", "Grace", "David", "Emily", "James",
+        "Hannah", "Ryan", "Chloe", "Marcus", "Natalie", "Benjamin", "Olivia", "Ethan", "Sophia", "Lucas", "Isabelle",
+        "Nathan", "Amelia", "Joshua", "Charlotte", "Samuel", "Victoria", "Gabriel", "Megan", "Adrian", "Jasmine"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan",
+        "Koh", "Teo", "Ang", "Yeo", "Tay", "Ho", "Low", "Toh", "Sim", "Chong", "Chia", "Seah", "Foo", "Quek", "Heng",
+        "Phua", "Rahman", "Ismail", "Hassan", "Abdullah", "Ibrahim", "Yusof", "Osman", "Kumar", "Nair", "Pillai",
+        "Menon", "Raj", "Singh", "Krishnan", "Subramaniam", "Smith", "Jones", "Fernandez", "De Souza", "Pereira",
+        "Rodrigues", "Williams", "Brown", "Taylor", "Martin"};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "yahoo.com.sg", "hotmail.com", "outlook.com",
+        "singnet.com.sg", "example.com"};
+    // the street of each town is at the same index as the town
+    private static final String[] TOWNS = {"Ang Mo Kio", "Bedok", "Bishan", "Bukit Batok", "Bukit Timah", "Clementi",
+        "Hougang", "Jurong West", "Pasir Ris", "Punggol", "Queenstown", "Sengkang", "Serangoon", "Tampines",
+        "Toa Payoh", "Woodlands", "Yishun", "Marine Parade"};
+    private static final String[] STREETS = {"Ang Mo Kio Ave 3", "Bedok North St 1", "Bishan St 13",
+        "Bukit Batok West Ave 6", "Bukit Timah Road", "Clementi Ave 2", "Hougang Ave 8", "Jurong West St 52",
+        "Pasir Ris Drive 6", "Punggol Field", "Queenstown Road", "Sengkang East Way", "Serangoon North Ave 1",
+        "Tampines St 21", "Toa Payoh Lorong 1", "Woodlands Drive 16", "Yishun Ring Road", "Marine Parade Road"};
+    private static final PropertyType[] PROPERTY_TYPES = {
+        new PropertyType("HDB", 60, 130, 4_500, 7_000),
+        new PropertyType("Condo", 50, 180, 12_000, 20_000),
+        new PropertyType("Executive Condo", 90, 140, 9_000, 12_000),
+        new PropertyType("Apartment", 40, 120, 11_000, 17_000),
+        new PropertyType("Landed", 150, 400, 9_000, 16_000)};
+    private static final String[] TAG_NAMES = {"buyer", "seller", "investor", "landlord", "tenant", "firstTimeBuyer",
+        "upgrader", "downsizer", "favourite", "vip", "urgent", "referral"};
+    private static final String[] REMARKS = {"Looking for a family home", "Wants a quick sale",
+        "Interested in rental yield", "Prefers units near an MRT station", "Needs financing advice",
+        "Relocating for work", "Only available on weekends"};
+    private static final String[] ACTIVITIES = {"Called to follow up", "Viewed a unit", "Sent new listings",
+        "Negotiated the price", "Discussed financing", "Met at the show flat", "Signed an option to purchase",
+        "Sent a valuation report"};
+    private static final LocalDate FIRST_DATE_OF_CREATION = LocalDate.of(2015, 1, 1);
+    private static final LocalDate LAST_DATE_OF_CREATION = LocalDate.of(2021, 12, 31);
+    private static final int FIRST_BIRTH_YEAR = 1950;
+    private static final int LAST_BIRTH_YEAR = 2004;
+    private static final int MAX_TAGS = 3;
+    private static final int MAX_PROPERTIES = 4;
+    private static final int MIN_ACTIVITIES = 3;
+    private static final int MAX_ACTIVITIES = 30;
+    private static final int NAME_COUNT = FIRST_NAMES.length * LAST_NAMES.length;
+    private static final long INDEX_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    // the pairings of first and last names are visited in the order (offset + index * stride) % NAME_COUNT
+    private final int nameStride;
+    private final int nameOffset;
+
+    /**
+     * The sizes, in square metres, and the prices per square metre of one type of property.
+     */
+    private record PropertyType(String name, int minSize, int maxSize, int minPricePerSize, int maxPricePerSize) {
+    }
+
+    /**
+     * Creates a {@code PersonGenerator} that generates the persons picked by {@code seed}.
+     */
+    public PersonGenerator(long seed) {
+        this.seed = seed;
+        Random random = new Random(seed);
+        int stride;
+        do {
+            stride = 1 + random.nextInt(NAME_COUNT - 1);
+        } while (gcd(stride, NAME_COUNT) != 1);
+        nameStride = stride;
+        nameOffset = random.nextInt(NAME_COUNT);
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Returns the first {@code count} persons, generated one at a time as the stream is consumed.
+     */
+    public Stream<Person> generate(int count) {
+        checkArgument(count >= 0 && count <= MAX_PERSONS);
+        return IntStream.range(0, count).mapToObj(this::generatePerson);
+    }
+
+    /**
+     * Returns the person at {@code index}, which is the same whenever it is generated with the same seed.
+     */
+    public Person generatePerson(int index) {
+        checkArgument(index >= 0 && index < MAX_PERSONS);
+        Random random = new Random(seed * INDEX_MULTIPLIER + index);
+
+        int pairing = (int) ((nameOffset + (long) (index % NAME_COUNT) * nameStride) % NAME_COUNT);
+        String firstName = FIRST_NAMES[pairing % FIRST_NAMES.length];
+        String lastName = LAST_NAMES[pairing / FIRST_NAMES.length];
+        String suffix = index < NAME_COUNT ? "" : String.valueOf(index / NAME_COUNT + 1);
+        String fullName = firstName + " " + lastName + (suffix.isEmpty() ? "" : " " + suffix);
+
+        int townIndex = random.nextInt(TOWNS.length);
+        LocalDate dateOfCreation = getRandomDate(random, FIRST_DATE_OF_CREATION, LAST_DATE_OF_CREATION);
+        return new Person(new Name(fullName), getPhone(random), getEmail(random, firstName, lastName, suffix),
+                getAddress(random, STREETS[townIndex]), getRemark(random), getBirthday(random), getTags(random),
+                new DateOfCreation(dateOfCreation), getHistory(random, dateOfCreation), getProperties(random));
+    }
+
+    private static Phone getPhone(Random random) {
+        return new Phone(String.valueOf((8 + random.nextInt(2)) * 10_000_000 + random.nextInt(10_000_000)));
+    }
+
+    private static Email getEmail(Random random, String firstName, String lastName, String suffix) {
+        String localPart = toEmailWord(firstName) + "." + toEmailWord(lastName) + suffix;
+        return new Email(localPart + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)]);
+    }
+
+    private static String toEmailWord(String name) {
+        return name.replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static Address getAddress(Random random, String street) {
+        return new Address(String.format("Blk %d %s, #%02d-%d", 1 + random.nextInt(999), street,
+                2 + random.nextInt(30), 10 + random.nextInt(990)));
+    }
+
+    private static Remark getRemark(Random random) {
+        // most persons have no remark
+        return random.nextInt(3) == 0 ? Remark.of(REMARKS[random.nextInt(REMARKS.length)]) : Remark.EMPTY_REMARK;
+    }
+
+    private static Birthday getBirthday(Random random) {
+        LocalDate birthday = getRandomDate(random, LocalDate.of(FIRST_BIRTH_YEAR, 1, 1),
+                LocalDate.of(LAST_BIRTH_YEAR, 12, 31));
+        return Birthday.of(birthday.toString());
+    }
+
+    private static Set<Tag> getTags(Random random) {
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = random.nextInt(MAX_TAGS + 1);
+        while (tags.size() < tagCount) {
+            tags.add(Tag.of(TAG_NAMES[random.nextInt(TAG_NAMES.length)]));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns a history of activities spread over the years from {@code dateOfCreation} to
+     * {@link #LAST_ACTIVITY_DATE}.
+     */
+    private static History getHistory(Random random, LocalDate dateOfCreation) {
+        History history = new History(dateOfCreation);
+        int activityCount = MIN_ACTIVITIES + random.nextInt(MAX_ACTIVITIES - MIN_ACTIVITIES + 1);
+        long averageGap = ChronoUnit.DAYS.between(dateOfCreation, LAST_ACTIVITY_DATE) / activityCount;
+        LocalDate date = dateOfCreation;
+        for (int i = 0; i < activityCount; i++) {
+            date = date.plusDays(1 + random.nextInt((int) (2 * averageGap)));
+            if (date.isAfter(LAST_ACTIVITY_DATE)) {
+                break;
+            }
+            history.addActivity(date, ACTIVITIES[random.nextInt(ACTIVITIES.length)]);
+        }
+        return history;
+    }
+
+    private static PropertyList getProperties(Random random) {
+        int propertyCount = 1 + random.nextInt(MAX_PROPERTIES);
+        List<Property> properties = new ArrayList<>(propertyCount);
+        for (int i = 0; i < propertyCount; i++) {
+            int townIndex = random.nextInt(TOWNS.length);
+            PropertyType type = PROPERTY_TYPES[random.nextInt(PROPERTY_TYPES.length)];
+            int size = type.minSize() + random.nextInt(type.maxSize() - type.minSize() + 1);
+            int pricePerSize = type.minPricePerSize()
+                    + random.nextInt(type.maxPricePerSize() - type.minPricePerSize() + 1);
+            int bedrooms = Math.max(1, Math.min(6, size / 35));
+            int bathrooms = Math.max(1, bedrooms - random.nextInt(2));
+            // asking prices are rounded to the nearest thousand
+            double price = Math.round((double) size * pricePerSize / 1_000) * 1_000.0;
+            String address = (1 + random.nextInt(999)) + " " + STREETS[townIndex];
+            properties.add(Property.of(address, TOWNS[townIndex], type.name(), size, bedrooms, bathrooms, price));
+        }
+        return new PropertyList(properties);
+    }
+
+    private static LocalDate getRandomDate(Random random, LocalDate first, LocalDate last) {
+        return first.plusDays(random.nextInt((int) ChronoUnit.DAYS.between(first, last) + 1));
+    }
+}
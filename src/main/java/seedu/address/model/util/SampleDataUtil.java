@@ -26,7 +26,7 @@ import seedu.address.model.tag.Tag;
  * Contains utility methods for populating {@code AddressBook} with sample data.
  */
 public class SampleDataUtil {
-    public static final Remark EMPTY_REMARK = new Remark("");
+    public static final Remark EMPTY_REMARK = Remark.EMPTY_REMARK;
     public static final Birthday EMPTY_BIRTHDAY = new Birthday("");
 
     // Example histories for demonstration purposes
@@ -0,0 +1,397 @@
+package seedu.address.server;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundWork;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.PersonSnapshot;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonPersonEncoder;
+
+/**
+ * An HTTP server on localhost that lets scripts read and change the address book with JSON requests.
+ * <p>
+ * Endpoints:
+ * <ul>
+ *     <li>{@code GET /api/persons[?q=KEYWORDS]} lists the persons, or only those whose name contains any of the
+ *     space-separated keywords.</li>
+ *     <li>{@code GET /api/persons/NAME} shows the person with the given name.</li>
+ *     <li>{@code GET /api/persons/NAME/timeline} shows the logged history of the person with the given name.</li>
+ *     <li>{@code POST /api/commands} runs the command in the {@code command} field of the JSON request body, exactly
+ *     as if it was typed into the app.</li>
+ * </ul>
+ * Every request must carry the token of this install in the {@value #TOKEN_HEADER} header. Requests that name
+ * another host, e.g. after DNS rebinding, and requests with an {@code Origin}, which browsers add to requests that
+ * web pages make, are refused, and commands must be sent as {@code application/json}, so that web pages open in
+ * the user's browser can neither read nor change the address book.
+ * <p>
+ * Reads are served concurrently from the latest {@link seedu.address.model.PersonSnapshot}, so they never wait for
+ * the UI thread.
+ * Commands go through {@link Logic} one at a time on a single writer thread, which hands each of them to the UI
+ * thread and waits for it to finish.
+ */
+public class ApiServer {
+
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String TIMELINE_SUFFIX = "/timeline";
+    public static final String TOKEN_HEADER = "X-Api-Token";
+    public static final String COMMAND_FIELD = "command";
+
+    public static final String MESSAGE_PERSON_NOT_FOUND = "No person named %1$s";
+    public static final String MESSAGE_NOT_FOUND = "Unknown endpoint: %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not allowed on %2$s";
+    public static final String MESSAGE_UNAUTHORIZED = "Missing or wrong " + TOKEN_HEADER + " header";
+    public static final String MESSAGE_ORIGIN_NOT_ALLOWED = "Requests from web pages are not allowed";
+    public static final String MESSAGE_HOST_NOT_ALLOWED = "Host %1$s is not allowed";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "Commands must be sent as application/json";
+    public static final String MESSAGE_INVALID_COMMAND_BODY =
+            "The request body should be a JSON object with a \"" + COMMAND_FIELD + "\" string";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_UNAUTHORIZED = 401;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int TOKEN_BYTES = 32;
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final List<String> LOCAL_HOSTS = List.of("localhost", "127.0.0.1", "[::1]");
+
+    private final Logic logic;
+    private final byte[] token;
+    private final Executor uiExecutor;
+    private final HttpServer httpServer;
+    private final ExecutorService readExecutor;
+    private final ExecutorService writeExecutor;
+    private final JsonPersonEncoder encoder = new JsonPersonEncoder();
+
+    /**
+     * Creates a server for {@code logic} on the given localhost {@code port}, or on any free port if {@code port}
+     * is 0, that only serves requests carrying {@code token}. Commands are run on the UI thread through
+     * {@code uiExecutor}. Call {@link #start()} to begin serving requests.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, int port, String token, Executor uiExecutor) throws IOException {
+        requireAllNonNull(logic, token, uiExecutor);
+        this.logic = logic;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.uiExecutor = uiExecutor;
+
+        readExecutor = newReadExecutor();
+        writeExecutor = Executors.newSingleThreadExecutor(runnable -> newDaemonThread(runnable, "api-writer"));
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.createContext(PERSONS_PATH, this::handlePersons);
+        httpServer.createContext(COMMANDS_PATH, this::handleCommands);
+        httpServer.setExecutor(readExecutor);
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        httpServer.start();
+        logger.info("API server listening on http://localhost:" + getPort());
+    }
+
+    /**
+     * Stops serving requests, giving requests that are being served a moment to finish.
+     */
+    public void stop() {
+        httpServer.stop(1);
+        writeExecutor.shutdownNow();
+        readExecutor.shutdownNow();
+        logger.info("API server stopped");
+    }
+
+    /**
+     * Returns the port the server listens on.
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Returns a new random token for {@link #TOKEN_HEADER}.
+     */
+    public static String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Returns an executor that serves each request on a virtual thread if the Java runtime has them, since the
+     * threads mostly wait on sockets. Otherwise, requests are served on a pool of daemon threads.
+     */
+    private static ExecutorService newReadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.fine("Virtual threads are not available, serving requests on platform threads");
+            return Executors.newCachedThreadPool(runnable -> newDaemonThread(runnable, "api-reader"));
+        }
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    //=========== Access ===================================================================================
+
+    /**
+     * Returns true if {@code exchange} may be served, or answers it with an error and returns false.
+     */
+    private boolean isAllowed(HttpExchange exchange) throws IOException {
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null || !isLocalHost(host)) {
+            sendError(exchange, STATUS_FORBIDDEN, String.format(MESSAGE_HOST_NOT_ALLOWED, host));
+            return false;
+        }
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            sendError(exchange, STATUS_FORBIDDEN, MESSAGE_ORIGIN_NOT_ALLOWED);
+            return false;
+        }
+        String requestToken = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+        // compared in constant time, so that the token cannot be guessed from how long the comparison takes
+        if (requestToken == null || !MessageDigest.isEqual(token, requestToken.getBytes(StandardCharsets.UTF_8))) {
+            sendError(exchange, STATUS_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the {@code Host} header {@code host} names this computer, with or without a port.
+     */
+    static boolean isLocalHost(String host) {
+        String hostName = host.trim().toLowerCase(Locale.ROOT);
+        int portStart = hostName.lastIndexOf(':');
+        if (portStart > hostName.lastIndexOf(']')) {
+            hostName = hostName.substring(0, portStart);
+        }
+        return LOCAL_HOSTS.contains(hostName);
+    }
+
+    //=========== Reads ======================================================================================
+
+    private void handlePersons(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!isAllowed(exchange)) {
+                return;
+            }
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendError(exchange, STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                        exchange.getRequestMethod(), exchange.getRequestURI().getPath()));
+                return;
+            }
+
+            PersonSnapshot snapshot = logic.getPersonSnapshot();
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals(PERSONS_PATH) || path.equals(PERSONS_PATH + "/")) {
+                sendJson(exchange, STATUS_OK, encoder.encode(search(snapshot.getPersons(),
+                        exchange.getRequestURI().getRawQuery())));
+                return;
+            }
+
+            String name = path.substring(PERSONS_PATH.length() + 1);
+            boolean isTimeline = name.endsWith(TIMELINE_SUFFIX);
+            if (isTimeline) {
+                name = name.substring(0, name.length() - TIMELINE_SUFFIX.length());
+            }
+            Optional<Person> person = snapshot.findByName(name);
+            if (person.isEmpty()) {
+                sendError(exchange, STATUS_NOT_FOUND, String.format(MESSAGE_PERSON_NOT_FOUND, name));
+            } else if (isTimeline) {
+                sendJson(exchange, STATUS_OK, encoder.encodeTimeline(person.get()));
+            } else {
+                sendJson(exchange, STATUS_OK, encoder.encode(person.get()));
+            }
+        }
+    }
+
+    /**
+     * Returns the persons whose name contains any of the keywords in the {@code q} parameter of {@code rawQuery},
+     * or all persons if there is no such parameter.
+     */
+    private static List<Person> search(List<Person> persons, String rawQuery) {
+        Optional<String> keywords = getParameter(rawQuery, "q");
+        if (keywords.isEmpty() || keywords.get().isBlank()) {
+            return persons;
+        }
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Arrays.asList(keywords.get().trim().split("\\s+")));
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    private static Optional<String> getParameter(String rawQuery, String parameterName) {
+        if (rawQuery == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(rawQuery.split("&"))
+                .map(parameter -> parameter.split("=", 2))
+                .filter(pair -> URLDecoder.decode(pair[0], StandardCharsets.UTF_8).equals(parameterName))
+                .map(pair -> pair.length > 1 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8) : "")
+                .findFirst();
+    }
+
+    //=========== Writes =====================================================================================
+
+    private void handleCommands(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!isAllowed(exchange)) {
+                return;
+            }
+            if (!exchange.getRequestMethod().equals("POST")) {
+                sendError(exchange, STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                        exchange.getRequestMethod(), exchange.getRequestURI().getPath()));
+                return;
+            }
+            if (!exchange.getRequestURI().getPath().equals(COMMANDS_PATH)) {
+                sendError(exchange, STATUS_NOT_FOUND,
+                        String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+                return;
+            }
+
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            if (contentType == null || !contentType.split(";")[0].trim().equalsIgnoreCase(JSON_MEDIA_TYPE)) {
+                sendError(exchange, STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_MEDIA_TYPE);
+                return;
+            }
+            Optional<String> command;
+            try (InputStream body = exchange.getRequestBody()) {
+                command = parseCommand(body.readAllBytes());
+            }
+            if (command.isEmpty()) {
+                sendError(exchange, STATUS_BAD_REQUEST, MESSAGE_INVALID_COMMAND_BODY);
+                return;
+            }
+            String commandText = command.get().trim();
+            try {
+                String feedback = writeExecutor.submit(() -> executeCommand(commandText)).get();
+                sendJson(exchange, STATUS_OK, JsonUtil.getCompactWriter().writeValueAsBytes(
+                        Map.of("feedback", feedback)));
+            } catch (ExecutionException e) {
+                logger.log(Level.INFO, "API command failed: " + commandText, e.getCause());
+                sendError(exchange, STATUS_BAD_REQUEST, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sendError(exchange, STATUS_INTERNAL_ERROR, "Server is stopping");
+            }
+        }
+    }
+
+    /**
+     * Returns the command in the {@link #COMMAND_FIELD} of the JSON object in {@code body}, if there is one.
+     */
+    private static Optional<String> parseCommand(byte[] body) {
+        try {
+            JsonNode tree = JsonUtil.getReader().readTree(new ByteArrayInputStream(body));
+            JsonNode command = tree == null ? null : tree.get(COMMAND_FIELD);
+            return command != null && command.isTextual() ? Optional.of(command.asText()) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Runs {@code commandText} through the logic on the UI thread, then does any background work it leaves off the
+     * UI thread, and returns the feedback for the user. Runs on the writer thread, so commands never overlap.
+     */
+    private String executeCommand(String commandText) throws Exception {
+        logger.info("API command: " + commandText);
+        CommandResult commandResult = runOnUiThread(() -> logic.execute(commandText));
+        Optional<BackgroundWork> backgroundWork = commandResult.getBackgroundWork();
+        if (backgroundWork.isEmpty()) {
+            return commandResult.getFeedbackToUser();
+        }
+        String result = backgroundWork.get().run(progress -> {});
+        return runOnUiThread(() -> backgroundWork.get().finish(result));
+    }
+
+    private <T> T runOnUiThread(UiTask<T> task) throws Exception {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        uiExecutor.execute(() -> {
+            try {
+                future.complete(task.call());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Work that is run on the UI thread and may fail with an exception.
+     */
+    @FunctionalInterface
+    private interface UiTask<T> {
+        T call() throws Exception;
+    }
+
+    //=========== Responses ==================================================================================
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, toErrorJson(message));
+    }
+
+    private static byte[] toErrorJson(String message) throws JsonProcessingException {
+        return JsonUtil.getCompactWriter().writeValueAsBytes(Map.of("error", String.valueOf(message)));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, byte[] json) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, json.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(json);
+        }
+    }
+}
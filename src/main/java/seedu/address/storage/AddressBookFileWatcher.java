@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches the files of an address book, i.e. the data file and its shard folder, for changes on disk.
+ * Events are collected until the files have been quiet for a short while, so that a burst of writes from
+ * a single save results in one notification.
+ * The watcher cannot tell who wrote the files; callers use {@link #fingerprint(Path)} to tell their own saves
+ * apart from external changes.
+ */
+class AddressBookFileWatcher implements AutoCloseable {
+
+    /** How long the files must be quiet before the listener is notified. */
+    static final long SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileWatcher.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final Path shardFolder;
+    private final Runnable listener;
+    private final WatchService watchService;
+    private final Thread watchThread;
+    private WatchKey shardFolderKey;
+
+    /**
+     * Creates a watcher for the address book stored at {@code filePath} that runs {@code listener} on its own
+     * thread whenever the files change. Call {@link #start()} to begin watching.
+     *
+     * @throws IOException if the folder of the data file cannot be watched.
+     */
+    AddressBookFileWatcher(Path filePath, Runnable listener) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(listener);
+        this.filePath = filePath.toAbsolutePath();
+        this.shardFolder = ShardedJsonAddressBookStorage.getShardFolder(this.filePath);
+        this.listener = listener;
+
+        Path folder = this.filePath.getParent();
+        Files.createDirectories(folder);
+        watchService = folder.getFileSystem().newWatchService();
+        folder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        registerShardFolderIfPresent();
+
+        watchThread = new Thread(this::watch, "data-file-watcher");
+        watchThread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the files in the background.
+     */
+    void start() {
+        watchThread.start();
+    }
+
+    /**
+     * Stops watching the files. The listener is not run again after this returns, unless it is already running.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * Returns a fingerprint of the files of the address book stored at {@code filePath}, made of the size and
+     * last modified time of the data file and of every file in its shard folder.
+     * Two fingerprints are equal if none of the files were written in between.
+     */
+    static Map<Path, List<Object>> fingerprint(Path filePath) throws IOException {
+        Map<Path, List<Object>> fingerprint = new HashMap<>();
+        addToFingerprint(fingerprint, filePath);
+        Path shardFolder = ShardedJsonAddressBookStorage.getShardFolder(filePath);
+        if (Files.isDirectory(shardFolder)) {
+            try (Stream<Path> shardFiles = Files.list(shardFolder)) {
+                for (Path shardFile : (Iterable<Path>) shardFiles::iterator) {
+                    addToFingerprint(fingerprint, shardFile);
+                }
+            }
+        }
+        return fingerprint;
+    }
+
+    private static void addToFingerprint(Map<Path, List<Object>> fingerprint, Path file) throws IOException {
+        if (!Files.isRegularFile(file) || isTempFile(file)) {
+            return;
+        }
+        fingerprint.put(file, List.of(Files.size(file), Files.getLastModifiedTime(file)));
+    }
+
+    private static boolean isTempFile(Path file) {
+        return file.getFileName().toString().endsWith(TEMP_FILE_SUFFIX);
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                boolean isChanged = handleEvents(watchService.take());
+                // wait for the burst of events to settle before notifying
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isChanged |= handleEvents(key);
+                }
+                if (isChanged) {
+                    listener.run();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine("Stopped watching " + filePath);
+        }
+    }
+
+    /**
+     * Consumes the events of {@code key} and returns true if any of them concern the files of the address book.
+     */
+    private boolean handleEvents(WatchKey key) {
+        boolean isChanged = false;
+        boolean isShardFolderEvent = key == shardFolderKey;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                isChanged = true;
+                continue;
+            }
+            Path changed = ((Path) event.context());
+            if (isShardFolderEvent) {
+                isChanged |= !isTempFile(changed);
+            } else if (changed.equals(filePath.getFileName())) {
+                isChanged = true;
+            } else if (changed.equals(shardFolder.getFileName())) {
+                isChanged = true;
+                registerShardFolderIfPresent();
+            }
+        }
+        if (!key.reset() && isShardFolderEvent) {
+            shardFolderKey = null;
+        }
+        return isChanged;
+    }
+
+    private void registerShardFolderIfPresent() {
+        if (!Files.isDirectory(shardFolder)) {
+            return;
+        }
+        try {
+            shardFolderKey = shardFolder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        } catch (IOException e) {
+            logger.warning("Unable to watch " + shardFolder + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.util.PersonGenerator;
+
+/**
+ * Writes an address book of realistic persons generated by {@link PersonGenerator}, so that the app and its
+ * benchmarks can be tried with data files of production size. The persons are streamed to the file as they are
+ * generated, so files of millions of persons can be written without holding them in memory.
+ * <p>
+ * Usage: {@code AddressBookGenerator [PERSONS] [SEED] [FILE]}, e.g. {@code AddressBookGenerator 1000000 42}. The
+ * address book is written to {@code data/generated-PERSONS-SEED.json} unless a file is given, which is also where
+ * the {@code generate} command writes it, so it can be opened in the app with {@code switch generated-PERSONS-SEED}.
+ */
+public class AddressBookGenerator {
+
+    public static final int DEFAULT_PERSONS = 100_000;
+
+    private static final String USAGE = "Usage: AddressBookGenerator [PERSONS] [SEED] [FILE]";
+    private static final String BOOK_NAME_FORMAT = "generated-%1$d-%2$d";
+    private static final Path DEFAULT_FOLDER = Paths.get("data");
+
+    /**
+     * Returns the name of the address book of {@code personCount} persons generated from {@code seed}.
+     */
+    public static String getBookName(int personCount, long seed) {
+        return String.format(BOOK_NAME_FORMAT, personCount, seed);
+    }
+
+    /**
+     * Writes {@code personCount} persons generated from {@code seed} as an address book at {@code file}.
+     */
+    static void generate(int personCount, long seed, Path file) throws IOException {
+        new JsonAddressBookStorage(file).saveAddressBook(new PersonGenerator(seed).generate(personCount)::iterator,
+                file);
+    }
+
+    /**
+     * Writes an address book of {@code PERSONS} persons generated from {@code SEED}, and prints how long it took and
+     * how large the file is.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length > 3) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSONS;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : PersonGenerator.DEFAULT_SEED;
+        if (personCount <= 0 || personCount > PersonGenerator.MAX_PERSONS) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        Path file = args.length > 2
+                ? Paths.get(args[2])
+                : DEFAULT_FOLDER.resolve(getBookName(personCount, seed) + ".json");
+
+        long start = System.nanoTime();
+        generate(personCount, seed, file);
+        long time = System.nanoTime() - start;
+
+        System.out.printf("Persons: %d, seed: %d%n", personCount, seed);
+        System.out.printf("Written to %s (%,d bytes) in %d ms%n", file, Files.size(file), time / 1_000_000);
+    }
+}
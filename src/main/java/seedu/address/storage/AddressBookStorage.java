@@ -2,10 +2,15 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -30,6 +35,29 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Reads the address book like {@link #readAddressBook()}, but passes its persons, in order, to
+     * {@code chunkConsumer} in new lists of at most {@code chunkSize} persons each.
+     * Returns false if the storage file is not found.
+     * If loading fails, some chunks may already have been passed to {@code chunkConsumer}.
+     * <p>
+     * This default reads the whole address book before passing on the first chunk; storages that can read their
+     * persons one at a time pass each chunk on as soon as it is read.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    default boolean readAddressBook(Consumer<List<Person>> chunkConsumer, int chunkSize) throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        List<Person> persons = addressBook.get().getPersonList();
+        for (int start = 0; start < persons.size(); start += chunkSize) {
+            chunkConsumer.accept(new ArrayList<>(persons.subList(start, Math.min(start + chunkSize, persons.size()))));
+        }
+        return true;
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +70,28 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code persons}, which must have unique names, as an address book at {@code filePath}.
+     * <p>
+     * This default collects all the persons into an address book before saving it; storages that can write their
+     * persons one at a time save each person as soon as it is taken from {@code persons}, so that address books
+     * larger than the memory can be written.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveAddressBook(Iterable<Person> persons, Path filePath) throws IOException {
+        AddressBook addressBook = new AddressBook();
+        persons.forEach(addressBook::addPerson);
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Returns the number of bytes written to the files by the last save of a {@link ReadOnlyAddressBook} through
+     * this storage, which only counts the files that were rewritten, after any compression. Returns 0 if nothing has
+     * been saved yet, or if the storage does not keep count.
+     */
+    default long getLastSaveSize() {
+        return 0;
+    }
+
 }
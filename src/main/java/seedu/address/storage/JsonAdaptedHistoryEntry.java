@@ -7,6 +7,8 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.util.DateUtil;
+
 
 /**
  * Jackson-friendly version of a History entry.
@@ -51,7 +53,7 @@ public class JsonAdaptedHistoryEntry {
      * @return A {@code LocalDate} representing the stored date.
      */
     public LocalDate toDate() {
-        return LocalDate.parse(date); // Convert the String back to LocalDate
+        return DateUtil.parseIsoDate(date); // Convert the String back to LocalDate
     }
 
     /**
@@ -15,7 +15,9 @@ import java.util.stream.Stream;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.DateService;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Birthday;
 import seedu.address.model.person.DateOfCreation;
@@ -147,13 +149,13 @@ class JsonAdaptedPerson {
         if (remark == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Remark.class.getSimpleName()));
         }
-        final Remark modelRemark = new Remark(remark);
+        final Remark modelRemark = Remark.of(remark);
         if (dateOfCreation == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     DateOfCreation.class.getSimpleName()));
         }
-        LocalDate creationDateForChronicleCheck = LocalDate.parse(dateOfCreation);
-        LocalDate today = LocalDate.now();
+        LocalDate creationDateForChronicleCheck = DateUtil.parseIsoDate(dateOfCreation);
+        LocalDate today = DateService.getDefault().today();
         boolean hasEntryInTheFuture;
         Stream<Boolean> isAfterStream = historyEntries.stream()
                 .map(e -> e.toDate().isAfter(today));
@@ -168,7 +170,7 @@ class JsonAdaptedPerson {
         if (hasEntryInBeforeCreation) {
             throw new IllegalValueException(INVALID_HISTORY_DATE_BEFORE_CREATION);
         }
-        final DateOfCreation modalDateOfCreation = new DateOfCreation(LocalDate.parse(dateOfCreation));
+        final DateOfCreation modalDateOfCreation = new DateOfCreation(DateUtil.parseIsoDate(dateOfCreation));
         final History modelHistory = History.fromJsonEntries(modalDateOfCreation, historyEntries);
         final Birthday modelBirthday;
         if (birthday == null) {
@@ -179,7 +181,7 @@ class JsonAdaptedPerson {
             modelBirthday = EMPTY_BIRTHDAY;
         } else {
             try {
-                LocalDate.parse(birthday);
+                DateUtil.parseIsoDate(birthday);
             } catch (DateTimeParseException e) {
                 throw new IllegalValueException(MESSAGE_INVALID_DATE_FORMAT);
             }
@@ -1,18 +1,37 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -21,10 +40,37 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final byte[] DOCUMENT_START = "{\"persons\":[\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PERSON_SEPARATOR = ",\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DOCUMENT_END = "\n]}\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] POSITIONS_START = ("\n],\n\"" + JsonShard.POSITIONS_FIELD + "\":[")
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] POSITIONS_END = "]}\n".getBytes(StandardCharsets.UTF_8);
+    private static final String PERSONS_FIELD = "persons";
+    private static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Data file is not a JSON object.";
+
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final int compressionLevel;
+    private final JsonPersonFragmentCache fragmentCache = new JsonPersonFragmentCache();
+    private volatile long lastSaveSize;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false, FileUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Creates a storage for the address book at {@code filePath}, which is saved as indented JSON if
+     * {@code isPrettyPrinted} is true, or as compact JSON otherwise. Unless {@code compressionLevel} is
+     * {@link FileUtil#NO_COMPRESSION}, the file is compressed with gzip at that level.
+     * Compressed and uncompressed files can both be read, whatever the compression level.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, int compressionLevel) {
+        checkArgument(FileUtil.isValidCompressionLevel(compressionLevel),
+                FileUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +84,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If there is no file at {@code filePath} but the address book was stored in shards for it, e.g. by a
+     * {@link ShardedJsonAddressBookStorage}, the shards are read instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,6 +93,17 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
+        if (!Files.exists(filePath) && ShardedJsonAddressBookStorage.hasShards(filePath)) {
+            logger.info("Reading address book from the shards of " + filePath);
+            return new ShardedJsonAddressBookStorage(filePath, 1, this).readAddressBook(filePath);
+        }
+        return readAddressBookFile(filePath);
+    }
+
+    /**
+     * Reads the address book in the single file at {@code filePath}, ignoring any shards.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
         if (!jsonAddressBook.isPresent()) {
@@ -59,6 +118,70 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
     }
 
+    /**
+     * Reads the persons in the file one at a time, and passes each chunk on as soon as it is full, so that the
+     * first persons can be shown while the rest of the file is still being read. The persons are checked as
+     * {@link JsonSerializableAddressBook} checks them, but the whole file is never held in memory at once.
+     * If there is no file but there are shards, the shards are read as a whole and then passed on in chunks.
+     */
+    @Override
+    public boolean readAddressBook(Consumer<List<Person>> chunkConsumer, int chunkSize) throws DataLoadingException {
+        requireNonNull(chunkConsumer);
+        checkArgument(chunkSize > 0);
+
+        if (!Files.exists(filePath)) {
+            return AddressBookStorage.super.readAddressBook(chunkConsumer, chunkSize);
+        }
+        logger.info("Streaming address book from " + filePath);
+        ObjectReader personReader = JsonUtil.getReader().forType(JsonAdaptedPerson.class);
+        try (InputStream in = FileUtil.newDecompressingInputStream(filePath);
+                JsonParser parser = personReader.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && PERSONS_FIELD.equals(fieldName)) {
+                    readPersons(parser, personReader, chunkConsumer, chunkSize);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return true;
+    }
+
+    /**
+     * Reads the persons in the array that {@code parser} is at the start of, and passes them to
+     * {@code chunkConsumer} in chunks of at most {@code chunkSize} persons.
+     */
+    private static void readPersons(JsonParser parser, ObjectReader personReader,
+            Consumer<List<Person>> chunkConsumer, int chunkSize) throws IOException, IllegalValueException {
+        Set<Name> names = new HashSet<>();
+        List<Person> chunk = new ArrayList<>(chunkSize);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedPerson jsonAdaptedPerson = personReader.readValue(parser);
+            Person person = jsonAdaptedPerson.toModelType();
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            chunk.add(person);
+            if (chunk.size() == chunkSize) {
+                chunkConsumer.accept(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(chunk);
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +189,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Any shards stored for {@code filePath} are deleted once the file has been written.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +197,136 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        lastSaveSize = savePersons(addressBook.getPersonList(), filePath);
+        ShardedJsonAddressBookStorage.deleteShards(filePath);
+    }
+
+    @Override
+    public long getLastSaveSize() {
+        return lastSaveSize;
+    }
+
+    /**
+     * Writes {@code persons} to the single file at {@code filePath} in the same JSON form as an address book.
+     *
+     * @return the number of bytes written.
+     */
+    long savePersons(List<Person> persons, Path filePath) throws IOException {
+        return writePersons(persons, null, filePath, fragmentCache::getFragment);
+    }
+
+    /**
+     * Writes {@code persons} to the shard file at {@code filePath} in the form of a {@link JsonShard}, followed by
+     * the position of each of them in the whole address book.
+     *
+     * @return the number of bytes written.
+     */
+    long saveShard(List<Person> persons, List<Long> positions, Path filePath) throws IOException {
+        checkArgument(persons.size() == positions.size());
+        return writePersons(persons, positions, filePath, fragmentCache::getFragment);
+    }
+
+    /**
+     * Saves {@code persons} to the single file at {@code filePath}, encoding each person as it is taken from
+     * {@code persons}, so that only one person at a time has to be kept in memory.
+     * The encodings are not cached, as the persons are not expected to be saved again.
+     * Any shards stored for {@code filePath} are deleted once the file has been written.
+     */
+    @Override
+    public void saveAddressBook(Iterable<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
+        ObjectWriter writer = JsonUtil.getCompactWriter();
+        writePersons(persons, null, filePath, person -> writer.writeValueAsBytes(new JsonAdaptedPerson(person)));
+        ShardedJsonAddressBookStorage.deleteShards(filePath);
+    }
+
+    /**
+     * Writes {@code persons}, and their {@code positions} unless they are null, to the file at {@code filePath}, and
+     * returns the number of bytes written.
+     */
+    private long writePersons(Iterable<Person> persons, List<Long> positions, Path filePath, PersonEncoding encoding)
+            throws IOException {
+        return FileUtil.writeToFileAtomically(filePath, compressionLevel, out -> {
+            if (isPrettyPrinted) {
+                writePrettyPersons(persons, positions, out);
+            } else {
+                writeCompactPersons(persons, positions, out, encoding);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code persons} in the same JSON form as {@link JsonSerializableAddressBook}, one person per line,
+     * taking the encoding of each person from {@code encoding}, e.g. the fragment cache, so that only persons that
+     * changed since the last save are encoded again. The {@code positions}, unless they are null, are written on
+     * one line after the persons.
+     */
+    private static void writeCompactPersons(Iterable<Person> persons, List<Long> positions, OutputStream out,
+                                            PersonEncoding encoding) throws IOException {
+        out.write(DOCUMENT_START);
+        boolean isFirst = true;
+        for (Person person : persons) {
+            if (!isFirst) {
+                out.write(PERSON_SEPARATOR);
+            }
+            out.write(encoding.encode(person));
+            isFirst = false;
+        }
+        if (positions == null) {
+            out.write(DOCUMENT_END);
+            return;
+        }
+
+        out.write(POSITIONS_START);
+        StringBuilder positionList = new StringBuilder();
+        for (Long position : positions) {
+            if (positionList.length() > 0) {
+                positionList.append(',');
+            }
+            positionList.append(position);
+        }
+        out.write(positionList.toString().getBytes(StandardCharsets.UTF_8));
+        out.write(POSITIONS_END);
+    }
+
+    /**
+     * Writes {@code persons} as indented JSON, streaming one person at a time through a single generator.
+     * The indentation comes from the generator, as a pretty printing writer would restart it for every person.
+     */
+    private static void writePrettyPersons(Iterable<Person> persons, List<Long> positions, OutputStream out)
+            throws IOException {
+        ObjectWriter writer = JsonUtil.getCompactWriter().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = writer.getFactory().createGenerator(out)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                writer.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            if (positions != null) {
+                generator.writeArrayFieldStart(JsonShard.POSITIONS_FIELD);
+                for (Long position : positions) {
+                    generator.writeNumber(position);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Gives the compact JSON encoding of a person.
+     */
+    @FunctionalInterface
+    private interface PersonEncoding {
+        byte[] encode(Person person) throws IOException;
+    }
+
+    JsonPersonFragmentCache getFragmentCache() {
+        return fragmentCache;
     }
 
 }
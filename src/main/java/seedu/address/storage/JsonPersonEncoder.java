@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Encodes persons as compact JSON in the same format as the data file, for readers outside of the app such as
+ * scripts. The encoding of each person is cached, so that persons that did not change are only encoded once.
+ * Instances are safe to use from several threads.
+ */
+public class JsonPersonEncoder {
+
+    private static final byte[] ARRAY_START = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_END = "]".getBytes(StandardCharsets.UTF_8);
+
+    private final JsonPersonFragmentCache fragmentCache = new JsonPersonFragmentCache();
+
+    /**
+     * Returns the JSON encoding of {@code person}.
+     */
+    public byte[] encode(Person person) throws JsonProcessingException {
+        requireNonNull(person);
+        return fragmentCache.getFragment(person).clone();
+    }
+
+    /**
+     * Returns the JSON encoding of {@code persons} as an array.
+     */
+    public byte[] encode(List<Person> persons) throws JsonProcessingException {
+        requireNonNull(persons);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(ARRAY_START);
+        for (int i = 0; i < persons.size(); i++) {
+            if (i > 0) {
+                out.writeBytes(ARRAY_SEPARATOR);
+            }
+            out.writeBytes(fragmentCache.getFragment(persons.get(i)));
+        }
+        out.writeBytes(ARRAY_END);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the JSON encoding of the history of {@code person}, as an array of days in chronological order, each
+     * with the activities logged on that day.
+     */
+    public byte[] encodeTimeline(Person person) throws JsonProcessingException {
+        requireNonNull(person);
+        List<JsonAdaptedHistoryEntry> entries = person.getHistory().getHistoryEntries().entrySet().stream()
+                .map(entry -> new JsonAdaptedHistoryEntry(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        return JsonUtil.getCompactWriter().writeValueAsBytes(entries);
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Caches the compact JSON encoding of each {@code Person}, so that saving an address book only has to encode the
+ * persons that changed since the last save and can copy the bytes of the others straight into the file.
+ * <p>
+ * Persons are immutable, so an encoding stays valid for as long as its person exists. Entries are keyed on the
+ * person instance rather than on {@link Person#equals}, which ignores some fields such as the history, and only
+ * hold weak references to their persons, so that the encodings of persons that were edited or deleted are dropped
+ * once the persons are garbage collected.
+ */
+class JsonPersonFragmentCache {
+
+    private final ObjectWriter writer = JsonUtil.getCompactWriter();
+    private final Map<IdentityKey, byte[]> fragments = new HashMap<>();
+    private final ReferenceQueue<Person> collectedPersons = new ReferenceQueue<>();
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Returns the compact JSON encoding of {@code person}, encoding it only if it is not cached yet.
+     * The returned array must not be modified.
+     */
+    synchronized byte[] getFragment(Person person) throws JsonProcessingException {
+        requireNonNull(person);
+        removeCollectedPersons();
+
+        IdentityKey key = new IdentityKey(person, null);
+        byte[] fragment = fragments.get(key);
+        if (fragment != null) {
+            hitCount++;
+            return fragment;
+        }
+
+        missCount++;
+        fragment = writer.writeValueAsBytes(new JsonAdaptedPerson(person));
+        fragments.put(new IdentityKey(person, collectedPersons), fragment);
+        return fragment;
+    }
+
+    synchronized int size() {
+        removeCollectedPersons();
+        return fragments.size();
+    }
+
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    synchronized long getMissCount() {
+        return missCount;
+    }
+
+    private void removeCollectedPersons() {
+        Reference<? extends Person> collected;
+        while ((collected = collectedPersons.poll()) != null) {
+            fragments.remove(collected);
+        }
+    }
+
+    /**
+     * A weak reference to a person that is equal only to references to the same person instance.
+     * A key that has been cleared is only equal to itself, so that it can still be removed from the map.
+     */
+    private static class IdentityKey extends WeakReference<Person> {
+        private final int hash;
+
+        IdentityKey(Person person, ReferenceQueue<Person> queue) {
+            super(person, queue);
+            hash = System.identityHashCode(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            Person person = get();
+            return person != null && person == ((IdentityKey) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
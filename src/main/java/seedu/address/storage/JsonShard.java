@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one shard of an address book stored by {@link ShardedJsonAddressBookStorage}.
+ * Besides its persons, a shard holds the position of each of them in the whole address book, so that the order of
+ * the persons can be restored without a list of all persons that would have to be rewritten on every change.
+ * Shards written before positions were kept have none, and their persons are put after all the others.
+ */
+class JsonShard {
+
+    public static final String POSITIONS_FIELD = "positions";
+    public static final String MESSAGE_POSITION_COUNT_MISMATCH = "Shard must have one position for each person!";
+
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<Long> positions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShard} with the given persons and their positions.
+     */
+    @JsonCreator
+    public JsonShard(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                     @JsonProperty(POSITIONS_FIELD) List<Long> positions) {
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (positions != null) {
+            this.positions.addAll(positions);
+        }
+    }
+
+    /**
+     * Converts the persons of this shard into the model's {@code Person} objects, in the order they are stored.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Person> toModelPersons() throws IllegalValueException {
+        if (!positions.isEmpty() && positions.size() != persons.size()) {
+            throw new IllegalValueException(MESSAGE_POSITION_COUNT_MISMATCH);
+        }
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson person : persons) {
+            modelPersons.add(person.toModelType());
+        }
+        return modelPersons;
+    }
+
+    /**
+     * Returns the positions of the persons, which is empty for shards written before positions were kept.
+     */
+    public List<Long> getPositions() {
+        return positions;
+    }
+}
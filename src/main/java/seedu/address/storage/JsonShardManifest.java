@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly description of an address book that is stored in several shard files.
+ * It only records how many shards there are and the format they are stored in, so it stays the same size however
+ * many persons there are. The order of the persons is kept in the shards themselves, see {@link JsonShard}.
+ */
+class JsonShardManifest {
+
+    /** The format in which each shard holds the positions of its persons. */
+    public static final int FORMAT_VERSION = 2;
+
+    public static final String MESSAGE_INVALID_SHARD_COUNT = "Manifest's shard count must be positive!";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT_VERSION =
+            "Shards were saved by a newer version of the app (format version %1$d)";
+
+    private final int shardCount;
+    private final int formatVersion;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given shard count and format version.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("shardCount") int shardCount,
+                             @JsonProperty("formatVersion") int formatVersion) {
+        this.shardCount = shardCount;
+        this.formatVersion = formatVersion;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    /**
+     * Checks that this manifest describes a usable shard layout.
+     *
+     * @throws IllegalValueException if the shard count is not positive, or the format is newer than this version
+     *     of the app can read.
+     */
+    public void validate() throws IllegalValueException {
+        if (shardCount <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_SHARD_COUNT);
+        }
+        if (formatVersion > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_FORMAT_VERSION, formatVersion));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JsonShardManifest)) {
+            return false;
+        }
+
+        JsonShardManifest otherManifest = (JsonShardManifest) other;
+        return shardCount == otherManifest.shardCount
+                && formatVersion == otherManifest.formatVersion;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(shardCount, formatVersion);
+    }
+}
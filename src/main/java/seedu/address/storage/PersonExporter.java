@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Streams persons to a CSV or JSON-lines file, one person at a time, through a buffered writer.
+ * No document holding all the persons is ever built in memory.
+ */
+public class PersonExporter {
+
+    /** The columns of an exported CSV file, in a form that the import command can read back. */
+    public static final String CSV_HEADER = "name,phone,email,address,birthday,remark,tags";
+
+    private static final int PROGRESS_INTERVAL = 1_000;
+
+    /**
+     * The file formats that persons can be exported to.
+     */
+    public enum Format {
+        CSV, JSON_LINES
+    }
+
+    private final Format format;
+
+    public PersonExporter(Format format) {
+        this.format = requireNonNull(format);
+    }
+
+    /**
+     * Writes {@code persons} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @param progressListener is told the fraction of persons written so far.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void export(List<Person> persons, Path filePath, DoubleConsumer progressListener) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+        requireNonNull(progressListener);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            switch (format) {
+            case CSV:
+                writeCsv(persons, writer, progressListener);
+                break;
+            case JSON_LINES:
+                writeJsonLines(persons, writer, progressListener);
+                break;
+            default:
+                throw new AssertionError("Unknown export format: " + format);
+            }
+        }
+        progressListener.accept(1);
+    }
+
+    private void writeCsv(List<Person> persons, BufferedWriter writer, DoubleConsumer progressListener)
+            throws IOException {
+        writer.write(CSV_HEADER);
+        writer.newLine();
+        for (int i = 0; i < persons.size(); i++) {
+            writer.write(toCsvLine(persons.get(i)));
+            writer.newLine();
+            reportProgress(i + 1, persons.size(), progressListener);
+        }
+    }
+
+    /**
+     * Writes each person as one compact JSON object per line, in the same form as in the address book file.
+     * A single generator is reused for every line.
+     */
+    private void writeJsonLines(List<Person> persons, Writer writer, DoubleConsumer progressListener)
+            throws IOException {
+        ObjectWriter objectWriter = JsonUtil.getCompactWriter()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectWriter.getFactory().createGenerator(writer)) {
+            generator.setRootValueSeparator(null);
+            for (int i = 0; i < persons.size(); i++) {
+                objectWriter.writeValue(generator, new JsonAdaptedPerson(persons.get(i)));
+                generator.writeRaw('\n');
+                reportProgress(i + 1, persons.size(), progressListener);
+            }
+        }
+    }
+
+    private static String toCsvLine(Person person) {
+        String tags = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.joining(";"));
+        return String.join(",",
+                CsvUtil.toField(person.getName().fullName),
+                CsvUtil.toField(person.getPhone().value),
+                CsvUtil.toField(person.getEmail().value),
+                CsvUtil.toField(person.getAddress().value),
+                CsvUtil.toField(person.getBirthday().toString()),
+                CsvUtil.toField(person.getRemark().value),
+                CsvUtil.toField(tags));
+    }
+
+    private static void reportProgress(int written, int total, DoubleConsumer progressListener) {
+        if (written % PROGRESS_INTERVAL == 0) {
+            progressListener.accept((double) written / total);
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as several json shard files on the hard disk.
+ * <p>
+ * Each person is stored in one of the shards, picked by a stable hash of its name, so that saving only has to
+ * rewrite the shards whose persons changed since the last save. Each shard also records the position of each of its
+ * persons in the whole address book. Positions are spaced apart, so that a person can be added or moved by giving only
+ * that person a new position between its neighbours, instead of renumbering everyone. A manifest only records the
+ * number of shards and the format they are stored in. For an address book file {@code data/addressbook.json}, the
+ * shards and the manifest are kept in the folder {@code data/addressbook.json.shards}.
+ * <p>
+ * If there are no shards yet, the address book is read from the single file instead, and is moved into shards by the
+ * first save. {@link JsonAddressBookStorage} does the reverse.
+ */
+public class ShardedJsonAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_SHARD_COUNT_CONSTRAINTS = "Shard count should be positive";
+    public static final String MESSAGE_MISSING_SHARD = "Shard %1$s listed by the manifest is missing";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedJsonAddressBookStorage.class);
+
+    private static final String SHARD_FOLDER_SUFFIX = ".shards";
+    private static final String SHARD_FILE_NAME_FORMAT = "shard-%03d.json";
+    private static final Pattern SHARD_FILE_NAME_PATTERN = Pattern.compile("shard-(?<index>\\d+)\\.json");
+    // The gap left between the positions of neighbouring persons when they are numbered afresh.
+    private static final long POSITION_SPACING = 1L << 20;
+    private static final long NO_POSITION = Long.MAX_VALUE;
+
+    private final Path filePath;
+    private final int shardCount;
+    private final JsonAddressBookStorage fileStorage;
+
+    // What the shards on disk hold, as last read or saved, so that unchanged shards are not rewritten.
+    private Path savedFilePath;
+    private JsonShardManifest savedManifest;
+    private List<Shard> savedShards;
+    private Map<String, Long> savedPositions;
+    private volatile long lastSaveSize;
+
+    /**
+     * Creates a storage for the address book at {@code filePath} that is saved in {@code shardCount} shards.
+     * Each shard is saved as indented JSON if {@code isPrettyPrinted} is true, and compressed at
+     * {@code compressionLevel}, in the same way as by {@link JsonAddressBookStorage}.
+     */
+    public ShardedJsonAddressBookStorage(Path filePath, int shardCount, boolean isPrettyPrinted,
+                                         int compressionLevel) {
+        this(filePath, shardCount, new JsonAddressBookStorage(filePath, isPrettyPrinted, compressionLevel));
+    }
+
+    /**
+     * Creates a storage for the address book at {@code filePath} that is saved in {@code shardCount} shards,
+     * each of which is read and written by {@code fileStorage}.
+     */
+    ShardedJsonAddressBookStorage(Path filePath, int shardCount, JsonAddressBookStorage fileStorage) {
+        checkArgument(shardCount > 0, MESSAGE_SHARD_COUNT_CONSTRAINTS);
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+        this.fileStorage = fileStorage;
+    }
+
+    /**
+     * Returns the folder that holds the shards of the address book file at {@code filePath}.
+     */
+    public static Path getShardFolder(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_FOLDER_SUFFIX);
+    }
+
+    /**
+     * Returns true if the address book file at {@code filePath} has been stored in shards.
+     */
+    public static boolean hasShards(Path filePath) {
+        return Files.exists(getShardFolder(filePath).resolve(MANIFEST_FILE_NAME));
+    }
+
+    /**
+     * Deletes the shards of the address book file at {@code filePath}, if there are any.
+     * The manifest is deleted first, so the shards are never read again even if deleting them fails midway.
+     */
+    public static void deleteShards(Path filePath) throws IOException {
+        Path shardFolder = getShardFolder(filePath);
+        if (!Files.isDirectory(shardFolder)) {
+            return;
+        }
+
+        Files.deleteIfExists(shardFolder.resolve(MANIFEST_FILE_NAME));
+        for (Path shardFile : listShardFiles(shardFolder)) {
+            Files.delete(shardFile);
+        }
+        try (Stream<Path> remainingFiles = Files.list(shardFolder)) {
+            if (remainingFiles.findAny().isEmpty()) {
+                Files.delete(shardFolder);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the shard that {@code person} is stored in, out of {@code shardCount} shards.
+     * {@link String#hashCode()} is fully specified, so a person stays in the same shard across runs of the app.
+     */
+    static int getShardIndex(Person person, int shardCount) {
+        return Math.floorMod(person.getName().fullName.hashCode(), shardCount);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The shards are read in parallel. If there are no shards for {@code filePath}, the single address book file is
+     * read instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed, or a shard listed by the manifest is
+     *     missing, as the folder is then damaged or only partly copied.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!hasShards(filePath)) {
+            return fileStorage.readAddressBookFile(filePath);
+        }
+
+        Path shardFolder = getShardFolder(filePath);
+        JsonShardManifest manifest = JsonUtil.readJsonFile(shardFolder.resolve(MANIFEST_FILE_NAME),
+                JsonShardManifest.class).orElseThrow(() -> new DataLoadingException(
+                        new IOException("Manifest disappeared from " + shardFolder)));
+        try {
+            manifest.validate();
+        } catch (IllegalValueException ive) {
+            throw new DataLoadingException(ive);
+        }
+
+        List<Shard> shards = readShards(shardFolder, manifest.getShardCount());
+        List<Person> persons = orderPersons(shards);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(persons);
+
+        savedFilePath = filePath;
+        savedManifest = manifest;
+        savedShards = shards;
+        savedPositions = toPositionMap(shards);
+        logger.log(Level.INFO, "Read {0} persons from {1} shards in {2}",
+                new Object[]{persons.size(), shards.size(), shardFolder});
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the shards in parallel. Every shard is written whenever the number of shards changes, so a shard file
+     * that is missing means some of the persons are missing too.
+     */
+    private List<Shard> readShards(Path shardFolder, int count) throws DataLoadingException {
+        try {
+            return IntStream.range(0, count)
+                    .parallel()
+                    .mapToObj(index -> readShard(shardFolder.resolve(getShardFileName(index))))
+                    .collect(Collectors.toList());
+        } catch (UncheckedDataLoadingException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Shard readShard(Path shardFile) {
+        try {
+            Optional<JsonShard> jsonShard = JsonUtil.readJsonFile(shardFile, JsonShard.class);
+            if (jsonShard.isEmpty()) {
+                throw new UncheckedDataLoadingException(new DataLoadingException(
+                        new IOException(String.format(MESSAGE_MISSING_SHARD, shardFile))));
+            }
+            return new Shard(jsonShard.get().toModelPersons(), jsonShard.get().getPositions());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardFile + ": " + ive.getMessage());
+            throw new UncheckedDataLoadingException(new DataLoadingException(ive));
+        } catch (DataLoadingException e) {
+            throw new UncheckedDataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the persons in all {@code shards} in the order of their positions.
+     * Persons without a position, from shards saved before positions were kept, are put at the end.
+     *
+     * @throws DataLoadingException if two shards hold the same person.
+     */
+    private static List<Person> orderPersons(List<Shard> shards) throws DataLoadingException {
+        Set<String> names = new HashSet<>();
+        List<Person> persons = new ArrayList<>();
+        List<Long> positions = new ArrayList<>();
+        for (Shard shard : shards) {
+            for (int i = 0; i < shard.persons().size(); i++) {
+                Person person = shard.persons().get(i);
+                if (!names.add(person.getName().fullName)) {
+                    throw new DataLoadingException(
+                            new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+                }
+                persons.add(person);
+                positions.add(shard.positions().isEmpty() ? NO_POSITION : shard.positions().get(i));
+            }
+        }
+
+        // a stable sort, so that persons without a position keep the order of their shards
+        return IntStream.range(0, persons.size())
+                .boxed()
+                .sorted(Comparator.comparing(positions::get))
+                .map(persons::get)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the shards whose persons or positions changed since they were last read or saved are rewritten, and the
+     * manifest is only rewritten if the number of shards or their format changed. The single address book file at
+     * {@code filePath}, if there is one, is deleted once all the shards have been written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        boolean isSavedLayout = filePath.equals(savedFilePath) && savedManifest.getShardCount() == shardCount
+                && hasShards(filePath);
+        List<Long> positions = assignPositions(persons, isSavedLayout ? savedPositions : Map.of());
+        List<Shard> shards = toShards(persons, positions, shardCount);
+        JsonShardManifest manifest = new JsonShardManifest(shardCount, JsonShardManifest.FORMAT_VERSION);
+
+        Path shardFolder = getShardFolder(filePath);
+        Files.createDirectories(shardFolder);
+        int rewrittenCount = 0;
+        long savedSize = 0;
+        for (int i = 0; i < shardCount; i++) {
+            Shard shard = shards.get(i);
+            if (!isSavedLayout || !savedShards.get(i).isSameAs(shard)) {
+                savedSize += fileStorage.saveShard(shard.persons(), shard.positions(),
+                        shardFolder.resolve(getShardFileName(i)));
+                rewrittenCount++;
+            }
+        }
+        if (!isSavedLayout || !manifest.equals(savedManifest)) {
+            Path manifestFile = shardFolder.resolve(MANIFEST_FILE_NAME);
+            JsonUtil.saveJsonFile(manifest, manifestFile);
+            savedSize += Files.size(manifestFile);
+        }
+        if (!isSavedLayout) {
+            deleteShardFilesFrom(shardFolder, shardCount);
+            Files.deleteIfExists(filePath);
+        }
+
+        savedFilePath = filePath;
+        savedManifest = manifest;
+        savedShards = shards;
+        savedPositions = toPositionMap(shards);
+        lastSaveSize = savedSize;
+        logger.log(Level.FINE, "Rewrote {0} of {1} shards", new Object[]{rewrittenCount, shardCount});
+    }
+
+    @Override
+    public long getLastSaveSize() {
+        return lastSaveSize;
+    }
+
+    /**
+     * Returns the positions to save {@code persons} at, in order, reusing their {@code savedPositions} where that
+     * keeps the positions increasing.
+     * The largest set of persons whose saved positions are still in increasing order keep them, and every other
+     * person gets a position spread evenly between those of its kept neighbours. So a person that is added, moved or
+     * renamed is usually the only one whose position changes. Only when there is no room left between two
+     * neighbours is everyone numbered afresh.
+     */
+    static List<Long> assignPositions(List<Person> persons, Map<String, Long> savedPositions) {
+        boolean[] isKept = findLongestIncreasingRun(persons, savedPositions);
+        Long[] positions = new Long[persons.size()];
+        long previousPosition = 0;
+        int i = 0;
+        while (i < persons.size()) {
+            if (isKept[i]) {
+                previousPosition = savedPositions.get(persons.get(i).getName().fullName);
+                positions[i++] = previousPosition;
+                continue;
+            }
+
+            int end = i;
+            while (end < persons.size() && !isKept[end]) {
+                end++;
+            }
+            long gapCount = end - i + 1L;
+            long nextPosition = end < persons.size()
+                    ? savedPositions.get(persons.get(end).getName().fullName)
+                    : previousPosition + gapCount * POSITION_SPACING;
+            long step = (nextPosition - previousPosition) / gapCount;
+            if (step < 1) {
+                return renumberPositions(persons.size());
+            }
+            for (int j = i; j < end; j++) {
+                positions[j] = previousPosition + step * (j - i + 1);
+            }
+            i = end;
+        }
+        return Arrays.asList(positions);
+    }
+
+    /**
+     * Marks the largest set of persons, not necessarily next to each other, whose saved positions are increasing in
+     * the order of {@code persons}. Takes O(n log n) time.
+     */
+    private static boolean[] findLongestIncreasingRun(List<Person> persons, Map<String, Long> savedPositions) {
+        int[] previousInRun = new int[persons.size()];
+        // runEnds[k] is the last person of the run of length k + 1 that ends at the smallest position
+        int[] runEnds = new int[persons.size()];
+        long[] runEndPositions = new long[persons.size()];
+        int longestRun = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            Long position = savedPositions.get(persons.get(i).getName().fullName);
+            if (position == null) {
+                continue;
+            }
+            int length = Arrays.binarySearch(runEndPositions, 0, longestRun, position);
+            if (length < 0) {
+                length = -length - 1;
+            }
+            previousInRun[i] = length > 0 ? runEnds[length - 1] : -1;
+            runEnds[length] = i;
+            runEndPositions[length] = position;
+            longestRun = Math.max(longestRun, length + 1);
+        }
+
+        boolean[] isKept = new boolean[persons.size()];
+        for (int i = longestRun > 0 ? runEnds[longestRun - 1] : -1; i >= 0; i = previousInRun[i]) {
+            isKept[i] = true;
+        }
+        return isKept;
+    }
+
+    private static List<Long> renumberPositions(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(index -> index * POSITION_SPACING)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Shard> toShards(List<Person> persons, List<Long> positions, int count) {
+        List<Shard> shards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            shards.add(new Shard(new ArrayList<>(), new ArrayList<>()));
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            Shard shard = shards.get(getShardIndex(persons.get(i), count));
+            shard.persons().add(persons.get(i));
+            shard.positions().add(positions.get(i));
+        }
+        return shards;
+    }
+
+    private static Map<String, Long> toPositionMap(List<Shard> shards) {
+        Map<String, Long> positions = new HashMap<>();
+        for (Shard shard : shards) {
+            for (int i = 0; i < shard.positions().size(); i++) {
+                positions.put(shard.persons().get(i).getName().fullName, shard.positions().get(i));
+            }
+        }
+        return positions;
+    }
+
+    private static String getShardFileName(int index) {
+        return String.format(SHARD_FILE_NAME_FORMAT, index);
+    }
+
+    /**
+     * Deletes the shard files in {@code shardFolder} whose index is {@code firstIndex} or more, which are left over
+     * from a layout with more shards.
+     */
+    private static void deleteShardFilesFrom(Path shardFolder, int firstIndex) throws IOException {
+        for (Path shardFile : listShardFiles(shardFolder)) {
+            Matcher matcher = SHARD_FILE_NAME_PATTERN.matcher(shardFile.getFileName().toString());
+            if (matcher.matches() && Integer.parseInt(matcher.group("index")) >= firstIndex) {
+                Files.delete(shardFile);
+            }
+        }
+    }
+
+    private static List<Path> listShardFiles(Path shardFolder) throws IOException {
+        try (Stream<Path> files = Files.list(shardFolder)) {
+            return files.filter(file -> SHARD_FILE_NAME_PATTERN.matcher(file.getFileName().toString()).matches())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * The persons stored in one shard, and their positions in the whole address book.
+     * The positions are empty for a shard saved before positions were kept.
+     */
+    private record Shard(List<Person> persons, List<Long> positions) {
+        /**
+         * Returns true if this shard holds the same person instances as {@code other}, in the same order and at the
+         * same positions. Persons are immutable, so such a shard does not need to be written again.
+         */
+        boolean isSameAs(Shard other) {
+            if (persons.size() != other.persons.size() || !positions.equals(other.positions)) {
+                return false;
+            }
+            for (int i = 0; i < persons.size(); i++) {
+                if (persons.get(i) != other.persons.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Carries a {@code DataLoadingException} out of a stream operation.
+     */
+    private static class UncheckedDataLoadingException extends RuntimeException {
+        UncheckedDataLoadingException(DataLoadingException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized DataLoadingException getCause() {
+            return (DataLoadingException) super.getCause();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,45 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns a new storage for the address book at {@code filePath}, which stores it the same way as the current
+     * address book is stored.
+     */
+    AddressBookStorage createAddressBookStorage(Path filePath);
+
+    /**
+     * Returns true if an address book is being written to {@code filePath} in the background, e.g. a generated one,
+     * so that it cannot be switched to yet.
+     */
+    boolean isAddressBookBeingWritten(Path filePath);
+
+    /**
+     * Stores the address book with {@code addressBookStorage} from now on, e.g. after switching to another address
+     * book. If the address book's files are being watched, the watch moves to the files of the new storage.
+     *
+     * @throws IOException if the new files cannot be watched.
+     */
+    void setAddressBookStorage(AddressBookStorage addressBookStorage) throws IOException;
+
+    /**
+     * Saves {@code addressBook}, which is no longer in use, to {@code filePath} for the last time.
+     * The save is skipped if the files at {@code filePath} were changed by another program since this storage last
+     * saved them, so that those changes are not lost.
+     */
+    void flushAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+     * Starts watching the address book's files for changes made by other programs, replacing any previous watch.
+     * When the files change, the address book is read again and passed to {@code listener} on a background thread.
+     * Saves made through this storage do not notify {@code listener}.
+     *
+     * @throws IOException if the files cannot be watched.
+     */
+    void watchAddressBook(Consumer<ReadOnlyAddressBook> listener) throws IOException;
+
+    /**
+     * Stops watching the address book's files. Does nothing if they are not being watched.
+     */
+    void stopWatchingAddressBook();
+
 }
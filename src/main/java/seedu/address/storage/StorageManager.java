@@ -1,15 +1,28 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,13 +32,30 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final Function<Path, AddressBookStorage> addressBookStorageFactory;
+    private AddressBookFileWatcher addressBookWatcher;
+    private Consumer<ReadOnlyAddressBook> externalChangeListener;
+    /** Fingerprints of the address book files as this storage last saved or switched to them, by file path. */
+    private final Map<Path, Map<Path, List<Object>>> knownFingerprints = new HashMap<>();
+    /** Files that {@link #saveAddressBook(Iterable, Path)} is writing address books to. */
+    private final Set<Path> filesBeingWritten = new HashSet<>();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, JsonAddressBookStorage::new);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage} that
+     * uses {@code addressBookStorageFactory} to create the storages of other address books.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          Function<Path, AddressBookStorage> addressBookStorageFactory) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookStorageFactory = addressBookStorageFactory;
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,15 +94,151 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public boolean readAddressBook(Consumer<List<Person>> chunkConsumer, int chunkSize) throws DataLoadingException {
+        logger.fine("Attempting to stream data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBook(chunkConsumer, chunkSize);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.log(Level.FINE, "Attempting to write to data file: {0}", filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        // our own save must not be mistaken for an external change
+        knownFingerprints.put(filePath, AddressBookFileWatcher.fingerprint(filePath));
+    }
+
+    /**
+     * Saves {@code persons} as an address book at {@code filePath}, which must not be the current address book, with
+     * a storage from {@link #createAddressBookStorage(Path)}, so that it is stored in the same way as the current one.
+     * The lock is not held while the persons are written, so that the current address book can still be saved.
+     * If the address book at {@code filePath} was switched to meanwhile anyway, the write is left to be noticed as an
+     * external change, so that its persons are read into the model instead of being overwritten by its next save.
+     */
+    @Override
+    public void saveAddressBook(Iterable<Person> persons, Path filePath) throws IOException {
+        logger.log(Level.FINE, "Attempting to stream to data file: {0}", filePath);
+        synchronized (this) {
+            filesBeingWritten.add(filePath);
+        }
+        try {
+            createAddressBookStorage(filePath).saveAddressBook(persons, filePath);
+        } finally {
+            synchronized (this) {
+                filesBeingWritten.remove(filePath);
+            }
+        }
+        synchronized (this) {
+            if (!filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+                knownFingerprints.put(filePath, AddressBookFileWatcher.fingerprint(filePath));
+            }
+        }
+    }
+
+    @Override
+    public synchronized boolean isAddressBookBeingWritten(Path filePath) {
+        requireNonNull(filePath);
+        return filesBeingWritten.contains(filePath);
+    }
+
+    @Override
+    public long getLastSaveSize() {
+        return addressBookStorage.getLastSaveSize();
+    }
+
+    @Override
+    public AddressBookStorage createAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        return addressBookStorageFactory.apply(filePath);
+    }
+
+    @Override
+    public synchronized void setAddressBookStorage(AddressBookStorage addressBookStorage) throws IOException {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        logger.info("Using data file : " + getAddressBookFilePath());
+        if (addressBookWatcher == null) {
+            return;
+        }
+
+        Consumer<ReadOnlyAddressBook> listener = externalChangeListener;
+        watchAddressBook(listener);
+        // catches up with changes made while the address book was not being watched
+        handleAddressBookFilesChanged();
+    }
+
+    @Override
+    public synchronized void flushAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+        Map<Path, List<Object>> knownFingerprint = knownFingerprints.remove(filePath);
+        if (knownFingerprint != null && !knownFingerprint.equals(AddressBookFileWatcher.fingerprint(filePath))) {
+            logger.warning("Not flushing " + filePath + " as it was changed externally since it was last saved");
+            return;
+        }
+        logger.log(Level.FINE, "Flushing data file: {0}", filePath);
+        createAddressBookStorage(filePath).saveAddressBook(addressBook);
+    }
+
+    @Override
+    public synchronized void watchAddressBook(Consumer<ReadOnlyAddressBook> listener) throws IOException {
+        requireNonNull(listener);
+        stopWatchingAddressBook();
+        externalChangeListener = listener;
+        Path filePath = getAddressBookFilePath();
+        if (!knownFingerprints.containsKey(filePath)) {
+            knownFingerprints.put(filePath, AddressBookFileWatcher.fingerprint(filePath));
+        }
+        addressBookWatcher = new AddressBookFileWatcher(filePath, this::handleAddressBookFilesChanged);
+        addressBookWatcher.start();
+        logger.info("Watching data file for external changes: " + filePath);
+    }
+
+    @Override
+    public synchronized void stopWatchingAddressBook() {
+        if (addressBookWatcher == null) {
+            return;
+        }
+        try {
+            addressBookWatcher.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching data file: " + StringUtil.getDetails(e));
+        }
+        addressBookWatcher = null;
+        externalChangeListener = null;
+    }
+
+    /**
+     * Reads the address book again and passes it to the external change listener, unless the files are exactly
+     * as this storage last saved or read them.
+     * Runs on the watcher's thread; holding the lock keeps a save of our own from interleaving with the read.
+     */
+    synchronized void handleAddressBookFilesChanged() {
+        if (externalChangeListener == null) {
+            return;
+        }
+        try {
+            Path filePath = getAddressBookFilePath();
+            Map<Path, List<Object>> fingerprint = AddressBookFileWatcher.fingerprint(filePath);
+            if (fingerprint.equals(knownFingerprints.get(filePath))) {
+                return;
+            }
+            knownFingerprints.put(filePath, fingerprint);
+            Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+            if (addressBook.isEmpty()) {
+                logger.info("Data file was removed externally, keeping the data in memory");
+                return;
+            }
+            logger.info("Data file was changed externally, reloading it");
+            externalChangeListener.accept(addressBook.get());
+        } catch (IOException | DataLoadingException e) {
+            // the file may be half written by another program, a complete write triggers another change
+            logger.warning("Unable to read externally changed data file: " + StringUtil.getDetails(e));
+        }
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.address.ui;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -18,18 +20,46 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
+    private final CommandCompleter commandCompleter;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code CommandPreviewer} and
+     * {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer,
+            CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandPreviewer = commandPreviewer;
+        this.commandCompleter = commandCompleter;
+        // calls #setStyleToDefault() and previews the command whenever the text of the command box changes.
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> {
+            setStyleToDefault();
+            commandPreviewer.preview(text);
+        });
+        // Tab completes the command instead of moving the focus out of the command box
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleCommandCompleted();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Handles the Tab button pressed event.
+     */
+    private void handleCommandCompleted() {
+        String commandText = commandTextField.getText();
+        String completedText = commandCompleter.complete(commandText);
+        if (!completedText.equals(commandText)) {
+            commandTextField.setText(completedText);
+        }
+        commandTextField.end();
     }
 
     /**
@@ -83,4 +113,28 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that previews commands as they are typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the command as typed so far. Must return without waiting for the preview.
+         */
+        void preview(String commandText);
+    }
+
+    /**
+     * Represents a function that completes commands as they are typed.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the command as typed so far with its last word completed.
+         *
+         * @see seedu.address.logic.Logic#completeCommand(String)
+         */
+        String complete(String commandText);
+    }
+
 }
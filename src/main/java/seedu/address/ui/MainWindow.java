@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,10 +18,12 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundWork;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.NoWindowException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.preview.SearchPreviewer;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -24,6 +31,12 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading the address book...";
+    public static final String MESSAGE_COMMAND_QUEUED =
+            "The address book is still loading. \"%1$s\" will be executed once it has loaded.";
+    public static final String MESSAGE_LOAD_FAILED =
+            "The address book could not be loaded, so commands cannot be executed. Restart the app to try again.\n%1$s";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -34,7 +47,14 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
+    private SearchPreviewer searchPreviewer;
+
+    // commands entered while the address book is loading, in the order they were entered
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
+    // details of why the address book could not finish loading, or null if it has not failed
+    private String loadFailure;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -111,16 +131,17 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic::getSectionHeader);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        searchPreviewer = new SearchPreviewer(logic, Platform::runLater);
+        CommandBox commandBox = new CommandBox(this::executeCommand, searchPreviewer::preview, logic::completeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -174,10 +195,25 @@ public class MainWindow extends UiPart<Stage> {
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        searchPreviewer.cancel();
+        if (loadFailure != null) {
+            String feedback = String.format(MESSAGE_LOAD_FAILED, loadFailure);
+            resultDisplay.setFeedbackToUser(feedback);
+            throw new CommandException(feedback);
+        }
+        if (logic.isLoading()) {
+            queuedCommands.add(commandText);
+            String feedback = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            logger.log(Level.INFO, "Queued while loading: {0}", commandText);
+            resultDisplay.setFeedbackToUser(feedback);
+            return new CommandResult(feedback);
+        }
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            logger.log(Level.INFO, "Result: {0}", commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            statusBarFooter.setSaveLocation(logic.getAddressBookFilePath());
+            commandResult.getBackgroundWork().ifPresent(this::runInBackground);
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -189,20 +225,91 @@ public class MainWindow extends UiPart<Stage> {
 
             return commandResult;
         } catch (NoWindowException | CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
+            logger.log(Level.INFO, "An error occurred while executing command: {0}", commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
     }
 
+    /**
+     * Runs {@code work} on a background thread while showing its progress, then shows its result.
+     */
+    private void runInBackground(BackgroundWork work) {
+        Task<String> task = new Task<>() {
+            @Override
+            protected String call() throws Exception {
+                return work.run(progress -> updateProgress(progress, 1));
+            }
+        };
+        task.setOnSucceeded(event -> {
+            resultDisplay.hideProgress();
+            String result;
+            try {
+                result = work.finish(task.getValue());
+            } catch (CommandException e) {
+                logger.log(Level.WARNING, "Background work could not be finished", e);
+                result = e.getMessage();
+            }
+            logger.log(Level.INFO, "Background result: {0}", result);
+            resultDisplay.setFeedbackToUser(result);
+            statusBarFooter.setSaveLocation(logic.getAddressBookFilePath());
+        });
+        task.setOnFailed(event -> {
+            resultDisplay.hideProgress();
+            logger.log(Level.WARNING, "Background work failed", task.getException());
+            resultDisplay.setFeedbackToUser(task.getException().getMessage());
+        });
+        resultDisplay.showProgress(task.progressProperty());
+
+        Thread thread = new Thread(task, "background-work");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     /**
      * Displays pre-decided messages when the application starts up.
      */
     public void showMessagesAtStartUp() {
+        if (logic.isLoading()) {
+            // upcoming birthdays are shown once the address book has loaded
+            resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+            resultDisplay.showIndeterminateProgress();
+            return;
+        }
         //Show upcoming birthdays on startup
         showUpcomingBirthdaysOnStartup();
     }
 
+    /**
+     * Shows {@code birthdayReminder} now that the address book has loaded, then executes the commands that were
+     * entered while it was loading, in order.
+     */
+    void handleAddressBookLoaded(String birthdayReminder) {
+        resultDisplay.hideProgress();
+        if (!birthdayReminder.isEmpty()) {
+            resultDisplay.setFeedbackToUser(birthdayReminder);
+        }
+        while (!queuedCommands.isEmpty()) {
+            String commandText = queuedCommands.remove();
+            try {
+                executeCommand(commandText);
+            } catch (NoWindowException | CommandException | ParseException e) {
+                // already shown to the user by executeCommand
+            }
+        }
+    }
+
+    /**
+     * Shows that the address book could not finish loading because of {@code details}, and drops the commands that
+     * were entered while it was loading, as they cannot be executed.
+     */
+    void handleAddressBookLoadFailed(String details) {
+        loadFailure = details;
+        resultDisplay.hideProgress();
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOAD_FAILED, details));
+        queuedCommands.clear();
+    }
+
     private void showUpcomingBirthdaysOnStartup() {
         String personsWithUpcomingBirthdays = logic.getPersonsWithUpcomingBirthdays();
         if (!personsWithUpcomingBirthdays.isEmpty()) {
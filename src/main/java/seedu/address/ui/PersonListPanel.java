@@ -1,12 +1,16 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+import java.util.function.IntFunction;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 
@@ -15,22 +19,27 @@ import seedu.address.model.person.Person;
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
+    private static final String SECTION_HEADER_STYLE_CLASS = "section_header";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
+    private final IntFunction<Optional<String>> sectionHeaders;
 
     @FXML
     private ListView<Person> personListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, showing above the person at each
+     * index the section header given by {@code sectionHeaders}, if any.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, IntFunction<Optional<String>> sectionHeaders) {
         super(FXML);
+        this.sectionHeaders = sectionHeaders;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard},
+     * below the header of the section it starts, if any.
      */
     class PersonListViewCell extends ListCell<Person> {
         @Override
@@ -41,7 +50,15 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                Region card = new PersonCard(person, getIndex() + 1).getRoot();
+                Optional<String> sectionHeader = sectionHeaders.apply(getIndex());
+                if (sectionHeader.isEmpty()) {
+                    setGraphic(card);
+                    return;
+                }
+                Label header = new Label(sectionHeader.get());
+                header.getStyleClass().add(SECTION_HEADER_STYLE_CLASS);
+                setGraphic(new VBox(header, card));
             }
         }
     }
@@ -2,7 +2,9 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
 
@@ -16,6 +18,9 @@ public class ResultDisplay extends UiPart<Region> {
     @FXML
     private TextArea resultDisplay;
 
+    @FXML
+    private ProgressBar progressBar;
+
     public ResultDisplay() {
         super(FXML);
     }
@@ -25,4 +30,34 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows a progress bar that follows {@code progress} until {@link #hideProgress()} is called.
+     */
+    public void showProgress(ReadOnlyDoubleProperty progress) {
+        requireNonNull(progress);
+        progressBar.progressProperty().bind(progress);
+        progressBar.setManaged(true);
+        progressBar.setVisible(true);
+    }
+
+    /**
+     * Shows a progress bar that moves back and forth, for work whose progress is not known, until
+     * {@link #hideProgress()} is called.
+     */
+    public void showIndeterminateProgress() {
+        progressBar.progressProperty().unbind();
+        progressBar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+        progressBar.setManaged(true);
+        progressBar.setVisible(true);
+    }
+
+    /**
+     * Hides the progress bar.
+     */
+    public void hideProgress() {
+        progressBar.progressProperty().unbind();
+        progressBar.setVisible(false);
+        progressBar.setManaged(false);
+    }
+
 }
@@ -10,4 +10,16 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows that the address book has finished loading, with {@code birthdayReminder}, and executes the commands
+     * entered while it was loading.
+     */
+    void showAddressBookLoaded(String birthdayReminder);
+
+    /**
+     * Shows that the address book could not finish loading because of {@code details}, and drops the commands
+     * entered while it was loading.
+     */
+    void showAddressBookLoadFailed(String details);
+
 }
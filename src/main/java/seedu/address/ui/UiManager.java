@@ -51,6 +51,16 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showAddressBookLoaded(String birthdayReminder) {
+        mainWindow.handleAddressBookLoaded(birthdayReminder);
+    }
+
+    @Override
+    public void showAddressBookLoadFailed(String details) {
+        mainWindow.handleAddressBookLoadFailed(details);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
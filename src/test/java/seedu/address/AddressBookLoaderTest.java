@@ -0,0 +1,139 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class AddressBookLoaderTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    private final ModelManager model = new ModelManager();
+    // stands in for the JavaFX application thread
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+
+    @Test
+    public void constructor_invalidChunkSize_throwsIllegalArgumentException() {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertThrows(IllegalArgumentException.class, () ->
+                new AddressBookLoader(storage, model, uiTasks::add, Runnable::run, 0));
+    }
+
+    @Test
+    public void start_savedAddressBook_loadsPersonsInChunksThroughUiExecutor() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(addressBook);
+
+        CompletableFuture<String> loaded = new AddressBookLoader(storage, model, uiTasks::add, Runnable::run, 3)
+                .start();
+        assertTrue(model.isLoading());
+
+        // the model only changes when the ui thread runs the tasks, one chunk at a time
+        int chunkCount = 0;
+        while (!loaded.isDone()) {
+            Runnable task = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            int sizeBefore = model.getAddressBook().getPersonList().size();
+            task.run();
+            if (model.getAddressBook().getPersonList().size() > sizeBefore) {
+                chunkCount++;
+            }
+        }
+        assertEquals(3, chunkCount);
+        assertEquals(ModelManager.getPersonsWithUpcomingBirthdays(addressBook.getPersonList()), loaded.get());
+        assertFalse(model.isLoading());
+        assertEquals(addressBook, model.getAddressBook());
+        assertEquals(addressBook.getPersonList().size(), model.getTagIndex().size());
+        assertTrue(model.getCompletionIndex().getNames().contains("alice pauline"));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void start_missingFile_loadsSampleAddressBook() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        load(storage);
+        assertEquals(SampleDataUtil.getSampleAddressBook(), model.getAddressBook());
+        assertEquals(model.getAddressBook().getPersonList().size(), model.getTagIndex().size());
+    }
+
+    @Test
+    public void start_invalidFile_loadsEmptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        // the second person is a duplicate, found only after the first chunk was passed on
+        String json = Files.readString(filePath);
+        String alice = json.substring(json.indexOf('\n') + 1, json.lastIndexOf('\n', json.length() - 2));
+        Files.writeString(filePath, "{\"persons\":[" + alice + "," + alice + "]}");
+        load(storage);
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertEquals(0, model.getTagIndex().size());
+    }
+
+    @Test
+    public void start_personsAddedAfterLoading_areIndexed() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(new AddressBook());
+        load(storage);
+
+        model.addPersons(List.copyOf(addressBook.getPersonList()));
+        assertEquals(addressBook.getPersonList().size(), model.getTagIndex().size());
+    }
+
+    @Test
+    public void start_workerExecutorRejectsWork_finishesLoadingOnUiThread() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(addressBook);
+        Executor rejectingExecutor = task -> {
+            throw new RejectedExecutionException();
+        };
+
+        String birthdayReminder = load(storage, rejectingExecutor);
+        assertEquals(ModelManager.getPersonsWithUpcomingBirthdays(addressBook.getPersonList()), birthdayReminder);
+        assertEquals(addressBook, model.getAddressBook());
+        assertEquals(addressBook.getPersonList().size(), model.getTagIndex().size());
+        assertTrue(model.getCompletionIndex().getNames().contains("alice pauline"));
+    }
+
+    private void load(JsonAddressBookStorage storage) throws Exception {
+        load(storage, Runnable::run);
+    }
+
+    private String load(JsonAddressBookStorage storage, Executor workerExecutor) throws Exception {
+        CompletableFuture<String> loaded = new AddressBookLoader(storage, model, uiTasks::add, workerExecutor, 1)
+                .start();
+        while (!loaded.isDone()) {
+            uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS).run();
+        }
+        String birthdayReminder = loaded.get();
+        assertFalse(model.isLoading());
+        return birthdayReminder;
+    }
+}
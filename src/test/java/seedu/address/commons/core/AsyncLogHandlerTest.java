@@ -0,0 +1,110 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void publish_blockPolicy_writesAllRecordsInOrder() {
+        RecordingHandler recordingHandler = new RecordingHandler(null);
+        AsyncLogHandler handler = new AsyncLogHandler(2, OverflowPolicy.BLOCK, List.of(recordingHandler));
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, recordingHandler.messages.size());
+        assertEquals("message 0", recordingHandler.messages.get(0));
+        assertEquals("message 99", recordingHandler.messages.get(99));
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void publish_dropPolicyWithFullBuffer_dropsRecords() throws Exception {
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        RecordingHandler recordingHandler = new RecordingHandler(writerBlocked);
+        AsyncLogHandler handler = new AsyncLogHandler(1, OverflowPolicy.DROP, List.of(recordingHandler));
+
+        // the writer thread holds on to the first record, so the buffer only has space for one more
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        recordingHandler.awaitFirstRecord();
+        handler.publish(new LogRecord(Level.INFO, "second"));
+        handler.publish(new LogRecord(Level.INFO, "third"));
+        assertEquals(1, handler.getDroppedCount());
+
+        writerBlocked.countDown();
+        handler.flush();
+        assertEquals(List.of("first", "second"), recordingHandler.messages);
+        handler.close();
+    }
+
+    @Test
+    public void publish_parameterizedRecord_sourceWorkedOutOnLoggingThread() {
+        RecordingHandler recordingHandler = new RecordingHandler(null);
+        AsyncLogHandler handler = new AsyncLogHandler(4, OverflowPolicy.BLOCK, List.of(recordingHandler));
+
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.log(Level.INFO, "value {0}", 42);
+        handler.close();
+
+        assertTrue(recordingHandler.sourceClassNames.contains(AsyncLogHandlerTest.class.getName()));
+    }
+
+    /**
+     * A handler that remembers the records it receives, optionally waiting on a latch after the first record.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> sourceClassNames = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch releaseLatch;
+        private final CountDownLatch firstRecordLatch = new CountDownLatch(1);
+
+        RecordingHandler(CountDownLatch releaseLatch) {
+            this.releaseLatch = releaseLatch;
+        }
+
+        void awaitFirstRecord() throws InterruptedException {
+            firstRecordLatch.await();
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            sourceClassNames.add(record.getSourceClassName());
+            firstRecordLatch.countDown();
+            if (releaseLatch != null) {
+                try {
+                    releaseLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
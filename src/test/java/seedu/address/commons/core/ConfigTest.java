@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", logOverflowPolicy=" + config.getLogOverflowPolicy()
+                + ", prettyPrintJson=" + config.isPrettyPrintJson()
+                + ", dataCompressionLevel=" + config.getDataCompressionLevel()
+                + ", dataShardCount=" + config.getDataShardCount()
+                + ", apiServerPort=" + config.getApiServerPort() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,103 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+public class DateServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Singapore");
+
+    /**
+     * A clock that is moved by hand, and counts how often it is read.
+     */
+    private static class ManualClock extends Clock {
+        private Instant instant;
+        private int readCount;
+
+        ManualClock(LocalDateTime dateTime) {
+            instant = dateTime.atZone(ZONE).toInstant();
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            readCount++;
+            return instant;
+        }
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DateService(null));
+    }
+
+    @Test
+    public void today_fixedClock_returnsDateInZone() {
+        Instant instant = LocalDateTime.of(2024, 3, 15, 23, 30).atZone(ZONE).toInstant();
+        assertEquals(LocalDate.of(2024, 3, 15), new DateService(Clock.fixed(instant, ZONE)).today());
+        // it is already the next day east of Singapore
+        assertEquals(LocalDate.of(2024, 3, 16),
+                new DateService(Clock.fixed(instant, ZoneId.of("Pacific/Auckland"))).today());
+    }
+
+    @Test
+    public void today_sameDay_returnsCachedDate() {
+        ManualClock clock = new ManualClock(LocalDateTime.of(2024, 3, 15, 9, 0));
+        DateService dateService = new DateService(clock);
+        LocalDate today = dateService.today();
+
+        clock.advance(Duration.ofHours(14));
+        assertSame(today, dateService.today());
+        assertEquals(2, clock.readCount);
+    }
+
+    @Test
+    public void today_pastMidnight_rollsOver() {
+        ManualClock clock = new ManualClock(LocalDateTime.of(2024, 2, 28, 23, 59, 59));
+        DateService dateService = new DateService(clock);
+        assertEquals(LocalDate.of(2024, 2, 28), dateService.today());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(LocalDate.of(2024, 2, 29), dateService.today());
+
+        // the clock is set back
+        clock.advance(Duration.ofDays(-2));
+        assertEquals(LocalDate.of(2024, 2, 27), dateService.today());
+    }
+
+    @Test
+    public void setDefault_dateService_returnedByGetDefault() {
+        DateService original = DateService.getDefault();
+        try {
+            DateService dateService = new DateService(Clock.fixed(Instant.EPOCH, ZONE));
+            DateService.setDefault(dateService);
+            assertSame(dateService, DateService.getDefault());
+            assertEquals(LocalDate.of(1970, 1, 1), DateService.getDefault().today());
+        } finally {
+            DateService.setDefault(original);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_nullLine_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitLine(null));
+    }
+
+    @Test
+    public void splitLine_validLines_correctFields() {
+        assertEquals(List.of("a", "b", ""), CsvUtil.splitLine("a,b,"));
+        assertEquals(List.of("a, b", "c"), CsvUtil.splitLine("\"a, b\",c"));
+        assertEquals(List.of("say \"hi\""), CsvUtil.splitLine("\"say \"\"hi\"\"\""));
+        assertEquals(List.of(""), CsvUtil.splitLine(""));
+    }
+
+    @Test
+    public void hasOpenQuote() {
+        assertFalse(CsvUtil.hasOpenQuote("a,b"));
+        assertTrue(CsvUtil.hasOpenQuote("a,\"b"));
+        assertTrue(CsvUtil.hasOpenQuote("a,\"say \"\"hi\"\""));
+        assertFalse(CsvUtil.hasOpenQuote("a,\"say \"\"hi\"\"\""));
+        assertFalse(CsvUtil.hasOpenQuote(CsvUtil.toField("two\nlines")));
+    }
+
+    @Test
+    public void toField_roundTrip() {
+        String[] values = {"plain", "a, b", "say \"hi\"", "two\nlines", ""};
+        for (String value : values) {
+            assertEquals(List.of(value), CsvUtil.splitLine(CsvUtil.toField(value)));
+        }
+        assertEquals("plain", CsvUtil.toField("plain"));
+    }
+}
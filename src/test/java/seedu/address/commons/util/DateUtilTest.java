@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DateUtilTest {
+
+    @Test
+    public void parseIsoDate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DateUtil.parseIsoDate(null));
+    }
+
+    @Test
+    public void parseIsoDate_validDates_matchesLocalDateParse() {
+        assertEquals(LocalDate.of(2024, 2, 29), DateUtil.parseIsoDate("2024-02-29"));
+        assertEquals(LocalDate.of(2000, 12, 31), DateUtil.parseIsoDate("2000-12-31"));
+        assertEquals(LocalDate.of(0, 1, 1), DateUtil.parseIsoDate("0000-01-01"));
+        // longer years are left to the formatter
+        assertEquals(LocalDate.parse("+12345-01-01"), DateUtil.parseIsoDate("+12345-01-01"));
+    }
+
+    @Test
+    public void parseIsoDate_invalidDates_throwsDateTimeParseException() {
+        for (String invalidDate : new String[] {"", "2024-02-30", "2023-02-29", "2024-13-01", "2024-00-10",
+            "2024-01-00", "2024-1-01", "2024/01/01", "20a4-01-01", "2024-01-01 ", "2024-01-1x", "２０２４-01-01"}) {
+            assertThrows(DateTimeParseException.class, () -> DateUtil.parseIsoDate(invalidDate));
+        }
+    }
+
+    @Test
+    public void parseIsoDate_sameDate_returnsSameInstance() {
+        LocalDate date = DateUtil.parseIsoDate("2024-03-15");
+        assertSame(date, DateUtil.parseIsoDate(new String("2024-03-15".toCharArray())));
+    }
+
+    @Test
+    public void parseIsoDate_randomText_matchesLocalDateParse() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            String text = String.format("%04d-%02d-%02d", random.nextInt(10_000), random.nextInt(14),
+                    random.nextInt(33));
+            LocalDate expected;
+            try {
+                expected = LocalDate.parse(text);
+            } catch (DateTimeParseException e) {
+                assertThrows(DateTimeParseException.class, () -> DateUtil.parseIsoDate(text));
+                continue;
+            }
+            assertEquals(expected, DateUtil.parseIsoDate(text));
+        }
+    }
+}
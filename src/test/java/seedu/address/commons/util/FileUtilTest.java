@@ -1,13 +1,29 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +36,82 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_newFile_writesContent() throws Exception {
+        Path file = testFolder.resolve("new").resolve("file.txt");
+        long size = FileUtil.writeToFileAtomically(file, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertEquals(Files.size(file), size);
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_keepsPermissions() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        if (Files.getFileAttributeView(file, PosixFileAttributeView.class) == null) {
+            // the file system has no POSIX permissions to keep, e.g. on Windows
+            return;
+        }
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+        FileUtil.writeToFileAtomically(file, 6, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_keepsOldContent() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("write failed");
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_compressed_readsBackDecompressed() throws Exception {
+        Path file = testFolder.resolve("file.txt.gz");
+        String content = "repetitive content ".repeat(100);
+        long size = FileUtil.writeToFileAtomically(file, 6,
+                out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals(bytes.length, size);
+        assertEquals((byte) 0x1f, bytes[0]);
+        assertEquals((byte) 0x8b, bytes[1]);
+        assertTrue(bytes.length < content.length());
+        try (InputStream in = FileUtil.newDecompressingInputStream(file)) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void newDecompressingInputStream_uncompressedFile_readsAsIs() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "plain");
+        try (InputStream in = FileUtil.newDecompressingInputStream(file)) {
+            assertEquals("plain", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> FileUtil.writeToFileAtomically(
+                testFolder.resolve("file.txt"), FileUtil.MAX_COMPRESSION + 1, out -> {}));
+    }
+
 }
@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_list_hasSameElements() {
+        assertTrue(PersistentList.copyOf(List.of()).isEmpty());
+        assertEquals(List.of(1, 2, 3), PersistentList.copyOf(List.of(1, 2, 3)));
+
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void plusWithMinus_randomChanges_matchArrayList() {
+        Random random = new Random(37);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void plus_earlierVersion_unchanged() {
+        PersistentList<String> first = PersistentList.<String>empty().plus("a").plus("b");
+        PersistentList<String> second = first.plus(1, "c").minus(0);
+
+        assertEquals(List.of("a", "b"), first);
+        assertEquals(List.of("c", "b"), second);
+    }
+
+    @Test
+    public void mutators_invalidIndexOrListMethods_throwException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class RoaringBitmapTest {
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RoaringBitmap().add(-1));
+    }
+
+    @Test
+    public void addRemoveContains() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        assertTrue(bitmap.isEmpty());
+
+        assertTrue(bitmap.add(5));
+        assertFalse(bitmap.add(5));
+        assertTrue(bitmap.add(70_000));
+        assertTrue(bitmap.contains(5));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(6));
+        assertFalse(bitmap.contains(-5));
+        assertEquals(2, bitmap.getCardinality());
+
+        assertTrue(bitmap.remove(5));
+        assertFalse(bitmap.remove(5));
+        assertFalse(bitmap.remove(-5));
+        assertArrayEquals(new int[] {70_000}, bitmap.toArray());
+    }
+
+    @Test
+    public void add_denseChunk_convertsBetweenContainers() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        int count = RoaringBitmap.ARRAY_CONTAINER_MAX_SIZE * 2;
+        for (int i = 0; i < count; i++) {
+            bitmap.add(i * 3);
+        }
+        assertEquals(count, bitmap.getCardinality());
+        assertTrue(bitmap.contains(3 * (count - 1)));
+        assertFalse(bitmap.contains(1));
+
+        for (int i = 0; i < count; i++) {
+            bitmap.remove(i * 3);
+        }
+        assertTrue(bitmap.isEmpty());
+        assertArrayEquals(new int[0], bitmap.toArray());
+    }
+
+    @Test
+    public void setOperations_matchSortedSets() {
+        Random random = new Random(1);
+        // sparse and dense chunks, spread over several chunks
+        for (int bound : new int[] {1_000, 50_000, 300_000}) {
+            RoaringBitmap first = new RoaringBitmap();
+            RoaringBitmap second = new RoaringBitmap();
+            TreeSet<Integer> firstSet = new TreeSet<>();
+            TreeSet<Integer> secondSet = new TreeSet<>();
+            for (int i = 0; i < 40_000; i++) {
+                int value = random.nextInt(bound);
+                first.add(value);
+                firstSet.add(value);
+                value = random.nextInt(bound / 2) * 2;
+                second.add(value);
+                secondSet.add(value);
+            }
+
+            TreeSet<Integer> expected = new TreeSet<>(firstSet);
+            expected.retainAll(secondSet);
+            assertArrayEquals(toArray(expected), RoaringBitmap.and(first, second).toArray());
+            assertEquals(expected.size(), RoaringBitmap.andCardinality(first, second));
+
+            expected = new TreeSet<>(firstSet);
+            expected.addAll(secondSet);
+            assertArrayEquals(toArray(expected), RoaringBitmap.or(first, second).toArray());
+
+            expected = new TreeSet<>(firstSet);
+            expected.removeAll(secondSet);
+            assertArrayEquals(toArray(expected), RoaringBitmap.andNot(first, second).toArray());
+            assertEquals(expected.size(), RoaringBitmap.andNot(first, second).getCardinality());
+
+            // the operands are left unchanged
+            assertArrayEquals(toArray(firstSet), first.toArray());
+            assertArrayEquals(toArray(secondSet), second.toArray());
+        }
+    }
+
+    @Test
+    public void copy_changesIndependently() {
+        RoaringBitmap bitmap = RoaringBitmap.of(1, 2, 3);
+        RoaringBitmap copy = bitmap.copy();
+        copy.add(4);
+        copy.remove(1);
+
+        assertArrayEquals(new int[] {1, 2, 3}, bitmap.toArray());
+        assertArrayEquals(new int[] {2, 3, 4}, copy.toArray());
+    }
+
+    @Test
+    public void equals() {
+        RoaringBitmap bitmap = RoaringBitmap.of(1, 100_000);
+
+        assertTrue(bitmap.equals(RoaringBitmap.of(100_000, 1)));
+        assertEquals(bitmap.hashCode(), RoaringBitmap.of(100_000, 1).hashCode());
+        assertTrue(bitmap.equals(bitmap));
+        assertFalse(bitmap.equals(RoaringBitmap.of(1)));
+        assertFalse(bitmap.equals(null));
+    }
+
+    private static int[] toArray(TreeSet<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
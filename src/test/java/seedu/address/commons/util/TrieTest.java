@@ -0,0 +1,141 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class TrieTest {
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Trie().add(null));
+    }
+
+    @Test
+    public void getCompletions_prefixes_returnsMatchingStringsInOrder() {
+        Trie trie = new Trie();
+        List.of("Benson Meier", "Alice Pauline", "Alex Yeoh", "Bernice Yu", "Al").forEach(trie::add);
+
+        assertEquals(List.of("Al", "Alex Yeoh", "Alice Pauline"), trie.getCompletions("al", 10));
+        assertEquals(List.of("Alex Yeoh"), trie.getCompletions("ALE", 10));
+        assertEquals(List.of("Bernice Yu"), trie.getCompletions("Ber", 10));
+        assertEquals(List.of("Benson Meier", "Bernice Yu"), trie.getCompletions("Be", 10));
+        assertEquals(List.of(), trie.getCompletions("Carl", 10));
+        assertEquals(List.of(), trie.getCompletions("Alice Paulines", 10));
+        assertEquals(5, trie.getCompletions("", 10).size());
+    }
+
+    @Test
+    public void getCompletions_limit_returnsFirstStrings() {
+        Trie trie = new Trie();
+        List.of("buyer", "business", "bulk", "bus").forEach(trie::add);
+        assertEquals(List.of("bulk", "bus"), trie.getCompletions("bu", 2));
+    }
+
+    @Test
+    public void getCommonPrefix_strings_returnsLongestSharedStart() {
+        Trie trie = new Trie();
+        List.of("Alice Pauline", "Alice Paul", "Alex Yeoh").forEach(trie::add);
+
+        assertEquals(Optional.of("al"), trie.getCommonPrefix("a"));
+        assertEquals(Optional.of("alice paul"), trie.getCommonPrefix("ali"));
+        assertEquals(Optional.of("alex yeoh"), trie.getCommonPrefix("ALE"));
+        assertEquals(Optional.empty(), trie.getCommonPrefix("b"));
+        assertEquals(Optional.empty(), new Trie().getCommonPrefix(""));
+    }
+
+    @Test
+    public void add_differentCase_keepsFirstCase() {
+        Trie trie = new Trie();
+        trie.add("Buyer");
+        trie.add("buyer");
+        assertEquals(1, trie.size());
+        assertEquals(List.of("Buyer"), trie.getCompletions("b", 10));
+        assertTrue(trie.contains("BUYER"));
+    }
+
+    @Test
+    public void remove_addedTwice_keptUntilRemovedTwice() {
+        Trie trie = new Trie();
+        trie.add("friends");
+        trie.add("friends");
+        trie.add("friendly");
+
+        assertTrue(trie.remove("friends"));
+        assertTrue(trie.contains("friends"));
+        assertTrue(trie.remove("friends"));
+        assertFalse(trie.contains("friends"));
+        assertFalse(trie.remove("friends"));
+        assertEquals(List.of("friendly"), trie.getCompletions("fri", 10));
+        assertEquals(Optional.of("friendly"), trie.getCommonPrefix("f"));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void remove_notAdded_returnsFalse() {
+        Trie trie = new Trie();
+        trie.add("friends");
+        assertFalse(trie.remove("friend"));
+        assertFalse(trie.remove("friendship"));
+        assertFalse(trie.remove(""));
+        assertTrue(trie.contains("friends"));
+    }
+
+    @Test
+    public void randomChanges_matchesSortedMap() {
+        Random random = new Random(7);
+        String[] syllables = {"a", "an", "ben", "be", "son", "li", "lim", "x"};
+        Trie trie = new Trie();
+        // counts of the strings kept, by lower-case form
+        TreeMap<String, Integer> expected = new TreeMap<>();
+        List<String> added = new ArrayList<>();
+
+        for (int step = 0; step < 3000; step++) {
+            if (added.isEmpty() || random.nextInt(3) > 0) {
+                StringBuilder value = new StringBuilder();
+                for (int i = random.nextInt(4); i >= 0; i--) {
+                    value.append(syllables[random.nextInt(syllables.length)]);
+                }
+                trie.add(value.toString());
+                expected.merge(value.toString(), 1, Integer::sum);
+                added.add(value.toString());
+            } else {
+                String value = added.remove(random.nextInt(added.size()));
+                assertTrue(trie.remove(value));
+                expected.compute(value, (unused, count) -> count == 1 ? null : count - 1);
+            }
+
+            String prefix = syllables[random.nextInt(syllables.length)].toUpperCase(Locale.ROOT);
+            List<String> expectedCompletions = expected.keySet().stream()
+                    .filter(value -> value.startsWith(prefix.toLowerCase(Locale.ROOT)))
+                    .collect(Collectors.toList());
+            assertEquals(expectedCompletions, trie.getCompletions(prefix, Integer.MAX_VALUE));
+            assertEquals(getCommonPrefix(expectedCompletions), trie.getCommonPrefix(prefix));
+            assertEquals(expected.size(), trie.size());
+        }
+    }
+
+    private static Optional<String> getCommonPrefix(List<String> values) {
+        if (values.isEmpty()) {
+            return Optional.empty();
+        }
+        String first = values.get(0);
+        String last = values.get(values.size() - 1);
+        int length = 0;
+        while (length < Math.min(first.length(), last.length()) && first.charAt(length) == last.charAt(length)) {
+            length++;
+        }
+        return Optional.of(first.substring(0, length));
+    }
+}
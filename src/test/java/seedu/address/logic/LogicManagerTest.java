@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,6 +10,7 @@ import static seedu.address.logic.commands.CommandTestUtil.BIRTHDAY_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOG;
 import static seedu.address.model.person.Birthday.BIRTHDAY_REMINDER_EMPTY;
 import static seedu.address.model.person.Birthday.BIRTHDAY_REMINDER_HEADER;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -20,16 +23,26 @@ import static seedu.address.testutil.TypicalPersons.CARL;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BackgroundWork;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.GenerateCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LogCommand;
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandStatistics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -39,6 +52,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedJsonAddressBookStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -92,6 +106,121 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commands_recordsMetrics() throws Exception {
+        CommandMetrics metrics = new CommandMetrics(false);
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("metricsAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), metrics);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        CommandStatistics listStatistics = metrics.getStatistics(ListCommand.COMMAND_WORD);
+        assertEquals(1, listStatistics.getCount());
+        assertEquals(0, listStatistics.getFailureCount());
+        assertTrue(listStatistics.getBytesWritten().getMax() > 0);
+        assertEquals(1, metrics.getStatistics("delete").getFailureCount());
+        assertEquals(1, metrics.getModelStatistics().getUnparsedCommandCount());
+    }
+
+    @Test
+    public void execute_logTwiceOnSameDateThenUndo_restoresModelAndFile() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        model.setAddressBookFilePath(filePath);
+        model.addPerson(ALICE);
+
+        int activityCount = ALICE.getHistory().getActivityCount();
+        logic.execute(LogCommand.COMMAND_WORD + " 1 " + PREFIX_LOG + "first");
+        Person loggedOnce = model.getAddressBook().getPersonList().get(0);
+        logic.execute(LogCommand.COMMAND_WORD + " 1 " + PREFIX_LOG + "second");
+        // the person logged once must not have been changed by the second log on the same date
+        assertEquals(activityCount + 1, loggedOnce.getHistory().getActivityCount());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        Person undone = model.getAddressBook().getPersonList().get(0);
+        assertEquals(loggedOnce, undone);
+        assertEquals(activityCount + 1, undone.getHistory().getActivityCount());
+        Person saved = new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0);
+        assertEquals(undone.getHistory(), saved.getHistory());
+    }
+
+    @Test
+    public void execute_generateCommand_writesThroughStorageInBackground() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage,
+                filePath -> new ShardedJsonAddressBookStorage(filePath, 2, false, FileUtil.NO_COMPRESSION)));
+        model.setAddressBookFilePath(temporaryFolder.resolve("addressBook.json"));
+        Path generatedFilePath = temporaryFolder.resolve("generated-10-7.json");
+
+        CommandResult result = logic.execute(GenerateCommand.COMMAND_WORD + " 10 7");
+        BackgroundWork work = result.getBackgroundWork().get();
+        // the generated address book cannot be switched to while it is being written
+        String switchCommand = SwitchCommand.COMMAND_WORD + " generated-10-7";
+        work.finish(work.run(progress -> assertThrows(CommandException.class,
+                String.format(AddressBookSwitcher.MESSAGE_BEING_WRITTEN, generatedFilePath), () ->
+                        logic.execute(switchCommand))));
+
+        // the generated address book is stored like the other address books, here in shards
+        assertTrue(ShardedJsonAddressBookStorage.hasShards(generatedFilePath));
+        assertEquals(10, new JsonAddressBookStorage(generatedFilePath).readAddressBook().get()
+                .getPersonList().size());
+    }
+
+    @Test
+    public void execute_importCommand_savesPersonsAddedInBackgroundAsOneStep() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        Path csvFilePath = Paths.get("src", "test", "data", "ImportCommandTest", "validPersons.csv");
+        model.setAddressBookFilePath(filePath);
+
+        CommandResult result = logic.execute(ImportCommand.COMMAND_WORD + " " + csvFilePath);
+        BackgroundWork work = result.getBackgroundWork().get();
+        work.finish(work.run(progress -> {}));
+
+        int importedCount = model.getAddressBook().getPersonList().size();
+        assertTrue(importedCount > 0);
+        assertEquals(importedCount,
+                new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_switchCommand_loadsInBackgroundThenSwitchesBackInstantly() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        Path otherFilePath = temporaryFolder.resolve("other.json");
+        model.setAddressBookFilePath(filePath);
+        model.addPerson(BENSON);
+        new JsonAddressBookStorage(otherFilePath).saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+
+        // an address book that is not cached is read in the background, then switched to
+        CommandResult result = logic.execute(SwitchCommand.COMMAND_WORD + " other");
+        assertEquals(String.format(AddressBookSwitcher.MESSAGE_LOADING, otherFilePath), result.getFeedbackToUser());
+        BackgroundWork work = result.getBackgroundWork().get();
+        assertEquals(filePath, model.getAddressBookFilePath());
+        assertEquals(String.format(AddressBookSwitcher.MESSAGE_SWITCHED, otherFilePath, 1),
+                work.finish(work.run(progress -> {})));
+        assertEquals(otherFilePath, model.getAddressBookFilePath());
+        assertTrue(model.hasPerson(ALICE));
+        assertFalse(model.hasPerson(BENSON));
+
+        // the previous address book was cached, so switching back to it needs no background work
+        result = logic.execute(SwitchCommand.COMMAND_WORD + " addressBook");
+        assertFalse(result.getBackgroundWork().isPresent());
+        assertEquals(String.format(AddressBookSwitcher.MESSAGE_SWITCHED, filePath, 1), result.getFeedbackToUser());
+        assertEquals(filePath, model.getAddressBookFilePath());
+        assertTrue(model.hasPerson(BENSON));
+
+        // commands are saved to the address book that was switched to
+        logic.execute("delete 1");
+        assertEquals(0, new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -10,6 +10,9 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,9 +23,15 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.PersonSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.completion.CompletionIndex;
+import seedu.address.model.group.PersonGrouping;
+import seedu.address.model.market.MarketStatistics;
 import seedu.address.model.person.Person;
+import seedu.address.model.ranking.RankingIndex;
+import seedu.address.model.tag.TagIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -133,6 +142,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonSnapshot getPersonSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MarketStatistics getMarketStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RankingIndex getRankingIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TagIndex getTagIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompletionIndex getCompletionIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -148,6 +182,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int mergeAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasCachedAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Path, ReadOnlyAddressBook> switchToCachedAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Path, ReadOnlyAddressBook> switchAddressBook(Path filePath, ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -158,6 +212,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updatePersonGrouping(Optional<PersonGrouping> grouping) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> getSectionHeader(int index) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortPersonsDesc() {
             throw new AssertionError("This method should not be called.");
@@ -177,6 +241,41 @@ public class AddCommandTest {
         public String getPersonsWithUpcomingBirthdays() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public boolean isLoading() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
     /**
      * A Model stub that contains a single person.
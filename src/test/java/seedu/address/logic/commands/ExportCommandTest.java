@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesFilterPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.PersonExporter;
+import seedu.address.storage.PersonExporter.Format;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_csv_exportsDisplayedPersonsInBackground() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        int size = model.getFilteredPersonList().size();
+        CommandResult result = new ExportCommand(filePath, Format.CSV, Optional.empty()).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTING, size, filePath), result.getFeedbackToUser());
+        assertFalse(Files.exists(filePath));
+
+        List<Double> progress = new ArrayList<>();
+        String message = result.getBackgroundWork().get().run(progress::add);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, size, filePath), message);
+        assertEquals(Double.valueOf(1), progress.get(progress.size() - 1));
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertEquals(PersonExporter.CSV_HEADER, lines.get(0));
+        assertEquals(size + 1, lines.size());
+
+        // the exported file can be imported back
+        Model importModel = new ModelManager(new AddressBook(), new UserPrefs());
+        BackgroundWork importWork = new ImportCommand(filePath, ImportCommand.Format.CSV).execute(importModel)
+                .getBackgroundWork().get();
+        importWork.finish(importWork.run(unused -> {}));
+        assertEquals(size, importModel.getAddressBook().getPersonList().size());
+        Person importedAlice = importModel.getAddressBook().getPersonList().get(0);
+        assertTrue(importedAlice.isSamePerson(ALICE));
+        assertEquals(ALICE.getTags(), importedAlice.getTags());
+        assertEquals(ALICE.getBirthday(), importedAlice.getBirthday());
+    }
+
+    @Test
+    public void execute_csvWithLineBreaksInFields_importsBackSamePersons() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        Person alice = new PersonBuilder(ALICE).withRemark("Prefers \"quiet\" areas,\nonly on weekends\n\nCall first")
+                .build();
+        Model exportModel = new ModelManager(new AddressBookBuilder().withPerson(alice).withPerson(BENSON).build(),
+                new UserPrefs());
+        new ExportCommand(filePath, Format.CSV, Optional.empty()).execute(exportModel)
+                .getBackgroundWork().get().run(progress -> {});
+
+        Model importModel = new ModelManager(new AddressBook(), new UserPrefs());
+        BackgroundWork importWork = new ImportCommand(filePath, ImportCommand.Format.CSV).execute(importModel)
+                .getBackgroundWork().get();
+        importWork.finish(importWork.run(unused -> {}));
+        List<Person> imported = importModel.getAddressBook().getPersonList();
+        assertEquals(2, imported.size());
+        assertEquals(alice.getRemark(), imported.get(0).getRemark());
+        assertEquals(BENSON.getAddress(), imported.get(1).getAddress());
+    }
+
+    @Test
+    public void execute_filter_exportsMatchingPersonsOnly() throws Exception {
+        Path filePath = testFolder.resolve("persons.jsonl");
+        Predicate<Person> filter = new PersonMatchesFilterPredicate(Set.of(new Tag("friends")),
+                Optional.of("clementi"));
+        CommandResult result = new ExportCommand(filePath, Format.JSON_LINES, Optional.of(filter)).execute(model);
+        result.getBackgroundWork().get().run(progress -> {});
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"name\":\"" + ALICE.getName().fullName + "\""));
+    }
+
+    @Test
+    public void execute_unwritableFile_backgroundWorkThrowsCommandException() throws Exception {
+        CommandResult result = new ExportCommand(testFolder, Format.CSV, Optional.empty()).execute(model);
+        assertThrows(CommandException.class, () -> result.getBackgroundWork().get().run(progress -> {}));
+    }
+
+    @Test
+    public void equals() {
+        Path firstPath = testFolder.resolve("first.csv");
+        Path secondPath = testFolder.resolve("second.csv");
+        ExportCommand exportFirstCommand = new ExportCommand(firstPath, Format.CSV, Optional.empty());
+
+        // same object -> returns true
+        assertTrue(exportFirstCommand.equals(exportFirstCommand));
+
+        // same values -> returns true
+        assertTrue(exportFirstCommand.equals(new ExportCommand(firstPath, Format.CSV, Optional.empty())));
+
+        // different types -> returns false
+        assertFalse(exportFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportFirstCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(exportFirstCommand.equals(new ExportCommand(secondPath, Format.CSV, Optional.empty())));
+
+        // different format -> returns false
+        assertFalse(exportFirstCommand.equals(new ExportCommand(firstPath, Format.JSON_LINES, Optional.empty())));
+    }
+}
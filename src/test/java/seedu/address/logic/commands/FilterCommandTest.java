@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilterCommandTest {
+
+    private final Person amy = new PersonBuilder().withName("Amy").withTags("buyer", "favourite").build();
+    private final Person ben = new PersonBuilder().withName("Ben").withTags("seller", "archived").build();
+    private final Person cat = new PersonBuilder().withName("Cat").withTags("buyer").build();
+
+    private Model createModel() {
+        Model model = new ModelManager();
+        model.addPerson(amy);
+        model.addPerson(ben);
+        model.addPerson(cat);
+        return model;
+    }
+
+    @Test
+    public void execute_tags_listsMatchingPersonsWithTagCounts() {
+        Model model = createModel();
+        FilterCommand command = new FilterCommand(new PersonHasTagsPredicate(
+                List.of(Set.of(Tag.BUYER_TAG, Tag.SELLER_TAG)), Set.of(Tag.of("archived"))));
+
+        String feedback = command.execute(model).getFeedbackToUser();
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(FilterCommand.MESSAGE_TAG_COUNTS, "favourite (1), buyer (2)"), feedback);
+        assertEquals(List.of(amy, cat), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noMatches_listsNoPersons() {
+        Model model = createModel();
+        FilterCommand command = new FilterCommand(new PersonHasTagsPredicate(
+                List.of(Set.of(Tag.BUYER_TAG), Set.of(Tag.SELLER_TAG)), Set.of()));
+
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 0),
+                command.execute(model).getFeedbackToUser());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_personEditedAfterFilter_isListedIfItMatches() {
+        Model model = createModel();
+        new FilterCommand(new PersonHasTagsPredicate(List.of(Set.of(Tag.BUYER_TAG)), Set.of())).execute(model);
+
+        Person editedBen = new PersonBuilder(ben).withTags("buyer").build();
+        model.setPerson(ben, editedBen);
+        model.setPerson(cat, new PersonBuilder(cat).withTags("seller").build());
+        assertEquals(List.of(amy, editedBen), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        FilterCommand buyerCommand = new FilterCommand(
+                new PersonHasTagsPredicate(List.of(Set.of(Tag.BUYER_TAG)), Set.of()));
+
+        assertTrue(buyerCommand.equals(buyerCommand));
+        assertTrue(buyerCommand.equals(new FilterCommand(
+                new PersonHasTagsPredicate(List.of(Set.of(Tag.BUYER_TAG)), Set.of()))));
+        assertFalse(buyerCommand.equals(null));
+        assertFalse(buyerCommand.equals(new FilterCommand(
+                new PersonHasTagsPredicate(List.of(Set.of(Tag.SELLER_TAG)), Set.of()))));
+    }
+}
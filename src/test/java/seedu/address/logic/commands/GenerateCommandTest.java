@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.PersonGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class GenerateCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new GenerateCommand(0, 7));
+        assertThrows(IllegalArgumentException.class, () -> new GenerateCommand(GenerateCommand.MAX_COUNT + 1, 7));
+    }
+
+    @Test
+    public void execute_generatesSiblingBookInBackground() throws Exception {
+        model.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        Path filePath = testFolder.resolve("generated-250-7.json");
+        CommandResult result = new GenerateCommand(250, 7).execute(model);
+
+        assertEquals(String.format(GenerateCommand.MESSAGE_GENERATING, 250, "generated-250-7"),
+                result.getFeedbackToUser());
+        assertFalse(Files.exists(filePath));
+
+        List<Double> progress = new ArrayList<>();
+        String message = result.getStorageWork().get().run(new JsonAddressBookStorage(filePath), progress::add);
+        assertTrue(message.startsWith("Generated 250 person(s) into address book generated-250-7 in "));
+        assertEquals(Double.valueOf(1), progress.get(progress.size() - 1));
+
+        ReadOnlyAddressBook generated = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new PersonGenerator(7).generate(250).collect(Collectors.toList()),
+                generated.getPersonList());
+        // the open address book is left alone
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_currentBook_throwsCommandException() {
+        model.setAddressBookFilePath(testFolder.resolve("generated-10-7.json"));
+        assertCommandFailure(new GenerateCommand(10, 7), model,
+                String.format(GenerateCommand.MESSAGE_ALREADY_IN_USE, "generated-10-7"));
+    }
+
+    @Test
+    public void execute_cachedBook_throwsCommandException() {
+        model.setAddressBookFilePath(testFolder.resolve("generated-10-7.json"));
+        model.switchAddressBook(testFolder.resolve("addressbook.json"), new AddressBook());
+        assertTrue(model.hasCachedAddressBook(testFolder.resolve("generated-10-7.json")));
+
+        assertCommandFailure(new GenerateCommand(10, 7), model,
+                String.format(GenerateCommand.MESSAGE_ALREADY_IN_USE, "generated-10-7"));
+    }
+
+    @Test
+    public void execute_unwritableFile_backgroundWorkThrowsCommandException() throws Exception {
+        model.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        Files.createDirectory(testFolder.resolve("generated-10-7.json"));
+        CommandResult result = new GenerateCommand(10, 7).execute(model);
+        Path filePath = testFolder.resolve("generated-10-7.json");
+        assertThrows(CommandException.class, () -> result.getStorageWork().get()
+                .run(new JsonAddressBookStorage(filePath), progress -> {}));
+    }
+
+    @Test
+    public void equals() {
+        GenerateCommand generateCommand = new GenerateCommand(1000, 7);
+
+        assertTrue(generateCommand.equals(generateCommand));
+        assertTrue(generateCommand.equals(new GenerateCommand(1000, 7)));
+        assertFalse(generateCommand.equals(null));
+        assertFalse(generateCommand.equals(1));
+        assertFalse(generateCommand.equals(new GenerateCommand(2000, 7)));
+        assertFalse(generateCommand.equals(new GenerateCommand(1000, 8)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = GenerateCommand.class.getCanonicalName() + "{count=1000, seed=7}";
+        assertEquals(expected, new GenerateCommand(1000, 7).toString());
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.group.FlagCategory;
+import seedu.address.model.group.PersonGrouping;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class GroupCommandTest {
+
+    private static final Optional<PersonGrouping> BY_BUYER_SELLER =
+            Optional.of(new PersonGrouping(List.of(FlagCategory.BUYER_SELLER)));
+
+    private final Person amy = new PersonBuilder().withName("Amy").withTags("seller").build();
+    private final Person ben = new PersonBuilder().withName("Ben").withTags("buyer", "favourite").build();
+    private final Person cat = new PersonBuilder().withName("Cat").withTags("buyer", "seller").build();
+
+    private Model createModel() {
+        Model model = new ModelManager();
+        model.addPerson(amy);
+        model.addPerson(ben);
+        model.addPerson(cat);
+        return model;
+    }
+
+    @Test
+    public void execute_grouping_groupsListedPersons() {
+        Model model = createModel();
+
+        String feedback = new GroupCommand(BY_BUYER_SELLER).execute(model).getFeedbackToUser();
+        assertEquals(String.format(GroupCommand.MESSAGE_SUCCESS, "buyer-seller"), feedback);
+        assertEquals(List.of(cat, ben, amy), model.getFilteredPersonList());
+        assertEquals(Optional.of("Buyers and sellers (1)"), model.getSectionHeader(0));
+        assertEquals(Optional.of("Sellers (1)"), model.getSectionHeader(2));
+        // the address book keeps its order
+        assertEquals(List.of(amy, ben, cat), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_filterAfterGrouping_staysGrouped() {
+        Model model = createModel();
+        new GroupCommand(BY_BUYER_SELLER).execute(model);
+
+        model.updateFilteredPersonList(person -> !person.equals(cat));
+        assertEquals(List.of(ben, amy), model.getFilteredPersonList());
+        assertEquals(Optional.of("Buyers (1)"), model.getSectionHeader(0));
+    }
+
+    @Test
+    public void execute_none_stopsGrouping() {
+        Model model = createModel();
+        new GroupCommand(BY_BUYER_SELLER).execute(model);
+
+        String feedback = new GroupCommand(Optional.empty()).execute(model).getFeedbackToUser();
+        assertEquals(GroupCommand.MESSAGE_UNGROUPED, feedback);
+        assertEquals(List.of(amy, ben, cat), model.getFilteredPersonList());
+        assertEquals(Optional.empty(), model.getSectionHeader(0));
+    }
+
+    @Test
+    public void equals() {
+        GroupCommand groupCommand = new GroupCommand(BY_BUYER_SELLER);
+
+        assertTrue(groupCommand.equals(groupCommand));
+        assertTrue(groupCommand.equals(new GroupCommand(BY_BUYER_SELLER)));
+        assertFalse(groupCommand.equals(new GroupCommand(Optional.empty())));
+        assertFalse(groupCommand.equals(null));
+        assertFalse(groupCommand.equals(1));
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand.Format;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+public class ImportCommandTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ImportCommandTest");
+    private static final Path VALID_CSV = TEST_DATA_FOLDER.resolve("validPersons.csv");
+    private static final Path INVALID_CSV = TEST_DATA_FOLDER.resolve("invalidAndDuplicatePersons.csv");
+    private static final Path VALID_VCARD = TEST_DATA_FOLDER.resolve("validPersons.vcf");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validCsv_importsNewPersonsInOneStep() throws Exception {
+        int sizeBefore = model.getAddressBook().getPersonList().size();
+        CommandResult result = new ImportCommand(VALID_CSV, Format.CSV).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_IMPORTING, VALID_CSV), result.getFeedbackToUser());
+
+        // the file is read in the background, and the persons are only added when the work is finished
+        BackgroundWork work = result.getBackgroundWork().get();
+        List<Double> progress = new ArrayList<>();
+        String runResult = work.run(progress::add);
+        assertEquals(sizeBefore, model.getAddressBook().getPersonList().size());
+        assertEquals(Double.valueOf(1), progress.get(progress.size() - 1));
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, VALID_CSV, 1, 0), work.finish(runResult));
+        assertEquals(sizeBefore + 2, model.getAddressBook().getPersonList().size());
+
+        Person amy = findPerson("Amy Bee");
+        assertEquals("Block 312, Amy Street 1", amy.getAddress().value);
+        assertEquals("Likes condos", amy.getRemark().value);
+        assertTrue(amy.getTags().contains(new Tag("buyer")));
+        assertTrue(amy.getTags().contains(new Tag("friends")));
+
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRecords_skipsThem() throws Exception {
+        String feedback = runImport(new ImportCommand(INVALID_CSV, Format.CSV));
+
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 1, INVALID_CSV, 1, 2)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_INVALID_RECORD, 4, "")));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_INVALID_RECORD, 5, "")));
+        assertEquals("11111111", findPerson("Amy Bee").getPhone().value);
+    }
+
+    @Test
+    public void execute_validVcard_importsPersons() throws Exception {
+        runImport(new ImportCommand(VALID_VCARD, Format.VCARD));
+
+        Person amy = findPerson("Amy Bee");
+        assertEquals("6511111111", amy.getPhone().value);
+        assertEquals("Block 312, Amy Street 1, Singapore, 123456", amy.getAddress().value);
+        assertEquals("Likes condos and long walks", amy.getRemark().value);
+        assertTrue(amy.getTags().contains(new Tag("buyer")));
+
+        Person bob = findPerson("Bob Choo");
+        assertEquals("Bobby Street 3", bob.getAddress().value);
+    }
+
+    @Test
+    public void execute_addressBookSwitchedWhileImporting_abortsImport() throws Exception {
+        Path addressBookFilePath = model.getAddressBookFilePath();
+        BackgroundWork work = new ImportCommand(VALID_CSV, Format.CSV).execute(model).getBackgroundWork().get();
+        String runResult = work.run(progress -> {});
+
+        model.switchAddressBook(Paths.get("data", "other.json"), new AddressBook());
+        assertEquals(String.format(ImportCommand.MESSAGE_ABORTED, VALID_CSV, addressBookFilePath),
+                work.finish(runResult));
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missingFile = TEST_DATA_FOLDER.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(missingFile, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, missingFile));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsvCommand = new ImportCommand(VALID_CSV, Format.CSV);
+
+        // same object -> returns true
+        assertTrue(importCsvCommand.equals(importCsvCommand));
+
+        // same values -> returns true
+        assertTrue(importCsvCommand.equals(new ImportCommand(VALID_CSV, Format.CSV)));
+
+        // different types -> returns false
+        assertFalse(importCsvCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCsvCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCsvCommand.equals(new ImportCommand(INVALID_CSV, Format.CSV)));
+
+        // different format -> returns false
+        assertFalse(importCsvCommand.equals(new ImportCommand(VALID_CSV, Format.VCARD)));
+    }
+
+    /**
+     * Executes {@code command}, then does its background work and returns the message it finishes with.
+     */
+    private String runImport(ImportCommand command) throws CommandException {
+        BackgroundWork work = command.execute(model).getBackgroundWork().get();
+        return work.finish(work.run(progress -> {}));
+    }
+
+    private Person findPerson(String name) throws CommandException {
+        return model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.getName().fullName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new CommandException("No person named " + name));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.market.MarketStatistics.Grouping;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Property;
+import seedu.address.model.person.PropertyList;
+import seedu.address.testutil.PersonBuilder;
+
+public class StatsCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noCommandsRun_showsNoCommands() {
+        CommandMetrics metrics = new CommandMetrics(false);
+        String feedback = new StatsCommand(metrics).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(StatsCommand.MESSAGE_NO_COMMANDS));
+        assertTrue(feedback.contains("Persons: " + model.getAddressBook().getPersonList().size()));
+    }
+
+    @Test
+    public void execute_commandsRun_showsEveryCommandWord() {
+        CommandMetrics metrics = new CommandMetrics(false);
+        metrics.getStatistics(ListCommand.COMMAND_WORD).recordSuccess(1_000, 2_000, 3_000, 100);
+        metrics.getStatistics(DeleteCommand.COMMAND_WORD).recordFailure(1_000, 2_000);
+
+        String feedback = new StatsCommand(metrics).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(StatsCommand.MESSAGE_HEADER));
+        assertTrue(feedback.contains(ListCommand.COMMAND_WORD + ": 1 run(s), 0 failed"));
+        assertTrue(feedback.contains(DeleteCommand.COMMAND_WORD + ": 1 run(s), 1 failed"));
+    }
+
+    @Test
+    public void execute_marketWithoutProperties_showsNoProperties() {
+        assertEquals(StatsCommand.MESSAGE_NO_PROPERTIES,
+                new StatsCommand(Grouping.TOWN).execute(new ModelManager()).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_marketAfterChanges_showsCurrentGroups() {
+        Model model = new ModelManager();
+        Person alice = new PersonBuilder().build();
+        model.addPerson(alice);
+        Person aliceWithProperties = new PersonBuilder(alice).withPropertyList(new PropertyList(List.of(
+                Property.of("1 Bishan St", "Bishan", "Condo", 100, 3, 2, 1_000_000),
+                Property.of("3 Tampines St", "Tampines", "HDB", 80, 2, 1, 480_000)))).build();
+        model.setPerson(alice, aliceWithProperties);
+
+        String feedback = new StatsCommand(Grouping.TOWN).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(StatsCommand.MESSAGE_MARKET_HEADER));
+        assertTrue(feedback.contains("Bishan: 1 listing(s) | $1,000,000,"));
+        assertTrue(feedback.contains("Tampines: 1 listing(s)"));
+        assertTrue(feedback.contains("All properties: 2 listing(s) | $740,000,"));
+
+        model.deletePerson(aliceWithProperties);
+        assertEquals(StatsCommand.MESSAGE_NO_PROPERTIES,
+                new StatsCommand(Grouping.TOWN).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics metrics = new CommandMetrics(false);
+        StatsCommand timingsCommand = new StatsCommand(metrics);
+        StatsCommand townCommand = new StatsCommand(Grouping.TOWN);
+
+        assertTrue(timingsCommand.equals(timingsCommand));
+        assertTrue(timingsCommand.equals(new StatsCommand(metrics)));
+        assertTrue(townCommand.equals(new StatsCommand(Grouping.TOWN)));
+
+        assertFalse(timingsCommand.equals(null));
+        assertFalse(timingsCommand.equals(townCommand));
+        assertFalse(townCommand.equals(new StatsCommand(Grouping.TYPE)));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class SwitchCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_otherBook_requestsSwitchToSiblingFile() throws Exception {
+        model.setAddressBookFilePath(Paths.get("data", "addressbook.json"));
+        CommandResult result = new SwitchCommand("alice").execute(model);
+
+        assertEquals(String.format(SwitchCommand.MESSAGE_SWITCHING, "alice"), result.getFeedbackToUser());
+        assertEquals(Optional.of(Paths.get("data", "alice.json")), result.getAddressBookToSwitchTo());
+        // the switch itself is left to the logic component
+        assertEquals(Paths.get("data", "addressbook.json"), model.getAddressBookFilePath());
+    }
+
+    @Test
+    public void execute_currentBook_throwsCommandException() {
+        Path filePath = Paths.get("data", "alice.json");
+        model.setAddressBookFilePath(filePath);
+        assertCommandFailure(new SwitchCommand("alice"), model,
+                String.format(SwitchCommand.MESSAGE_ALREADY_IN_USE, "alice"));
+    }
+
+    @Test
+    public void equals() {
+        SwitchCommand switchAliceCommand = new SwitchCommand("alice");
+
+        assertTrue(switchAliceCommand.equals(switchAliceCommand));
+        assertTrue(switchAliceCommand.equals(new SwitchCommand("alice")));
+        assertFalse(switchAliceCommand.equals(null));
+        assertFalse(switchAliceCommand.equals(1));
+        assertFalse(switchAliceCommand.equals(new SwitchCommand("bob")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = SwitchCommand.class.getCanonicalName() + "{bookName=alice}";
+        assertEquals(expected, new SwitchCommand("alice").toString());
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Property;
+import seedu.address.model.person.PropertyList;
+import seedu.address.model.ranking.Ranking;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TopCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_cheapest_listsCheapestPropertiesAndShowsTheirPersons() {
+        Model model = new ModelManager();
+        Person amy = new PersonBuilder().withName("Amy").withPropertyList(new PropertyList(List.of(
+                Property.of("1 Bishan St", "Bishan", "Condo", 120, 3, 2, 1_200_000),
+                Property.of("2 Tampines St", "Tampines", "HDB", 90, 3, 2, 500_000)))).build();
+        Person ben = new PersonBuilder().withName("Ben").withPropertyList(new PropertyList(List.of(
+                Property.of("3 Bishan St", "Bishan", "HDB", 100, 3, 2, 700_000)))).build();
+        Person cat = new PersonBuilder().withName("Cat").build();
+        model.addPerson(amy);
+        model.addPerson(ben);
+        model.addPerson(cat);
+
+        String feedback = new TopCommand(2, Ranking.CHEAPEST, Set.of(), Optional.empty()).execute(model)
+                .getFeedbackToUser();
+        assertEquals(String.format(TopCommand.MESSAGE_HEADER, 2, "cheapest") + "\n"
+                + "1. Amy: $500,000, 90 sqm - 2 Tampines St, Tampines (HDB)\n"
+                + "2. Ben: $700,000, 100 sqm - 3 Bishan St, Bishan (HDB)", feedback);
+        assertEquals(List.of(amy, ben), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personRanking_listsPersonsInOrder() {
+        String feedback = new TopCommand(3, Ranking.MOST_ACTIVE, Set.of(), Optional.empty()).execute(model)
+                .getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(TopCommand.MESSAGE_HEADER, 3, "most-active")));
+        assertEquals(3, model.getFilteredPersonList().size());
+
+        feedback = new TopCommand(1, Ranking.LONGEST_UNCONTACTED, Set.of(), Optional.empty()).execute(model)
+                .getFeedbackToUser();
+        assertTrue(feedback.contains("1. ") && feedback.contains(": last activity on "));
+    }
+
+    @Test
+    public void execute_noMatches_showsNoEntries() {
+        TopCommand command = new TopCommand(5, Ranking.CHEAPEST, Set.of(new Tag("nosuchtag")), Optional.empty());
+        assertEquals(TopCommand.MESSAGE_NO_ENTRIES, command.execute(model).getFeedbackToUser());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        TopCommand command = new TopCommand(20, Ranking.CHEAPEST, Set.of(), Optional.of("Bishan"));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new TopCommand(20, Ranking.CHEAPEST, Set.of(), Optional.of("Bishan"))));
+
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new TopCommand(10, Ranking.CHEAPEST, Set.of(), Optional.of("Bishan"))));
+        assertFalse(command.equals(new TopCommand(20, Ranking.LARGEST, Set.of(), Optional.of("Bishan"))));
+        assertFalse(command.equals(new TopCommand(20, Ranking.CHEAPEST, Set.of(), Optional.empty())));
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.completion.CompletionIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class CommandCompleterTest {
+
+    private CompletionIndex completionIndex;
+    private CommandCompleter completer;
+
+    @BeforeEach
+    public void setUp() {
+        completionIndex = new CompletionIndex();
+        completionIndex.addAll(getTypicalPersons());
+        completer = new CommandCompleter(completionIndex);
+    }
+
+    @Test
+    public void complete_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> completer.complete(null));
+    }
+
+    @Test
+    public void complete_commandWord() {
+        assertCompletion("list ", "li");
+        assertCompletion("  list ", "  LI");
+        assertCompletion("addproperty ", "addp");
+        assertCompletion("export ", "exp");
+        // add and addproperty, and exit and export, are both still possible
+        assertCompletion("add", "add");
+        assertCompletion("ex", "ex");
+        assertCompletion("", "");
+        assertCompletion("unknown", "unknown");
+    }
+
+    @Test
+    public void complete_findName() {
+        assertCompletion("find Alice Pauline ", "find al");
+        assertCompletion("FIND  Benson Meier ", "FIND  benson");
+        assertCompletion("find zz", "find zz");
+
+        completionIndex.add(new PersonBuilder().withName("Benson Yeo").build());
+        assertCompletion("find benson ", "find ben");
+    }
+
+    @Test
+    public void complete_nameValue() {
+        assertCompletion("add n/Benson Meier ", "add n/ben");
+        assertCompletion("edit 1 n/Daniel Meier ", "edit 1 n/DAN");
+        // names are only completed after the name prefix
+        assertCompletion("remark 1 r/ben", "remark 1 r/ben");
+    }
+
+    @Test
+    public void complete_tagValue() {
+        assertCompletion("filter t/friends ", "filter t/fr");
+        assertCompletion("filter t/friends,owesMoney ", "filter t/friends,o");
+        assertCompletion("filter -t/owesMoney ", "filter -t/OWE");
+        assertCompletion("top t/friends ", "top t/f");
+    }
+
+    @Test
+    public void complete_prefix() {
+        assertCompletion("edit 1 n/Alice Pauline p/", "edit 1 n/Alice Pauline p");
+        assertCompletion("addproperty address/Blk 1 town/", "addproperty address/Blk 1 to");
+        assertCompletion("addproperty bath/", "addproperty ba");
+        assertCompletion("filter t/friends -t/", "filter t/friends -");
+        // bed/ and bath/ are both still possible
+        assertCompletion("addproperty b", "addproperty b");
+        // prefixes of other commands are not completed
+        assertCompletion("addproperty n", "addproperty n");
+        assertCompletion("delete 1", "delete 1");
+    }
+
+    @Test
+    public void complete_indexUpdated_completesNewNames() {
+        assertCompletion("find zz", "find zz");
+        completionIndex.add(new PersonBuilder().withName("Zz Top").build());
+        assertCompletion("find Zz Top ", "find zz");
+    }
+
+    private void assertCompletion(String expected, String commandText) {
+        assertEquals(expected, completer.complete(commandText));
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.Trie;
+
+public class CompletionBenchmarkTest {
+
+    @Test
+    public void generateNames_sameSeed_sameDistinctNames() {
+        List<String> names = CompletionBenchmark.generateNames(500, 7);
+        assertEquals(names, CompletionBenchmark.generateNames(500, 7));
+        assertEquals(500, new HashSet<>(names).size());
+    }
+
+    @Test
+    public void measureLookups_returnsTimeOfEachLookup() {
+        List<String> names = CompletionBenchmark.generateNames(1000, 7);
+        Trie trie = new Trie();
+        names.forEach(trie::add);
+        assertEquals(1000, trie.size());
+        assertEquals(100, CompletionBenchmark.measureLookups(trie, names, 100, 7).length);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -11,6 +12,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -22,13 +24,24 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FavouriteCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GenerateCommand;
+import seedu.address.logic.commands.GroupCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.market.MarketStatistics.Grouping;
 import seedu.address.model.person.Birthday;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -100,6 +113,79 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertTrue(parser.parseCommand(ImportCommand.COMMAND_WORD + " contacts.csv") instanceof ImportCommand);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertTrue(parser.parseCommand(ExportCommand.COMMAND_WORD + " contacts.csv t/seller") instanceof ExportCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertEquals(new StatsCommand(Grouping.TOWN),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " market town"));
+    }
+
+    @Test
+    public void parseCommand_top() throws Exception {
+        assertTrue(parser.parseCommand(TopCommand.COMMAND_WORD + " 20 cheapest t/seller") instanceof TopCommand);
+    }
+
+    @Test
+    public void parseCommand_filter() throws Exception {
+        assertTrue(parser.parseCommand(FilterCommand.COMMAND_WORD + " t/buyer -t/archived") instanceof FilterCommand);
+    }
+
+    @Test
+    public void parsePreviewableCommand() throws Exception {
+        assertEquals(Optional.of(new FindCommand(new NameContainsKeywordsPredicate(List.of("foo", "bar")))),
+                parser.parsePreviewableCommand(FindCommand.COMMAND_WORD + " foo bar"));
+        assertTrue(parser.parsePreviewableCommand(FilterCommand.COMMAND_WORD + " t/buyer").get()
+                instanceof FilterCommand);
+        assertEquals(Optional.empty(), parser.parsePreviewableCommand(ListCommand.COMMAND_WORD));
+        assertEquals(Optional.empty(), parser.parsePreviewableCommand("  "));
+        assertThrows(ParseException.class, () -> parser.parsePreviewableCommand(FindCommand.COMMAND_WORD + " "));
+    }
+
+    @Test
+    public void parseCommand_group() throws Exception {
+        assertEquals(new GroupCommand(Optional.empty()), parser.parseCommand(GroupCommand.COMMAND_WORD + " none"));
+    }
+
+    @Test
+    public void parseCommand_switch() throws Exception {
+        assertEquals(new SwitchCommand("alice"), parser.parseCommand(SwitchCommand.COMMAND_WORD + " alice"));
+    }
+
+    @Test
+    public void parseCommand_generate() throws Exception {
+        assertEquals(new GenerateCommand(1000, 7), parser.parseCommand(GenerateCommand.COMMAND_WORD + " 1000 7"));
+        // the command is hidden from completion
+        assertFalse(AddressBookParser.COMMAND_WORDS.contains(GenerateCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_upperCaseCommandWord_reportsCommandWord() throws Exception {
+        assertEquals(ListCommand.COMMAND_WORD, parser.parseCommand("  LIST 3").getCommandWord());
+        assertEquals(UndoCommand.COMMAND_WORD, parser.parseCommand("Undo").getCommandWord());
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
 
 
     @Test
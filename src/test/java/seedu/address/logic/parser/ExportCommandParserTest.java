@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.person.PersonMatchesFilterPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.PersonExporter.Format;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " t/seller",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, "contacts.json", ExportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "contacts.csv t/not a tag", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " data/contacts.csv ",
+                new ExportCommand(Paths.get("data/contacts.csv"), Format.CSV, Optional.empty()));
+        assertParseSuccess(parser, "contacts.JSONL t/seller town/Bishan",
+                new ExportCommand(Paths.get("contacts.JSONL"), Format.JSON_LINES,
+                        Optional.of(new PersonMatchesFilterPredicate(Set.of(new Tag("seller")),
+                                Optional.of("Bishan")))));
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private final FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        assertParseSuccess(parser, " t/buyer t/favourite -t/archived",
+                new FilterCommand(new PersonHasTagsPredicate(List.of(Set.of(Tag.BUYER_TAG), Set.of(Tag.FAVOURITE_TAG)),
+                        Set.of(Tag.of("archived")))));
+        assertParseSuccess(parser, " t/buyer,seller",
+                new FilterCommand(new PersonHasTagsPredicate(List.of(Set.of(Tag.BUYER_TAG, Tag.SELLER_TAG)),
+                        Set.of())));
+        assertParseSuccess(parser, " -t/archived",
+                new FilterCommand(new PersonHasTagsPredicate(List.of(), Set.of(Tag.of("archived")))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String usageMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", usageMessage);
+        assertParseFailure(parser, " buyer", usageMessage);
+        assertParseFailure(parser, " buyer t/seller", usageMessage);
+        assertParseFailure(parser, " t/buyer,", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/buyer -t/", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.GenerateCommand;
+import seedu.address.model.util.PersonGenerator;
+
+public class GenerateCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateCommand.MESSAGE_USAGE);
+
+    private GenerateCommandParser parser = new GenerateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsGenerateCommand() {
+        assertParseSuccess(parser, " 1000", new GenerateCommand(1000, PersonGenerator.DEFAULT_SEED));
+        assertParseSuccess(parser, " 5000000  -7 ", new GenerateCommand(5_000_000, -7));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, " 0", GenerateCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 5000001", GenerateCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 1k", GenerateCommandParser.MESSAGE_INVALID_COUNT);
+    }
+
+    @Test
+    public void parse_invalidSeed_throwsParseException() {
+        assertParseFailure(parser, " 1000 seven", GenerateCommandParser.MESSAGE_INVALID_SEED);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1000 7 8", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.GroupCommand;
+import seedu.address.model.group.FlagCategory;
+import seedu.address.model.group.PersonGrouping;
+
+public class GroupCommandParserTest {
+
+    private final GroupCommandParser parser = new GroupCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsGroupCommand() {
+        assertParseSuccess(parser, "  ",
+                new GroupCommand(Optional.of(new PersonGrouping(Arrays.asList(FlagCategory.values())))));
+        assertParseSuccess(parser, " buyer-seller  Favourite",
+                new GroupCommand(Optional.of(new PersonGrouping(
+                        List.of(FlagCategory.BUYER_SELLER, FlagCategory.FAVOURITE)))));
+        assertParseSuccess(parser, " none", new GroupCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String usageMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " buyer", usageMessage);
+        assertParseFailure(parser, " favourite favourite", usageMessage);
+        assertParseFailure(parser, " favourite none", usageMessage);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ImportCommand.Format;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, "contacts.txt", ImportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " data/contacts.csv ",
+                new ImportCommand(Paths.get("data/contacts.csv"), Format.CSV));
+        assertParseSuccess(parser, "contacts.VCF", new ImportCommand(Paths.get("contacts.VCF"), Format.VCARD));
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.market.MarketStatistics.Grouping;
+
+public class StatsCommandParserTest {
+
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsTimingsStatsCommand() {
+        assertParseSuccess(parser, "   ", new StatsCommand());
+    }
+
+    @Test
+    public void parse_market_returnsMarketStatsCommand() {
+        assertParseSuccess(parser, " market", new StatsCommand(Grouping.TOWN_AND_TYPE));
+        assertParseSuccess(parser, " Market  TOWN ", new StatsCommand(Grouping.TOWN));
+        assertParseSuccess(parser, " market type", new StatsCommand(Grouping.TYPE));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " prices", expectedMessage);
+        assertParseFailure(parser, " market size", expectedMessage);
+        assertParseFailure(parser, " market town type", expectedMessage);
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.model.ranking.Ranking;
+import seedu.address.model.tag.Tag;
+
+public class TopCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE);
+
+    private TopCommandParser parser = new TopCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsTopCommand() {
+        assertParseSuccess(parser, " 20 cheapest",
+                new TopCommand(20, Ranking.CHEAPEST, Set.of(), Optional.empty()));
+        assertParseSuccess(parser, " 5 Most-Active t/seller town/ Bishan ",
+                new TopCommand(5, Ranking.MOST_ACTIVE, Set.of(new Tag("seller")), Optional.of("Bishan")));
+        assertParseSuccess(parser, " 1000 longest-uncontacted",
+                new TopCommand(1000, Ranking.LONGEST_UNCONTACTED, Set.of(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, " 0 cheapest", TopCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 1001 cheapest", TopCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " ten cheapest", TopCommandParser.MESSAGE_INVALID_COUNT);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 20", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 20 priciest", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 20 cheapest town/", MESSAGE_INVALID_FORMAT);
+    }
+}
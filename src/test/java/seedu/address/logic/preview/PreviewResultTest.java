@@ -0,0 +1,67 @@
+package seedu.address.logic.preview;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PreviewResultTest {
+
+    private static PreviewResult createResult(NameContainsKeywordsPredicate predicate, Person... matches) {
+        Set<Person> matchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(matchSet, matches);
+        return new PreviewResult(predicate, matchSet, 0, () -> 0);
+    }
+
+    @Test
+    public void test_looksUpMatchesByIdentity() {
+        PreviewResult result = createResult(new NameContainsKeywordsPredicate(List.of("Alice")), ALICE);
+
+        assertTrue(result.test(ALICE));
+        assertFalse(result.test(BENSON));
+        assertFalse(result.test(new PersonBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void test_personsChangedSinceSnapshot_testsPredicate() {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.add(ALICE);
+        AtomicLong currentVersion = new AtomicLong(0);
+        PreviewResult result = new PreviewResult(new NameContainsKeywordsPredicate(List.of("Alice")), matches, 0,
+                currentVersion::get);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        assertFalse(result.test(editedAlice));
+
+        // e.g. Alice was edited after the preview was shown
+        currentVersion.incrementAndGet();
+        assertTrue(result.test(editedAlice));
+        assertFalse(result.test(BENSON));
+    }
+
+    @Test
+    public void refines_followsPredicate() {
+        NameContainsKeywordsPredicate alice = new NameContainsKeywordsPredicate(List.of("Alice"));
+        NameContainsKeywordsPredicate aliceOrBenson = new NameContainsKeywordsPredicate(List.of("Alice", "Benson"));
+        PreviewResult aliceResult = createResult(alice, ALICE);
+        PreviewResult aliceOrBensonResult = createResult(aliceOrBenson, ALICE, BENSON);
+
+        assertSame(alice, aliceResult.getBasePredicate());
+        assertTrue(aliceResult.refines(aliceOrBensonResult));
+        assertTrue(alice.refines(aliceOrBensonResult));
+        assertFalse(aliceOrBensonResult.refines(aliceResult));
+        assertFalse(new PreviewResult(person -> true, Set.of(), 0, () -> 0).refines(aliceResult));
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.logic.preview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchPreviewerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    // stands for the UI thread: results are queued and only shown when the test runs them
+    private final BlockingQueue<Runnable> uiQueue = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService searchExecutor = Executors.newSingleThreadScheduledExecutor();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addPerson(CARL);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        searchExecutor.shutdownNow();
+    }
+
+    private SearchPreviewer createPreviewer(Duration debounceDelay) {
+        return new SearchPreviewer(logic, searchExecutor, uiQueue::add, debounceDelay);
+    }
+
+    /**
+     * Waits for the next result to be sent to the UI thread, and shows it.
+     */
+    private void runNextOnUiThread() throws InterruptedException {
+        Runnable runnable = uiQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(runnable != null, "A result should have been sent to the UI thread");
+        runnable.run();
+    }
+
+    @Test
+    public void preview_find_showsMatchingPersons() throws Exception {
+        SearchPreviewer previewer = createPreviewer(Duration.ZERO);
+
+        previewer.preview("find alice carl");
+        runNextOnUiThread();
+        assertEquals(List.of(ALICE, CARL), model.getFilteredPersonList());
+
+        previewer.preview("filter t/owesMoney");
+        runNextOnUiThread();
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_newerText_cancelsOlderSearch() throws Exception {
+        SearchPreviewer previewer = createPreviewer(Duration.ofMillis(200));
+
+        previewer.preview("find alice");
+        previewer.preview("find benson");
+        runNextOnUiThread();
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+        // the older search never ran
+        searchExecutor.shutdown();
+        assertTrue(searchExecutor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(uiQueue.isEmpty());
+    }
+
+    @Test
+    public void preview_resultArrivesAfterNewerText_isNotShown() throws Exception {
+        SearchPreviewer previewer = createPreviewer(Duration.ZERO);
+
+        previewer.preview("find alice");
+        Runnable staleResult = uiQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        previewer.preview("find carl");
+        staleResult.run();
+        assertEquals(List.of(ALICE, BENSON, CARL), model.getFilteredPersonList());
+
+        runNextOnUiThread();
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_incompleteOrOtherCommand_keepsOrRestoresList() throws Exception {
+        SearchPreviewer previewer = createPreviewer(Duration.ZERO);
+        previewer.preview("find alice");
+        runNextOnUiThread();
+
+        // an invalid search keeps the preview
+        previewer.preview("find ");
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        // anything else shows all persons again
+        previewer.preview("");
+        assertEquals(List.of(ALICE, BENSON, CARL), model.getFilteredPersonList());
+        assertTrue(uiQueue.isEmpty());
+    }
+
+    @Test
+    public void cancel_keepsListAndIgnoresPendingResult() throws Exception {
+        SearchPreviewer previewer = createPreviewer(Duration.ZERO);
+        previewer.preview("find alice");
+        Runnable pendingResult = uiQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        previewer.cancel();
+        pendingResult.run();
+        assertEquals(List.of(ALICE, BENSON, CARL), model.getFilteredPersonList());
+
+        // with no preview shown, clearing the text leaves the list as it is
+        model.updateFilteredPersonList(person -> person.equals(CARL));
+        previewer.preview("");
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_personsChangeDuringSearch_testsThemAgain() throws Exception {
+        SearchPreviewer previewer = createPreviewer(Duration.ZERO);
+        previewer.preview("find alice");
+        Runnable result = uiQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("Moved house").build();
+        model.setPerson(ALICE, editedAlice);
+        result.run();
+        assertEquals(List.of(editedAlice), model.getFilteredPersonList());
+    }
+}
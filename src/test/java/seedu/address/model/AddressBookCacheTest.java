@@ -0,0 +1,75 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBookCache.CachedAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class AddressBookCacheTest {
+
+    private static final Path FIRST_PATH = Paths.get("data", "first.json");
+    private static final Path SECOND_PATH = Paths.get("data", "second.json");
+    private static final Path THIRD_PATH = Paths.get("data", "third.json");
+
+    private final CachedAddressBook onePerson = cached(new AddressBookBuilder().withPerson(ALICE).build());
+    private final CachedAddressBook twoPersons =
+            cached(new AddressBookBuilder().withPerson(BENSON).withPerson(CARL).build());
+
+    @Test
+    public void take_cachedAddressBook_removesIt() {
+        AddressBookCache cache = new AddressBookCache(10);
+        assertTrue(cache.put(FIRST_PATH, twoPersons).isEmpty());
+        assertTrue(cache.contains(FIRST_PATH));
+        assertEquals(2, cache.getCachedPersons());
+
+        assertSame(twoPersons, cache.take(FIRST_PATH));
+        assertFalse(cache.contains(FIRST_PATH));
+        assertEquals(0, cache.getCachedPersons());
+        assertNull(cache.take(FIRST_PATH));
+    }
+
+    @Test
+    public void put_exceedsMaxCachedPersons_evictsLeastRecentlyUsed() {
+        AddressBookCache cache = new AddressBookCache(3);
+        cache.put(FIRST_PATH, onePerson);
+        cache.put(SECOND_PATH, twoPersons);
+
+        // using the first address book makes the second one the least recently used
+        cache.put(FIRST_PATH, cache.take(FIRST_PATH));
+        Map<Path, CachedAddressBook> evicted =
+                cache.put(THIRD_PATH, cached(new AddressBookBuilder().withPerson(CARL).build()));
+        assertEquals(List.of(SECOND_PATH), List.copyOf(evicted.keySet()));
+        assertTrue(cache.contains(FIRST_PATH));
+        assertTrue(cache.contains(THIRD_PATH));
+        assertEquals(2, cache.getCachedPersons());
+    }
+
+    @Test
+    public void put_addressBookLargerThanCache_evictsItAtOnce() {
+        AddressBookCache cache = new AddressBookCache(1);
+        cache.put(FIRST_PATH, onePerson);
+
+        Map<Path, CachedAddressBook> evicted = cache.put(SECOND_PATH, twoPersons);
+        assertEquals(List.of(FIRST_PATH, SECOND_PATH), List.copyOf(evicted.keySet()));
+        assertEquals(0, cache.getCachedPersons());
+    }
+
+    private static CachedAddressBook cached(AddressBook addressBook) {
+        return new CachedAddressBook(addressBook, new AddressBookHistory(1),
+                PersonIndexes.build(addressBook.getPersonList()));
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.person.Birthday.BIRTHDAY_REMINDER_EMPTY;
@@ -11,18 +13,28 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.completion.CompletionIndex;
+import seedu.address.model.market.MarketStatistics;
+import seedu.address.model.market.MarketStatistics.Grouping;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.person.PropertyList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -96,6 +108,323 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getPersonSnapshot_everyMutation_publishesNewerMatchingSnapshot() {
+        PersonSnapshot initial = modelManager.getPersonSnapshot();
+        assertTrue(initial.getPersons().isEmpty());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.commitAddressBook();
+        PersonSnapshot afterReset = modelManager.getPersonSnapshot();
+        assertSnapshotMatchesAddressBook(afterReset);
+        assertTrue(afterReset.getVersion() > initial.getVersion());
+
+        modelManager.addPerson(CARL);
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        modelManager.deletePerson(BENSON);
+        modelManager.sortPersonsDesc();
+        modelManager.commitAddressBook();
+        assertSnapshotMatchesAddressBook(modelManager.getPersonSnapshot());
+
+        modelManager.undoAddressBook();
+        assertSnapshotMatchesAddressBook(modelManager.getPersonSnapshot());
+
+        // earlier snapshots are not affected by later changes
+        assertEquals(Arrays.asList(ALICE, BENSON), afterReset.getPersons());
+        assertThrows(UnsupportedOperationException.class, () -> afterReset.getPersons().add(CARL));
+    }
+
+    @Test
+    public void getMarketStatistics_everyMutation_matchesAddressBook() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.commitAddressBook();
+        assertMarketStatisticsMatchAddressBook();
+
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withPropertyList(new PropertyList()).build());
+        modelManager.commitAddressBook();
+        assertMarketStatisticsMatchAddressBook();
+
+        modelManager.undoAddressBook();
+        assertMarketStatisticsMatchAddressBook();
+    }
+
+    @Test
+    public void updateFilteredPersonList_narrowingPredicates_listsMatchingPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("alice", "carl", "meier")));
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("carl", "alice")));
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Carl")));
+        assertEquals(List.of(CARL), modelManager.getFilteredPersonList());
+
+        // a search that is not narrower tests all persons again
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Kurz", "Benson")));
+        assertEquals(List.of(BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getTagIndex_everyMutation_matchesAddressBook() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.commitAddressBook();
+        assertTagIndexMatchesAddressBook();
+
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withTags("owesMoney").build());
+        modelManager.commitAddressBook();
+        assertTagIndexMatchesAddressBook();
+
+        modelManager.undoAddressBook();
+        assertTagIndexMatchesAddressBook();
+    }
+
+    @Test
+    public void getCompletionIndex_everyMutation_matchesAddressBook() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.commitAddressBook();
+        assertTrue(modelManager.getCompletionIndex().getNames().contains("alice pauline"));
+        assertTrue(modelManager.getCompletionIndex().getTags().contains("owesMoney"));
+
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withTags("friends").build());
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.getCompletionIndex().getNames().contains("alice pauline"));
+        assertTrue(modelManager.getCompletionIndex().getNames().contains("carl kurz"));
+        assertFalse(modelManager.getCompletionIndex().getTags().contains("owesMoney"));
+
+        modelManager.undoAddressBook();
+        assertEquals(2, modelManager.getCompletionIndex().getNames().size());
+        assertTrue(modelManager.getCompletionIndex().getNames().contains("alice pauline"));
+        assertTrue(modelManager.getCompletionIndex().getTags().contains("owesMoney"));
+    }
+
+    @Test
+    public void finishLoading_loadedChunks_indexesMatchAddressBook() {
+        modelManager.startLoading();
+        assertTrue(modelManager.isLoading());
+        modelManager.addLoadedPersons(List.of(ALICE, BENSON));
+        modelManager.addLoadedPersons(List.of(CARL));
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+        assertSnapshotMatchesAddressBook(modelManager.getPersonSnapshot());
+        // the indexes are only built once loading finishes
+        assertEquals(0, modelManager.getTagIndex().size());
+
+        modelManager.finishLoading(PersonIndexes.build(List.of(ALICE, BENSON, CARL)));
+        assertFalse(modelManager.isLoading());
+        assertFalse(modelManager.canUndoAddressBook());
+        assertTagIndexMatchesAddressBook();
+        assertMarketStatisticsMatchAddressBook();
+        assertTrue(modelManager.getCompletionIndex().getNames().contains("carl kurz"));
+
+        // the indexes follow changes again
+        modelManager.deletePerson(ALICE);
+        modelManager.commitAddressBook();
+        assertTagIndexMatchesAddressBook();
+        assertFalse(modelManager.getCompletionIndex().getNames().contains("alice pauline"));
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void clearLoadedPersons_loadedChunks_emptiesAddressBook() {
+        modelManager.startLoading();
+        modelManager.addLoadedPersons(List.of(ALICE, BENSON));
+        modelManager.clearLoadedPersons();
+        modelManager.finishLoading(PersonIndexes.build(List.of()));
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertEquals(0, modelManager.getTagIndex().size());
+    }
+
+    private void assertTagIndexMatchesAddressBook() {
+        PersonHasTagsPredicate predicate = new PersonHasTagsPredicate(List.of(Set.of(new Tag("friends"))), Set.of());
+        assertEquals(modelManager.getAddressBook().getPersonList().size(), modelManager.getTagIndex().size());
+        assertEquals(modelManager.getAddressBook().getPersonList().stream().filter(predicate).count(),
+                modelManager.getTagIndex().evaluate(predicate).getCount());
+    }
+
+    private void assertMarketStatisticsMatchAddressBook() {
+        MarketStatistics expected = new MarketStatistics();
+        expected.addAll(modelManager.getAddressBook().getPersonList());
+        MarketStatistics actual = modelManager.getMarketStatistics();
+
+        assertEquals(expected.getOverall().getCount(), actual.getOverall().getCount());
+        assertEquals(expected.getOverall().getPrices().getSum(), actual.getOverall().getPrices().getSum(), 1e-6);
+        assertEquals(expected.getOverall().getPrices().getMin(), actual.getOverall().getPrices().getMin());
+        assertEquals(expected.getAggregates(Grouping.TOWN_AND_TYPE).size(),
+                actual.getAggregates(Grouping.TOWN_AND_TYPE).size());
+    }
+
+    private void assertSnapshotMatchesAddressBook(PersonSnapshot snapshot) {
+        assertSame(snapshot, modelManager.getPersonSnapshot());
+        assertEquals(modelManager.getAddressBook().getPersonList(), snapshot.getPersons());
+    }
+
+    @Test
+    public void undoAddressBook_addEditAndDelete_restoresPreviousState() {
+        AddressBook original = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager.setAddressBook(original);
+        modelManager.commitAddressBook();
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.commitAddressBook();
+        AddressBook changed = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.undoAddressBook();
+        assertEquals(original, modelManager.getAddressBook());
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(changed, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_sort_restoresOrder() {
+        AddressBook original = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager.setAddressBook(original);
+        modelManager.commitAddressBook();
+
+        modelManager.sortPersonsDesc();
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertEquals(original, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void mergeAddressBook_externalChanges_appliesOnlyChangedPersons() {
+        AddressBook original = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build();
+        modelManager.setAddressBook(original);
+        modelManager.commitAddressBook();
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        AddressBook externallyChanged = new AddressBookBuilder().withPerson(BOB).withPerson(editedAlice)
+                .withPerson(CARL).build();
+        assertEquals(3, modelManager.mergeAddressBook(externallyChanged));
+
+        // unchanged persons keep their instance and position, new persons are appended
+        AddressBook expected = new AddressBookBuilder().withPerson(editedAlice).withPerson(CARL).withPerson(BOB)
+                .build();
+        assertEquals(expected, modelManager.getAddressBook());
+        assertSame(CARL, modelManager.getAddressBook().getPersonList().get(1));
+
+        // the merge cannot be undone, and neither can the changes made before it
+        assertFalse(modelManager.canUndoAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void mergeAddressBook_manyRemovedPersons_removesThemAndKeepsIndexesInSync() {
+        AddressBook original = getTypicalAddressBook();
+        modelManager.setAddressBook(original);
+        List<Person> kept = original.getPersonList().subList(0, 2);
+        assertEquals(original.getPersonList().size() - 2,
+                modelManager.mergeAddressBook(new AddressBookBuilder().withPerson(kept.get(0))
+                        .withPerson(kept.get(1)).build()));
+        assertEquals(kept, modelManager.getAddressBook().getPersonList());
+        assertEquals(2, modelManager.getTagIndex().size());
+        assertEquals(2, modelManager.getPersonSnapshot().getPersons().size());
+    }
+
+    @Test
+    public void mergeAddressBook_sameData_changesNothing() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+
+        assertEquals(0, modelManager.mergeAddressBook(new AddressBookBuilder().withPerson(ALICE).build()));
+
+        // no empty step was recorded, so undo reverts the add
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void switchAddressBook_thenBack_restoresAddressBookAndHistory() {
+        Path filePath = modelManager.getAddressBookFilePath();
+        Path otherFilePath = Paths.get("data", "other.json");
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.updateFilteredPersonList(unused -> false);
+
+        assertFalse(modelManager.hasCachedAddressBook(otherFilePath));
+        assertTrue(modelManager.switchAddressBook(otherFilePath,
+                new AddressBookBuilder().withPerson(BENSON).build()).isEmpty());
+        assertEquals(otherFilePath, modelManager.getAddressBookFilePath());
+        assertEquals(new AddressBookBuilder().withPerson(BENSON).build(), modelManager.getAddressBook());
+        assertEquals(1, modelManager.getFilteredPersonList().size());
+        assertFalse(modelManager.canUndoAddressBook());
+        assertTrue(modelManager.hasCachedAddressBook(filePath));
+
+        modelManager.switchToCachedAddressBook(filePath);
+        assertEquals(filePath, modelManager.getAddressBookFilePath());
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), modelManager.getAddressBook());
+        assertTrue(modelManager.hasCachedAddressBook(otherFilePath));
+
+        // the undo history came back along with the address book
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void switchAddressBook_thenBack_swapsIndexesInWithAddressBook() {
+        Path filePath = modelManager.getAddressBookFilePath();
+        modelManager.addPerson(ALICE);
+        TagIndex tagIndex = modelManager.getTagIndex();
+        CompletionIndex completionIndex = modelManager.getCompletionIndex();
+
+        modelManager.switchAddressBook(Paths.get("data", "other.json"),
+                new AddressBookBuilder().withPerson(BENSON).withPerson(CARL).build());
+        assertNotSame(tagIndex, modelManager.getTagIndex());
+        assertEquals(2, modelManager.getTagIndex().size());
+        // the indexes of the parked address book were not changed by the switch
+        assertEquals(1, tagIndex.size());
+
+        modelManager.switchToCachedAddressBook(filePath);
+        assertSame(tagIndex, modelManager.getTagIndex());
+        assertSame(completionIndex, modelManager.getCompletionIndex());
+        assertEquals(1, modelManager.getTagIndex().size());
+
+        // the indexes swapped back in keep up with later changes
+        modelManager.addPerson(BENSON);
+        assertEquals(2, modelManager.getTagIndex().size());
+    }
+
+    @Test
+    public void commitAddressBook_exceedsHistoryDepth_dropsOldestSteps() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(1);
+        modelManager.setUserPrefs(userPrefs);
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_zeroHistoryDepth_cannotUndo() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(0);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -176,5 +505,7 @@ public class ModelManagerTest {
         assertEquals(modelManager.getPersonsWithUpcomingBirthdays(), BIRTHDAY_REMINDER_HEADER
                 + "Benson Meier's birthday is on " + sixDaysAfterTodaySomeYearsBack.plusYears(20) + "\n"
                 + "Carl Kurz's birthday is on " + todaySomeYearsBack.plusYears(20));
+        assertEquals(modelManager.getPersonsWithUpcomingBirthdays(),
+                ModelManager.getPersonsWithUpcomingBirthdays(addressBook.getPersonList()));
     }
 }
@@ -0,0 +1,58 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.market.MarketStatistics.Grouping;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.ranking.RankedEntry;
+import seedu.address.model.ranking.Ranking;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TypicalPersons;
+
+public class PersonIndexesTest {
+
+    @Test
+    public void buildAsync_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonIndexes.buildAsync(null, Runnable::run));
+        assertThrows(NullPointerException.class, () -> PersonIndexes.buildAsync(List.of(), null));
+    }
+
+    @Test
+    public void buildAsync_severalThreads_sameAsOnCurrentThread() {
+        List<Person> persons = TypicalPersons.getTypicalPersons();
+        PersonIndexes expected = PersonIndexes.build(persons);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            PersonIndexes actual = PersonIndexes.buildAsync(persons, executor).join();
+
+            assertEquals(persons.size(), actual.getTagIndex().size());
+            PersonHasTagsPredicate predicate =
+                    new PersonHasTagsPredicate(List.of(Set.of(new Tag("friends"))), Set.of());
+            assertEquals(expected.getTagIndex().evaluate(predicate).getCount(),
+                    actual.getTagIndex().evaluate(predicate).getCount());
+            assertEquals(expected.getMarketStatistics().getAggregates(Grouping.TOWN_AND_TYPE).size(),
+                    actual.getMarketStatistics().getAggregates(Grouping.TOWN_AND_TYPE).size());
+            assertEquals(getTopPersons(expected), getTopPersons(actual));
+            assertEquals(expected.getCompletionIndex().getNames().getCompletions("", persons.size()),
+                    actual.getCompletionIndex().getNames().getCompletions("", persons.size()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<Person> getTopPersons(PersonIndexes indexes) {
+        return indexes.getRankingIndex().getTop(Ranking.MOST_ACTIVE, 10, person -> true, Optional.empty()).stream()
+                .map(RankedEntry::getPerson)
+                .toList();
+    }
+}
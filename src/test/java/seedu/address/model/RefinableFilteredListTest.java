@@ -0,0 +1,136 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class RefinableFilteredListTest {
+
+    /**
+     * Passes the numbers up to a limit, and counts how many numbers it has tested.
+     */
+    private static class AtMostPredicate implements RefiningPredicate<Integer> {
+        private final int limit;
+        private int testCount;
+
+        AtMostPredicate(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean test(Integer number) {
+            testCount++;
+            return number <= limit;
+        }
+
+        @Override
+        public boolean refines(Predicate<?> other) {
+            return other instanceof AtMostPredicate otherPredicate && limit <= otherPredicate.limit;
+        }
+    }
+
+    private static ObservableList<Integer> createSource(int size) {
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        for (int i = 0; i < size; i++) {
+            source.add(i);
+        }
+        return source;
+    }
+
+    @Test
+    public void constructor_showsAllElements() {
+        ObservableList<Integer> source = createSource(5);
+        assertEquals(source, new RefinableFilteredList<>(source));
+    }
+
+    @Test
+    public void setPredicate_refinement_testsOnlyViewElements() {
+        ObservableList<Integer> source = createSource(100);
+        RefinableFilteredList<Integer> filtered = new RefinableFilteredList<>(source);
+
+        AtMostPredicate atMostTen = new AtMostPredicate(10);
+        filtered.setPredicate(atMostTen);
+        assertEquals(100, atMostTen.testCount);
+        assertEquals(source.subList(0, 11), filtered);
+
+        AtMostPredicate atMostThree = new AtMostPredicate(3);
+        filtered.setPredicate(atMostThree);
+        assertEquals(11, atMostThree.testCount);
+        assertEquals(source.subList(0, 4), filtered);
+
+        // widening the filter tests everything again
+        AtMostPredicate atMostFifty = new AtMostPredicate(50);
+        filtered.setPredicate(atMostFifty);
+        assertEquals(100, atMostFifty.testCount);
+        assertEquals(source.subList(0, 51), filtered);
+    }
+
+    @Test
+    public void setPredicate_refinement_reportsRemovals() {
+        ObservableList<Integer> source = createSource(10);
+        RefinableFilteredList<Integer> filtered = new RefinableFilteredList<>(source);
+        filtered.setPredicate(new AtMostPredicate(5));
+        List<Integer> removed = new ArrayList<>();
+        filtered.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        filtered.setPredicate(new AtMostPredicate(2));
+        assertEquals(List.of(3, 4, 5), removed);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_matchesFilter() {
+        Random random = new Random(7);
+        ObservableList<Integer> source = createSource(50);
+        RefinableFilteredList<Integer> filtered = new RefinableFilteredList<>(source);
+        filtered.setPredicate(number -> number % 3 != 0);
+
+        for (int step = 0; step < 500; step++) {
+            int operation = random.nextInt(6);
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), random.nextInt(1000));
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), random.nextInt(1000));
+            } else if (operation == 3) {
+                source.sort(Comparator.comparing(number -> number % 7));
+            } else if (operation == 4) {
+                int modulus = 2 + random.nextInt(4);
+                filtered.setPredicate(number -> number % modulus != 0);
+            } else {
+                filtered.setPredicate(new AtMostPredicate(random.nextInt(1000)));
+            }
+
+            Predicate<? super Integer> predicate = filtered.getPredicate();
+            List<Integer> expected = source.stream().filter(predicate).collect(Collectors.toList());
+            assertEquals(expected, filtered);
+            for (int i = 0; i < filtered.size(); i++) {
+                assertEquals(filtered.get(i), source.get(filtered.getSourceIndex(i)));
+                assertEquals(i, filtered.getViewIndex(filtered.getSourceIndex(i)));
+            }
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        RefinableFilteredList<Integer> filtered = new RefinableFilteredList<>(createSource(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> filtered.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> filtered.getSourceIndex(-1));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CompletionIndexTest {
+
+    @Test
+    public void addAll_typicalPersons_keepsNamesAndTags() {
+        CompletionIndex index = new CompletionIndex();
+        index.addAll(getTypicalPersons());
+
+        assertEquals(getTypicalPersons().size(), index.getNames().size());
+        assertEquals(List.of("Alice Pauline"), index.getNames().getCompletions("alice", 10));
+        assertEquals(List.of("Benson Meier"), index.getNames().getCompletions("BEN", 10));
+        assertEquals(List.of("friends"), index.getTags().getCompletions("fr", 10));
+        assertEquals(List.of("owesMoney"), index.getTags().getCompletions("owes", 10));
+    }
+
+    @Test
+    public void remove_tagSharedWithOtherPerson_keepsTag() {
+        CompletionIndex index = new CompletionIndex();
+        index.add(ALICE);
+        index.add(BENSON);
+
+        index.remove(BENSON);
+        assertFalse(index.getNames().contains("Benson Meier"));
+        assertFalse(index.getTags().contains("owesMoney"));
+        // Alice is also tagged as a friend
+        assertTrue(index.getTags().contains("friends"));
+
+        index.remove(ALICE);
+        assertEquals(0, index.getNames().size());
+        assertEquals(0, index.getTags().size());
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PresetFlags;
+
+public class FlagCategoryTest {
+
+    private static int mask(PresetFlags... flags) {
+        int mask = 0;
+        for (PresetFlags flag : flags) {
+            mask |= flag.getBit();
+        }
+        return mask;
+    }
+
+    @Test
+    public void getBucket_favourite() {
+        assertEquals(0, FlagCategory.FAVOURITE.getBucket(mask(PresetFlags.FAVOURITE)));
+        assertEquals(0, FlagCategory.FAVOURITE.getBucket(mask(PresetFlags.FAVOURITE, PresetFlags.ARCHIVED)));
+        assertEquals(1, FlagCategory.FAVOURITE.getBucket(mask(PresetFlags.BUYER)));
+        assertEquals(2, FlagCategory.FAVOURITE.getBucket(mask(PresetFlags.ARCHIVED)));
+    }
+
+    @Test
+    public void getBucket_buyerSeller() {
+        assertEquals(0, FlagCategory.BUYER_SELLER.getBucket(mask(PresetFlags.BUYER, PresetFlags.SELLER)));
+        assertEquals(1, FlagCategory.BUYER_SELLER.getBucket(mask(PresetFlags.BUYER)));
+        assertEquals(2, FlagCategory.BUYER_SELLER.getBucket(mask(PresetFlags.SELLER)));
+        assertEquals(3, FlagCategory.BUYER_SELLER.getBucket(mask()));
+    }
+
+    @Test
+    public void getBucket_businessPersonal() {
+        assertEquals(0, FlagCategory.BUSINESS_PERSONAL.getBucket(mask(PresetFlags.BUSINESS, PresetFlags.PERSONAL)));
+        assertEquals(1, FlagCategory.BUSINESS_PERSONAL.getBucket(mask(PresetFlags.PERSONAL)));
+        assertEquals(2, FlagCategory.BUSINESS_PERSONAL.getBucket(mask(PresetFlags.FAVOURITE)));
+    }
+
+    @Test
+    public void getBucketLabel() {
+        assertEquals(3, FlagCategory.FAVOURITE.getBucketCount());
+        assertEquals("Favourites", FlagCategory.FAVOURITE.getBucketLabel(0));
+        assertEquals("Sellers", FlagCategory.BUYER_SELLER.getBucketLabel(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> FlagCategory.BUSINESS_PERSONAL.getBucketLabel(3));
+    }
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(FlagCategory.BUYER_SELLER), FlagCategory.fromKeyword("buyer-seller"));
+        assertEquals(Optional.of(FlagCategory.FAVOURITE), FlagCategory.fromKeyword(" Favourite "));
+        assertEquals(Optional.empty(), FlagCategory.fromKeyword("buyer"));
+        assertThrows(NullPointerException.class, () -> FlagCategory.fromKeyword(null));
+    }
+}
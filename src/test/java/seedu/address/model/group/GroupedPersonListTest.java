@@ -0,0 +1,95 @@
+package seedu.address.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class GroupedPersonListTest {
+
+    private static final Optional<PersonGrouping> BY_FAVOURITE =
+            Optional.of(new PersonGrouping(List.of(FlagCategory.FAVOURITE)));
+
+    private final Person amy = new PersonBuilder().withName("Amy").withTags("buyer").build();
+    private final Person ben = new PersonBuilder().withName("Ben").withTags("favourite").build();
+    private final Person cat = new PersonBuilder().withName("Cat").withTags("archived").build();
+    private final Person dan = new PersonBuilder().withName("Dan").withTags("favourite", "seller").build();
+
+    @Test
+    public void ungrouped_passesSourceThrough() {
+        ObservableList<Person> source = FXCollections.observableArrayList(amy, ben);
+        GroupedPersonList grouped = new GroupedPersonList(source);
+        AtomicInteger changes = new AtomicInteger();
+        grouped.addListener((ListChangeListener<Person>) change -> changes.incrementAndGet());
+
+        source.add(cat);
+        assertEquals(List.of(amy, ben, cat), grouped);
+        assertEquals(1, changes.get());
+        assertEquals(2, grouped.getSourceIndex(2));
+        assertEquals(Optional.empty(), grouped.getSectionHeader(0));
+    }
+
+    @Test
+    public void setGrouping_ordersPersonsWithHeaders() {
+        ObservableList<Person> source = FXCollections.observableArrayList(amy, ben, cat, dan);
+        GroupedPersonList grouped = new GroupedPersonList(source);
+        AtomicInteger changes = new AtomicInteger();
+        grouped.addListener((ListChangeListener<Person>) change -> changes.incrementAndGet());
+
+        grouped.setGrouping(BY_FAVOURITE);
+        assertEquals(1, changes.get());
+        assertEquals(List.of(ben, dan, amy, cat), grouped);
+        assertEquals(Optional.of("Favourites (2)"), grouped.getSectionHeader(0));
+        assertEquals(Optional.empty(), grouped.getSectionHeader(1));
+        assertEquals(Optional.of("Others (1)"), grouped.getSectionHeader(2));
+        assertEquals(Optional.of("Archived (1)"), grouped.getSectionHeader(3));
+        assertEquals(Optional.empty(), grouped.getSectionHeader(4));
+        assertEquals(3, grouped.getSourceIndex(1));
+        assertEquals(2, grouped.getViewIndex(0));
+
+        // setting the same grouping again changes nothing
+        grouped.setGrouping(BY_FAVOURITE);
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void sourceChanged_grouped_regroups() {
+        ObservableList<Person> source = FXCollections.observableArrayList(amy, ben);
+        GroupedPersonList grouped = new GroupedPersonList(source);
+        grouped.setGrouping(BY_FAVOURITE);
+
+        source.add(0, dan);
+        assertEquals(List.of(dan, ben, amy), grouped);
+        assertEquals(Optional.of("Favourites (2)"), grouped.getSectionHeader(0));
+
+        source.remove(ben);
+        source.remove(dan);
+        assertEquals(List.of(amy), grouped);
+        assertEquals(Optional.of("Others (1)"), grouped.getSectionHeader(0));
+
+        source.clear();
+        assertTrue(grouped.isEmpty());
+    }
+
+    @Test
+    public void setGrouping_empty_restoresSourceOrder() {
+        ObservableList<Person> source = FXCollections.observableArrayList(amy, ben, cat, dan);
+        GroupedPersonList grouped = new GroupedPersonList(source);
+        grouped.setGrouping(BY_FAVOURITE);
+
+        grouped.setGrouping(Optional.empty());
+        assertEquals(source, grouped);
+        assertEquals(Optional.empty(), grouped.getGrouping());
+        assertEquals(Optional.empty(), grouped.getSectionHeader(0));
+    }
+}
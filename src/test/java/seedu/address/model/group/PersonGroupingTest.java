@@ -0,0 +1,85 @@
+package seedu.address.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonGroupingTest {
+
+    private static final PersonGrouping ALL = new PersonGrouping(Arrays.asList(FlagCategory.values()));
+
+    private final Person favouriteBuyer = new PersonBuilder().withName("Amy").withTags("favourite", "buyer").build();
+    private final Person archivedSeller = new PersonBuilder().withName("Ben").withTags("archived", "seller").build();
+    private final Person businessBuyer = new PersonBuilder().withName("Cat").withTags("buyer", "business").build();
+    private final Person untagged = new PersonBuilder().withName("Dan").withTags().build();
+
+    @Test
+    public void constructor_invalidCategories_throwsException() {
+        assertThrows(NullPointerException.class, () -> new PersonGrouping(null));
+        assertThrows(IllegalArgumentException.class, () -> new PersonGrouping(List.of()));
+        assertThrows(IllegalArgumentException.class, () ->
+                new PersonGrouping(List.of(FlagCategory.FAVOURITE, FlagCategory.FAVOURITE)));
+    }
+
+    @Test
+    public void getGroup_followsSignificance() {
+        assertEquals(3 * 4 * 3, ALL.getGroupCount());
+        assertEquals((0 * 4 + 1) * 3 + 2, ALL.getGroup(favouriteBuyer));
+        assertEquals((2 * 4 + 2) * 3 + 2, ALL.getGroup(archivedSeller));
+        assertEquals((1 * 4 + 1) * 3 + 0, ALL.getGroup(businessBuyer));
+        assertEquals((1 * 4 + 3) * 3 + 2, ALL.getGroup(untagged));
+    }
+
+    @Test
+    public void getGroupLabel() {
+        assertEquals("Favourites / Buyers / Unspecified", ALL.getGroupLabel(ALL.getGroup(favouriteBuyer)));
+        PersonGrouping bySellerThenFavourite = new PersonGrouping(
+                List.of(FlagCategory.BUYER_SELLER, FlagCategory.FAVOURITE));
+        assertEquals("Sellers / Archived",
+                bySellerThenFavourite.getGroupLabel(bySellerThenFavourite.getGroup(archivedSeller)));
+        assertThrows(IllegalArgumentException.class, () -> ALL.getGroupLabel(ALL.getGroupCount()));
+    }
+
+    @Test
+    public void order_persons_groupedAndStable() {
+        Person otherFavouriteBuyer = new PersonBuilder().withName("Eve").withTags("buyer", "favourite").build();
+        List<Person> persons = List.of(untagged, favouriteBuyer, archivedSeller, businessBuyer, otherFavouriteBuyer);
+        assertArrayEquals(new int[] {1, 4, 3, 0, 2}, ALL.order(persons));
+        assertArrayEquals(new int[0], ALL.order(List.of()));
+    }
+
+    @Test
+    public void order_randomGroups_matchesStableSort() {
+        Random random = new Random(42);
+        int[] groups = random.ints(1000, 0, 36).toArray();
+        List<Integer> expected = new ArrayList<>(IntStream.range(0, groups.length).boxed().toList());
+        expected.sort(Comparator.comparingInt(i -> groups[i]));
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), PersonGrouping.order(groups, 36));
+    }
+
+    @Test
+    public void equals() {
+        PersonGrouping favouriteOnly = new PersonGrouping(List.of(FlagCategory.FAVOURITE));
+
+        assertTrue(ALL.equals(ALL));
+        assertTrue(ALL.equals(new PersonGrouping(Arrays.asList(FlagCategory.values()))));
+        assertFalse(ALL.equals(favouriteOnly));
+        assertFalse(favouriteOnly.equals(new PersonGrouping(List.of(FlagCategory.BUYER_SELLER))));
+        assertFalse(ALL.equals(null));
+        assertFalse(ALL.equals(1));
+    }
+}
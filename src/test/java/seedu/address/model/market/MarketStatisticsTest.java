@@ -0,0 +1,70 @@
+package seedu.address.model.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.market.MarketStatistics.Grouping;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Property;
+import seedu.address.model.person.PropertyList;
+import seedu.address.testutil.PersonBuilder;
+
+public class MarketStatisticsTest {
+
+    private static final Property BISHAN_CONDO = Property.of("1 Bishan St", "Bishan", "Condo", 100, 3, 2, 1_000_000);
+    private static final Property BISHAN_HDB = Property.of("2 Bishan St", "bishan", "HDB", 90, 3, 2, 600_000);
+    private static final Property TAMPINES_HDB = Property.of("3 Tampines St", "Tampines", "HDB", 80, 2, 1, 480_000);
+
+    private final MarketStatistics statistics = new MarketStatistics();
+
+    @Test
+    public void add_persons_groupsPropertiesIgnoringCase() {
+        Person alice = withProperties(ALICE, BISHAN_CONDO, TAMPINES_HDB);
+        Person benson = withProperties(BENSON, BISHAN_HDB);
+        statistics.addAll(List.of(alice, benson));
+
+        assertEquals(List.of("Bishan", "Tampines"), getLabels(Grouping.TOWN));
+        assertEquals(List.of("Condo", "HDB"), getLabels(Grouping.TYPE));
+        assertEquals(List.of("Bishan / Condo", "bishan / HDB", "Tampines / HDB"), getLabels(Grouping.TOWN_AND_TYPE));
+
+        MarketAggregate bishan = statistics.getAggregates(Grouping.TOWN).get(0);
+        assertEquals(2, bishan.getCount());
+        assertEquals(600_000, bishan.getPrices().getMin());
+        assertEquals(1_000_000, bishan.getPrices().getMax());
+        assertEquals(800_000, bishan.getPrices().getMean());
+        assertEquals(10_000, bishan.getPricesPerSqm().getMax());
+        assertEquals(3, statistics.getOverall().getCount());
+    }
+
+    @Test
+    public void remove_person_dropsEmptyGroups() {
+        Person alice = withProperties(ALICE, BISHAN_CONDO, TAMPINES_HDB);
+        Person benson = withProperties(BENSON, BISHAN_HDB);
+        statistics.addAll(List.of(alice, benson));
+
+        statistics.remove(alice);
+        assertEquals(List.of("Bishan"), getLabels(Grouping.TOWN));
+        assertEquals(List.of("HDB"), getLabels(Grouping.TYPE));
+        assertEquals(1, statistics.getOverall().getCount());
+        assertEquals(600_000, statistics.getOverall().getPrices().getMax());
+
+        statistics.remove(benson);
+        assertTrue(statistics.getAggregates(Grouping.TOWN_AND_TYPE).isEmpty());
+        assertEquals(0, statistics.getOverall().getCount());
+    }
+
+    private List<String> getLabels(Grouping grouping) {
+        return statistics.getAggregates(grouping).stream().map(MarketAggregate::getLabel).collect(Collectors.toList());
+    }
+
+    private static Person withProperties(Person person, Property... properties) {
+        return new PersonBuilder(person).withPropertyList(new PropertyList(List.of(properties))).build();
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class QuantileSketchTest {
+
+    private final QuantileSketch sketch = new QuantileSketch();
+
+    @Test
+    public void getQuantile_noValues_returnsZero() {
+        assertEquals(0, sketch.getQuantile(0.5));
+        assertEquals(0, sketch.getCount());
+    }
+
+    @Test
+    public void getQuantile_manyValues_withinRelativeAccuracy() {
+        Random random = new Random(39);
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            double value = 100_000 + random.nextDouble() * 4_900_000;
+            values.add(value);
+            sketch.add(value);
+        }
+        Collections.sort(values);
+
+        for (double quantile : new double[] {0.01, 0.5, 0.99, 1}) {
+            double expected = values.get((int) Math.ceil(quantile * values.size()) - 1);
+            assertWithinAccuracy(expected, sketch.getQuantile(quantile));
+        }
+    }
+
+    @Test
+    public void remove_addedValues_updatesQuantiles() {
+        sketch.add(0);
+        sketch.add(10);
+        sketch.add(1_000);
+        sketch.add(1_000_000);
+        assertWithinAccuracy(10, sketch.getQuantile(0.5));
+
+        sketch.remove(0);
+        sketch.remove(10);
+        assertEquals(2, sketch.getCount());
+        assertWithinAccuracy(1_000, sketch.getQuantile(0.5));
+        assertWithinAccuracy(1_000_000, sketch.getQuantile(1));
+    }
+
+    private static void assertWithinAccuracy(double expected, double actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * QuantileSketch.RELATIVE_ACCURACY,
+                "expected about " + expected + " but was " + actual);
+    }
+}
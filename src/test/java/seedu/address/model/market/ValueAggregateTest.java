@@ -0,0 +1,56 @@
+package seedu.address.model.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class ValueAggregateTest {
+
+    private final ValueAggregate aggregate = new ValueAggregate();
+
+    @Test
+    public void getters_noValues_returnZero() {
+        assertEquals(0, aggregate.getCount());
+        assertEquals(0, aggregate.getMean());
+        assertEquals(0, aggregate.getMin());
+        assertEquals(0, aggregate.getMax());
+        assertEquals(0, aggregate.getMedian());
+    }
+
+    @Test
+    public void add_values_updatesAggregates() {
+        aggregate.add(300);
+        aggregate.add(100);
+        aggregate.add(200);
+
+        assertEquals(3, aggregate.getCount());
+        assertEquals(600, aggregate.getSum());
+        assertEquals(200, aggregate.getMean());
+        assertEquals(100, aggregate.getMin());
+        assertEquals(300, aggregate.getMax());
+        assertEquals(200, aggregate.getMedian(), 200 * QuantileSketch.RELATIVE_ACCURACY);
+    }
+
+    @Test
+    public void remove_extremes_findsNewExtremes() {
+        aggregate.add(100);
+        aggregate.add(100);
+        aggregate.add(200);
+        aggregate.add(300);
+
+        aggregate.remove(100);
+        assertEquals(100, aggregate.getMin());
+
+        aggregate.remove(100);
+        aggregate.remove(300);
+        aggregate.add(250);
+        assertEquals(200, aggregate.getMin());
+        assertEquals(250, aggregate.getMax());
+        assertEquals(450, aggregate.getSum());
+
+        aggregate.remove(200);
+        aggregate.remove(250);
+        assertEquals(0, aggregate.getCount());
+        assertEquals(0, aggregate.getMax());
+    }
+}
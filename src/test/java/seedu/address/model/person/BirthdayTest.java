@@ -4,12 +4,40 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DateService;
+
 public class BirthdayTest {
 
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 15);
+
+    private DateService originalDateService;
+
+    @BeforeEach
+    public void setUp() {
+        originalDateService = DateService.getDefault();
+        DateService.setDefault(new DateService(
+                Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        DateService.setDefault(originalDateService);
+    }
+
+    @Test
+    public void isValidBirthday_afterToday_returnsFalse() {
+        assertTrue(Birthday.isValidBirthday(TODAY.toString()));
+        assertFalse(Birthday.isValidBirthday(TODAY.plusDays(1).toString()));
+    }
+
     @Test
     public void equals_differentBirthday() {
         Birthday birthday = new Birthday("1990-05-20");
@@ -54,7 +82,7 @@ public class BirthdayTest {
 
     @Test
     void isBirthdayWithinNextWeek() {
-        LocalDate todaySomeYearsBack = LocalDate.now().minusYears(20); //Valid date for birthday
+        LocalDate todaySomeYearsBack = TODAY.minusYears(20); //Valid date for birthday
         LocalDate sixDaysFromTodaySomeYearsBack = todaySomeYearsBack.plusDays(6); //Valid date within a week
         LocalDate nextWeekSomeYearsBack = todaySomeYearsBack.plusWeeks(1); //Valid date but a week after
         LocalDate dayBeforeTodaySomeYearsBack = todaySomeYearsBack.minusDays(1);
@@ -71,17 +99,17 @@ public class BirthdayTest {
 
     @Test
     void getDateOfUpcomingBirthday() {
-        LocalDate todaySomeYearsBack = LocalDate.now().minusYears(20);
+        LocalDate todaySomeYearsBack = TODAY.minusYears(20);
         LocalDate dayBeforeTodaySomeYearsBack = todaySomeYearsBack.minusDays(1);
         Birthday birthdayToday = new Birthday(todaySomeYearsBack.toString());
         Birthday birthdayBeforeToday = new Birthday(dayBeforeTodaySomeYearsBack.toString());
         Birthday nonBoundaryBirthday = new Birthday("2001-12-31");
 
-        assertEquals(birthdayToday.getDateOfUpcomingBirthday(), LocalDate.now());
+        assertEquals(birthdayToday.getDateOfUpcomingBirthday(), TODAY);
         assertEquals(birthdayBeforeToday.getDateOfUpcomingBirthday(),
-                LocalDate.now().minusDays(1).plusYears(1));
+                TODAY.minusDays(1).plusYears(1));
         assertEquals(nonBoundaryBirthday.getDateOfUpcomingBirthday(),
-                LocalDate.parse("2001-12-31").withYear(LocalDate.now().getYear()));
+                LocalDate.parse("2001-12-31").withYear(TODAY.getYear()));
     }
 
     @Test
@@ -1,12 +1,14 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.HashSet;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.Tag;
 
 public class FlagsTest {
 
@@ -87,4 +89,20 @@ public class FlagsTest {
         assertEquals(0, emptyFlags.flagIsPresent(PresetFlags.FAVOURITE));
         assertEquals(0, emptyFlags.flagIsPresent(PresetFlags.ARCHIVED));
     }
+
+    @Test
+    public void of_tags_setsBitOfEachPresetTag() {
+        Flags flags = Flags.of(Set.of(Tag.FAVOURITE_TAG, Tag.of("business"), Tag.of("friends")));
+
+        assertEquals(PresetFlags.FAVOURITE.getBit() | PresetFlags.BUSINESS.getBit(), flags.getMask());
+        assertEquals(new Flags(PresetFlags.BUSINESS, PresetFlags.FAVOURITE), flags);
+        assertEquals(1, flags.flagIsPresent(PresetFlags.BUSINESS));
+        assertEquals(0, flags.flagIsPresent(PresetFlags.PERSONAL));
+        assertEquals(0, Flags.of(Set.of()).getMask());
+    }
+
+    @Test
+    public void of_sameTags_returnsSameInstance() {
+        assertSame(Flags.of(Set.of(Tag.BUYER_TAG)), Flags.of(Set.of(Tag.BUYER_TAG, Tag.of("friends"))));
+    }
 }
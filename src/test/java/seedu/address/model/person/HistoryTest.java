@@ -30,6 +30,18 @@ public class HistoryTest {
         emptyHistory = new History(of(2024, 1, 1)); // No activity to be added in empty history
     }
 
+    @Test
+    public void getActivityCountAndLastActivityDate() {
+        assertEquals(0, emptyHistory.getActivityCount());
+        assertEquals(of(2024, 1, 1), emptyHistory.getLastActivityDate());
+
+        history.addActivity(of(2024, 1, 10), activity);
+        history.addActivity(of(2024, 1, 10), activity);
+        history.addActivity(of(2024, 1, 5), activity);
+        assertEquals(3, history.getActivityCount());
+        assertEquals(of(2024, 1, 10), history.getLastActivityDate());
+    }
+
     @Test
     public void addActivity_emptyMessage_throwsIllegalArgumentException() {
         LocalDate validDate = of(2024, 1, 10); // Valid date after creation
@@ -82,4 +82,19 @@ public class NameContainsKeywordsPredicateTest {
         String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void refines() {
+        NameContainsKeywordsPredicate alice = new NameContainsKeywordsPredicate(List.of("Alice"));
+        NameContainsKeywordsPredicate aliceOrBob = new NameContainsKeywordsPredicate(List.of("bob", "alice"));
+
+        // fewer keywords match fewer names
+        assertTrue(alice.refines(aliceOrBob));
+        assertTrue(alice.refines(alice));
+        assertFalse(aliceOrBob.refines(alice));
+
+        // different kinds of predicates -> returns false
+        assertFalse(alice.refines(person -> true));
+        assertFalse(alice.refines(null));
+    }
 }
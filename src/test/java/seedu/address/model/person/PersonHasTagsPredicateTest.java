@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonHasTagsPredicateTest {
+
+    @Test
+    public void test() {
+        Person buyer = new PersonBuilder().withTags("buyer", "favourite").build();
+        Person archivedSeller = new PersonBuilder().withTags("seller", "archived").build();
+
+        PersonHasTagsPredicate predicate = new PersonHasTagsPredicate(
+                List.of(Set.of(Tag.BUYER_TAG, Tag.SELLER_TAG)), Set.of(Tag.of("archived")));
+        assertTrue(predicate.test(buyer));
+        assertFalse(predicate.test(archivedSeller));
+
+        predicate = new PersonHasTagsPredicate(List.of(Set.of(Tag.BUYER_TAG), Set.of(Tag.SELLER_TAG)), Set.of());
+        assertFalse(predicate.test(buyer));
+
+        // no required tags -> only the excluded tags count
+        predicate = new PersonHasTagsPredicate(List.of(), Set.of(Tag.FAVOURITE_TAG));
+        assertFalse(predicate.test(buyer));
+        assertTrue(predicate.test(archivedSeller));
+    }
+
+    @Test
+    public void equals() {
+        PersonHasTagsPredicate predicate = new PersonHasTagsPredicate(List.of(Set.of(Tag.BUYER_TAG)), Set.of());
+
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new PersonHasTagsPredicate(List.of(Set.of(Tag.BUYER_TAG)), Set.of())));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new PersonHasTagsPredicate(List.of(Set.of(Tag.SELLER_TAG)), Set.of())));
+        assertFalse(predicate.equals(new PersonHasTagsPredicate(List.of(Set.of(Tag.BUYER_TAG)),
+                Set.of(Tag.SELLER_TAG))));
+    }
+
+    @Test
+    public void refines() {
+        PersonHasTagsPredicate buyersOrSellers = new PersonHasTagsPredicate(
+                List.of(Set.of(Tag.BUYER_TAG, Tag.SELLER_TAG)), Set.of());
+        PersonHasTagsPredicate buyers = new PersonHasTagsPredicate(List.of(Set.of(Tag.BUYER_TAG)), Set.of());
+        PersonHasTagsPredicate favouriteBuyers = new PersonHasTagsPredicate(
+                List.of(Set.of(Tag.BUYER_TAG), Set.of(Tag.FAVOURITE_TAG)), Set.of(Tag.of("archived")));
+        PersonHasTagsPredicate notArchived = new PersonHasTagsPredicate(List.of(), Set.of(Tag.of("archived")));
+
+        assertTrue(buyers.refines(buyersOrSellers));
+        assertTrue(favouriteBuyers.refines(buyers));
+        assertTrue(favouriteBuyers.refines(buyersOrSellers));
+        assertTrue(favouriteBuyers.refines(notArchived));
+        assertTrue(buyers.refines(buyers));
+
+        assertFalse(buyersOrSellers.refines(buyers));
+        assertFalse(buyers.refines(favouriteBuyers));
+        assertFalse(buyers.refines(notArchived));
+        assertFalse(buyers.refines(person -> true));
+    }
+}
@@ -85,6 +85,18 @@ public class PersonTest {
         assertEquals(ALICE.getWeight(0), 0);
         assertEquals(ALICE.getWeight(0, 1), 0);
         assertEquals(ALICE.getWeight(0, 1, 2), 0);
+
+        Person favouriteBusinessBuyer = new PersonBuilder().withTags("favourite", "buyer", "business").build();
+        assertEquals(3, favouriteBusinessBuyer.getWeight(0, 1, 2));
+        Person archivedSeller = new PersonBuilder().withTags("archived", "seller").build();
+        assertEquals(-1, archivedSeller.getWeight(0, 1, 2));
+    }
+
+    @Test
+    public void getFlags_presetTags_setsFlags() {
+        Person person = new PersonBuilder().withTags("buyer", "personal", "friends").build();
+        assertEquals(PresetFlags.BUYER.getBit() | PresetFlags.PERSONAL.getBit(), person.getFlags().getMask());
+        assertEquals(0, ALICE.getFlags().getMask());
     }
 
     @Test
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -68,4 +69,15 @@ public class PropertyTest {
                 Property.of("123 Orchard Road", "Singapore", null,
                         120.0, 2, 2, 1000000.0));
     }
+
+    @Test
+    public void of_sameTownAndType_sharesStrings() {
+        Property first = Property.of("1 Bishan Street", new String("Bishan"), new String("HDB"),
+                90.0, 3, 2, 500000.0);
+        Property second = Property.of("2 Bishan Street", new String("Bishan"), new String("HDB"),
+                95.0, 3, 2, 550000.0);
+
+        assertSame(first.getTown(), second.getTown());
+        assertSame(first.getPropertyType(), second.getPropertyType());
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -30,4 +32,10 @@ public class RemarkTest {
         // different values -> returns false
         assertFalse(remark.equals(new Remark("Other Valid remark")));
     }
+
+    @Test
+    public void of_emptyRemark_returnsCanonicalInstance() {
+        assertSame(Remark.EMPTY_REMARK, Remark.of(""));
+        assertEquals(new Remark("Valid remark"), Remark.of("Valid remark"));
+    }
 }
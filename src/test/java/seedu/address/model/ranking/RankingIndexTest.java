@@ -0,0 +1,98 @@
+package seedu.address.model.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Property;
+import seedu.address.model.person.PropertyList;
+import seedu.address.testutil.PersonBuilder;
+
+public class RankingIndexTest {
+
+    private static final Predicate<Person> ANY_PERSON = person -> true;
+
+    private static final Person AMY = new PersonBuilder().withName("Amy").withTags("seller")
+            .withDateOfCreation("2024-01-01")
+            .withHistory(LocalDate.of(2024, 1, 1), "Created")
+            .withPropertyList(new PropertyList(List.of(
+                    Property.of("1 Bishan St", "Bishan", "Condo", 120, 3, 2, 1_200_000),
+                    Property.of("2 Tampines St", "Tampines", "HDB", 90, 3, 2, 500_000))))
+            .build();
+    private static final Person BEN = new PersonBuilder().withName("Ben").withTags("buyer")
+            .withDateOfCreation("2024-01-01")
+            .withHistory(LocalDate.of(2024, 1, 1), "Created")
+            .withHistory(LocalDate.of(2024, 3, 1), "Viewing")
+            .withHistory(LocalDate.of(2024, 3, 2), "Offer")
+            .withPropertyList(new PropertyList(List.of(
+                    Property.of("3 Bishan St", "bishan", "HDB", 100, 3, 2, 700_000))))
+            .build();
+    private static final Person CAT = new PersonBuilder().withName("Cat").withTags("seller")
+            .withDateOfCreation("2024-01-01")
+            .withHistory(LocalDate.of(2024, 2, 1), "Call")
+            .withHistory(LocalDate.of(2024, 2, 3), "Call")
+            .build();
+
+    private final RankingIndex index = new RankingIndex();
+
+    @Test
+    public void getTop_propertyRankings_orderedByValue() {
+        index.addAll(List.of(AMY, BEN, CAT));
+
+        assertEquals(List.of(500_000.0, 700_000.0, 1_200_000.0), getValues(Ranking.CHEAPEST, 10, ANY_PERSON));
+        assertEquals(List.of(120.0, 100.0), getValues(Ranking.LARGEST, 2, ANY_PERSON));
+    }
+
+    @Test
+    public void getTop_personRankings_orderedByHistory() {
+        index.addAll(List.of(AMY, BEN, CAT));
+
+        assertEquals(List.of(BEN, CAT, AMY), getPersons(Ranking.MOST_ACTIVE, 3, ANY_PERSON));
+        assertEquals(List.of(AMY, CAT, BEN), getPersons(Ranking.LONGEST_UNCONTACTED, 3, ANY_PERSON));
+    }
+
+    @Test
+    public void getTop_filterAndTown_onlyMatchingEntries() {
+        index.addAll(List.of(AMY, BEN, CAT));
+        Predicate<Person> sellers = person -> person.getTags().stream().anyMatch(tag -> tag.tagName.equals("seller"));
+
+        assertEquals(List.of(500_000.0, 1_200_000.0), getValues(Ranking.CHEAPEST, 10, sellers));
+        assertEquals(List.of(700_000.0, 1_200_000.0),
+                index.getTop(Ranking.CHEAPEST, 10, ANY_PERSON, Optional.of("BISHAN")).stream()
+                        .map(RankedEntry::getValue).collect(Collectors.toList()));
+        assertEquals(List.of(AMY), index.getTop(Ranking.MOST_ACTIVE, 10, sellers, Optional.of("tampines")).stream()
+                .map(RankedEntry::getPerson).collect(Collectors.toList()));
+        assertTrue(index.getTop(Ranking.CHEAPEST, 10, ANY_PERSON, Optional.of("Yishun")).isEmpty());
+    }
+
+    @Test
+    public void remove_person_removesAllItsEntries() {
+        index.addAll(List.of(AMY, BEN, CAT));
+        index.remove(AMY);
+
+        assertEquals(List.of(700_000.0), getValues(Ranking.CHEAPEST, 10, ANY_PERSON));
+        assertEquals(List.of(CAT, BEN), getPersons(Ranking.LONGEST_UNCONTACTED, 10, ANY_PERSON));
+        assertTrue(index.getTop(Ranking.CHEAPEST, 10, ANY_PERSON, Optional.of("Tampines")).isEmpty());
+
+        index.add(AMY);
+        assertEquals(3, getValues(Ranking.CHEAPEST, 10, ANY_PERSON).size());
+    }
+
+    private List<Double> getValues(Ranking ranking, int count, Predicate<Person> filter) {
+        return index.getTop(ranking, count, filter, Optional.empty()).stream()
+                .map(RankedEntry::getValue).collect(Collectors.toList());
+    }
+
+    private List<Person> getPersons(Ranking ranking, int count, Predicate<Person> filter) {
+        return index.getTop(ranking, count, filter, Optional.empty()).stream()
+                .map(RankedEntry::getPerson).collect(Collectors.toList());
+    }
+}
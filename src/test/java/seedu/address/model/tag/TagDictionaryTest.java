@@ -0,0 +1,36 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    @Test
+    public void intern_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TagDictionary.intern("not valid"));
+        assertThrows(NullPointerException.class, () -> TagDictionary.intern(null));
+    }
+
+    @Test
+    public void intern_sameName_returnsFlyweight() {
+        Tag tag = TagDictionary.intern("dictionaryFlyweight");
+        assertSame(tag, TagDictionary.intern(new String("dictionaryFlyweight")));
+        assertSame(Tag.FAVOURITE_TAG, TagDictionary.intern("favourite"));
+    }
+
+    @Test
+    public void getId_newTag_addsNameWithNewId() {
+        Tag tag = new Tag("dictionaryNewName");
+        assertEquals(TagDictionary.NO_ID, TagDictionary.findId(tag));
+
+        int id = TagDictionary.getId(tag);
+        assertEquals(id, TagDictionary.findId(new Tag("dictionaryNewName")));
+        assertEquals(id, TagDictionary.getId(new Tag("dictionaryNewName")));
+        assertNotEquals(id, TagDictionary.getId(Tag.BUYER_TAG));
+        assertEquals(tag, TagDictionary.getTag(id));
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag BUYER = Tag.BUYER_TAG;
+    private static final Tag SELLER = Tag.SELLER_TAG;
+    private static final Tag FAVOURITE = Tag.FAVOURITE_TAG;
+    private static final Tag ARCHIVED = Tag.of("archived");
+
+    private final Person amy = new PersonBuilder().withName("Amy").withTags("buyer", "favourite").build();
+    private final Person ben = new PersonBuilder().withName("Ben").withTags("seller", "archived").build();
+    private final Person cat = new PersonBuilder().withName("Cat").withTags("buyer", "archived").build();
+    private final Person dan = new PersonBuilder().withName("Dan").build();
+
+    private TagIndex createIndex() {
+        TagIndex index = new TagIndex();
+        index.addAll(List.of(amy, ben, cat, dan));
+        return index;
+    }
+
+    @Test
+    public void evaluate_requiredAndExcludedTags() {
+        TagIndex index = createIndex();
+
+        assertMatches(index, new PersonHasTagsPredicate(List.of(Set.of(BUYER)), Set.of()), amy, cat);
+        assertMatches(index, new PersonHasTagsPredicate(List.of(Set.of(BUYER), Set.of(FAVOURITE)), Set.of()), amy);
+        assertMatches(index, new PersonHasTagsPredicate(List.of(Set.of(BUYER, SELLER)), Set.of(ARCHIVED)), amy);
+        assertMatches(index, new PersonHasTagsPredicate(List.of(), Set.of(ARCHIVED)), amy, dan);
+        assertMatches(index, new PersonHasTagsPredicate(List.of(Set.of(new Tag("tagIndexUnknown"))), Set.of()));
+    }
+
+    @Test
+    public void evaluate_countsTagsOfMatches() {
+        TagFilterResult result = createIndex().evaluate(
+                new PersonHasTagsPredicate(List.of(Set.of(BUYER, SELLER)), Set.of()));
+
+        Map<Tag, Integer> expected = new LinkedHashMap<>();
+        expected.put(FAVOURITE, 1);
+        expected.put(BUYER, 2);
+        expected.put(SELLER, 1);
+        expected.put(ARCHIVED, 2);
+        assertEquals(3, result.getCount());
+        assertEquals(expected, result.getTagCounts());
+    }
+
+    @Test
+    public void remove_personIsNoLongerMatched() {
+        TagIndex index = createIndex();
+        index.remove(amy);
+        assertEquals(3, index.size());
+        assertMatches(index, new PersonHasTagsPredicate(List.of(Set.of(BUYER)), Set.of()), cat);
+
+        // the freed ordinal is reused
+        Person eve = new PersonBuilder().withName("Eve").withTags("seller").build();
+        index.add(eve);
+        assertMatches(index, new PersonHasTagsPredicate(List.of(Set.of(SELLER)), Set.of()), ben, eve);
+    }
+
+    @Test
+    public void evaluate_resultDoesNotChangeWithIndex() {
+        TagIndex index = createIndex();
+        TagFilterResult singleTagResult = index.evaluate(
+                new PersonHasTagsPredicate(List.of(Set.of(BUYER)), Set.of()));
+        TagFilterResult allResult = index.evaluate(new PersonHasTagsPredicate(List.of(), Set.of()));
+
+        index.add(new PersonBuilder().withName("Eve").withTags("buyer").build());
+        assertEquals(2, singleTagResult.getCount());
+        assertEquals(4, allResult.getCount());
+    }
+
+    @Test
+    public void refines_followsPredicates() {
+        TagIndex index = createIndex();
+        PersonHasTagsPredicate buyers = new PersonHasTagsPredicate(List.of(Set.of(BUYER)), Set.of());
+        PersonHasTagsPredicate buyersOrSellers = new PersonHasTagsPredicate(List.of(Set.of(BUYER, SELLER)), Set.of());
+
+        assertTrue(index.evaluate(buyers).refines(index.evaluate(buyersOrSellers)));
+        assertTrue(index.evaluate(buyers).refines(buyersOrSellers));
+        assertFalse(index.evaluate(buyersOrSellers).refines(index.evaluate(buyers)));
+    }
+
+    @Test
+    public void test_afterIndexChanges_testsTags() {
+        TagIndex index = createIndex();
+        TagFilterResult result = index.evaluate(new PersonHasTagsPredicate(List.of(Set.of(BUYER)), Set.of()));
+        Person eve = new PersonBuilder().withName("Eve").withTags("buyer").build();
+
+        // not yet in the index
+        assertTrue(result.test(eve));
+
+        index.remove(amy);
+        index.add(eve);
+        assertTrue(result.test(eve));
+        assertTrue(result.test(cat));
+        assertFalse(result.test(ben));
+    }
+
+    @Test
+    public void test_countsIndexHitsAndMisses() {
+        TagIndex index = createIndex();
+        TagFilterResult result = index.evaluate(new PersonHasTagsPredicate(List.of(Set.of(BUYER)), Set.of()));
+        result.test(amy);
+        result.test(ben);
+        assertEquals(2, index.getHitCount());
+        assertEquals(0, index.getMissCount());
+
+        // the index changed since the result was found
+        index.remove(dan);
+        result.test(amy);
+        assertEquals(2, index.getHitCount());
+        assertEquals(1, index.getMissCount());
+    }
+
+    @Test
+    public void evaluate_matchesPredicate() {
+        Random random = new Random(3);
+        String[] tagNames = {"buyer", "seller", "favourite", "archived", "investor"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            List<String> tags = new ArrayList<>();
+            for (String tagName : tagNames) {
+                if (random.nextBoolean()) {
+                    tags.add(tagName);
+                }
+            }
+            persons.add(new PersonBuilder().withName("Person " + i).withTags(tags.toArray(new String[0])).build());
+        }
+        TagIndex index = new TagIndex();
+        index.addAll(persons);
+        persons.subList(0, 500).forEach(index::remove);
+
+        PersonHasTagsPredicate predicate = new PersonHasTagsPredicate(
+                List.of(Set.of(BUYER, SELLER), Set.of(Tag.of("investor"))), Set.of(ARCHIVED));
+        TagFilterResult result = index.evaluate(predicate);
+        List<Person> remaining = persons.subList(500, persons.size());
+        assertEquals(remaining.stream().filter(predicate).count(), result.getCount());
+        remaining.forEach(person -> assertEquals(predicate.test(person), result.test(person)));
+    }
+
+    private static void assertMatches(TagIndex index, PersonHasTagsPredicate predicate, Person... expected) {
+        TagFilterResult result = index.evaluate(predicate);
+        assertEquals(expected.length, result.getCount());
+        for (Person person : expected) {
+            assertTrue(result.test(person));
+        }
+    }
+}
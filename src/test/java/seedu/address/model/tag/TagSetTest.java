@@ -0,0 +1,94 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_emptyCollection_returnsEmpty() {
+        assertSame(TagSet.EMPTY, TagSet.of(Set.of()));
+        assertEquals(0, TagSet.EMPTY.size());
+        assertFalse(TagSet.EMPTY.iterator().hasNext());
+    }
+
+    @Test
+    public void of_sameTags_returnsSameSet() {
+        TagSet tags = TagSet.of(Set.of(new Tag("tagSetFirst"), Tag.BUYER_TAG));
+        assertSame(tags, TagSet.of(Set.of(Tag.BUYER_TAG, new Tag("tagSetFirst"))));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(Set.of(new Tag("tagSetContained"), Tag.SELLER_TAG));
+
+        assertTrue(tags.contains(new Tag("tagSetContained")));
+        assertTrue(tags.contains(Tag.SELLER_TAG));
+        assertFalse(tags.contains(Tag.BUYER_TAG));
+        assertFalse(tags.contains(new Tag("tagSetNeverAdded")));
+        assertFalse(tags.contains("tagSetContained"));
+    }
+
+    @Test
+    public void iterator_returnsFlyweightsInDictionaryOrder() {
+        Tag flyweight = TagDictionary.intern("tagSetIterated");
+        TagSet tags = TagSet.of(Set.of(new Tag("tagSetIterated"), Tag.FAVOURITE_TAG));
+
+        List<Tag> iterated = new ArrayList<>(tags);
+        assertEquals(List.of(Tag.FAVOURITE_TAG, flyweight), iterated);
+        assertSame(flyweight, iterated.get(1));
+    }
+
+    @Test
+    public void of_manyTags_spansSeveralWords() {
+        Set<Tag> expected = new HashSet<>();
+        for (int i = 0; i < 150; i++) {
+            expected.add(new Tag("tagSetMany" + i));
+        }
+        TagSet tags = TagSet.of(expected);
+
+        assertEquals(150, tags.size());
+        assertEquals(expected, new HashSet<>(tags));
+        assertTrue(tags.contains(new Tag("tagSetMany149")));
+    }
+
+    @Test
+    public void equals() {
+        Set<Tag> hashSet = Set.of(Tag.BUYER_TAG, new Tag("tagSetEqual"));
+        TagSet tags = TagSet.of(hashSet);
+
+        // same tags as another kind of set -> returns true, with the same hash code
+        assertTrue(tags.equals(hashSet));
+        assertTrue(hashSet.equals(tags));
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+
+        // different tags -> returns false
+        assertFalse(tags.equals(TagSet.of(Set.of(Tag.BUYER_TAG))));
+        assertFalse(tags.equals(null));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Set.of(Tag.BUYER_TAG));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(Tag.SELLER_TAG));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(Tag.BUYER_TAG));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(Tag.SELLER_TAG));
+        assertThrows(UnsupportedOperationException.class, tags::clear);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.model.tag.Tag.BUYER_TAG;
 import static seedu.address.model.tag.Tag.FAVOURITE_TAG;
 import static seedu.address.model.tag.Tag.SELLER_TAG;
@@ -34,4 +35,10 @@ public class TagTest {
         assertEquals(SELLER_TAG, Tag.of("seller"));
         assertEquals(VALID_TAG_USING_VALID_NAME, new Tag(VALID_TAG_NAME));
     }
+
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Tag.of(VALID_TAG_NAME), Tag.of(new String(VALID_TAG_NAME)));
+        assertSame(FAVOURITE_TAG, Tag.of("Favourite"));
+    }
 }
@@ -0,0 +1,41 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Property;
+import seedu.address.model.person.Remark;
+
+public class HeapFootprintBenchmarkTest {
+
+    @Test
+    public void createPersons_rebuildsGeneratedPersons() {
+        List<Person> generated = new PersonGenerator(7).generate(200).toList();
+        List<Person> persons = HeapFootprintBenchmark.createPersons(generated);
+        assertEquals(generated, persons);
+        for (int i = 0; i < persons.size(); i++) {
+            assertNotSame(generated.get(i).getName().fullName, persons.get(i).getName().fullName);
+            assertEquals(generated.get(i).getTags(), persons.get(i).getTags());
+            assertEquals(generated.get(i).getPropertyList(), persons.get(i).getPropertyList());
+        }
+    }
+
+    @Test
+    public void createPersons_sharesRepeatedValues() {
+        List<Person> persons = HeapFootprintBenchmark.createPersons(new PersonGenerator(7).generate(200).toList());
+        for (Person person : persons) {
+            Property property = person.getPropertyList().getProperties().get(0);
+            assertSame(property.getTown(), Property.of("Address", property.getTown(), property.getPropertyType(),
+                    1, 1, 1, 1).getTown());
+            if (person.getRemark().getValue().isEmpty()) {
+                assertSame(Remark.EMPTY_REMARK, person.getRemark());
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Property;
+
+public class PersonGeneratorTest {
+
+    @Test
+    public void generate_sameSeed_samePersons() {
+        assertEquals(new PersonGenerator(7).generate(200).collect(Collectors.toList()),
+                new PersonGenerator(7).generate(200).collect(Collectors.toList()));
+        assertNotEquals(new PersonGenerator(7).generate(200).collect(Collectors.toList()),
+                new PersonGenerator(8).generate(200).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void generatePerson_anyIndex_sameAsInStream() {
+        PersonGenerator generator = new PersonGenerator(7);
+        List<Person> persons = generator.generate(50).collect(Collectors.toList());
+        assertEquals(persons.get(37), generator.generatePerson(37));
+    }
+
+    @Test
+    public void generate_morePersonsThanNames_uniqueNames() {
+        // more persons than there are pairings of first and last names
+        List<Person> persons = new PersonGenerator(7).generate(7_000).collect(Collectors.toList());
+        Set<String> names = persons.stream().map(person -> person.getName().fullName).collect(Collectors.toSet());
+        assertEquals(persons.size(), names.size());
+        // the persons can be put in one address book
+        new AddressBook().addPersons(persons);
+    }
+
+    @Test
+    public void generate_realisticPersons() {
+        List<Person> persons = new PersonGenerator(7).generate(500).collect(Collectors.toList());
+        for (Person person : persons) {
+            List<Property> properties = person.getPropertyList().getProperties();
+            assertTrue(properties.size() >= 1 && properties.size() <= 4);
+            assertTrue(person.getTags().size() <= 3);
+            assertFalse(person.getBirthday().getValue().isEmpty());
+            assertTrue(person.getHistory().getActivityCount() >= 1);
+            assertFalse(person.getHistory().getLastActivityDate().isAfter(PersonGenerator.LAST_ACTIVITY_DATE));
+            for (Property property : properties) {
+                assertTrue(property.getPrice() > 0);
+            }
+        }
+        // several years of history
+        assertTrue(persons.stream().anyMatch(person -> person.getHistory().getLastActivityDate()
+                .isAfter(person.getDateOfCreation().getDateOfCreation().plusYears(2))));
+    }
+
+    @Test
+    public void generate_invalidArguments_throwIllegalArgumentException() {
+        PersonGenerator generator = new PersonGenerator(7);
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(PersonGenerator.MAX_PERSONS + 1));
+        assertThrows(IllegalArgumentException.class, () -> generator.generatePerson(-1));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiLoadTesterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveThreadCount_throwsIllegalArgumentException() {
+        URI uri = URI.create("http://localhost:8080/api/persons");
+        assertThrows(IllegalArgumentException.class, () ->
+                new ApiLoadTester(uri, "token", 0, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void run_runningServer_reportsServedRequests() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ApiServer apiServer = new ApiServer(new LogicManager(model, storage), 0, "token", Runnable::run);
+        apiServer.start();
+        try {
+            URI uri = URI.create("http://localhost:" + apiServer.getPort() + ApiServer.PERSONS_PATH + "?q=alice");
+            ApiLoadTester.Result result = new ApiLoadTester(uri, "token", 2, Duration.ofMillis(300)).run();
+
+            assertTrue(result.getSuccessCount() > 0);
+            assertEquals(0, result.getErrorCount());
+            assertTrue(result.getRequestsPerSecond() > 0);
+        } finally {
+            apiServer.stop();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final String TOKEN = "secret";
+
+    @TempDir
+    public Path testFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+        // the test thread stands in for the UI thread
+        apiServer = new ApiServer(new LogicManager(model, storage), 0, TOKEN, Runnable::run);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+    }
+
+    @Test
+    public void getPersons_withQuery_returnsMatchingPersons() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH + "?q=alice");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("[{\"name\":\"Alice Pauline\""));
+        assertEquals(1, response.body().split("\"name\"").length - 1);
+
+        response = get(ApiServer.PERSONS_PATH);
+        assertEquals(model.getAddressBook().getPersonList().size(), response.body().split("\"name\"").length - 1);
+    }
+
+    @Test
+    public void getPerson_byName_returnsPersonAndTimeline() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH + "/alice%20pauline");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"phone\":\"" + ALICE.getPhone() + "\""));
+
+        response = get(ApiServer.PERSONS_PATH + "/Alice%20Pauline" + ApiServer.TIMELINE_SUFFIX);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("["));
+
+        response = get(ApiServer.PERSONS_PATH + "/Nobody");
+        assertEquals(404, response.statusCode());
+        assertTrue(response.body().contains(String.format(ApiServer.MESSAGE_PERSON_NOT_FOUND, "Nobody")));
+    }
+
+    @Test
+    public void postCommand_validCommand_changesModelAndSnapshot() throws Exception {
+        int size = model.getAddressBook().getPersonList().size();
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, "{\"command\": \"delete 1\"}");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("{\"feedback\":"));
+        assertEquals(size - 1, model.getAddressBook().getPersonList().size());
+
+        // reads see the change
+        assertEquals(404, get(ApiServer.PERSONS_PATH + "/Alice%20Pauline").statusCode());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, "{\"command\": \"delete 999\"}");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().startsWith("{\"error\":"));
+    }
+
+    @Test
+    public void request_wrongMethod_returnsMethodNotAllowed() throws Exception {
+        assertEquals(405, post(ApiServer.PERSONS_PATH, "").statusCode());
+        assertEquals(405, get(ApiServer.COMMANDS_PATH).statusCode());
+    }
+
+    @Test
+    public void postCommand_invalidBody_returnsBadRequest() throws Exception {
+        for (String body : new String[] {"delete 1", "{}", "{\"command\": 1}", ""}) {
+            HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, body);
+            assertEquals(400, response.statusCode());
+            assertTrue(response.body().contains("command"));
+        }
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void postCommand_notJson_returnsUnsupportedMediaType() throws Exception {
+        // a web page can send a text/plain POST without asking the server first
+        HttpRequest request = authorized(ApiServer.COMMANDS_PATH).header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"clear\"}")).build();
+        assertEquals(415, send(request).statusCode());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void request_missingOrWrongToken_returnsUnauthorized() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(ApiServer.PERSONS_PATH)).GET().build();
+        assertEquals(401, send(request).statusCode());
+
+        request = HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH)).header(ApiServer.TOKEN_HEADER, "wrong")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"clear\"}")).build();
+        HttpResponse<String> response = send(request);
+        assertEquals(401, response.statusCode());
+        assertTrue(response.body().contains(ApiServer.MESSAGE_UNAUTHORIZED));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void request_fromWebPage_returnsForbidden() throws Exception {
+        HttpRequest request = authorized(ApiServer.PERSONS_PATH).header("Origin", "http://example.com").GET().build();
+        HttpResponse<String> response = send(request);
+        assertEquals(403, response.statusCode());
+        assertTrue(response.body().contains(ApiServer.MESSAGE_ORIGIN_NOT_ALLOWED));
+    }
+
+    @Test
+    public void isLocalHost() {
+        assertTrue(ApiServer.isLocalHost("localhost"));
+        assertTrue(ApiServer.isLocalHost("LOCALHOST:8080"));
+        assertTrue(ApiServer.isLocalHost("127.0.0.1:8080"));
+        assertTrue(ApiServer.isLocalHost("[::1]:8080"));
+        // a rebound domain that resolves to this computer
+        assertFalse(ApiServer.isLocalHost("attacker.example.com:8080"));
+        assertFalse(ApiServer.isLocalHost("localhost.example.com"));
+    }
+
+    @Test
+    public void generateToken_differentEachTime() {
+        assertNotEquals(ApiServer.generateToken(), ApiServer.generateToken());
+        assertTrue(ApiServer.generateToken().length() >= 32);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return send(authorized(path).GET().build());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return send(authorized(path).header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build());
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(uri(path)).header(ApiServer.TOKEN_HEADER, TOKEN);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + apiServer.getPort() + path);
+    }
+}
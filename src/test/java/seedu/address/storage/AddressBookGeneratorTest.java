@@ -0,0 +1,30 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.util.PersonGenerator;
+
+public class AddressBookGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBookName() {
+        assertEquals("generated-1000-42", AddressBookGenerator.getBookName(1000, 42));
+    }
+
+    @Test
+    public void generate_readBack_generatedPersons() throws Exception {
+        Path file = testFolder.resolve("generated.json");
+        AddressBookGenerator.generate(100, 7, file);
+        assertEquals(new PersonGenerator(7).generate(100).collect(Collectors.toList()),
+                new JsonAddressBookStorage(file).readAddressBook().get().getPersonList());
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class HistoryLoadBenchmarkTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_sameSeed_sameAddressBook() {
+        assertEquals(HistoryLoadBenchmark.generate(20, 10, 7), HistoryLoadBenchmark.generate(20, 10, 7));
+    }
+
+    @Test
+    public void generate_savedAndRead_keepsHistories() throws Exception {
+        AddressBook addressBook = HistoryLoadBenchmark.generate(20, 10, 7);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook read = storage.readAddressBook().get();
+        assertEquals(addressBook, read);
+        for (int i = 0; i < read.getPersonList().size(); i++) {
+            assertEquals(addressBook.getPersonList().get(i).getHistory(), read.getPersonList().get(i).getHistory());
+        }
+    }
+
+    @Test
+    public void getStoredDates_returnsCreationAndHistoryDates() {
+        AddressBook addressBook = HistoryLoadBenchmark.generate(20, 10, 7);
+        List<String> dates = HistoryLoadBenchmark.getStoredDates(addressBook);
+        int expectedCount = 0;
+        for (Person person : addressBook.getPersonList()) {
+            assertTrue(person.getHistory().getHistoryEntries().size() >= 10);
+            expectedCount += 1 + person.getHistory().getHistoryEntries().size();
+        }
+        assertEquals(expectedCount, dates.size());
+        HistoryLoadBenchmark.measureParsing(dates, LocalDate::parse);
+        for (String date : dates) {
+            assertEquals(LocalDate.parse(date), DateUtil.parseIsoDate(date));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,20 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -85,6 +91,126 @@ public class JsonAddressBookStorageTest {
         assertEquals(original, new AddressBook(readBack));
     }
 
+    @Test
+    public void saveAddressBook_unchangedPersons_reusesTheirEncoding() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        JsonPersonFragmentCache fragmentCache = jsonAddressBookStorage.getFragmentCache();
+        int size = original.getPersonList().size();
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(size, fragmentCache.getMissCount());
+
+        // only the added person is encoded again
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(size + 1, fragmentCache.getMissCount());
+        assertEquals(size, fragmentCache.getHitCount());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_prettyPrinted_readsBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage =
+                new JsonAddressBookStorage(filePath, true, FileUtil.NO_COMPRESSION);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertTrue(FileUtil.readFromFile(filePath).startsWith("{\n  \"persons\" : [ {\n"));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readsBackWithAnyStorage() throws Exception {
+        Path compressedFilePath = testFolder.resolve("Compressed.json");
+        Path uncompressedFilePath = testFolder.resolve("Uncompressed.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(compressedFilePath, false, FileUtil.MAX_COMPRESSION).saveAddressBook(original);
+        new JsonAddressBookStorage(uncompressedFilePath).saveAddressBook(original);
+        assertTrue(Files.size(compressedFilePath) < Files.size(uncompressedFilePath));
+
+        // compression is detected from the file content, not from the storage settings
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(compressedFilePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBookOfPersons_streamedPersons_readsBack() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        for (boolean isPrettyPrinted : new boolean[] {false, true}) {
+            Path filePath = testFolder.resolve("Streamed" + isPrettyPrinted + ".json");
+            Path savedFilePath = testFolder.resolve("Saved" + isPrettyPrinted + ".json");
+            JsonAddressBookStorage storage =
+                    new JsonAddressBookStorage(filePath, isPrettyPrinted, FileUtil.NO_COMPRESSION);
+
+            storage.saveAddressBook(original.getPersonList().stream()::iterator, filePath);
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+            assertEquals(0, storage.getFragmentCache().size());
+
+            // the persons are written exactly as in a saved address book
+            storage.saveAddressBook(original, savedFilePath);
+            assertEquals(FileUtil.readFromFile(savedFilePath), FileUtil.readFromFile(filePath));
+        }
+    }
+
+    @Test
+    public void readAddressBookInChunks_savedFile_passesPersonsInOrder() throws Exception {
+        for (boolean isPrettyPrinted : new boolean[] {false, true}) {
+            Path filePath = testFolder.resolve("Chunked" + isPrettyPrinted + ".json");
+            AddressBook original = getTypicalAddressBook();
+            JsonAddressBookStorage storage =
+                    new JsonAddressBookStorage(filePath, isPrettyPrinted, FileUtil.MAX_COMPRESSION);
+            storage.saveAddressBook(original);
+
+            List<List<Person>> chunks = new ArrayList<>();
+            assertTrue(storage.readAddressBook(chunks::add, 3));
+            assertEquals(List.of(3, 3, 1), chunks.stream().map(List::size).toList());
+            assertEquals(original.getPersonList(), chunks.stream().flatMap(List::stream).toList());
+        }
+    }
+
+    @Test
+    public void readAddressBookInChunks_missingFile_returnsFalse() throws Exception {
+        List<List<Person>> chunks = new ArrayList<>();
+        assertFalse(new JsonAddressBookStorage(testFolder.resolve("NonExistentFile.json"))
+                .readAddressBook(chunks::add, 3));
+        assertTrue(chunks.isEmpty());
+    }
+
+    @Test
+    public void readAddressBookInChunks_shards_passesPersonsInOrder() throws Exception {
+        Path filePath = testFolder.resolve("Sharded.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedJsonAddressBookStorage(filePath, 3, false, FileUtil.NO_COMPRESSION).saveAddressBook(original);
+
+        List<List<Person>> chunks = new ArrayList<>();
+        assertTrue(new JsonAddressBookStorage(filePath).readAddressBook(chunks::add, 4));
+        assertEquals(new AddressBook(new ShardedJsonAddressBookStorage(filePath, 3, false, FileUtil.NO_COMPRESSION)
+                .readAddressBook().get()).getPersonList(), chunks.stream().flatMap(List::stream).toList());
+        assertEquals(List.of(4, 3), chunks.stream().map(List::size).toList());
+    }
+
+    @Test
+    public void readAddressBookInChunks_invalidFiles_throwDataLoadingException() {
+        for (Path filePath : List.of(TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json"),
+                TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"),
+                TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"),
+                Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                        "duplicatePersonAddressBook.json"))) {
+            assertThrows(DataLoadingException.class, () ->
+                    new JsonAddressBookStorage(filePath).readAddressBook(chunk -> { }, 1));
+        }
+    }
+
+    @Test
+    public void readAddressBookInChunks_invalidChunkSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JsonAddressBookStorage(testFolder.resolve("SomeFile.json")).readAddressBook(chunk -> { }, 0));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+public class JsonPersonEncoderTest {
+
+    private final JsonPersonEncoder encoder = new JsonPersonEncoder();
+
+    @Test
+    public void encode_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> encoder.encode((Person) null));
+    }
+
+    @Test
+    public void encode_person_matchesDataFileFormat() throws Exception {
+        byte[] expected = JsonUtil.getCompactWriter().writeValueAsBytes(new JsonAdaptedPerson(ALICE));
+        assertArrayEquals(expected, encoder.encode(ALICE));
+
+        // the cached encoding cannot be changed through the returned array
+        encoder.encode(ALICE)[0] = 'x';
+        assertArrayEquals(expected, encoder.encode(ALICE));
+    }
+
+    @Test
+    public void encode_persons_returnsArray() throws Exception {
+        String expected = "[" + new String(encoder.encode(ALICE), StandardCharsets.UTF_8) + ","
+                + new String(encoder.encode(BENSON), StandardCharsets.UTF_8) + "]";
+        assertEquals(expected, new String(encoder.encode(List.of(ALICE, BENSON)), StandardCharsets.UTF_8));
+        assertEquals("[]", new String(encoder.encode(List.of()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void encodeTimeline_person_returnsHistoryEntries() throws Exception {
+        String timeline = new String(encoder.encodeTimeline(ALICE), StandardCharsets.UTF_8);
+        assertEquals(ALICE.getHistory().getHistoryEntries().size(), timeline.split("\"date\"").length - 1);
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonPersonFragmentCacheTest {
+
+    private final JsonPersonFragmentCache cache = new JsonPersonFragmentCache();
+
+    @Test
+    public void getFragment_newPerson_encodesPerson() throws Exception {
+        byte[] expected = JsonUtil.getCompactWriter().writeValueAsBytes(new JsonAdaptedPerson(ALICE));
+        assertArrayEquals(expected, cache.getFragment(ALICE));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void getFragment_samePersonAgain_returnsCachedFragment() throws Exception {
+        byte[] fragment = cache.getFragment(ALICE);
+        cache.getFragment(BENSON);
+
+        assertSame(fragment, cache.getFragment(ALICE));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void getFragment_equalButDifferentInstance_encodesAgain() throws Exception {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        cache.getFragment(ALICE);
+        cache.getFragment(aliceCopy);
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+}
@@ -0,0 +1,255 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedJsonAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveShardCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedJsonAddressBookStorage(
+                testFolder.resolve("addressbook.json"), 0, false, FileUtil.NO_COMPRESSION));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        List<Person> reversedPersons = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversedPersons);
+        original.setPersons(reversedPersons);
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, false,
+                FileUtil.NO_COMPRESSION);
+
+        storage.saveAddressBook(original);
+        assertTrue(ShardedJsonAddressBookStorage.hasShards(filePath));
+        assertFalse(Files.exists(filePath));
+
+        // the order of the persons survives being split into shards
+        ShardedJsonAddressBookStorage otherStorage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, false,
+                FileUtil.NO_COMPRESSION);
+        assertEquals(original, new AddressBook(otherStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_rewritesOnlyItsShard() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage fileStorage = new JsonAddressBookStorage(filePath);
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, fileStorage);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        JsonPersonFragmentCache fragmentCache = fileStorage.getFragmentCache();
+        long missCount = fragmentCache.getMissCount();
+
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("Prefers email").build();
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+
+        int shardIndex = ShardedJsonAddressBookStorage.getShardIndex(ALICE, SHARD_COUNT);
+        long personsInShard = original.getPersonList().stream()
+                .filter(person -> ShardedJsonAddressBookStorage.getShardIndex(person, SHARD_COUNT) == shardIndex)
+                .count();
+        assertEquals(missCount + 1, fragmentCache.getMissCount());
+        assertEquals(personsInShard - 1, fragmentCache.getHitCount());
+        // only the rewritten shard counts as saved
+        Path shardFile = ShardedJsonAddressBookStorage.getShardFolder(filePath)
+                .resolve(String.format("shard-%03d.json", shardIndex));
+        assertEquals(Files.size(shardFile), storage.getLastSaveSize());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personAdded_rewritesOnlyItsShard() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage fileStorage = new JsonAddressBookStorage(filePath);
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, fileStorage);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Map<Path, byte[]> savedFiles = readShardFolder(filePath);
+
+        List<Person> persons = new ArrayList<>(original.getPersonList());
+        persons.add(1, HOON);
+        original.setPersons(persons);
+        storage.saveAddressBook(original);
+
+        // the manifest and the other shards are untouched, as no other person had to be given a new position
+        Path hoonShard = ShardedJsonAddressBookStorage.getShardFolder(filePath)
+                .resolve(String.format("shard-%03d.json", ShardedJsonAddressBookStorage.getShardIndex(HOON,
+                        SHARD_COUNT)));
+        Map<Path, byte[]> newFiles = readShardFolder(filePath);
+        assertEquals(savedFiles.keySet(), newFiles.keySet());
+        for (Path file : savedFiles.keySet()) {
+            assertEquals(file.equals(hoonShard), !Arrays.equals(savedFiles.get(file), newFiles.get(file)));
+        }
+
+        ShardedJsonAddressBookStorage otherStorage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, false,
+                FileUtil.NO_COMPRESSION);
+        assertEquals(original, new AddressBook(otherStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personMoved_rewritesOnlyItsShard() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage fileStorage = new JsonAddressBookStorage(filePath);
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, fileStorage);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        JsonPersonFragmentCache fragmentCache = fileStorage.getFragmentCache();
+        long missCount = fragmentCache.getMissCount();
+        long hitCount = fragmentCache.getHitCount();
+
+        List<Person> persons = new ArrayList<>(original.getPersonList());
+        Person lastPerson = persons.remove(persons.size() - 1);
+        persons.add(0, lastPerson);
+        original.setPersons(persons);
+        storage.saveAddressBook(original);
+
+        int shardIndex = ShardedJsonAddressBookStorage.getShardIndex(lastPerson, SHARD_COUNT);
+        long personsInShard = persons.stream()
+                .filter(person -> ShardedJsonAddressBookStorage.getShardIndex(person, SHARD_COUNT) == shardIndex)
+                .count();
+        assertEquals(missCount, fragmentCache.getMissCount());
+        assertEquals(hitCount + personsInShard, fragmentCache.getHitCount());
+
+        ShardedJsonAddressBookStorage otherStorage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, false,
+                FileUtil.NO_COMPRESSION);
+        assertEquals(original, new AddressBook(otherStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void assignPositions_noRoomBetweenNeighbours_renumbersAll() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person bob = new PersonBuilder().withName("Bob").build();
+        Person carl = new PersonBuilder().withName("Carl").build();
+
+        // Alice and Bob keep their positions, and Carl goes between them
+        assertEquals(List.of(10L, 15L, 20L), ShardedJsonAddressBookStorage.assignPositions(
+                List.of(alice, carl, bob), Map.of("Alice", 10L, "Bob", 20L)));
+
+        // there is no position between 1 and 2 left for Carl
+        List<Long> positions = ShardedJsonAddressBookStorage.assignPositions(
+                List.of(alice, carl, bob), Map.of("Alice", 1L, "Bob", 2L));
+        assertTrue(positions.get(0) < positions.get(1) && positions.get(1) < positions.get(2));
+    }
+
+    @Test
+    public void readAddressBook_newerFormatVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, false, FileUtil.NO_COMPRESSION)
+                .saveAddressBook(getTypicalAddressBook());
+        JsonUtil.saveJsonFile(new JsonShardManifest(SHARD_COUNT, JsonShardManifest.FORMAT_VERSION + 1),
+                ShardedJsonAddressBookStorage.getShardFolder(filePath)
+                        .resolve(ShardedJsonAddressBookStorage.MANIFEST_FILE_NAME));
+
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, false,
+                FileUtil.NO_COMPRESSION);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, false, FileUtil.NO_COMPRESSION)
+                .saveAddressBook(getTypicalAddressBook());
+        Files.delete(ShardedJsonAddressBookStorage.getShardFolder(filePath)
+                .resolve(String.format("shard-%03d.json", 1)));
+
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, false,
+                FileUtil.NO_COMPRESSION);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_singleFile_migratesToShardsOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, false,
+                FileUtil.NO_COMPRESSION);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        assertFalse(Files.exists(filePath));
+        assertEquals(readBack, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_shards_migrateBackToSingleFileOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, false, FileUtil.NO_COMPRESSION)
+                .saveAddressBook(original);
+
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(ShardedJsonAddressBookStorage.getShardFolder(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_fewerShards_deletesLeftOverShards() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT, false, FileUtil.NO_COMPRESSION)
+                .saveAddressBook(original);
+
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, 2, false,
+                FileUtil.NO_COMPRESSION);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(readBack);
+
+        Path shardFolder = ShardedJsonAddressBookStorage.getShardFolder(filePath);
+        assertTrue(Files.exists(shardFolder.resolve("shard-001.json")));
+        assertFalse(Files.exists(shardFolder.resolve("shard-002.json")));
+        assertFalse(Files.exists(shardFolder.resolve("shard-003.json")));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    private static Map<Path, byte[]> readShardFolder(Path filePath) throws IOException {
+        Map<Path, byte[]> files = new HashMap<>();
+        try (Stream<Path> paths = Files.list(ShardedJsonAddressBookStorage.getShardFolder(filePath))) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                files.put(path, Files.readAllBytes(path));
+            }
+        }
+        return files;
+    }
+}
@@ -1,19 +1,34 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 //import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 //import seedu.address.model.AddressBook;
 //import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 public class StorageManagerTest {
 
@@ -29,6 +44,11 @@ public class StorageManagerTest {
         storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
     }
 
+    @AfterEach
+    public void tearDown() {
+        storageManager.stopWatchingAddressBook();
+    }
+
     private Path getTempFilePath(String fileName) {
         return testFolder.resolve(fileName);
     }
@@ -60,6 +80,111 @@ public class StorageManagerTest {
     //        assertEquals(original, new AddressBook(retrieved));
     //    }
 
+    @Test
+    public void watchAddressBook_externalChange_notifiesListener() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        BlockingQueue<ReadOnlyAddressBook> changes = new LinkedBlockingQueue<>();
+        storageManager.watchAddressBook(changes::add);
+
+        AddressBook externallyChanged = new AddressBook(original);
+        externallyChanged.addPerson(HOON);
+        new JsonAddressBookStorage(storageManager.getAddressBookFilePath()).saveAddressBook(externallyChanged);
+
+        ReadOnlyAddressBook change = changes.poll(10, TimeUnit.SECONDS);
+        assertNotNull(change);
+        assertEquals(externallyChanged, new AddressBook(change));
+    }
+
+    @Test
+    public void watchAddressBook_ownSave_doesNotNotifyListener() throws Exception {
+        BlockingQueue<ReadOnlyAddressBook> changes = new LinkedBlockingQueue<>();
+        storageManager.watchAddressBook(changes::add);
+
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        storageManager.handleAddressBookFilesChanged();
+        assertNull(changes.poll());
+    }
+
+    @Test
+    public void flushAddressBook_unchangedFile_savesAddressBook() throws Exception {
+        Path filePath = getTempFilePath("other.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(new AddressBook(), filePath);
+
+        storageManager.flushAddressBook(addressBook, filePath);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void flushAddressBook_fileChangedExternally_keepsExternalChanges() throws Exception {
+        Path filePath = getTempFilePath("other.json");
+        storageManager.saveAddressBook(new AddressBook(), filePath);
+        AddressBook externallyChanged = new AddressBook();
+        externallyChanged.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(externallyChanged);
+
+        storageManager.flushAddressBook(getTypicalAddressBook(), filePath);
+        assertEquals(externallyChanged, new AddressBook(storageManager.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsToOtherFile_storedLikeCurrentAddressBook() throws Exception {
+        StorageManager shardedStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                filePath -> new ShardedJsonAddressBookStorage(filePath, 2, false, FileUtil.NO_COMPRESSION));
+        Path filePath = getTempFilePath("other.json");
+        AddressBook addressBook = getTypicalAddressBook();
+
+        shardedStorageManager.saveAddressBook(addressBook.getPersonList(), filePath);
+        assertTrue(ShardedJsonAddressBookStorage.hasShards(filePath));
+        assertEquals(addressBook, new AddressBook(shardedStorageManager.readAddressBook(filePath).get()));
+
+        // the written files are known, so they are not mistaken for external changes when flushed
+        addressBook.addPerson(HOON);
+        shardedStorageManager.flushAddressBook(addressBook, filePath);
+        assertEquals(addressBook, new AddressBook(shardedStorageManager.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_persons_markedAsBeingWrittenUntilDone() throws Exception {
+        Path filePath = getTempFilePath("other.json");
+        List<Boolean> isBeingWritten = new ArrayList<>();
+        Iterable<Person> persons = () -> getTypicalAddressBook().getPersonList().stream()
+                .peek(person -> isBeingWritten.add(storageManager.isAddressBookBeingWritten(filePath)))
+                .iterator();
+
+        storageManager.saveAddressBook(persons, filePath);
+        assertFalse(isBeingWritten.isEmpty());
+        assertFalse(isBeingWritten.contains(false));
+        assertFalse(storageManager.isAddressBookBeingWritten(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_personsToCurrentFile_noticedAsExternalChange() throws Exception {
+        storageManager.saveAddressBook(new AddressBook());
+        BlockingQueue<ReadOnlyAddressBook> changes = new LinkedBlockingQueue<>();
+        storageManager.watchAddressBook(changes::add);
+
+        // e.g. the address book was switched to while it was being generated
+        storageManager.saveAddressBook(getTypicalAddressBook().getPersonList(),
+                storageManager.getAddressBookFilePath());
+        storageManager.handleAddressBookFilesChanged();
+        ReadOnlyAddressBook change = changes.poll(10, TimeUnit.SECONDS);
+        assertNotNull(change);
+        assertEquals(getTypicalAddressBook(), new AddressBook(change));
+    }
+
+    @Test
+    public void setAddressBookStorage_otherFile_savesToIt() throws Exception {
+        Path filePath = getTempFilePath("other.json");
+        storageManager.setAddressBookStorage(storageManager.createAddressBookStorage(filePath));
+        assertEquals(filePath, storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook(filePath).get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());